@@ -19,3 +19,14 @@
 # If you keep the line number information, uncomment this to
 # hide the original source file name.
 #-renamesourcefileattribute SourceFile
+
+# ButterKnife. AppBindingIndex finds bindings by class literal, so binding through it needs no rules.
+# The processor's META-INF/proguard rules are only applied to jars and aars this app depends on, not
+# to the app's own classes, so the lookups by name are kept here: targets missing from the index are
+# bound through <target>_ViewBinding's (target, View) constructor, and ButterKnife.preload loads
+# <target>_ViewBinding by name.
+-keep class **_ViewBinding {
+    public <init>(...);
+}
+-if class **_ViewBinding
+-keepnames class <1>
@@ -10,10 +10,21 @@ import com.blingbling.butterknife.api.ButterKnife;
 
 public class App extends Application {
 
+    private static final BindingStats sBindingStats = new BindingStats();
+
+    public static BindingStats getBindingStats() {
+        return sBindingStats;
+    }
+
     @Override
     public void onCreate() {
         super.onCreate();
         ButterKnife.setDebug(BuildConfig.DEBUG);
+        ButterKnife.addIndex(new AppBindingIndex());
+        // 统计绑定耗时和缓存命中，不设置时没有额外开销
+        ButterKnife.setBindingListener(sBindingStats);
+        // 在后台线程预加载绑定类，debug模式下会打印耗时
+        ButterKnife.preload(null);
     }
 
 }
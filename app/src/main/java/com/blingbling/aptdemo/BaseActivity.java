@@ -25,5 +25,8 @@ public abstract class BaseActivity extends AppCompatActivity {
     protected void onDestroy() {
         super.onDestroy();
         mUnbinder.unbind();
+        if (BuildConfig.DEBUG) {
+            App.getBindingStats().dump();
+        }
     }
 }
@@ -0,0 +1,75 @@
+package com.blingbling.aptdemo;
+
+import android.util.Log;
+
+import com.blingbling.butterknife.api.BindingListener;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 汇总绑定耗时和缓存命中情况，可以按需上报，这里只打印日志
+ */
+public class BindingStats implements BindingListener {
+
+    private static final String TAG = "BindingStats";
+
+    private final ConcurrentMap<Class<?>, AtomicLong> mBindNanos = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Class<?>, AtomicLong> mUnbindNanos = new ConcurrentHashMap<>();
+    private final AtomicLong mHits = new AtomicLong();
+    private final AtomicLong mNegativeHits = new AtomicLong();
+    private final AtomicLong mMisses = new AtomicLong();
+    private final AtomicLong mReflectionFallbacks = new AtomicLong();
+
+    @Override
+    public void onBind(Class<?> targetClass, long elapsedNanos) {
+        add(mBindNanos, targetClass, elapsedNanos);
+    }
+
+    @Override
+    public void onUnbind(Class<?> targetClass, long elapsedNanos) {
+        add(mUnbindNanos, targetClass, elapsedNanos);
+    }
+
+    @Override
+    public void onCacheHit(Class<?> cls, boolean hasBinding) {
+        (hasBinding ? mHits : mNegativeHits).incrementAndGet();
+    }
+
+    @Override
+    public void onCacheMiss(Class<?> cls) {
+        mMisses.incrementAndGet();
+    }
+
+    @Override
+    public void onReflectionFallback(Class<?> cls) {
+        mReflectionFallbacks.incrementAndGet();
+    }
+
+    /**
+     * 打印目前为止的统计
+     */
+    public void dump() {
+        Log.d(TAG, "hit=" + mHits + " negativeHit=" + mNegativeHits + " miss=" + mMisses
+                + " reflection=" + mReflectionFallbacks);
+        for (Map.Entry<Class<?>, AtomicLong> entry : mBindNanos.entrySet()) {
+            AtomicLong unbindNanos = mUnbindNanos.get(entry.getKey());
+            Log.d(TAG, entry.getKey().getName() + " bind=" + entry.getValue().get() / 1000 + "us"
+                    + " unbind=" + (unbindNanos == null ? 0 : unbindNanos.get() / 1000) + "us");
+        }
+    }
+
+    private static void add(ConcurrentMap<Class<?>, AtomicLong> totals, Class<?> cls, long nanos) {
+        AtomicLong total = totals.get(cls);
+        if (total == null) {
+            AtomicLong created = new AtomicLong();
+            total = totals.putIfAbsent(cls, created);
+            if (total == null) {
+                total = created;
+            }
+        }
+        total.addAndGet(nanos);
+    }
+}
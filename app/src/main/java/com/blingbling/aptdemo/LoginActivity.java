@@ -5,15 +5,22 @@ import android.widget.TextView;
 import com.blingbling.butterknife.annotation.BindView;
 import com.blingbling.butterknife.annotation.ContentView;
 import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.api.OnViewsReadyListener;
 
 import java.text.SimpleDateFormat;
 import java.util.Date;
 
-@ContentView(R.layout.activity_login)
-public class LoginActivity extends BaseActivity {
+@ContentView(value = R.layout.activity_login, async = true)
+public class LoginActivity extends BaseActivity implements OnViewsReadyListener {
 
     @BindView(R.id.tv) TextView tv;
 
+    @Override
+    public void onViewsReady() {
+        // 布局在后台线程加载，绑定完成后才能访问View
+        tv.setText(new SimpleDateFormat("HH:mm:ss").format(new Date()) + " 布局加载完成\n");
+    }
+
     @OnClick({R.id.btn})
     public void click() {
         StringBuilder sb = new StringBuilder();
@@ -11,5 +11,9 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.CLASS)
 @Target({ElementType.FIELD})
 public @interface BindView {
+    /**
+     * The view id. Declare the field as {@code com.blingbling.butterknife.api.Lazy<T>} to look the
+     * view up, or inflate its {@code ViewStub}, only on first access.
+     */
     int value();
 }
@@ -0,0 +1,24 @@
+package com.blingbling.butterknife.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a group of views to a {@code T[]} or {@code List<T>} field, in the order of the ids. The
+ * list is immutable and backed by the same array the binding fills, so rebinding does not
+ * allocate. Use {@code com.blingbling.butterknife.api.ViewCollections} to apply a setter to every
+ * view in the group.
+ * <p>
+ * The field is a live view of the binding's array, not a snapshot. A reference kept elsewhere sees
+ * the new views after a rebind and nulls after unbind, so read the field while the binding is bound
+ * instead of keeping the group. A {@code T[]} field is that array itself: do not write to it, or the
+ * binding and later rebinds see the change.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.FIELD})
+public @interface BindViews {
+    /** The view ids. */
+    int[] value();
+}
@@ -12,4 +12,13 @@ import java.lang.annotation.Target;
 @Target({ElementType.TYPE})
 public @interface ContentView {
     int value();
+
+    /**
+     * Inflate the layout on a background thread instead of in {@code onCreate}. Views are bound on
+     * the main thread once inflation finishes; implement {@code OnViewsReadyListener} to be told
+     * when. The layout is inflated without the activity's inflater factory, so AppCompat widget
+     * substitution does not apply. Ignored when the processor compiles the layout (see the
+     * {@code butterknife.layoutDir} option): building the views directly is cheaper than inflating.
+     */
+    boolean async() default false;
 }
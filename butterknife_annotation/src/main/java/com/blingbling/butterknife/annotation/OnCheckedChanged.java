@@ -0,0 +1,16 @@
+package com.blingbling.butterknife.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method to {@code CompoundButton.OnCheckedChangeListener.onCheckedChanged(CompoundButton,
+ * boolean)} of the views with the given ids. The method may take any of those parameters in order.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.METHOD})
+public @interface OnCheckedChanged {
+    int[] value();
+}
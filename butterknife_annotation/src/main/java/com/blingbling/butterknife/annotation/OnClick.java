@@ -13,4 +13,19 @@ import java.lang.annotation.Target;
 @Target({ElementType.METHOD})
 public @interface OnClick {
     int[] value();
+
+    /** The thread the method is called on. All methods bound to one id must use the same dispatch. */
+    Dispatch dispatch() default Dispatch.MAIN;
+
+    enum Dispatch {
+        /** Called on the main thread, directly from the click listener. */
+        MAIN,
+        /**
+         * Called on the executor set with {@code ButterKnife.setClickExecutor}, for handlers that do
+         * disk or database work. Clicks that have not run yet when the binding is unbound or rebound
+         * are dropped.
+         * Use {@code ButterKnife.runOnMainThread} to get back to the views.
+         */
+        BACKGROUND
+    }
 }
@@ -0,0 +1,31 @@
+package com.blingbling.butterknife.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Handles clicks on the items of a container such as a {@code RecyclerView} with one dispatcher
+ * per container instead of one listener per item view. The method may take no parameters, the
+ * clicked {@code View}, the item's {@code int} adapter position, or both in that order.
+ * <p>
+ * The dispatcher owns the container's {@code OnHierarchyChangeListener} and the click listener of
+ * every view it dispatches, since Android keeps one listener per slot. Do not set those yourself or
+ * bind the same views with {@code @OnClick}: a view that already has a click listener when its item
+ * is added throws an {@code IllegalStateException}, and a listener set later replaces the
+ * dispatcher's and is cleared when the item is removed. Other views inside the items can still use
+ * {@code @OnClick}.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.METHOD})
+public @interface OnItemClick {
+    /** The container id. Its direct children are the items. */
+    int value();
+
+    /**
+     * Ids of views inside each item whose clicks call the method. When empty, clicks on the item
+     * view itself do.
+     */
+    int[] child() default {};
+}
@@ -0,0 +1,25 @@
+package com.blingbling.butterknife.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method to an {@code AdapterView.OnItemSelectedListener} callback of the views with the
+ * given ids. The method may take any of the callback's parameters in order.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.METHOD})
+public @interface OnItemSelected {
+    int[] value();
+
+    Callback callback() default Callback.ITEM_SELECTED;
+
+    enum Callback {
+        /** {@code onItemSelected(AdapterView, View, int, long)} */
+        ITEM_SELECTED,
+        /** {@code onNothingSelected(AdapterView)} */
+        NOTHING_SELECTED
+    }
+}
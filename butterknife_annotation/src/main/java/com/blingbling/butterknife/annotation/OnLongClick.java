@@ -0,0 +1,17 @@
+package com.blingbling.butterknife.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method to {@code View.OnLongClickListener.onLongClick(View)} of the views with the given
+ * ids. The method may take the {@code View} and may return {@code boolean}; a {@code void} method
+ * consumes the long click.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.METHOD})
+public @interface OnLongClick {
+    int[] value();
+}
@@ -0,0 +1,27 @@
+package com.blingbling.butterknife.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a method to a {@code TextWatcher} callback of the {@code TextView}s with the given ids. The
+ * method may take any of the callback's parameters in order.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target({ElementType.METHOD})
+public @interface OnTextChanged {
+    int[] value();
+
+    Callback callback() default Callback.TEXT_CHANGED;
+
+    enum Callback {
+        /** {@code beforeTextChanged(CharSequence, int, int, int)} */
+        BEFORE_TEXT_CHANGED,
+        /** {@code onTextChanged(CharSequence, int, int, int)} */
+        TEXT_CHANGED,
+        /** {@code afterTextChanged(Editable)} */
+        AFTER_TEXT_CHANGED
+    }
+}
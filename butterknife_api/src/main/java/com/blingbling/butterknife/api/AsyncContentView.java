@@ -0,0 +1,57 @@
+package com.blingbling.butterknife.api;
+
+import android.app.Activity;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.view.AsyncLayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * A content view being inflated off the main thread for {@code @ContentView(async = true)}. Used by
+ * generated bindings; the callback runs on the main thread unless the inflation was cancelled.
+ * <p>
+ * The layout is inflated against the activity's content container without attaching to it, so the
+ * root view gets its {@code layout_*} attributes as layout params, as with {@code setContentView(int)}.
+ * Generated bindings pass those params on when they set the content view.
+ */
+public final class AsyncContentView implements AsyncLayoutInflater.OnInflateFinishedListener {
+
+    public interface Callback {
+        void onContentViewInflated(View contentView);
+    }
+
+    private Callback callback;
+
+    private AsyncContentView(Callback callback) {
+        this.callback = callback;
+    }
+
+    public static AsyncContentView inflate(@NonNull Activity activity, int layoutId,
+                                           @NonNull Callback callback) {
+        AsyncContentView inflation = new AsyncContentView(callback);
+        ViewGroup content = activity.findViewById(android.R.id.content);
+        new AsyncLayoutInflater(activity).inflate(layoutId, content, inflation);
+        return inflation;
+    }
+
+    /**
+     * Drop the pending callback. Must be called on the main thread.
+     *
+     * @return true if inflation had not finished yet, so nothing was bound
+     */
+    public boolean cancel() {
+        boolean pending = callback != null;
+        callback = null;
+        return pending;
+    }
+
+    @Override
+    public void onInflateFinished(@NonNull View view, int resid, @Nullable ViewGroup parent) {
+        Callback callback = this.callback;
+        this.callback = null;
+        if (callback != null) {
+            callback.onContentViewInflated(view);
+        }
+    }
+}
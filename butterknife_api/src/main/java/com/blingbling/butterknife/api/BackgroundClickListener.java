@@ -0,0 +1,128 @@
+package com.blingbling.butterknife.api;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.support.annotation.NonNull;
+import android.view.View;
+
+/**
+ * Moves clicks for {@code @OnClick(dispatch = Dispatch.BACKGROUND)} methods off the main thread. Used
+ * by generated bindings: the binding's click listener is wrapped, and clicks are handed to the
+ * executor set with {@link ButterKnife#setClickExecutor(java.util.concurrent.Executor)}.
+ * <p>
+ * {@link #cancel()} is called when the binding is unbound and again before it binds a new target.
+ * Clicks that have not started by then are dropped, and so are runnables they posted with
+ * {@link ButterKnife#runOnMainThread(Runnable)}, so nothing touches the views of a destroyed screen
+ * or reaches a rebound target. A click that is already running finishes.
+ * <p>
+ * The generated listener reads its target and then calls {@link #isClickCancelled()}. Bindings cancel
+ * before they store a new target, so a click queued for the old target never reaches the new one.
+ */
+public final class BackgroundClickListener implements View.OnClickListener {
+
+    /** The click running on the current thread, so main thread runnables can be dropped with it. */
+    private static final ThreadLocal<Click> CURRENT = new ThreadLocal<>();
+
+    private final View.OnClickListener delegate;
+    private final int[] ids;
+    /** Bumped on every cancel; a click queued under an older generation is dropped. Main thread writes only. */
+    private volatile int generation;
+
+    /**
+     * @param delegate the generated listener that calls the bound methods
+     * @param ids      ids of the views whose clicks run in the background; when empty, all of them do.
+     *                 Clicks on other views go straight to {@code delegate}
+     */
+    public BackgroundClickListener(@NonNull View.OnClickListener delegate, @NonNull int... ids) {
+        this.delegate = delegate;
+        this.ids = ids;
+    }
+
+    @Override
+    public void onClick(View view) {
+        if (!runsInBackground(view.getId())) {
+            delegate.onClick(view);
+            return;
+        }
+        ButterKnife.getClickExecutor().execute(new Click(view, generation));
+    }
+
+    /** Drop every click that has not started yet. Must be called on the main thread. */
+    public void cancel() {
+        generation++;
+    }
+
+    /**
+     * Whether the click running on the current thread was cancelled since it was queued. Generated
+     * listeners call this after reading their target; false outside of a background click.
+     */
+    public static boolean isClickCancelled() {
+        Click click = CURRENT.get();
+        return click != null && click.isCancelled();
+    }
+
+    private boolean runsInBackground(int id) {
+        if (ids.length == 0) {
+            return true;
+        }
+        for (int i = 0, count = ids.length; i < count; i++) {
+            if (ids[i] == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** See {@link ButterKnife#runOnMainThread(Runnable)}. */
+    static void runOnMainThread(@NonNull final Runnable runnable) {
+        final Click click = CURRENT.get();
+        if (click == null) {
+            MainHandler.INSTANCE.post(runnable);
+            return;
+        }
+        MainHandler.INSTANCE.post(new Runnable() {
+            @Override
+            public void run() {
+                // Runs on the main thread like cancel(), so a binding unbound before this point is seen.
+                if (!click.isCancelled()) {
+                    runnable.run();
+                }
+            }
+        });
+    }
+
+    private final class Click implements Runnable {
+
+        private final View view;
+        private final int generation;
+
+        Click(View view, int generation) {
+            this.view = view;
+            this.generation = generation;
+        }
+
+        boolean isCancelled() {
+            return generation != BackgroundClickListener.this.generation;
+        }
+
+        @Override
+        public void run() {
+            if (isCancelled()) {
+                return;
+            }
+            // A direct executor runs the click inside another one; restore the outer click afterwards.
+            Click outer = CURRENT.get();
+            CURRENT.set(this);
+            try {
+                delegate.onClick(view);
+            } finally {
+                CURRENT.set(outer);
+            }
+        }
+    }
+
+    /** Created on first use, so bindings without background clicks never touch the main looper. */
+    private static final class MainHandler {
+        static final Handler INSTANCE = new Handler(Looper.getMainLooper());
+    }
+}
@@ -0,0 +1,12 @@
+package com.blingbling.butterknife.api;
+
+import android.view.View;
+
+/**
+ * Creates the binding for one target class. Generated indexes call the {@code _ViewBinding}
+ * constructor directly, so no reflection is involved.
+ */
+public interface BindingFactory {
+
+    Unbinder bind(Object target, View source);
+}
@@ -0,0 +1,15 @@
+package com.blingbling.butterknife.api;
+
+/**
+ * Index of generated bindings, emitted by the annotation processor when the
+ * {@code butterknife.index} option names the class to generate.
+ * Register it once through {@link ButterKnife#addIndex(BindingIndex)}.
+ */
+public interface BindingIndex {
+
+    /** Returns the factory for bindings of exactly {@code cls}, or null if this index has none. */
+    BindingFactory getBindingFactory(Class<?> cls);
+
+    /** Returns every target class this index has a binding for, used by {@link ButterKnife#preload}. */
+    Class<?>[] getTargetClasses();
+}
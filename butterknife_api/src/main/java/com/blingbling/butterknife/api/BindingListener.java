@@ -0,0 +1,39 @@
+package com.blingbling.butterknife.api;
+
+/**
+ * Receives timings and binding cache events, installed with
+ * {@link ButterKnife#setBindingListener(BindingListener)}. Callbacks run synchronously on the
+ * binding thread, which may not be the main thread, so implementations should only record and
+ * return.
+ */
+public interface BindingListener {
+
+    /**
+     * A binding was created or rebound.
+     *
+     * @param targetClass  class of the bound target
+     * @param elapsedNanos time spent, including the binding lookup, in nanoseconds
+     */
+    void onBind(Class<?> targetClass, long elapsedNanos);
+
+    /**
+     * A binding created while this listener was installed was unbound.
+     *
+     * @param targetClass  class of the unbound target
+     * @param elapsedNanos time spent, in nanoseconds
+     */
+    void onUnbind(Class<?> targetClass, long elapsedNanos);
+
+    /**
+     * The binding lookup for {@code cls} was served from the cache.
+     *
+     * @param hasBinding false for a negative hit, where {@code cls} is cached as having no binding
+     */
+    void onCacheHit(Class<?> cls, boolean hasBinding);
+
+    /** {@code cls} was not cached yet and is being looked up in the indexes, then by reflection. */
+    void onCacheMiss(Class<?> cls);
+
+    /** {@code cls} is missing from every registered {@link BindingIndex} and is being looked up by name. */
+    void onReflectionFallback(Class<?> cls);
+}
@@ -2,13 +2,22 @@ package com.blingbling.butterknife.api;
 
 import android.app.Activity;
 import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
 import android.util.Log;
 import android.view.View;
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Created by BlingBling on 2018/1/2.
@@ -19,13 +28,128 @@ public class ButterKnife {
     public static final String TAG = ButterKnife.class.getSimpleName();
 
     private static boolean debug = false;
-    private static final Map<Class<?>, Constructor<? extends Unbinder>> BINDINGS = new LinkedHashMap<>();
+    /**
+     * Binding lookups may come from background inflation threads as well as the main thread, so
+     * reads must be lock-free and safe. Classes without a binding map to {@link #NO_BINDING}.
+     */
+    private static final ConcurrentMap<Class<?>, BindingFactory> BINDINGS = new ConcurrentHashMap<>();
+    private static final BindingFactory NO_BINDING = new BindingFactory() {
+        @Override
+        public Unbinder bind(Object target, View source) {
+            return Unbinder.EMPTY;
+        }
+    };
+    private static volatile BindingIndex[] indexes = new BindingIndex[0];
+    private static volatile BindingListener bindingListener;
+    private static volatile Executor clickExecutor;
 
     /** Control whether debug logging is enabled. */
     public static void setDebug(boolean debug) {
         ButterKnife.debug = debug;
     }
 
+    /**
+     * Register a generated binding index. Classes found in an index are bound without reflection;
+     * everything else falls back to looking up {@code _ViewBinding} by name.
+     */
+    public static synchronized void addIndex(@NonNull BindingIndex index) {
+        BindingIndex[] current = indexes;
+        BindingIndex[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = index;
+        indexes = updated;
+    }
+
+    /**
+     * Install a listener for bind timings and binding cache events, or {@code null} to remove it.
+     * Nothing is timed or counted while no listener is installed.
+     */
+    public static void setBindingListener(@Nullable BindingListener listener) {
+        bindingListener = listener;
+    }
+
+    /**
+     * Set the executor that runs {@code @OnClick(dispatch = Dispatch.BACKGROUND)} methods, or
+     * {@code null} to restore the default: one background thread, so handlers run in click order.
+     */
+    public static void setClickExecutor(@Nullable Executor executor) {
+        clickExecutor = executor;
+    }
+
+    static Executor getClickExecutor() {
+        Executor executor = clickExecutor;
+        return executor != null ? executor : DefaultClickExecutor.INSTANCE;
+    }
+
+    /**
+     * Run {@code runnable} on the main thread, always posting it. Called from a background
+     * {@code @OnClick} method, it is dropped when the binding is unbound before it runs, so it may
+     * touch the bound views without checking.
+     */
+    public static void runOnMainThread(@NonNull Runnable runnable) {
+        BackgroundClickListener.runOnMainThread(runnable);
+    }
+
+    /**
+     * Warm the binding cache for every class in the registered indexes on a new background thread,
+     * so the first {@code bind} of each screen skips class loading and lookup on the main thread.
+     * Safe to race with real binds.
+     */
+    public static void preload(@Nullable PreloadListener listener) {
+        Thread thread = new Thread(newPreloadTask(listener, null), TAG + "-preload");
+        thread.setPriority(Thread.MIN_PRIORITY);
+        thread.start();
+    }
+
+    /**
+     * Warm the binding cache on {@code executor}. When {@code targets} is empty every class in the
+     * registered indexes is preloaded.
+     */
+    public static void preload(@NonNull Executor executor, @Nullable PreloadListener listener,
+                               Class<?>... targets) {
+        executor.execute(newPreloadTask(listener, targets));
+    }
+
+    private static Runnable newPreloadTask(final PreloadListener listener, final Class<?>[] targets) {
+        return new Runnable() {
+            @Override
+            public void run() {
+                long start = System.nanoTime();
+                Class<?>[] classes = targets != null && targets.length > 0 ? targets : indexedTargetClasses();
+                for (Class<?> cls : classes) {
+                    preloadClass(cls);
+                }
+                long elapsedNanos = System.nanoTime() - start;
+                if (debug) Log.d(TAG, "Preloaded " + classes.length + " bindings in "
+                        + elapsedNanos / 1000000 + "ms.");
+                if (listener != null) {
+                    listener.onPreloadFinished(classes.length, elapsedNanos);
+                }
+            }
+        };
+    }
+
+    private static Class<?>[] indexedTargetClasses() {
+        List<Class<?>> classes = new ArrayList<>();
+        for (BindingIndex index : indexes) {
+            classes.addAll(Arrays.asList(index.getTargetClasses()));
+        }
+        return classes.toArray(new Class<?>[classes.size()]);
+    }
+
+    private static void preloadClass(Class<?> cls) {
+        BindingFactory factory = findBindingFactoryForClass(cls);
+        if (factory == null || factory instanceof ReflectiveBindingFactory) {
+            // Nothing to bind, or the reflective lookup already loaded the binding class.
+            return;
+        }
+        // Indexed factories only load the binding class on first use; load it here instead.
+        try {
+            Class.forName(cls.getName() + "_ViewBinding", true, cls.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            if (debug) Log.d(TAG, "Unable to preload binding class for " + cls.getName());
+        }
+    }
+
     public static Unbinder bind(@NonNull Activity target) {
         View sourceView = target.getWindow().getDecorView();
         return createBinding(target, sourceView);
@@ -35,56 +159,222 @@ public class ButterKnife {
         return createBinding(target, target);
     }
 
-    private static Unbinder createBinding(@NonNull Object target, @NonNull View source) {
-        Class<?> targetClass = target.getClass();
-        Constructor<? extends Unbinder> constructor = findBindingConstructorForClass(targetClass);
+    /**
+     * Bind {@code target}, which need not be a view or activity, to views under {@code source}. Use
+     * it for ViewHolders in {@code onCreateViewHolder}: views are looked up once per holder, and
+     * {@code onBindViewHolder} only reads the bound fields. Adapters that bind many holders can keep
+     * the factory from {@link #getBinder(Class)} to skip the cache lookup as well.
+     */
+    public static Unbinder bind(@NonNull Object target, @NonNull View source) {
+        return createBinding(target, source);
+    }
 
-        if (constructor == null) {
-            return Unbinder.EMPTY;
+    /**
+     * Returns the factory that creates bindings for instances of {@code cls}. Adapters can keep one
+     * per ViewHolder type and skip the cache lookup on every bind. Never null; classes without a
+     * binding get a factory that returns {@link Unbinder#EMPTY}.
+     */
+    @NonNull
+    public static BindingFactory getBinder(@NonNull Class<?> cls) {
+        BindingFactory factory = findBindingFactoryForClass(cls);
+        return factory != null ? factory : NO_BINDING;
+    }
+
+    /**
+     * Point {@code binding} at {@code target} and {@code source} without allocating when it is a
+     * {@link Rebinder}; otherwise create a new binding. {@code target} must be of the class the
+     * binding was created for. The views bound before are released as by {@link Unbinder#unbind()},
+     * so clicks on them reach nobody.
+     *
+     * @return the binding to unbind later, which is {@code binding} itself when it was reused
+     */
+    public static Unbinder rebind(@Nullable Unbinder binding, @NonNull Object target, @NonNull View source) {
+        Unbinder delegate = binding instanceof TimedUnbinder ? ((TimedUnbinder) binding).delegate : binding;
+        if (!(delegate instanceof Rebinder)) {
+            return createBinding(target, source);
         }
+        BindingListener listener = bindingListener;
+        if (listener == null) {
+            ((Rebinder) delegate).rebind(target, source);
+        } else {
+            long start = System.nanoTime();
+            ((Rebinder) delegate).rebind(target, source);
+            listener.onBind(target.getClass(), System.nanoTime() - start);
+        }
+        return binding;
+    }
 
-        //noinspection TryWithIdenticalCatches Resolves to API 19+ only type.
-        try {
-            return constructor.newInstance(target, source);
-        } catch (IllegalAccessException e) {
-            throw new RuntimeException("Unable to invoke " + constructor, e);
-        } catch (InstantiationException e) {
-            throw new RuntimeException("Unable to invoke " + constructor, e);
-        } catch (InvocationTargetException e) {
-            Throwable cause = e.getCause();
-            if (cause instanceof RuntimeException) {
-                throw (RuntimeException) cause;
-            }
-            if (cause instanceof Error) {
-                throw (Error) cause;
-            }
-            throw new RuntimeException("Unable to create binding instance.", cause);
+    static Unbinder createBinding(@NonNull Object target, @NonNull View source) {
+        BindingListener listener = bindingListener;
+        if (listener == null) {
+            return newBinding(target, source);
         }
+        long start = System.nanoTime();
+        Unbinder binding = newBinding(target, source);
+        listener.onBind(target.getClass(), System.nanoTime() - start);
+        return binding == Unbinder.EMPTY ? binding : new TimedUnbinder(binding, target.getClass());
     }
 
-    private static Constructor<? extends Unbinder> findBindingConstructorForClass(Class<?> cls) {
-        Constructor<? extends Unbinder> bindingCtor = BINDINGS.get(cls);
-        if (bindingCtor != null) {
+    private static Unbinder newBinding(Object target, View source) {
+        Class<?> targetClass = target.getClass();
+        BindingFactory factory = findBindingFactoryForClass(targetClass);
+
+        if (factory == null) {
+            return Unbinder.EMPTY;
+        }
+        return factory.bind(target, source);
+    }
+
+    static BindingFactory findBindingFactoryForClass(Class<?> cls) {
+        BindingListener listener = bindingListener;
+        BindingFactory factory = BINDINGS.get(cls);
+        if (factory != null) {
+            if (listener != null) listener.onCacheHit(cls, factory != NO_BINDING);
+            if (factory == NO_BINDING) {
+                if (debug) Log.d(TAG, "HIT: Cached as having no binding.");
+                return null;
+            }
             if (debug) Log.d(TAG, "HIT: Cached in binding map.");
-            return bindingCtor;
+            return factory;
         }
+        if (listener != null) listener.onCacheMiss(cls);
         String clsName = cls.getName();
         if (clsName.startsWith("android.") || clsName.startsWith("java.")) {
             if (debug) Log.d(TAG, "MISS: Reached framework class. Abandoning search.");
-            return null;
+            factory = null;
+        } else {
+            factory = findIndexedFactory(cls);
+            if (factory != null) {
+                if (debug) Log.d(TAG, "HIT: Found binding in generated index.");
+            } else {
+                factory = findReflectiveFactory(cls);
+            }
+        }
+        return cacheBindingFactory(cls, factory);
+    }
+
+    /**
+     * Concurrent lookups of the same class may race; the first factory stored wins so every caller
+     * ends up sharing one instance.
+     */
+    private static BindingFactory cacheBindingFactory(Class<?> cls, BindingFactory factory) {
+        BindingFactory cached = BINDINGS.putIfAbsent(cls, factory != null ? factory : NO_BINDING);
+        if (cached != null) {
+            factory = cached;
         }
+        return factory == NO_BINDING ? null : factory;
+    }
+
+    private static BindingFactory findIndexedFactory(Class<?> cls) {
+        BindingIndex[] indexes = ButterKnife.indexes;
+        for (int i = 0, count = indexes.length; i < count; i++) {
+            BindingFactory factory = indexes[i].getBindingFactory(cls);
+            if (factory != null) {
+                return factory;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Last resort for classes the processor never saw, such as a subclass in a module that has no
+     * annotations. The processor writes a binding for every unannotated subclass of a bound class it
+     * compiles, so those are found here at the first level and the superclass walk does not run.
+     */
+    private static BindingFactory findReflectiveFactory(Class<?> cls) {
+        BindingListener listener = bindingListener;
+        if (listener != null) listener.onReflectionFallback(cls);
+        String clsName = cls.getName();
         try {
             Class<?> bindingClass = Class.forName(clsName + "_ViewBinding");
             //noinspection unchecked
-            bindingCtor = (Constructor<? extends Unbinder>) bindingClass.getConstructor(cls, View.class);
+            Constructor<? extends Unbinder> bindingCtor =
+                    (Constructor<? extends Unbinder>) bindingClass.getConstructor(cls, View.class);
             if (debug) Log.d(TAG, "HIT: Loaded binding class and constructor.");
+            return new ReflectiveBindingFactory(bindingCtor);
         } catch (ClassNotFoundException e) {
             if (debug) Log.d(TAG, "Not found. Trying superclass " + cls.getSuperclass().getName());
-            bindingCtor = findBindingConstructorForClass(cls.getSuperclass());
+            return findBindingFactoryForClass(cls.getSuperclass());
         } catch (NoSuchMethodException e) {
             throw new RuntimeException("Unable to find binding constructor for " + clsName, e);
         }
-        BINDINGS.put(cls, bindingCtor);
-        return bindingCtor;
+    }
+
+    /**
+     * Reports unbind time for bindings created while a {@link BindingListener} was installed. Only
+     * allocated in that case, so uninstrumented binds return the generated binding itself.
+     */
+    private static final class TimedUnbinder implements Unbinder {
+
+        final Unbinder delegate;
+        private final Class<?> targetClass;
+
+        TimedUnbinder(Unbinder delegate, Class<?> targetClass) {
+            this.delegate = delegate;
+            this.targetClass = targetClass;
+        }
+
+        @Override
+        public void unbind() {
+            BindingListener listener = bindingListener;
+            if (listener == null) {
+                delegate.unbind();
+                return;
+            }
+            long start = System.nanoTime();
+            delegate.unbind();
+            listener.onUnbind(targetClass, System.nanoTime() - start);
+        }
+    }
+
+    /** Created on first use; its thread exits when idle, so apps without background clicks pay nothing. */
+    private static final class DefaultClickExecutor {
+
+        static final Executor INSTANCE = create();
+
+        private static Executor create() {
+            ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable runnable) {
+                    Thread thread = new Thread(runnable, TAG + "-click");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            executor.allowCoreThreadTimeOut(true);
+            return executor;
+        }
+    }
+
+    /** Fallback for classes that are missing from every registered {@link BindingIndex}. */
+    private static final class ReflectiveBindingFactory implements BindingFactory {
+
+        private final Constructor<? extends Unbinder> constructor;
+
+        ReflectiveBindingFactory(Constructor<? extends Unbinder> constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Unbinder bind(Object target, View source) {
+            //noinspection TryWithIdenticalCatches Resolves to API 19+ only type.
+            try {
+                return constructor.newInstance(target, source);
+            } catch (IllegalAccessException e) {
+                throw new RuntimeException("Unable to invoke " + constructor, e);
+            } catch (InstantiationException e) {
+                throw new RuntimeException("Unable to invoke " + constructor, e);
+            } catch (InvocationTargetException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                if (cause instanceof Error) {
+                    throw (Error) cause;
+                }
+                throw new RuntimeException("Unable to create binding instance.", cause);
+            }
+        }
     }
 }
@@ -0,0 +1,42 @@
+package com.blingbling.butterknife.api;
+
+import android.support.annotation.NonNull;
+import android.view.View;
+
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * The {@code List<T>} bound by {@code @BindViews}. Every mutator throws
+ * {@link UnsupportedOperationException}, but the list is not a snapshot: it reads through to the
+ * array the binding fills, so the same list holds the new views after a rebind and nulls after
+ * unbind. Do not keep it past the binding; {@link ViewCollections} fails on the nulls.
+ */
+public final class ImmutableViewList<T extends View> extends AbstractList<T> implements RandomAccess {
+
+    private final T[] views;
+
+    public ImmutableViewList(@NonNull T[] views) {
+        this.views = views;
+    }
+
+    @Override
+    public T get(int index) {
+        return views[index];
+    }
+
+    @Override
+    public int size() {
+        return views.length;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        for (int i = 0, count = views.length; i < count; i++) {
+            if (views[i] == o) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
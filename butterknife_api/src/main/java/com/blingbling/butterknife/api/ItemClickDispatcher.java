@@ -0,0 +1,140 @@
+package com.blingbling.butterknife.api;
+
+import android.os.Build;
+import android.support.annotation.NonNull;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+/**
+ * Routes clicks on the items of one container to {@code @OnItemClick} methods. Android does not
+ * pass clicks up to the parent, so the dispatcher watches the container's children and sets itself
+ * as the click listener of each item, or of the listed views inside it, as items are added. One
+ * dispatcher serves any number of items, and recycled items keep it without allocating.
+ * <p>
+ * Android keeps one listener per slot and has no getter for it, so the dispatcher cannot share or
+ * chain. It takes the container's {@link ViewGroup.OnHierarchyChangeListener}, which RecyclerView and
+ * the framework containers leave unused; a hierarchy listener set on the container is replaced on
+ * {@link #attach} and cleared on {@link #detach}. It also takes the click listener of every view it
+ * dispatches: a view that already has one when its item is added is reported with an
+ * {@link IllegalStateException} instead of being overwritten (API 15 and up, where
+ * {@link View#hasOnClickListeners()} exists). A click listener set after the item was added, e.g.
+ * by {@code @OnClick} in an item holder bound later, replaces the dispatcher's and is cleared when
+ * the item is removed.
+ */
+public abstract class ItemClickDispatcher implements View.OnClickListener, ViewGroup.OnHierarchyChangeListener {
+
+    /** Returned by {@link #getPosition} for an item that no longer has one, e.g. while it animates out. */
+    public static final int NO_POSITION = -1;
+
+    private final boolean itemClicks;
+    private final int[] childIds;
+    private ViewGroup container;
+
+    /**
+     * @param itemClicks whether clicks on the item views themselves are dispatched
+     * @param childIds   ids of views inside each item whose clicks are dispatched
+     */
+    protected ItemClickDispatcher(boolean itemClicks, @NonNull int[] childIds) {
+        this.itemClicks = itemClicks;
+        this.childIds = childIds;
+    }
+
+    /** Dispatch clicks on the items of {@code container}, detaching from any previous container first. */
+    public final void attach(@NonNull ViewGroup container) {
+        if (this.container == container) {
+            return;
+        }
+        detach();
+        this.container = container;
+        container.setOnHierarchyChangeListener(this);
+        for (int i = 0, count = container.getChildCount(); i < count; i++) {
+            setListeners(container.getChildAt(i), this);
+        }
+    }
+
+    /** Remove the dispatcher from the container and its items. Clicks that are already queued are dropped. */
+    public final void detach() {
+        ViewGroup container = this.container;
+        if (container == null) {
+            return;
+        }
+        this.container = null;
+        container.setOnHierarchyChangeListener(null);
+        for (int i = 0, count = container.getChildCount(); i < count; i++) {
+            setListeners(container.getChildAt(i), null);
+        }
+    }
+
+    @Override
+    public final void onChildViewAdded(View parent, View child) {
+        if (parent == container) {
+            setListeners(child, this);
+        }
+    }
+
+    @Override
+    public final void onChildViewRemoved(View parent, View child) {
+        if (parent == container) {
+            setListeners(child, null);
+        }
+    }
+
+    private void setListeners(View item, View.OnClickListener listener) {
+        if (itemClicks) {
+            setListener(item, listener);
+        }
+        for (int i = 0, count = childIds.length; i < count; i++) {
+            View child = item.findViewById(childIds[i]);
+            if (child != null) {
+                setListener(child, listener);
+            }
+        }
+    }
+
+    private static void setListener(View view, View.OnClickListener listener) {
+        if (listener != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH_MR1
+                && view.hasOnClickListeners()) {
+            throw new IllegalStateException("View " + view.getId() + " already has a click listener and cannot be "
+                    + "dispatched by @OnItemClick. Use @OnItemClick for it instead of @OnClick or setOnClickListener.");
+        }
+        view.setOnClickListener(listener);
+    }
+
+    @Override
+    public final void onClick(View view) {
+        ViewGroup container = this.container;
+        if (container == null) {
+            return;
+        }
+        View item = view;
+        ViewParent parent = item.getParent();
+        while (parent != container) {
+            if (!(parent instanceof View)) {
+                // Not attached to the container any more.
+                return;
+            }
+            item = (View) parent;
+            parent = item.getParent();
+        }
+        int position = getPosition(container, item);
+        if (position != NO_POSITION) {
+            onItemClick(item, view, position);
+        }
+    }
+
+    /**
+     * The position of {@code item} in {@code container}. Generated dispatchers override this to ask
+     * a RecyclerView for the adapter position.
+     */
+    protected int getPosition(@NonNull ViewGroup container, @NonNull View item) {
+        return container.indexOfChild(item);
+    }
+
+    /**
+     * @param item     the clicked item, a direct child of the container
+     * @param view     the clicked view: {@code item} itself or one of the child ids inside it
+     * @param position the item's position, see {@link #getPosition}
+     */
+    protected abstract void onItemClick(@NonNull View item, @NonNull View view, int position);
+}
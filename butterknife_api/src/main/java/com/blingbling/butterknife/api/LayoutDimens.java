@@ -0,0 +1,33 @@
+package com.blingbling.butterknife.api;
+
+import android.content.Context;
+import android.util.TypedValue;
+
+/**
+ * Converts the dimensions of layouts compiled by {@code butterknife.layoutDir} at runtime. Used by
+ * generated code; rounds like {@code LayoutInflater} does for layout sizes, margins and padding.
+ */
+public final class LayoutDimens {
+
+    private LayoutDimens() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * Same as {@code TypedValue.complexToDimensionPixelSize}: rounded to the nearest pixel, but a
+     * non-zero dimension is never rounded to zero.
+     *
+     * @param unit one of the {@code TypedValue.COMPLEX_UNIT_*} constants
+     */
+    public static int pixelSize(Context context, int unit, float value) {
+        float pixels = TypedValue.applyDimension(unit, value, context.getResources().getDisplayMetrics());
+        int size = (int) (pixels >= 0 ? pixels + 0.5f : pixels - 0.5f);
+        if (size != 0) {
+            return size;
+        }
+        if (value == 0) {
+            return 0;
+        }
+        return value > 0 ? 1 : -1;
+    }
+}
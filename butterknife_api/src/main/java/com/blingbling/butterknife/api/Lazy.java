@@ -0,0 +1,63 @@
+package com.blingbling.butterknife.api;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.View;
+import android.view.ViewStub;
+
+/**
+ * A view that is only looked up on first access, for {@code @BindView} fields of type
+ * {@code Lazy<T>}. Binding a lazy field costs one small allocation instead of a view lookup, which
+ * pays off for views many sessions never touch.
+ * <p>
+ * If the id belongs to a {@link ViewStub} and {@code T} is not {@code ViewStub} itself, the stub is
+ * inflated on first access and the inflated view is returned. Give the stub an
+ * {@code android:inflatedId} equal to its own id so bindings created after inflation still find it.
+ * <p>
+ * Like the views it holds, a lazy view must only be used on the main thread.
+ */
+public final class Lazy<T extends View> {
+
+    private View source;
+    private final int id;
+    private final boolean inflateStub;
+    private T view;
+
+    /**
+     * @param source      the view to look up {@code id} in
+     * @param inflateStub whether a {@link ViewStub} found for {@code id} should be inflated
+     */
+    public Lazy(@NonNull View source, int id, boolean inflateStub) {
+        this.source = source;
+        this.id = id;
+        this.inflateStub = inflateStub;
+    }
+
+    /**
+     * Returns the view, looking it up (and inflating a stub) on the first call. Returns null if the
+     * view does not exist or the binding has been unbound.
+     */
+    @Nullable
+    public T get() {
+        if (view == null && source != null) {
+            View found = source.findViewById(id);
+            if (inflateStub && found instanceof ViewStub) {
+                found = ((ViewStub) found).inflate();
+            }
+            //noinspection unchecked
+            view = (T) found;
+        }
+        return view;
+    }
+
+    /** Whether {@link #get()} has already looked the view up. */
+    public boolean isResolved() {
+        return view != null;
+    }
+
+    /** Called on unbind; drops the references to the view tree. */
+    public void clear() {
+        source = null;
+        view = null;
+    }
+}
@@ -0,0 +1,12 @@
+package com.blingbling.butterknife.api;
+
+/**
+ * Implemented by an activity annotated with {@code @ContentView} to be told, on the main thread,
+ * once its content view is set and all views and listeners are bound. With
+ * {@code @ContentView(async = true)} this happens after {@code onCreate} returns; it is never
+ * called if the binding is unbound before inflation finishes.
+ */
+public interface OnViewsReadyListener {
+
+    void onViewsReady();
+}
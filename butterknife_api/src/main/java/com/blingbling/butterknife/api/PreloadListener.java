@@ -0,0 +1,13 @@
+package com.blingbling.butterknife.api;
+
+/**
+ * Notified on the preloading thread once {@link ButterKnife#preload} has warmed the binding cache.
+ */
+public interface PreloadListener {
+
+    /**
+     * @param classCount   number of target classes that were preloaded
+     * @param elapsedNanos wall time spent preloading, in nanoseconds
+     */
+    void onPreloadFinished(int classCount, long elapsedNanos);
+}
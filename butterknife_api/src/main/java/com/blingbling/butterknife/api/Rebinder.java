@@ -0,0 +1,20 @@
+package com.blingbling.butterknife.api;
+
+import android.view.View;
+
+/**
+ * A binding that can be pointed at another target and view tree in place, implemented by every
+ * generated {@code _ViewBinding}. Rebinding reuses the binding's listeners and arrays, so a
+ * recycled view or ViewHolder can be rebound without allocating.
+ */
+public interface Rebinder extends Unbinder {
+
+    /**
+     * Unbind from the current target and views, if still bound, then bind to the new ones. Listeners
+     * are taken off the previous views first, so they no longer call into any target.
+     *
+     * @param target an instance of the class this binding was generated for
+     * @param source the view to look up bound views in
+     */
+    void rebind(Object target, View source);
+}
@@ -0,0 +1,88 @@
+package com.blingbling.butterknife.api;
+
+import android.support.annotation.NonNull;
+import android.view.View;
+
+import java.util.List;
+
+/**
+ * Applies an action or a setter to every view of a {@code @BindViews} group. Lists are walked by
+ * index, so nothing is allocated per call. Pass the value to {@link Setter} instead of capturing it
+ * in the lambda, so that the lambda does not capture anything and is not allocated either.
+ * <p>
+ * The group must still be bound: after unbind its elements are null and every method here throws
+ * {@link NullPointerException}.
+ */
+public final class ViewCollections {
+
+    /** An action on one view of a group. */
+    public interface Action<T extends View> {
+        void apply(@NonNull T view, int index);
+    }
+
+    /** Sets {@code value} on one view of a group. */
+    public interface Setter<T extends View, V> {
+        void set(@NonNull T view, V value, int index);
+    }
+
+    private ViewCollections() {
+        throw new AssertionError("No instances.");
+    }
+
+    /** Apply {@code action} to every view in {@code views}. */
+    public static <T extends View> void run(@NonNull T[] views, @NonNull Action<? super T> action) {
+        for (int i = 0, count = views.length; i < count; i++) {
+            action.apply(views[i], i);
+        }
+    }
+
+    /** Apply {@code action} to every view in {@code views}. */
+    public static <T extends View> void run(@NonNull List<T> views, @NonNull Action<? super T> action) {
+        for (int i = 0, count = views.size(); i < count; i++) {
+            action.apply(views.get(i), i);
+        }
+    }
+
+    /** Set {@code value} on every view in {@code views} using {@code setter}. */
+    public static <T extends View, V> void set(@NonNull T[] views, @NonNull Setter<? super T, V> setter, V value) {
+        for (int i = 0, count = views.length; i < count; i++) {
+            setter.set(views[i], value, i);
+        }
+    }
+
+    /** Set {@code value} on every view in {@code views} using {@code setter}. */
+    public static <T extends View, V> void set(@NonNull List<T> views, @NonNull Setter<? super T, V> setter,
+                                               V value) {
+        for (int i = 0, count = views.size(); i < count; i++) {
+            setter.set(views.get(i), value, i);
+        }
+    }
+
+    /** {@link View#setVisibility(int)} on every view, without boxing the value. */
+    public static void setVisibility(@NonNull View[] views, int visibility) {
+        for (int i = 0, count = views.length; i < count; i++) {
+            views[i].setVisibility(visibility);
+        }
+    }
+
+    /** {@link View#setVisibility(int)} on every view, without boxing the value. */
+    public static void setVisibility(@NonNull List<? extends View> views, int visibility) {
+        for (int i = 0, count = views.size(); i < count; i++) {
+            views.get(i).setVisibility(visibility);
+        }
+    }
+
+    /** {@link View#setEnabled(boolean)} on every view. */
+    public static void setEnabled(@NonNull View[] views, boolean enabled) {
+        for (int i = 0, count = views.length; i < count; i++) {
+            views[i].setEnabled(enabled);
+        }
+    }
+
+    /** {@link View#setEnabled(boolean)} on every view. */
+    public static void setEnabled(@NonNull List<? extends View> views, boolean enabled) {
+        for (int i = 0, count = views.size(); i < count; i++) {
+            views.get(i).setEnabled(enabled);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.blingbling.butterknife.api;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.Arrays;
+
+/**
+ * Resolves many view ids with a single traversal of the view tree. Generated bindings use this
+ * instead of one {@link View#findViewById(int)} per id once a class binds enough ids, since every
+ * {@code findViewById} walks the tree again.
+ */
+public final class ViewFinder {
+
+    private ViewFinder() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * Find the views for {@code ids} below {@code source}, including {@code source} itself.
+     * Like {@link View#findViewById(int)}, the first match in pre-order wins.
+     *
+     * @param ids distinct view ids sorted in ascending order
+     * @return views indexed like {@code ids}; an entry is null when no view has that id
+     */
+    public static View[] findViews(View source, int[] ids) {
+        View[] views = new View[ids.length];
+        findViews(source, ids, views);
+        return views;
+    }
+
+    /**
+     * Like {@link #findViews(View, int[])}, but fills {@code views} instead of allocating, so
+     * repeated binds can reuse one array. Any previous contents are overwritten.
+     */
+    public static void findViews(View source, int[] ids, View[] views) {
+        Arrays.fill(views, null);
+        collect(source, ids, views, ids.length);
+    }
+
+    /** Returns how many ids are still unresolved after visiting {@code view} and its children. */
+    private static int collect(View view, int[] ids, View[] views, int remaining) {
+        int id = view.getId();
+        if (id != View.NO_ID) {
+            int index = Arrays.binarySearch(ids, id);
+            if (index >= 0 && views[index] == null) {
+                views[index] = view;
+                if (--remaining == 0) {
+                    return 0;
+                }
+            }
+        }
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0, count = group.getChildCount(); i < count; i++) {
+                remaining = collect(group.getChildAt(i), ids, views, remaining);
+                if (remaining == 0) {
+                    return 0;
+                }
+            }
+        }
+        return remaining;
+    }
+}
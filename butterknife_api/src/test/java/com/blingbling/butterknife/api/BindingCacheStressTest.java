@@ -0,0 +1,104 @@
+package com.blingbling.butterknife.api;
+
+import android.view.View;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Hammers {@link ButterKnife#findBindingFactoryForClass(Class)} from many threads at once. Every
+ * thread must see the same factory instance per class, and classes without a binding must
+ * consistently resolve to null.
+ */
+public class BindingCacheStressTest {
+
+    private static final int THREADS = 16;
+    private static final int ITERATIONS = 10000;
+
+    private static final Class<?>[] BOUND = {
+            BoundTarget.class, BoundSubclass.class, BoundGrandchild.class,
+    };
+    private static final Class<?>[] UNBOUND = {
+            UnboundTarget.class, UnboundSubclass.class, Object.class,
+    };
+
+    @Test
+    public void concurrentLookupsAgreeOnOneFactory() throws Exception {
+        final CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Future<BindingFactory[]>> results = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            final int offset = t;
+            results.add(executor.submit(new Callable<BindingFactory[]>() {
+                @Override
+                public BindingFactory[] call() throws Exception {
+                    start.await();
+                    BindingFactory[] seen = new BindingFactory[BOUND.length];
+                    for (int i = 0; i < ITERATIONS; i++) {
+                        int index = (i + offset) % BOUND.length;
+                        BindingFactory factory = ButterKnife.findBindingFactoryForClass(BOUND[index]);
+                        assertNotNull(factory);
+                        if (seen[index] == null) {
+                            seen[index] = factory;
+                        } else {
+                            assertSame(seen[index], factory);
+                        }
+                        assertNull(ButterKnife.findBindingFactoryForClass(UNBOUND[index]));
+                    }
+                    return seen;
+                }
+            }));
+        }
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(60, TimeUnit.SECONDS));
+
+        BindingFactory[] expected = results.get(0).get();
+        for (Future<BindingFactory[]> result : results) {
+            BindingFactory[] seen = result.get();
+            for (int i = 0; i < expected.length; i++) {
+                assertSame(expected[i], seen[i]);
+            }
+        }
+        // Subclasses without their own binding share the nearest superclass binding.
+        assertSame(expected[0], expected[1]);
+        assertSame(expected[0], expected[2]);
+    }
+
+    public static class BoundTarget {
+    }
+
+    public static class BoundSubclass extends BoundTarget {
+    }
+
+    public static class BoundGrandchild extends BoundSubclass {
+    }
+
+    public static class BoundTarget_ViewBinding implements Unbinder {
+
+        public BoundTarget_ViewBinding(BoundTarget target, View source) {
+        }
+
+        @Override
+        public void unbind() { }
+    }
+
+    public static class UnboundTarget {
+    }
+
+    public static class UnboundSubclass extends UnboundTarget {
+    }
+}
@@ -0,0 +1,93 @@
+package com.blingbling.butterknife.api;
+
+import android.view.View;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.util.concurrent.Executor;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Binds through a registered {@link BindingIndex}. {@link IndexedTarget_ViewBinding} exists so the
+ * reflective lookup would succeed, but its constructor fails, proving that path is never taken.
+ */
+public class BindingIndexTest {
+
+    private static final Unbinder INDEXED_UNBINDER = new Unbinder() {
+        @Override
+        public void unbind() { }
+    };
+
+    private static int factoryCalls;
+    private static int indexLookups;
+
+    @BeforeClass
+    public static void registerIndex() {
+        ButterKnife.addIndex(new BindingIndex() {
+            @Override
+            public BindingFactory getBindingFactory(Class<?> cls) {
+                if (cls != IndexedTarget.class) {
+                    return null;
+                }
+                indexLookups++;
+                return new BindingFactory() {
+                    @Override
+                    public Unbinder bind(Object target, View source) {
+                        factoryCalls++;
+                        return INDEXED_UNBINDER;
+                    }
+                };
+            }
+
+            @Override
+            public Class<?>[] getTargetClasses() {
+                return new Class<?>[] {IndexedTarget.class};
+            }
+        });
+    }
+
+    @Test
+    public void warmBindsUseIndexWithoutReflection() {
+        for (int i = 0; i < 100; i++) {
+            assertSame(INDEXED_UNBINDER, ButterKnife.createBinding(new IndexedTarget(), null));
+        }
+        assertEquals(100, factoryCalls);
+        assertEquals(1, indexLookups);
+    }
+
+    @Test
+    public void preloadReportsIndexedClasses() {
+        final int[] preloaded = new int[1];
+        ButterKnife.preload(new Executor() {
+            @Override
+            public void execute(Runnable command) {
+                command.run();
+            }
+        }, new PreloadListener() {
+            @Override
+            public void onPreloadFinished(int classCount, long elapsedNanos) {
+                assertTrue(elapsedNanos >= 0);
+                preloaded[0] = classCount;
+            }
+        });
+        assertEquals(1, preloaded[0]);
+        assertEquals(1, indexLookups);
+    }
+
+    public static class IndexedTarget {
+    }
+
+    public static class IndexedTarget_ViewBinding implements Unbinder {
+
+        public IndexedTarget_ViewBinding(IndexedTarget target, View source) {
+            throw new AssertionError("Reflective binding lookup was used.");
+        }
+
+        @Override
+        public void unbind() { }
+    }
+}
@@ -0,0 +1,127 @@
+package com.blingbling.butterknife.api;
+
+import android.view.View;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the events a {@link BindingListener} receives for a reflective binding and for a class
+ * without a binding, and that nothing is wrapped or reported while no listener is installed.
+ */
+public class BindingListenerTest {
+
+    private final List<String> events = new ArrayList<>();
+
+    private final BindingListener listener = new BindingListener() {
+        @Override
+        public void onBind(Class<?> targetClass, long elapsedNanos) {
+            assertTrue(elapsedNanos >= 0);
+            events.add("bind " + targetClass.getSimpleName());
+        }
+
+        @Override
+        public void onUnbind(Class<?> targetClass, long elapsedNanos) {
+            assertTrue(elapsedNanos >= 0);
+            events.add("unbind " + targetClass.getSimpleName());
+        }
+
+        @Override
+        public void onCacheHit(Class<?> cls, boolean hasBinding) {
+            events.add((hasBinding ? "hit " : "negative hit ") + cls.getSimpleName());
+        }
+
+        @Override
+        public void onCacheMiss(Class<?> cls) {
+            events.add("miss " + cls.getSimpleName());
+        }
+
+        @Override
+        public void onReflectionFallback(Class<?> cls) {
+            events.add("reflection " + cls.getSimpleName());
+        }
+    };
+
+    @After
+    public void removeListener() {
+        ButterKnife.setBindingListener(null);
+    }
+
+    @Test
+    public void reportsLookupsAndTimings() {
+        ButterKnife.setBindingListener(listener);
+
+        Unbinder binding = ButterKnife.createBinding(new ListenedTarget(), null);
+        assertEvents("miss ListenedTarget", "reflection ListenedTarget", "bind ListenedTarget");
+
+        ButterKnife.createBinding(new ListenedTarget(), null);
+        assertEvents("hit ListenedTarget", "bind ListenedTarget");
+
+        binding.unbind();
+        assertEvents("unbind ListenedTarget");
+    }
+
+    @Test
+    public void reportsNegativeHits() {
+        ButterKnife.setBindingListener(listener);
+
+        ButterKnife.createBinding(new UnlistenedTarget(), null);
+        // The superclass walk then reaches Object, which may already be cached by other tests.
+        assertEquals("miss UnlistenedTarget", events.get(0));
+        assertEquals("reflection UnlistenedTarget", events.get(1));
+        assertEquals("bind UnlistenedTarget", events.get(events.size() - 1));
+        events.clear();
+
+        assertSame(Unbinder.EMPTY, ButterKnife.createBinding(new UnlistenedTarget(), null));
+        assertEvents("negative hit UnlistenedTarget", "bind UnlistenedTarget");
+    }
+
+    @Test
+    public void bindingsAreNotWrappedWithoutListener() {
+        Unbinder binding = ButterKnife.createBinding(new PlainTarget(), null);
+
+        assertTrue(binding instanceof PlainTarget_ViewBinding);
+        binding.unbind();
+        assertTrue(events.isEmpty());
+    }
+
+    private void assertEvents(String... expected) {
+        assertEquals(Arrays.asList(expected), events);
+        events.clear();
+    }
+
+    public static class ListenedTarget {
+    }
+
+    public static class ListenedTarget_ViewBinding implements Unbinder {
+
+        public ListenedTarget_ViewBinding(ListenedTarget target, View source) {
+        }
+
+        @Override
+        public void unbind() { }
+    }
+
+    public static class UnlistenedTarget {
+    }
+
+    public static class PlainTarget {
+    }
+
+    public static class PlainTarget_ViewBinding implements Unbinder {
+
+        public PlainTarget_ViewBinding(PlainTarget target, View source) {
+        }
+
+        @Override
+        public void unbind() { }
+    }
+}
@@ -0,0 +1,11 @@
+package android;
+
+/**
+ * Minimal JVM stand-in for the framework resource ids.
+ */
+public final class R {
+
+    public static final class id {
+        public static final int content = 0x01020002;
+    }
+}
@@ -0,0 +1,42 @@
+package android.app;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.Window;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. There are no layout resources, so
+ * {@link #setContentView(int)} only records the id; use {@link #setContentView(View)} for views.
+ */
+public class Activity extends Context {
+
+    private final Window mWindow = new Window();
+    private int mLayoutResId;
+
+    public Window getWindow() {
+        return mWindow;
+    }
+
+    public void setContentView(int layoutResID) {
+        mLayoutResId = layoutResID;
+    }
+
+    /** Like the framework, ignores the view's own layout params and fills the content container. */
+    public void setContentView(View view) {
+        setContentView(view, new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.MATCH_PARENT));
+    }
+
+    public void setContentView(View view, ViewGroup.LayoutParams params) {
+        ((ViewGroup) mWindow.getDecorView()).addView(view, params);
+    }
+
+    public <T extends View> T findViewById(int id) {
+        return mWindow.getDecorView().findViewById(id);
+    }
+
+    public int getContentViewLayoutId() {
+        return mLayoutResId;
+    }
+}
@@ -0,0 +1,15 @@
+package android.content;
+
+import android.content.res.Resources;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public class Context {
+
+    private final Resources mResources = new Resources();
+
+    public Resources getResources() {
+        return mResources;
+    }
+}
@@ -0,0 +1,16 @@
+package android.content.res;
+
+import android.util.DisplayMetrics;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. Tests change the metrics to check how
+ * dimensions are converted.
+ */
+public class Resources {
+
+    private final DisplayMetrics mMetrics = new DisplayMetrics();
+
+    public DisplayMetrics getDisplayMetrics() {
+        return mMetrics;
+    }
+}
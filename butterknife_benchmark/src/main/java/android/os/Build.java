@@ -0,0 +1,26 @@
+package android.os;
+
+/**
+ * Minimal JVM stand-in for the framework class. Reports a current API level.
+ */
+public final class Build {
+
+    private Build() {
+    }
+
+    public static final class VERSION {
+
+        public static final int SDK_INT = 26;
+
+        private VERSION() {
+        }
+    }
+
+    public static final class VERSION_CODES {
+
+        public static final int ICE_CREAM_SANDWICH_MR1 = 15;
+
+        private VERSION_CODES() {
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package android.os;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal JVM stand-in for the framework class. Posted runnables stay pending until
+ * {@link #runPending()} runs them on the calling thread, which plays the main thread.
+ */
+public class Handler {
+
+    private static final List<Runnable> sPending = new ArrayList<>();
+
+    public Handler(Looper looper) {
+    }
+
+    public final boolean post(Runnable runnable) {
+        synchronized (sPending) {
+            sPending.add(runnable);
+        }
+        return true;
+    }
+
+    /**
+     * Run every pending runnable, in the order they were posted.
+     *
+     * @return the number of runnables run
+     */
+    public static int runPending() {
+        List<Runnable> pending;
+        synchronized (sPending) {
+            pending = new ArrayList<>(sPending);
+            sPending.clear();
+        }
+        for (Runnable runnable : pending) {
+            runnable.run();
+        }
+        return pending.size();
+    }
+}
@@ -0,0 +1,16 @@
+package android.os;
+
+/**
+ * Minimal JVM stand-in for the framework class. There is no message loop; see {@link Handler}.
+ */
+public final class Looper {
+
+    private static final Looper MAIN = new Looper();
+
+    private Looper() {
+    }
+
+    public static Looper getMainLooper() {
+        return MAIN;
+    }
+}
@@ -0,0 +1,55 @@
+package android.support.v4.view;
+
+import android.content.Context;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal JVM stand-in for the support library class. There is no inflation thread and there are
+ * no layout resources: requests stay pending until {@link #finishPending(View)} hands each of them
+ * the given view, the way the real class posts results back to the main thread.
+ */
+public final class AsyncLayoutInflater {
+
+    public interface OnInflateFinishedListener {
+        void onInflateFinished(@NonNull View view, int resid, @Nullable ViewGroup parent);
+    }
+
+    private static final List<Object[]> sPending = new ArrayList<>();
+
+    public AsyncLayoutInflater(@NonNull Context context) {
+    }
+
+    public void inflate(int resid, @Nullable ViewGroup parent, @NonNull OnInflateFinishedListener callback) {
+        sPending.add(new Object[] {resid, parent, callback});
+    }
+
+    /** The parent passed with each pending inflation, in request order. */
+    public static List<ViewGroup> pendingParents() {
+        List<ViewGroup> parents = new ArrayList<>();
+        for (Object[] request : sPending) {
+            parents.add((ViewGroup) request[1]);
+        }
+        return parents;
+    }
+
+    /**
+     * Finish every pending inflation with {@code view} as the inflated layout.
+     *
+     * @return the number of inflations finished
+     */
+    public static int finishPending(View view) {
+        List<Object[]> pending = new ArrayList<>(sPending);
+        sPending.clear();
+        for (Object[] request : pending) {
+            ((OnInflateFinishedListener) request[2]).onInflateFinished(
+                    view, (Integer) request[0], (ViewGroup) request[1]);
+        }
+        return pending.size();
+    }
+}
@@ -0,0 +1,29 @@
+package android.support.v7.widget;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * Minimal JVM stand-in for the support library class. There is no adapter or layout manager: the
+ * children are the attached items in adapter order, starting at the position last scrolled to.
+ */
+public class RecyclerView extends ViewGroup {
+
+    public static final int NO_POSITION = -1;
+
+    private int mFirstPosition;
+
+    public RecyclerView(Context context) {
+        super(context);
+    }
+
+    public void scrollToPosition(int position) {
+        mFirstPosition = position;
+    }
+
+    public int getChildAdapterPosition(View child) {
+        int index = indexOfChild(child);
+        return index >= 0 ? mFirstPosition + index : NO_POSITION;
+    }
+}
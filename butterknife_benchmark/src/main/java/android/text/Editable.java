@@ -0,0 +1,7 @@
+package android.text;
+
+/**
+ * Minimal JVM stand-in for the Android framework interface: only the text itself is kept.
+ */
+public interface Editable extends CharSequence {
+}
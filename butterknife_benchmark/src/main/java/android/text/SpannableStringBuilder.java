@@ -0,0 +1,33 @@
+package android.text;
+
+/**
+ * Minimal JVM stand-in for the Android framework class, without spans.
+ */
+public class SpannableStringBuilder implements Editable {
+
+    private final StringBuilder mText;
+
+    public SpannableStringBuilder(CharSequence text) {
+        mText = new StringBuilder(text);
+    }
+
+    @Override
+    public int length() {
+        return mText.length();
+    }
+
+    @Override
+    public char charAt(int index) {
+        return mText.charAt(index);
+    }
+
+    @Override
+    public CharSequence subSequence(int start, int end) {
+        return new SpannableStringBuilder(mText.subSequence(start, end));
+    }
+
+    @Override
+    public String toString() {
+        return mText.toString();
+    }
+}
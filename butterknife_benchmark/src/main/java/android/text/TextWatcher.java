@@ -0,0 +1,13 @@
+package android.text;
+
+/**
+ * Minimal JVM stand-in for the Android framework interface.
+ */
+public interface TextWatcher {
+
+    void beforeTextChanged(CharSequence s, int start, int count, int after);
+
+    void onTextChanged(CharSequence s, int start, int before, int count);
+
+    void afterTextChanged(Editable s);
+}
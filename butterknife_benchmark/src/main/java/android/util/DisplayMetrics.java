@@ -0,0 +1,10 @@
+package android.util;
+
+/**
+ * Minimal JVM stand-in for the Android framework class, at mdpi by default.
+ */
+public class DisplayMetrics {
+
+    public float density = 1f;
+    public float scaledDensity = 1f;
+}
@@ -0,0 +1,15 @@
+package android.util;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public final class Log {
+
+    private Log() {
+    }
+
+    public static int d(String tag, String msg) {
+        System.out.println(tag + ": " + msg);
+        return 0;
+    }
+}
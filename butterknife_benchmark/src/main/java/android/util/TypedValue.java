@@ -0,0 +1,24 @@
+package android.util;
+
+/**
+ * Minimal JVM stand-in for the Android framework class, with the units layouts use most.
+ */
+public class TypedValue {
+
+    public static final int COMPLEX_UNIT_PX = 0;
+    public static final int COMPLEX_UNIT_DIP = 1;
+    public static final int COMPLEX_UNIT_SP = 2;
+
+    public static float applyDimension(int unit, float value, DisplayMetrics metrics) {
+        switch (unit) {
+            case COMPLEX_UNIT_PX:
+                return value;
+            case COMPLEX_UNIT_DIP:
+                return value * metrics.density;
+            case COMPLEX_UNIT_SP:
+                return value * metrics.scaledDensity;
+            default:
+                return 0;
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package android.view;
+
+import android.content.Context;
+
+/**
+ * Minimal JVM stand-in for the Android framework class, just enough for the api and generated
+ * bindings to run outside a device. Lookup follows the framework: the view itself first.
+ */
+public class View {
+
+    public static final int NO_ID = -1;
+    public static final int VISIBLE = 0x00000000;
+    public static final int INVISIBLE = 0x00000004;
+    public static final int GONE = 0x00000008;
+
+    public interface OnClickListener {
+        void onClick(View v);
+    }
+
+    public interface OnLongClickListener {
+        boolean onLongClick(View v);
+    }
+
+    private int mId = NO_ID;
+    ViewGroup mParent;
+    private OnClickListener mOnClickListener;
+    private OnLongClickListener mOnLongClickListener;
+    private final Context mContext;
+    private ViewGroup.LayoutParams mLayoutParams;
+    private int mPaddingLeft;
+    private int mPaddingTop;
+    private int mPaddingRight;
+    private int mPaddingBottom;
+    private int mVisibility = VISIBLE;
+    private boolean mEnabled = true;
+    private int mBackgroundColor;
+    private int mBackgroundResId;
+
+    public View() {
+        this(null);
+    }
+
+    public View(Context context) {
+        mContext = context;
+    }
+
+    public final Context getContext() {
+        return mContext;
+    }
+
+    public int getId() {
+        return mId;
+    }
+
+    public void setId(int id) {
+        mId = id;
+    }
+
+    public final <T extends View> T findViewById(int id) {
+        if (id == NO_ID) {
+            return null;
+        }
+        return findViewTraversal(id);
+    }
+
+    @SuppressWarnings("unchecked")
+    <T extends View> T findViewTraversal(int id) {
+        if (id == mId) {
+            return (T) this;
+        }
+        return null;
+    }
+
+    public final ViewParent getParent() {
+        return mParent;
+    }
+
+    public void setOnClickListener(OnClickListener l) {
+        mOnClickListener = l;
+    }
+
+    public boolean hasOnClickListeners() {
+        return mOnClickListener != null;
+    }
+
+    public boolean performClick() {
+        if (mOnClickListener != null) {
+            mOnClickListener.onClick(this);
+            return true;
+        }
+        return false;
+    }
+
+    public void setOnLongClickListener(OnLongClickListener l) {
+        mOnLongClickListener = l;
+    }
+
+    public boolean performLongClick() {
+        return mOnLongClickListener != null && mOnLongClickListener.onLongClick(this);
+    }
+
+    public ViewGroup.LayoutParams getLayoutParams() {
+        return mLayoutParams;
+    }
+
+    public void setLayoutParams(ViewGroup.LayoutParams params) {
+        mLayoutParams = params;
+    }
+
+    public void setPadding(int left, int top, int right, int bottom) {
+        mPaddingLeft = left;
+        mPaddingTop = top;
+        mPaddingRight = right;
+        mPaddingBottom = bottom;
+    }
+
+    public int getPaddingLeft() {
+        return mPaddingLeft;
+    }
+
+    public int getPaddingTop() {
+        return mPaddingTop;
+    }
+
+    public int getPaddingRight() {
+        return mPaddingRight;
+    }
+
+    public int getPaddingBottom() {
+        return mPaddingBottom;
+    }
+
+    public int getVisibility() {
+        return mVisibility;
+    }
+
+    public void setVisibility(int visibility) {
+        mVisibility = visibility;
+    }
+
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        mEnabled = enabled;
+    }
+
+    /** Not in the framework: drawables are not loaded, so only the color is recorded. */
+    public int getBackgroundColor() {
+        return mBackgroundColor;
+    }
+
+    public void setBackgroundColor(int color) {
+        mBackgroundColor = color;
+        mBackgroundResId = 0;
+    }
+
+    /** Not in the framework: drawables are not loaded, so only the resource id is recorded. */
+    public int getBackgroundResId() {
+        return mBackgroundResId;
+    }
+
+    public void setBackgroundResource(int resid) {
+        mBackgroundResId = resid;
+        mBackgroundColor = 0;
+    }
+}
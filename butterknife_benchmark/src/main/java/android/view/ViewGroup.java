@@ -0,0 +1,117 @@
+package android.view;
+
+import android.content.Context;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public class ViewGroup extends View implements ViewParent {
+
+    public static class LayoutParams {
+
+        public static final int MATCH_PARENT = -1;
+        public static final int WRAP_CONTENT = -2;
+
+        public int width;
+        public int height;
+
+        public LayoutParams(int width, int height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    public static class MarginLayoutParams extends LayoutParams {
+
+        public int leftMargin;
+        public int topMargin;
+        public int rightMargin;
+        public int bottomMargin;
+
+        public MarginLayoutParams(int width, int height) {
+            super(width, height);
+        }
+    }
+
+    public interface OnHierarchyChangeListener {
+        void onChildViewAdded(View parent, View child);
+
+        void onChildViewRemoved(View parent, View child);
+    }
+
+    private final List<View> mChildren = new ArrayList<>();
+    private OnHierarchyChangeListener mOnHierarchyChangeListener;
+
+    public ViewGroup() {
+    }
+
+    public ViewGroup(Context context) {
+        super(context);
+    }
+
+    public void addView(View child, LayoutParams params) {
+        child.setLayoutParams(params);
+        addView(child);
+    }
+
+    public void addView(View child) {
+        addView(child, mChildren.size());
+    }
+
+    public void addView(View child, int index) {
+        mChildren.add(index, child);
+        child.mParent = this;
+        if (mOnHierarchyChangeListener != null) {
+            mOnHierarchyChangeListener.onChildViewAdded(this, child);
+        }
+    }
+
+    public void removeView(View view) {
+        int index = indexOfChild(view);
+        if (index >= 0) {
+            removeViewAt(index);
+        }
+    }
+
+    public void removeViewAt(int index) {
+        View child = mChildren.remove(index);
+        child.mParent = null;
+        if (mOnHierarchyChangeListener != null) {
+            mOnHierarchyChangeListener.onChildViewRemoved(this, child);
+        }
+    }
+
+    public void setOnHierarchyChangeListener(OnHierarchyChangeListener listener) {
+        mOnHierarchyChangeListener = listener;
+    }
+
+    public int indexOfChild(View child) {
+        return mChildren.indexOf(child);
+    }
+
+    public int getChildCount() {
+        return mChildren.size();
+    }
+
+    public View getChildAt(int index) {
+        return mChildren.get(index);
+    }
+
+    @Override
+    <T extends View> T findViewTraversal(int id) {
+        if (id == getId()) {
+            //noinspection unchecked
+            return (T) this;
+        }
+        for (int i = 0, count = mChildren.size(); i < count; i++) {
+            T view = mChildren.get(i).findViewTraversal(id);
+            if (view != null) {
+                return view;
+            }
+        }
+        return null;
+    }
+}
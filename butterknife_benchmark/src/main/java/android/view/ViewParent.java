@@ -0,0 +1,9 @@
+package android.view;
+
+/**
+ * Minimal JVM stand-in for the Android framework interface.
+ */
+public interface ViewParent {
+
+    ViewParent getParent();
+}
@@ -0,0 +1,25 @@
+package android.view;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. There are no layout resources, so the
+ * stub is created with the view it inflates to.
+ */
+public final class ViewStub extends View {
+
+    private final View mLayout;
+
+    public ViewStub(View layout) {
+        mLayout = layout;
+    }
+
+    public View inflate() {
+        ViewGroup parent = mParent;
+        if (parent == null) {
+            throw new IllegalStateException("ViewStub must have a non-null ViewGroup viewParent");
+        }
+        int index = parent.indexOfChild(this);
+        parent.removeViewAt(index);
+        parent.addView(mLayout, index);
+        return mLayout;
+    }
+}
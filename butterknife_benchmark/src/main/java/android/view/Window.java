@@ -0,0 +1,20 @@
+package android.view;
+
+import android.R;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. The decor view doubles as the
+ * {@code android.R.id.content} container that content views are added to.
+ */
+public class Window {
+
+    private final ViewGroup mDecorView = new ViewGroup();
+
+    public Window() {
+        mDecorView.setId(R.id.content);
+    }
+
+    public View getDecorView() {
+        return mDecorView;
+    }
+}
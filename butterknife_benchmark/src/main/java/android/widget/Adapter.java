@@ -0,0 +1,13 @@
+package android.widget;
+
+/**
+ * Minimal JVM stand-in for the Android framework interface.
+ */
+public interface Adapter {
+
+    int getCount();
+
+    Object getItem(int position);
+
+    long getItemId(int position);
+}
@@ -0,0 +1,62 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. Selection changes are reported right away
+ * instead of on the next layout pass.
+ */
+public abstract class AdapterView<T extends Adapter> extends ViewGroup {
+
+    public static final int INVALID_POSITION = -1;
+
+    public interface OnItemSelectedListener {
+        void onItemSelected(AdapterView<?> parent, View view, int position, long id);
+
+        void onNothingSelected(AdapterView<?> parent);
+    }
+
+    private OnItemSelectedListener mOnItemSelectedListener;
+    private int mSelectedPosition = INVALID_POSITION;
+
+    public AdapterView(Context context) {
+        super(context);
+    }
+
+    public abstract T getAdapter();
+
+    public abstract void setAdapter(T adapter);
+
+    public int getSelectedItemPosition() {
+        return mSelectedPosition;
+    }
+
+    /**
+     * Selects the item at {@code position}, or nothing for {@link #INVALID_POSITION}.
+     */
+    public void setSelection(int position) {
+        if (mSelectedPosition == position) {
+            return;
+        }
+        mSelectedPosition = position;
+        if (mOnItemSelectedListener == null) {
+            return;
+        }
+        if (position == INVALID_POSITION) {
+            mOnItemSelectedListener.onNothingSelected(this);
+        } else {
+            View view = position < getChildCount() ? getChildAt(position) : null;
+            mOnItemSelectedListener.onItemSelected(this, view, position, getAdapter().getItemId(position));
+        }
+    }
+
+    public void setOnItemSelectedListener(OnItemSelectedListener listener) {
+        mOnItemSelectedListener = listener;
+    }
+
+    public final OnItemSelectedListener getOnItemSelectedListener() {
+        return mOnItemSelectedListener;
+    }
+}
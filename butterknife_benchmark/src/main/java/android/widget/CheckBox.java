@@ -0,0 +1,13 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public class CheckBox extends CompoundButton {
+
+    public CheckBox(Context context) {
+        super(context);
+    }
+}
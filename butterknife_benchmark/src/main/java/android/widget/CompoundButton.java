@@ -0,0 +1,41 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public abstract class CompoundButton extends Button {
+
+    public interface OnCheckedChangeListener {
+        void onCheckedChanged(CompoundButton buttonView, boolean isChecked);
+    }
+
+    private boolean mChecked;
+    private OnCheckedChangeListener mOnCheckedChangeListener;
+
+    public CompoundButton(Context context) {
+        super(context);
+    }
+
+    public boolean isChecked() {
+        return mChecked;
+    }
+
+    public void setChecked(boolean checked) {
+        if (mChecked != checked) {
+            mChecked = checked;
+            if (mOnCheckedChangeListener != null) {
+                mOnCheckedChangeListener.onCheckedChanged(this, mChecked);
+            }
+        }
+    }
+
+    public void toggle() {
+        setChecked(!mChecked);
+    }
+
+    public void setOnCheckedChangeListener(OnCheckedChangeListener listener) {
+        mOnCheckedChangeListener = listener;
+    }
+}
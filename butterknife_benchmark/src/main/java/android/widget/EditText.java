@@ -0,0 +1,13 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public class EditText extends TextView {
+
+    public EditText(Context context) {
+        super(context);
+    }
+}
@@ -0,0 +1,23 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+/**
+ * Minimal JVM stand-in for the Android framework class; nothing is measured or laid out.
+ */
+public class FrameLayout extends ViewGroup {
+
+    public static class LayoutParams extends ViewGroup.MarginLayoutParams {
+
+        public int gravity = -1;
+
+        public LayoutParams(int width, int height) {
+            super(width, height);
+        }
+    }
+
+    public FrameLayout(Context context) {
+        super(context);
+    }
+}
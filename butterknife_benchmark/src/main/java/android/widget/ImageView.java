@@ -0,0 +1,25 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.View;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. Drawables are not loaded, so only the
+ * resource id is recorded.
+ */
+public class ImageView extends View {
+
+    private int mImageResId;
+
+    public ImageView(Context context) {
+        super(context);
+    }
+
+    public int getImageResId() {
+        return mImageResId;
+    }
+
+    public void setImageResource(int resId) {
+        mImageResId = resId;
+    }
+}
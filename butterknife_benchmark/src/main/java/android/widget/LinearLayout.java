@@ -0,0 +1,46 @@
+package android.widget;
+
+import android.content.Context;
+import android.view.ViewGroup;
+
+/**
+ * Minimal JVM stand-in for the Android framework class; nothing is measured or laid out.
+ */
+public class LinearLayout extends ViewGroup {
+
+    public static final int HORIZONTAL = 0;
+    public static final int VERTICAL = 1;
+
+    public static class LayoutParams extends ViewGroup.MarginLayoutParams {
+
+        public float weight;
+        public int gravity = -1;
+
+        public LayoutParams(int width, int height) {
+            super(width, height);
+        }
+    }
+
+    private int mOrientation = HORIZONTAL;
+    private int mGravity;
+
+    public LinearLayout(Context context) {
+        super(context);
+    }
+
+    public int getOrientation() {
+        return mOrientation;
+    }
+
+    public void setOrientation(int orientation) {
+        mOrientation = orientation;
+    }
+
+    public int getGravity() {
+        return mGravity;
+    }
+
+    public void setGravity(int gravity) {
+        mGravity = gravity;
+    }
+}
@@ -0,0 +1,13 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Minimal JVM stand-in for the Android framework class.
+ */
+public class ScrollView extends FrameLayout {
+
+    public ScrollView(Context context) {
+        super(context);
+    }
+}
@@ -0,0 +1,26 @@
+package android.widget;
+
+import android.content.Context;
+
+/**
+ * Minimal JVM stand-in for the Android framework class; the adapter is an {@link Adapter} rather
+ * than a SpinnerAdapter.
+ */
+public class Spinner extends AdapterView<Adapter> {
+
+    private Adapter mAdapter;
+
+    public Spinner(Context context) {
+        super(context);
+    }
+
+    @Override
+    public Adapter getAdapter() {
+        return mAdapter;
+    }
+
+    @Override
+    public void setAdapter(Adapter adapter) {
+        mAdapter = adapter;
+    }
+}
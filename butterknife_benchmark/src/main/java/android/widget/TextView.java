@@ -0,0 +1,119 @@
+package android.widget;
+
+import android.content.Context;
+import android.text.Editable;
+import android.text.SpannableStringBuilder;
+import android.text.TextWatcher;
+import android.util.TypedValue;
+import android.view.Gravity;
+import android.view.View;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal JVM stand-in for the Android framework class. String resources are not loaded, so
+ * {@link #setText(int)} only records the id. Watchers are told about every {@link #setText(CharSequence)}
+ * as a replacement of the whole text.
+ */
+public class TextView extends View {
+
+    private CharSequence mText = "";
+    private int mTextResId;
+    private CharSequence mHint;
+    private int mHintResId;
+    private float mTextSize;
+    private int mTextColor;
+    private int mGravity = Gravity.TOP | Gravity.START;
+    private List<TextWatcher> mListeners;
+
+    public TextView(Context context) {
+        super(context);
+    }
+
+    public CharSequence getText() {
+        return mText;
+    }
+
+    public void setText(CharSequence text) {
+        if (mListeners == null || mListeners.isEmpty()) {
+            mText = text;
+            return;
+        }
+        CharSequence oldText = mText != null ? mText : "";
+        CharSequence newText = text != null ? text : "";
+        for (int i = 0, count = mListeners.size(); i < count; i++) {
+            mListeners.get(i).beforeTextChanged(oldText, 0, oldText.length(), newText.length());
+        }
+        mText = text;
+        for (int i = 0, count = mListeners.size(); i < count; i++) {
+            mListeners.get(i).onTextChanged(newText, 0, oldText.length(), newText.length());
+        }
+        Editable editable = newText instanceof Editable ? (Editable) newText : new SpannableStringBuilder(newText);
+        for (int i = 0, count = mListeners.size(); i < count; i++) {
+            mListeners.get(i).afterTextChanged(editable);
+        }
+    }
+
+    public void addTextChangedListener(TextWatcher watcher) {
+        if (mListeners == null) {
+            mListeners = new ArrayList<>();
+        }
+        mListeners.add(watcher);
+    }
+
+    public void removeTextChangedListener(TextWatcher watcher) {
+        if (mListeners != null) {
+            mListeners.remove(watcher);
+        }
+    }
+
+    public int getTextResId() {
+        return mTextResId;
+    }
+
+    public void setText(int resid) {
+        mTextResId = resid;
+    }
+
+    public CharSequence getHint() {
+        return mHint;
+    }
+
+    public void setHint(CharSequence hint) {
+        mHint = hint;
+    }
+
+    public int getHintResId() {
+        return mHintResId;
+    }
+
+    public void setHint(int resid) {
+        mHintResId = resid;
+    }
+
+    /** The text size in pixels. */
+    public float getTextSize() {
+        return mTextSize;
+    }
+
+    public void setTextSize(int unit, float size) {
+        mTextSize = TypedValue.applyDimension(unit, size, getContext().getResources().getDisplayMetrics());
+    }
+
+    public int getCurrentTextColor() {
+        return mTextColor;
+    }
+
+    public void setTextColor(int color) {
+        mTextColor = color;
+    }
+
+    public int getGravity() {
+        return mGravity;
+    }
+
+    public void setGravity(int gravity) {
+        mGravity = gravity;
+    }
+}
@@ -0,0 +1,170 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.api.BindingFactory;
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures binding at runtime on screens of different sizes: {@code ButterKnife.bind} with a warm
+ * cache, after a cache miss and for a class without bindings, the generated {@code _ViewBinding}
+ * constructor on its own, and {@code unbind}. See {@link ColdBindBenchmark} for the first bind in a
+ * fresh JVM.
+ * <pre>
+ * ./gradlew :butterknife_benchmark:jmh -PjmhInclude=BindBenchmark
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BindBenchmark {
+
+    static final int VIEW_COUNT = 200;
+
+    private static final Map<?, ?> BINDING_CACHE = bindingCache();
+
+    @Param({"small", "manyFields", "manyListeners"})
+    public String screen;
+
+    private Activity mActivity;
+    private View mSource;
+    private Activity mUnbound;
+    private BindingFactory mConstructor;
+
+    @Setup
+    public void setUp() {
+        mActivity = newScreen(screen);
+        mSource = mActivity.getWindow().getDecorView();
+        mUnbound = new UnboundActivity();
+        mUnbound.setContentView(ViewTrees.build(VIEW_COUNT, 4));
+        mConstructor = bindingConstructor(screen);
+    }
+
+    @Benchmark
+    public Unbinder bindWarm() {
+        return ButterKnife.bind(mActivity);
+    }
+
+    @Benchmark
+    public Unbinder bindCacheMiss(EmptyCache emptyCache) {
+        return ButterKnife.bind(mActivity);
+    }
+
+    @Benchmark
+    public Unbinder bindNegativeHit() {
+        return ButterKnife.bind(mUnbound);
+    }
+
+    @Benchmark
+    public Unbinder bindingConstructor() {
+        return mConstructor.bind(mActivity, mSource);
+    }
+
+    @Benchmark
+    public void unbind(Bound bound) {
+        bound.binding.unbind();
+    }
+
+    /** Empties the binding cache before each call, so every bind looks its binding up again. */
+    @State(Scope.Thread)
+    public static class EmptyCache {
+
+        @Setup(Level.Invocation)
+        public void clear() {
+            BINDING_CACHE.clear();
+        }
+    }
+
+    /** A fresh binding for each call to unbind. */
+    @State(Scope.Thread)
+    public static class Bound {
+
+        Unbinder binding;
+
+        @Setup(Level.Invocation)
+        public void bind(BindBenchmark benchmark) {
+            binding = ButterKnife.bind(benchmark.mActivity);
+        }
+    }
+
+    static Activity newScreen(String screen) {
+        Activity activity;
+        switch (screen) {
+            case "small":
+                activity = new SmallActivity();
+                break;
+            case "manyFields":
+                activity = new ManyFieldsActivity();
+                break;
+            case "manyListeners":
+                activity = new ManyListenersActivity();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown screen " + screen);
+        }
+        activity.setContentView(ViewTrees.build(VIEW_COUNT, 4));
+        return activity;
+    }
+
+    /** Calls the generated constructor directly, skipping the lookup and reflection. */
+    private static BindingFactory bindingConstructor(String screen) {
+        switch (screen) {
+            case "small":
+                return new BindingFactory() {
+                    @Override
+                    public Unbinder bind(Object target, View source) {
+                        return new SmallActivity_ViewBinding((SmallActivity) target, source);
+                    }
+                };
+            case "manyFields":
+                return new BindingFactory() {
+                    @Override
+                    public Unbinder bind(Object target, View source) {
+                        return new ManyFieldsActivity_ViewBinding((ManyFieldsActivity) target, source);
+                    }
+                };
+            case "manyListeners":
+                return new BindingFactory() {
+                    @Override
+                    public Unbinder bind(Object target, View source) {
+                        return new ManyListenersActivity_ViewBinding((ManyListenersActivity) target, source);
+                    }
+                };
+            default:
+                throw new IllegalArgumentException("Unknown screen " + screen);
+        }
+    }
+
+    /** The binding cache is private to {@link ButterKnife}; only cache misses need to reach it. */
+    private static Map<?, ?> bindingCache() {
+        try {
+            Field field = ButterKnife.class.getDeclaredField("BINDINGS");
+            field.setAccessible(true);
+            return (Map<?, ?>) field.get(null);
+        } catch (ReflectiveOperationException e) {
+            throw new AssertionError(e);
+        }
+    }
+}
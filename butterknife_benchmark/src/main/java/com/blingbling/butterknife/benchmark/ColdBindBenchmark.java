@@ -0,0 +1,51 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The first {@code ButterKnife.bind} in a fresh JVM, including loading {@code ButterKnife} and the
+ * generated binding class. Every sample is a new fork, so expect this one to take a while.
+ * <pre>
+ * ./gradlew :butterknife_benchmark:jmh -PjmhInclude=ColdBindBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdBindBenchmark {
+
+    @Param({"small", "manyFields", "manyListeners"})
+    public String screen;
+
+    private Activity mActivity;
+
+    @Setup
+    public void setUp() {
+        mActivity = BindBenchmark.newScreen(screen);
+    }
+
+    @Benchmark
+    public Unbinder bindCold() {
+        return ButterKnife.bind(mActivity);
+    }
+}
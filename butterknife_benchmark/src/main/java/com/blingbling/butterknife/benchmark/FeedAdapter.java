@@ -0,0 +1,90 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import java.util.List;
+
+/**
+ * A RecyclerView-style adapter over synthetic items. Its ViewHolder is written the usual way, as an
+ * inner class of a generic adapter that binds itself in its constructor. There is no RecyclerView
+ * on the JVM, so callers create and recycle the holders themselves.
+ */
+public class FeedAdapter<T extends CharSequence> {
+
+    static final int ID_ROOT = 200;
+    static final int ID_TITLE = 201;
+    static final int ID_ICON = 202;
+    static final int ICON_EVEN = 0x7f020000;
+    static final int ICON_ODD = 0x7f020001;
+
+    private final Context mContext;
+    private final List<T> mItems;
+
+    int clicks;
+
+    FeedAdapter(Context context, List<T> items) {
+        mContext = context;
+        mItems = items;
+    }
+
+    int getItemCount() {
+        return mItems.size();
+    }
+
+    /** What inflating the item layout would return. */
+    ViewGroup newItemView() {
+        ViewGroup itemView = new ViewGroup(mContext);
+        itemView.setId(ID_ROOT);
+        TextView title = new TextView(mContext);
+        title.setId(ID_TITLE);
+        itemView.addView(title);
+        ImageView icon = new ImageView(mContext);
+        icon.setId(ID_ICON);
+        itemView.addView(icon);
+        return itemView;
+    }
+
+    ViewHolder onCreateViewHolder(View itemView) {
+        return new ViewHolder(itemView);
+    }
+
+    void onBindViewHolder(ViewHolder holder, int position) {
+        holder.position = position;
+        holder.title.setText(mItems.get(position));
+        holder.icon.setImageResource(position % 2 == 0 ? ICON_EVEN : ICON_ODD);
+    }
+
+    class ViewHolder {
+
+        final View itemView;
+        Unbinder unbinder;
+        int position = -1;
+
+        @BindView(ID_TITLE) TextView title;
+        @BindView(ID_ICON) ImageView icon;
+
+        ViewHolder(View itemView) {
+            this.itemView = itemView;
+            unbinder = ButterKnife.bind(this, itemView);
+        }
+
+        /** Rebinds the holder to its item view in place, as a recycled holder is before it is reused. */
+        void rebind() {
+            unbinder = ButterKnife.rebind(unbinder, this, itemView);
+        }
+
+        @OnClick(ID_ROOT)
+        void onItemClick() {
+            clicks++;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.view.View;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scrolls a {@link FeedAdapter} through {@value #ITEM_COUNT} items. {@code scroll} recycles a
+ * screenful of holders the way RecyclerView does and rebinds each one with {@code
+ * ButterKnife.rebind} before {@code onBindViewHolder}; {@code createHolders} binds a new holder for
+ * every item with {@code ButterKnife.bind(Object, View)}, the cost paid in {@code
+ * onCreateViewHolder}. Times are per item. Add the GC profiler to see the bytes allocated per item:
+ * <pre>
+ * ./gradlew :butterknife_benchmark:jmh -PjmhInclude=ItemScrollBenchmark -PjmhProfiler=gc
+ * </pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemScrollBenchmark {
+
+    static final int ITEM_COUNT = 10000;
+    /** Holders RecyclerView keeps around: one screen and its view cache. */
+    static final int POOL_SIZE = 16;
+
+    private FeedAdapter<String> mAdapter;
+    private List<FeedAdapter<String>.ViewHolder> mPool;
+    private View[] mItemViews;
+
+    @Setup
+    public void setUp() {
+        mAdapter = new FeedAdapter<>(new Context(), items(ITEM_COUNT));
+        mPool = new ArrayList<>(POOL_SIZE);
+        for (int i = 0; i < POOL_SIZE; i++) {
+            mPool.add(mAdapter.onCreateViewHolder(mAdapter.newItemView()));
+        }
+        mItemViews = new View[ITEM_COUNT];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            mItemViews[i] = mAdapter.newItemView();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public int scroll() {
+        return scroll(mAdapter, mPool);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEM_COUNT)
+    public Object createHolders() {
+        return createHolders(mAdapter, mItemViews);
+    }
+
+    /** @return the last position bound, so the work is not eliminated */
+    static int scroll(FeedAdapter<String> adapter, List<FeedAdapter<String>.ViewHolder> pool) {
+        FeedAdapter<String>.ViewHolder holder = null;
+        for (int position = 0, count = adapter.getItemCount(); position < count; position++) {
+            holder = pool.get(position % pool.size());
+            holder.rebind();
+            adapter.onBindViewHolder(holder, position);
+        }
+        return holder.position;
+    }
+
+    /** @return the last holder created */
+    static FeedAdapter<String>.ViewHolder createHolders(FeedAdapter<String> adapter, View[] itemViews) {
+        FeedAdapter<String>.ViewHolder holder = null;
+        for (View itemView : itemViews) {
+            holder = adapter.onCreateViewHolder(itemView);
+        }
+        return holder;
+    }
+
+    static List<String> items(int count) {
+        List<String> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add("Item " + i);
+        }
+        return items;
+    }
+}
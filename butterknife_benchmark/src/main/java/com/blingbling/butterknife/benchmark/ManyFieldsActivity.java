@@ -0,0 +1,54 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A heavy screen with many bound views.
+ */
+public class ManyFieldsActivity extends Activity {
+
+    @BindView(100) View field0;
+    @BindView(101) View field1;
+    @BindView(102) View field2;
+    @BindView(103) View field3;
+    @BindView(104) View field4;
+    @BindView(105) View field5;
+    @BindView(106) View field6;
+    @BindView(107) View field7;
+    @BindView(108) View field8;
+    @BindView(109) View field9;
+    @BindView(110) View field10;
+    @BindView(111) View field11;
+    @BindView(112) View field12;
+    @BindView(113) View field13;
+    @BindView(114) View field14;
+    @BindView(115) View field15;
+    @BindView(116) View field16;
+    @BindView(117) View field17;
+    @BindView(118) View field18;
+    @BindView(119) View field19;
+    @BindView(120) View field20;
+    @BindView(121) View field21;
+    @BindView(122) View field22;
+    @BindView(123) View field23;
+    @BindView(124) View field24;
+    @BindView(125) View field25;
+    @BindView(126) View field26;
+    @BindView(127) View field27;
+    @BindView(128) View field28;
+    @BindView(129) View field29;
+    @BindView(130) View field30;
+    @BindView(131) View field31;
+
+    @OnClick(140)
+    void onClick0(View view) {
+    }
+
+    @OnClick(141)
+    void onClick1(View view) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A heavy screen with many click listeners.
+ */
+public class ManyListenersActivity extends Activity {
+
+    @BindView(100) View field0;
+    @BindView(101) View field1;
+
+    @OnClick(140)
+    void onClick0(View view) {
+    }
+
+    @OnClick(141)
+    void onClick1(View view) {
+    }
+
+    @OnClick(142)
+    void onClick2(View view) {
+    }
+
+    @OnClick(143)
+    void onClick3(View view) {
+    }
+
+    @OnClick(144)
+    void onClick4(View view) {
+    }
+
+    @OnClick(145)
+    void onClick5(View view) {
+    }
+
+    @OnClick(146)
+    void onClick6(View view) {
+    }
+
+    @OnClick(147)
+    void onClick7(View view) {
+    }
+
+    @OnClick(148)
+    void onClick8(View view) {
+    }
+
+    @OnClick(149)
+    void onClick9(View view) {
+    }
+
+    @OnClick(150)
+    void onClick10(View view) {
+    }
+
+    @OnClick(151)
+    void onClick11(View view) {
+    }
+
+    @OnClick(152)
+    void onClick12(View view) {
+    }
+
+    @OnClick(153)
+    void onClick13(View view) {
+    }
+
+    @OnClick(154)
+    void onClick14(View view) {
+    }
+
+    @OnClick(155)
+    void onClick15(View view) {
+    }
+
+    @OnClick(156)
+    void onClick16(View view) {
+    }
+
+    @OnClick(157)
+    void onClick17(View view) {
+    }
+
+    @OnClick(158)
+    void onClick18(View view) {
+    }
+
+    @OnClick(159)
+    void onClick19(View view) {
+    }
+
+    @OnClick(160)
+    void onClick20(View view) {
+    }
+
+    @OnClick(161)
+    void onClick21(View view) {
+    }
+
+    @OnClick(162)
+    void onClick22(View view) {
+    }
+
+    @OnClick(163)
+    void onClick23(View view) {
+    }
+
+    @OnClick(164)
+    void onClick24(View view) {
+    }
+
+    @OnClick(165)
+    void onClick25(View view) {
+    }
+
+    @OnClick(166)
+    void onClick26(View view) {
+    }
+
+    @OnClick(167)
+    void onClick27(View view) {
+    }
+
+    @OnClick(168)
+    void onClick28(View view) {
+    }
+
+    @OnClick(169)
+    void onClick29(View view) {
+    }
+
+    @OnClick(170)
+    void onClick30(View view) {
+    }
+
+    @OnClick(171)
+    void onClick31(View view) {
+    }
+}
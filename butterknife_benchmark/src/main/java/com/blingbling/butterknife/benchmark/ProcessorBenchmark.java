@@ -0,0 +1,303 @@
+package com.blingbling.butterknife.benchmark;
+
+import com.blingbling.butterknife.compiler.InjectProcessor;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+/**
+ * Runs {@link InjectProcessor} in-process through {@code javax.tools} over {@link SyntheticSources}
+ * and reports, per run, the time spent in the processor, the javac wall time, the peak heap and the
+ * size of the generated code. Sources are compiled with {@code -proc:only} against the classpath of
+ * this JVM, which has the Android stand-ins, so no Android SDK is needed. With {@code compile=true}
+ * the sources and the generated bindings are also compiled, so the javac time is that of the whole
+ * build; compare it with and without {@code -Abutterknife.bytecode=true}.
+ * <pre>
+ * ./gradlew :butterknife_benchmark:processorBenchmark -PprocessorArgs="classes=2000 fields=10 clickIds=4 depth=3 runs=5"
+ * </pre>
+ * {@code parallelism=1,2,4} repeats the runs for each number of code generation threads, to see how
+ * the processor scales with cores. Other arguments starting with {@code -A} are passed on to javac
+ * as processor options. The class output is what javac wrote to its {@code -d} directory: generated
+ * class files and resources, and with {@code compile=true} all compiled classes. The peak heap is
+ * the sum of the peaks of all heap pools, so it is an upper bound; run with a fixed {@code -Xmx}
+ * to compare between runs.
+ */
+public final class ProcessorBenchmark {
+
+    private ProcessorBenchmark() {
+        throw new AssertionError("No instances.");
+    }
+
+    public static void main(String[] args) throws IOException {
+        int classCount = 1000;
+        int fieldsPerClass = 8;
+        int idsPerClick = 2;
+        int depth = 1;
+        int runs = 5;
+        List<String> processorOptions = new ArrayList<>();
+        List<String> parallelisms = Collections.singletonList(null);
+        boolean compile = false;
+        for (String arg : args) {
+            if (arg.startsWith("-A")) {
+                processorOptions.add(arg);
+                continue;
+            }
+            int split = arg.indexOf('=');
+            if (split < 0) {
+                throw new IllegalArgumentException("Expected name=value, got " + arg);
+            }
+            String name = arg.substring(0, split);
+            if (name.equals("parallelism")) {
+                parallelisms = Arrays.asList(arg.substring(split + 1).split(","));
+                continue;
+            }
+            if (name.equals("compile")) {
+                compile = Boolean.parseBoolean(arg.substring(split + 1));
+                continue;
+            }
+            int value = Integer.parseInt(arg.substring(split + 1));
+            switch (name) {
+                case "classes":
+                    classCount = value;
+                    break;
+                case "fields":
+                    fieldsPerClass = value;
+                    break;
+                case "clickIds":
+                    idsPerClick = value;
+                    break;
+                case "depth":
+                    depth = value;
+                    break;
+                case "runs":
+                    runs = value;
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown argument " + name);
+            }
+        }
+        if (classCount < 1 || fieldsPerClass < 0 || idsPerClick < 0 || depth < 1 || runs < 1) {
+            throw new IllegalArgumentException("Arguments out of range: " + Arrays.toString(args));
+        }
+
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) {
+            throw new IllegalStateException("No system Java compiler, run on a JDK.");
+        }
+        List<JavaFileObject> sources = SyntheticSources.generate(classCount, fieldsPerClass, idsPerClick, depth);
+        System.out.printf(Locale.US, "classes=%d fields=%d clickIds=%d depth=%d compile=%b %s%n",
+                classCount, fieldsPerClass, idsPerClick, depth, compile, processorOptions);
+
+        for (String parallelism : parallelisms) {
+            List<String> options = new ArrayList<>(processorOptions);
+            if (parallelism != null) {
+                options.add("-Abutterknife.parallelism=" + parallelism);
+                System.out.println("parallelism=" + parallelism);
+            }
+            runAll(compiler, sources, options, compile, runs);
+        }
+    }
+
+    private static void runAll(JavaCompiler compiler, List<JavaFileObject> sources,
+                               List<String> processorOptions, boolean compile, int runs) throws IOException {
+        long[] processorNanos = new long[runs];
+        long[] javacNanos = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            Path generatedDir = Files.createTempDirectory("butterknife-generated");
+            Path classesDir = Files.createTempDirectory("butterknife-classes");
+            try {
+                Result result = run(compiler, sources, processorOptions, compile, generatedDir.toFile(),
+                        classesDir.toFile());
+                processorNanos[run] = result.processorNanos;
+                javacNanos[run] = result.javacNanos;
+                System.out.printf(Locale.US,
+                        "run %d: processor %d ms, javac %d ms, peak heap %d MB, generated %d files, %d lines, %d KB, "
+                                + "class output %d files, %d KB%n",
+                        run + 1, result.processorNanos / 1000000, result.javacNanos / 1000000,
+                        result.peakHeapBytes / (1024 * 1024), result.generated.files, result.generated.lines,
+                        result.generated.bytes / 1024, result.classOutput.files, result.classOutput.bytes / 1024);
+            } finally {
+                delete(generatedDir);
+                delete(classesDir);
+            }
+        }
+        Arrays.sort(processorNanos);
+        Arrays.sort(javacNanos);
+        System.out.printf(Locale.US, "processor median %d ms, best %d ms; javac median %d ms, best %d ms%n",
+                processorNanos[runs / 2] / 1000000, processorNanos[0] / 1000000,
+                javacNanos[runs / 2] / 1000000, javacNanos[0] / 1000000);
+    }
+
+    private static Result run(JavaCompiler compiler, List<JavaFileObject> sources,
+                              List<String> processorOptions, boolean compile, File generatedDir,
+                              File classesDir) throws IOException {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, Locale.US, StandardCharsets.UTF_8);
+        List<String> options = new ArrayList<>(Arrays.asList("-nowarn",
+                "-classpath", System.getProperty("java.class.path"),
+                "-s", generatedDir.getPath(),
+                "-d", classesDir.getPath()));
+        if (!compile) {
+            options.add("-proc:only");
+        }
+        options.addAll(processorOptions);
+
+        TimingProcessor processor = new TimingProcessor(new InjectProcessor());
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null, sources);
+        task.setProcessors(Collections.singletonList(processor));
+
+        System.gc();
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            pool.resetPeakUsage();
+        }
+        long start = System.nanoTime();
+        boolean success = task.call();
+        long javacNanos = System.nanoTime() - start;
+        long peakHeapBytes = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() == MemoryType.HEAP) {
+                peakHeapBytes += pool.getPeakUsage().getUsed();
+            }
+        }
+        fileManager.close();
+        if (!success) {
+            for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+                System.err.println(diagnostic);
+            }
+            throw new IllegalStateException("Compilation failed.");
+        }
+
+        Result result = new Result();
+        result.processorNanos = processor.mNanos;
+        result.javacNanos = javacNanos;
+        result.peakHeapBytes = peakHeapBytes;
+        count(generatedDir.toPath(), result.generated);
+        count(classesDir.toPath(), result.classOutput);
+        return result;
+    }
+
+    private static void count(Path dir, final FileCount count) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                byte[] bytes = Files.readAllBytes(file);
+                count.files++;
+                count.bytes += bytes.length;
+                for (byte b : bytes) {
+                    if (b == '\n') {
+                        count.lines++;
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static void delete(Path dir) throws IOException {
+        Files.walkFileTree(dir, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                Files.delete(file);
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult postVisitDirectory(Path dir, IOException e) throws IOException {
+                Files.delete(dir);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    private static final class Result {
+        long processorNanos;
+        long javacNanos;
+        long peakHeapBytes;
+        final FileCount generated = new FileCount();
+        final FileCount classOutput = new FileCount();
+    }
+
+    private static final class FileCount {
+        int files;
+        long lines;
+        long bytes;
+    }
+
+    /** Adds up the time spent in {@link Processor#init} and in every round of the wrapped processor. */
+    private static final class TimingProcessor implements Processor {
+
+        private final Processor mDelegate;
+        long mNanos;
+
+        TimingProcessor(Processor delegate) {
+            mDelegate = delegate;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return mDelegate.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return mDelegate.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return mDelegate.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(ProcessingEnvironment processingEnv) {
+            long start = System.nanoTime();
+            mDelegate.init(processingEnv);
+            mNanos += System.nanoTime() - start;
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            long start = System.nanoTime();
+            boolean claimed = mDelegate.process(annotations, roundEnv);
+            mNanos += System.nanoTime() - start;
+            return claimed;
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation,
+                                                             ExecutableElement member, String userText) {
+            return mDelegate.getCompletions(element, annotation, member, userText);
+        }
+    }
+}
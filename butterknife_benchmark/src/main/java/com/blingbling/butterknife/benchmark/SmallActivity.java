@@ -0,0 +1,22 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A typical small screen: a few views and one listener.
+ */
+public class SmallActivity extends Activity {
+
+    @BindView(100) View field0;
+    @BindView(101) View field1;
+    @BindView(102) View field2;
+    @BindView(103) View field3;
+
+    @OnClick(140)
+    void onClick0(View view) {
+    }
+}
@@ -0,0 +1,80 @@
+package com.blingbling.butterknife.benchmark;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+
+/**
+ * Generates annotated activities for {@link ProcessorBenchmark}. Classes form inheritance chains of
+ * {@code depth} classes; the first class of each chain extends {@code Activity} and has a
+ * {@code @ContentView}, the others extend the previous class. Every class binds
+ * {@code fieldsPerClass} views and has one {@code @OnClick} method with {@code idsPerClick} ids,
+ * all distinct within its chain.
+ */
+final class SyntheticSources {
+
+    static final String PACKAGE = "synthetic";
+
+    private SyntheticSources() {
+        throw new AssertionError("No instances.");
+    }
+
+    static List<JavaFileObject> generate(int classCount, int fieldsPerClass, int idsPerClick, int depth) {
+        List<JavaFileObject> sources = new ArrayList<>(classCount);
+        int idsPerClass = fieldsPerClass + idsPerClick;
+        for (int i = 0; i < classCount; i++) {
+            int level = i % depth;
+            int firstId = 1000 + level * idsPerClass;
+            sources.add(new Source("Screen" + i, source(i, level, firstId, fieldsPerClass, idsPerClick)));
+        }
+        return sources;
+    }
+
+    private static String source(int index, int level, int firstId, int fieldsPerClass, int idsPerClick) {
+        StringBuilder builder = new StringBuilder()
+                .append("package ").append(PACKAGE).append(";\n\n")
+                .append("import android.app.Activity;\n")
+                .append("import android.view.View;\n")
+                .append("import com.blingbling.butterknife.annotation.BindView;\n")
+                .append("import com.blingbling.butterknife.annotation.ContentView;\n")
+                .append("import com.blingbling.butterknife.annotation.OnClick;\n\n");
+        if (level == 0) {
+            builder.append("@ContentView(").append(index + 1).append(")\n")
+                    .append("public class Screen").append(index).append(" extends Activity {\n");
+        } else {
+            builder.append("public class Screen").append(index)
+                    .append(" extends Screen").append(index - 1).append(" {\n");
+        }
+        int id = firstId;
+        for (int i = 0; i < fieldsPerClass; i++) {
+            builder.append("    @BindView(").append(id++).append(") View field").append(level)
+                    .append('_').append(i).append(";\n");
+        }
+        if (idsPerClick > 0) {
+            builder.append("\n    @OnClick({");
+            for (int i = 0; i < idsPerClick; i++) {
+                builder.append(i == 0 ? "" : ", ").append(id++);
+            }
+            builder.append("})\n    void onClick").append(level).append("(View view) {\n    }\n");
+        }
+        return builder.append("}\n").toString();
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+
+        private final String mCode;
+
+        Source(String simpleName, String code) {
+            super(URI.create("string:///" + PACKAGE + "/" + simpleName + Kind.SOURCE.extension), Kind.SOURCE);
+            mCode = code;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return mCode;
+        }
+    }
+}
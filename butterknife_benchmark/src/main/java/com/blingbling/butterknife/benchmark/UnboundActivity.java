@@ -0,0 +1,9 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+
+/**
+ * A screen without bindings, for negative cache hits.
+ */
+public class UnboundActivity extends Activity {
+}
@@ -0,0 +1,64 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.api.ViewFinder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares one {@code findViewById} per bound id against a single {@link ViewFinder} traversal.
+ * <pre>
+ * ./gradlew :butterknife_benchmark:jmh -PjmhInclude=ViewLookupBenchmark
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewLookupBenchmark {
+
+    @Param({"50", "500", "5000"})
+    public int viewCount;
+
+    @Param({"4", "16"})
+    public int boundIds;
+
+    private ViewGroup mRoot;
+    private int[] mIds;
+
+    @Setup
+    public void setUp() {
+        mRoot = ViewTrees.build(viewCount, 4);
+        mIds = ViewTrees.pickIds(viewCount, Math.min(boundIds, viewCount), 42);
+    }
+
+    @Benchmark
+    public void perIdLookup(Blackhole blackhole) {
+        for (int id : mIds) {
+            View view = mRoot.findViewById(id);
+            blackhole.consume(view);
+        }
+    }
+
+    @Benchmark
+    public void batchedLookup(Blackhole blackhole) {
+        blackhole.consume(ViewFinder.findViews(mRoot, mIds));
+    }
+}
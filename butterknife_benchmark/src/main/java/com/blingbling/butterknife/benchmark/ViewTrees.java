@@ -0,0 +1,66 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Builds synthetic view trees for the benchmarks. Every view gets a distinct id in
+ * {@code 1..viewCount}, assigned level by level below each group.
+ */
+final class ViewTrees {
+
+    private ViewTrees() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * @param viewCount total number of views, including the root
+     * @param fanOut    children per group; leaves are plain views
+     */
+    static ViewGroup build(int viewCount, int fanOut) {
+        ViewGroup root = new ViewGroup();
+        root.setId(1);
+        int[] nextId = {2};
+        fill(root, viewCount, fanOut, nextId);
+        return root;
+    }
+
+    private static void fill(ViewGroup parent, int viewCount, int fanOut, int[] nextId) {
+        ViewGroup[] groups = new ViewGroup[fanOut];
+        int groupCount = 0;
+        for (int i = 0; i < fanOut && nextId[0] <= viewCount; i++) {
+            View child;
+            if (nextId[0] + fanOut <= viewCount) {
+                child = groups[groupCount++] = new ViewGroup();
+            } else {
+                child = new View();
+            }
+            child.setId(nextId[0]++);
+            parent.addView(child);
+        }
+        for (int i = 0; i < groupCount; i++) {
+            fill(groups[i], viewCount, fanOut, nextId);
+        }
+    }
+
+    /** Picks {@code count} distinct ids spread over the whole tree, sorted ascending. */
+    static int[] pickIds(int viewCount, int count, long seed) {
+        Random random = new Random(seed);
+        int[] ids = new int[count];
+        for (int i = 0; i < count; ) {
+            int id = 1 + random.nextInt(viewCount);
+            boolean duplicate = false;
+            for (int j = 0; j < i; j++) {
+                duplicate |= ids[j] == id;
+            }
+            if (!duplicate) {
+                ids[i++] = id;
+            }
+        }
+        Arrays.sort(ids);
+        return ids;
+    }
+}
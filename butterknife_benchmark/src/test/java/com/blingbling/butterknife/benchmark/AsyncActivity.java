@@ -0,0 +1,35 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.ContentView;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.api.OnViewsReadyListener;
+
+/**
+ * An activity whose layout is inflated asynchronously.
+ */
+@ContentView(value = AsyncActivity.LAYOUT, async = true)
+public class AsyncActivity extends Activity implements OnViewsReadyListener {
+
+    static final int LAYOUT = 1;
+    static final int ID_TITLE = 300;
+    static final int ID_BUTTON = 301;
+
+    @BindView(ID_TITLE) View title;
+
+    int clicks;
+    int readyCount;
+
+    @OnClick(ID_BUTTON)
+    void onButtonClick() {
+        clicks++;
+    }
+
+    @Override
+    public void onViewsReady() {
+        readyCount++;
+    }
+}
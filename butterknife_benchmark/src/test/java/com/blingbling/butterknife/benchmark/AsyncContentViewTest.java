@@ -0,0 +1,78 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.support.v4.view.AsyncLayoutInflater;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * {@code @ContentView(async = true)} binds once inflation finishes, and an unbind that arrives
+ * first cancels the binding instead of touching views that were never bound. The layout is inflated
+ * against the content container, and the layout params it gets there are kept.
+ */
+public class AsyncContentViewTest {
+
+    @Test
+    public void bindsWhenInflationFinishes() {
+        AsyncActivity activity = new AsyncActivity();
+        Unbinder binding = ButterKnife.bind(activity);
+        assertNull(activity.title);
+        assertEquals(0, activity.readyCount);
+
+        ViewGroup decor = (ViewGroup) activity.getWindow().getDecorView();
+        assertEquals(Collections.singletonList(decor), AsyncLayoutInflater.pendingParents());
+        ViewGroup content = content();
+        ViewGroup.LayoutParams params = new ViewGroup.MarginLayoutParams(ViewGroup.LayoutParams.MATCH_PARENT,
+                ViewGroup.LayoutParams.WRAP_CONTENT);
+        content.setLayoutParams(params);
+        assertEquals(1, AsyncLayoutInflater.finishPending(content));
+
+        assertSame(content, decor.getChildAt(0));
+        assertSame(params, content.getLayoutParams());
+        assertSame(content.findViewById(AsyncActivity.ID_TITLE), activity.title);
+        assertEquals(1, activity.readyCount);
+        content.findViewById(AsyncActivity.ID_BUTTON).performClick();
+        assertEquals(1, activity.clicks);
+
+        binding.unbind();
+        assertNull(activity.title);
+    }
+
+    @Test
+    public void unbindBeforeInflationFinishes() {
+        AsyncActivity activity = new AsyncActivity();
+        Unbinder binding = ButterKnife.bind(activity);
+        binding.unbind();
+
+        ViewGroup content = content();
+        assertEquals(1, AsyncLayoutInflater.finishPending(content));
+
+        ViewGroup decor = (ViewGroup) activity.getWindow().getDecorView();
+        assertEquals(0, decor.getChildCount());
+        assertNull(activity.title);
+        assertEquals(0, activity.readyCount);
+        content.findViewById(AsyncActivity.ID_BUTTON).performClick();
+        assertEquals(0, activity.clicks);
+    }
+
+    private static ViewGroup content() {
+        ViewGroup content = new ViewGroup();
+        View title = new View();
+        title.setId(AsyncActivity.ID_TITLE);
+        content.addView(title);
+        View button = new View();
+        button.setId(AsyncActivity.ID_BUTTON);
+        content.addView(button);
+        return content;
+    }
+}
@@ -0,0 +1,48 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.api.ButterKnife;
+
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * A form whose save and export buttons write in the background and report back on the main
+ * thread, next to a cancel button handled on the main thread.
+ */
+public class BackgroundClickScreen {
+
+    static final int ID_SAVE = 600;
+    static final int ID_EXPORT = 601;
+    static final int ID_CANCEL = 602;
+
+    @BindView(ID_SAVE) View save;
+
+    int saves;
+    int lastSavedId = View.NO_ID;
+    volatile Thread saveThread;
+    final CountDownLatch saved = new CountDownLatch(1);
+    int savesShown;
+    int cancels;
+
+    @OnClick(value = {ID_SAVE, ID_EXPORT}, dispatch = OnClick.Dispatch.BACKGROUND)
+    void onSave(View view) {
+        saves++;
+        lastSavedId = view.getId();
+        saveThread = Thread.currentThread();
+        ButterKnife.runOnMainThread(new Runnable() {
+            @Override
+            public void run() {
+                savesShown++;
+            }
+        });
+        saved.countDown();
+    }
+
+    @OnClick(ID_CANCEL)
+    void onCancel() {
+        cancels++;
+    }
+}
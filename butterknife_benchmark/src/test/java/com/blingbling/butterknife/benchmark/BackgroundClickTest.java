@@ -0,0 +1,186 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.os.Handler;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+
+import com.blingbling.butterknife.api.BackgroundClickListener;
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@code @OnClick(dispatch = BACKGROUND)}: clicks go to the registered executor, main thread
+ * clicks do not, and neither queued clicks nor their main thread runnables run after unbind or
+ * rebind.
+ */
+public class BackgroundClickTest {
+
+    private final Context context = new Context();
+    private final ViewGroup root = new ViewGroup(context);
+    private final Button save = new Button(context);
+    private final Button export = new Button(context);
+    private final Button cancel = new Button(context);
+    private final QueueExecutor executor = new QueueExecutor();
+    private final BackgroundClickScreen screen = new BackgroundClickScreen();
+
+    public BackgroundClickTest() {
+        save.setId(BackgroundClickScreen.ID_SAVE);
+        export.setId(BackgroundClickScreen.ID_EXPORT);
+        cancel.setId(BackgroundClickScreen.ID_CANCEL);
+        root.addView(save);
+        root.addView(export);
+        root.addView(cancel);
+    }
+
+    @Before
+    public void setUp() {
+        Handler.runPending();
+        ButterKnife.setClickExecutor(executor);
+    }
+
+    @After
+    public void tearDown() {
+        ButterKnife.setClickExecutor(null);
+    }
+
+    @Test
+    public void backgroundClickRunsOnExecutor() {
+        ButterKnife.bind(screen, root);
+
+        export.performClick();
+        assertEquals(0, screen.saves);
+        assertEquals(1, executor.runQueued());
+        assertEquals(1, screen.saves);
+        assertEquals(BackgroundClickScreen.ID_EXPORT, screen.lastSavedId);
+
+        assertEquals(0, screen.savesShown);
+        assertEquals(1, Handler.runPending());
+        assertEquals(1, screen.savesShown);
+    }
+
+    @Test
+    public void mainClickRunsDirectly() {
+        ButterKnife.bind(screen, root);
+
+        cancel.performClick();
+        assertEquals(1, screen.cancels);
+        assertEquals(0, executor.runQueued());
+    }
+
+    @Test
+    public void queuedClickIsDroppedAfterUnbind() {
+        Unbinder unbinder = ButterKnife.bind(screen, root);
+
+        save.performClick();
+        unbinder.unbind();
+        assertEquals(1, executor.runQueued());
+        assertEquals(0, screen.saves);
+    }
+
+    @Test
+    public void mainThreadRunnableIsDroppedAfterUnbind() {
+        Unbinder unbinder = ButterKnife.bind(screen, root);
+
+        save.performClick();
+        executor.runQueued();
+        assertEquals(1, screen.saves);
+        unbinder.unbind();
+        assertEquals(1, Handler.runPending());
+        assertEquals(0, screen.savesShown);
+    }
+
+    /** Rebinding cancels like unbind does, so a queued click never reaches the new target. */
+    @Test
+    public void queuedClickIsDroppedByRebind() {
+        Unbinder unbinder = ButterKnife.bind(screen, root);
+        save.performClick();
+
+        BackgroundClickScreen other = new BackgroundClickScreen();
+        assertSame(unbinder, ButterKnife.rebind(unbinder, other, root));
+        assertEquals(1, executor.runQueued());
+        assertEquals(0, screen.saves);
+        assertEquals(0, other.saves);
+    }
+
+    /** A rebound binding dispatches again; only clicks queued before the unbind are dropped. */
+    @Test
+    public void rebindDispatchesNewClicks() {
+        Unbinder unbinder = ButterKnife.bind(screen, root);
+        save.performClick();
+        unbinder.unbind();
+
+        assertSame(unbinder, ButterKnife.rebind(unbinder, screen, root));
+        save.performClick();
+        assertEquals(2, executor.runQueued());
+        assertEquals(1, screen.saves);
+    }
+
+    /**
+     * A rebind that lands after the click started but before the listener read its target is still
+     * seen: generated listeners check {@link BackgroundClickListener#isClickCancelled()} after the read.
+     */
+    @Test
+    public void cancelAfterClickStartedIsSeenByListener() {
+        final boolean[] cancelled = new boolean[1];
+        final BackgroundClickListener[] listener = new BackgroundClickListener[1];
+        listener[0] = new BackgroundClickListener(new View.OnClickListener() {
+            @Override
+            public void onClick(View view) {
+                listener[0].cancel();
+                cancelled[0] = BackgroundClickListener.isClickCancelled();
+            }
+        });
+
+        listener[0].onClick(save);
+        assertEquals(1, executor.runQueued());
+        assertTrue(cancelled[0]);
+        assertFalse(BackgroundClickListener.isClickCancelled());
+    }
+
+    @Test
+    public void defaultExecutorRunsOffTheCallingThread() throws InterruptedException {
+        ButterKnife.setClickExecutor(null);
+        ButterKnife.bind(screen, root);
+
+        save.performClick();
+        assertTrue(screen.saved.await(5, TimeUnit.SECONDS));
+        assertNotSame(Thread.currentThread(), screen.saveThread);
+    }
+
+    /** Runs queued tasks on the test thread when asked, so tests control when a click arrives. */
+    private static final class QueueExecutor implements Executor {
+
+        private final List<Runnable> queue = new ArrayList<>();
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+        }
+
+        int runQueued() {
+            List<Runnable> tasks = new ArrayList<>(queue);
+            queue.clear();
+            for (Runnable task : tasks) {
+                task.run();
+            }
+            return tasks.size();
+        }
+    }
+}
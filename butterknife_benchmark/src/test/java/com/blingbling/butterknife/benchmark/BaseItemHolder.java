@@ -0,0 +1,24 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A holder whose binding is extended by {@link DetailItemHolder}'s.
+ */
+public class BaseItemHolder {
+
+    static final int ID_ROOT = 500;
+    static final int ID_TITLE = 501;
+
+    @BindView(ID_TITLE) View title;
+
+    int rootClicks;
+
+    @OnClick(ID_ROOT)
+    void onRootClick() {
+        rootClicks++;
+    }
+}
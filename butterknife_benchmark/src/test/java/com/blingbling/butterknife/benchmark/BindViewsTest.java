@@ -0,0 +1,184 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Rebinder;
+import com.blingbling.butterknife.api.Unbinder;
+import com.blingbling.butterknife.api.ViewCollections;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@code @BindViews} groups: bound in id order into arrays the binding reuses, cleared on unbind,
+ * and updated in bulk by {@link ViewCollections} without allocating.
+ */
+public class BindViewsTest {
+
+    private static final int REPEATS = 100000;
+    /** Slack for the measurement itself; a single allocation per repeat would exceed it by far. */
+    private static final long MAX_ALLOCATED_BYTES = 1024;
+
+    private static final ViewCollections.Setter<TextView, CharSequence> TEXT =
+            new ViewCollections.Setter<TextView, CharSequence>() {
+                @Override
+                public void set(TextView view, CharSequence value, int index) {
+                    view.setText(value);
+                }
+            };
+
+    private static final ViewCollections.Action<TextView> CLEAR_TEXT = new ViewCollections.Action<TextView>() {
+        @Override
+        public void apply(TextView view, int index) {
+            view.setText(null);
+        }
+    };
+
+    private final Context context = new Context();
+
+    @Test
+    public void groupsAreBoundInIdOrder() {
+        ViewGroup form = form();
+        FormHolder holder = new FormHolder();
+        ButterKnife.bind(holder, form);
+
+        assertEquals(FormHolder.INPUT_COUNT, holder.inputs.length);
+        for (int i = 0; i < FormHolder.INPUT_COUNT; i++) {
+            assertSame(form.findViewById(FormHolder.ID_FIRST_INPUT + i), holder.inputs[i]);
+        }
+        assertSame(holder.firstInput, holder.inputs[0]);
+        assertEquals(FormHolder.LABEL_COUNT, holder.labels.size());
+        for (int i = 0; i < FormHolder.LABEL_COUNT; i++) {
+            assertSame(form.findViewById(FormHolder.ID_FIRST_LABEL + i), holder.labels.get(i));
+        }
+        try {
+            holder.labels.add(new TextView(context));
+            fail("Bound lists are immutable");
+        } catch (UnsupportedOperationException expected) {
+        }
+    }
+
+    @Test
+    public void unbindClearsGroups() {
+        FormHolder holder = new FormHolder();
+        Unbinder unbinder = ButterKnife.bind(holder, form());
+        EditText[] inputs = holder.inputs;
+        List<TextView> labels = holder.labels;
+
+        unbinder.unbind();
+        assertNull(holder.inputs);
+        assertNull(holder.labels);
+        // References kept elsewhere share the binding's arrays, so they no longer keep the views alive.
+        assertNull(inputs[FormHolder.INPUT_COUNT - 1]);
+        assertNull(labels.get(0));
+    }
+
+    @Test
+    public void keptGroupsFollowRebinds() {
+        View[] forms = {form(), form()};
+        FormHolder holder = new FormHolder();
+        Unbinder binding = ButterKnife.bind(holder, forms[0]);
+        EditText[] inputs = holder.inputs;
+        List<TextView> labels = holder.labels;
+
+        ButterKnife.rebind(binding, holder, forms[1]);
+        // The groups are live views of the binding's arrays, not snapshots of the first form.
+        assertSame(inputs, holder.inputs);
+        assertSame(forms[1].findViewById(FormHolder.ID_FIRST_INPUT), inputs[0]);
+        assertSame(forms[1].findViewById(FormHolder.ID_FIRST_LABEL + 2), labels.get(2));
+    }
+
+    @Test
+    public void rebindingGroupsDoesNotAllocate() {
+        View[] forms = {form(), form()};
+        FormHolder[] holders = {new FormHolder(), new FormHolder()};
+        Unbinder binding = ButterKnife.bind(holders[0], forms[0]);
+        assertTrue(binding instanceof Rebinder);
+        rebindAll(binding, holders, forms);
+
+        long before = allocatedBytes();
+        Unbinder rebound = rebindAll(binding, holders, forms);
+        long allocated = allocatedBytes() - before;
+
+        assertSame(binding, rebound);
+        assertTrue("Rebinding allocated " + allocated + " bytes", allocated < MAX_ALLOCATED_BYTES);
+        FormHolder last = holders[(REPEATS - 1) % holders.length];
+        View lastForm = forms[(REPEATS - 1) % forms.length];
+        assertSame(lastForm.findViewById(FormHolder.ID_FIRST_INPUT + 5), last.inputs[5]);
+    }
+
+    @Test
+    public void bulkActionsDoNotAllocate() {
+        FormHolder holder = new FormHolder();
+        ButterKnife.bind(holder, form());
+        String text = "Required";
+        applyAll(holder, text);
+
+        long before = allocatedBytes();
+        applyAll(holder, text);
+        long allocated = allocatedBytes() - before;
+
+        assertTrue("Bulk actions allocated " + allocated + " bytes", allocated < MAX_ALLOCATED_BYTES);
+        for (int i = 0; i < FormHolder.INPUT_COUNT; i++) {
+            assertTrue(holder.inputs[i].isEnabled());
+        }
+        for (int i = 0; i < FormHolder.LABEL_COUNT; i++) {
+            assertSame(text, holder.labels.get(i).getText());
+            assertEquals(View.VISIBLE, holder.labels.get(i).getVisibility());
+        }
+        assertFalse(holder.labels.contains(holder.inputs[0]));
+    }
+
+    private static void applyAll(FormHolder holder, String text) {
+        for (int i = 0; i < REPEATS; i++) {
+            ViewCollections.setEnabled(holder.inputs, false);
+            ViewCollections.setEnabled(holder.inputs, true);
+            ViewCollections.setVisibility(holder.labels, View.GONE);
+            ViewCollections.setVisibility(holder.labels, View.VISIBLE);
+            ViewCollections.set(holder.labels, TEXT, text);
+            ViewCollections.run(holder.inputs, CLEAR_TEXT);
+        }
+    }
+
+    private static Unbinder rebindAll(Unbinder binding, Object[] holders, View[] forms) {
+        for (int i = 0; i < REPEATS; i++) {
+            binding = ButterKnife.rebind(binding, holders[i % holders.length], forms[i % forms.length]);
+        }
+        return binding;
+    }
+
+    private ViewGroup form() {
+        ViewGroup form = new ViewGroup(context);
+        for (int i = 0; i < FormHolder.LABEL_COUNT; i++) {
+            TextView label = new TextView(context);
+            label.setId(FormHolder.ID_FIRST_LABEL + i);
+            form.addView(label);
+        }
+        for (int i = 0; i < FormHolder.INPUT_COUNT; i++) {
+            EditText input = new EditText(context);
+            input.setId(FormHolder.ID_FIRST_INPUT + i);
+            form.addView(input);
+        }
+        return form;
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
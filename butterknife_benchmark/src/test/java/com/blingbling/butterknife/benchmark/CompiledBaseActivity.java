@@ -0,0 +1,15 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+
+/**
+ * A parent binding without a layout. Its views are still looked up once the subclass has built
+ * its compiled layout.
+ */
+public class CompiledBaseActivity extends Activity {
+
+    @BindView(R.id.title) TextView baseTitle;
+}
@@ -0,0 +1,32 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.widget.EditText;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.ContentView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * Binds more ids than the batch lookup threshold to a compiled layout, including one the layout
+ * does not have.
+ */
+@ContentView(R.layout.compiled_detail)
+public class CompiledDetailActivity extends CompiledBaseActivity {
+
+    @BindView(R.id.root) FrameLayout root;
+    @BindView(R.id.icon) ImageView icon;
+    @BindView(R.id.title) TextView title;
+    @BindView(R.id.input) EditText input;
+    @BindView(R.id.missing) View missing;
+
+    int iconClicks;
+
+    @OnClick(R.id.icon)
+    void onIconClick() {
+        iconClicks++;
+    }
+}
@@ -0,0 +1,139 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.util.DisplayMetrics;
+import android.view.Gravity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.EditText;
+import android.widget.FrameLayout;
+import android.widget.ImageView;
+import android.widget.LinearLayout;
+import android.widget.ScrollView;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Layouts compiled by {@code butterknife.layoutDir} are built by the binding, match their XML, and
+ * bind the constructed views. The stand-in activity records {@code setContentView(int)}, so a
+ * layout id of 0 means nothing was inflated.
+ */
+public class CompiledLayoutTest {
+
+    @Test
+    public void loginLayoutMatchesXml() {
+        CompiledLoginActivity activity = new CompiledLoginActivity();
+        Unbinder binding = ButterKnife.bind(activity);
+        assertEquals(0, activity.getContentViewLayoutId());
+
+        ViewGroup decor = (ViewGroup) activity.getWindow().getDecorView();
+        assertEquals(1, decor.getChildCount());
+        LinearLayout root = (LinearLayout) decor.getChildAt(0);
+        assertSame(activity, root.getContext());
+        assertSize(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT, root);
+        assertEquals(LinearLayout.VERTICAL, root.getOrientation());
+        assertEquals(2, root.getChildCount());
+
+        Button button = (Button) root.getChildAt(0);
+        assertEquals(R.id.btn, button.getId());
+        assertEquals("登录", button.getText());
+        assertSize(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, button);
+        assertEquals(LinearLayout.LayoutParams.class, button.getLayoutParams().getClass());
+
+        ScrollView scrollView = (ScrollView) root.getChildAt(1);
+        assertEquals(View.NO_ID, scrollView.getId());
+        assertSize(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT, scrollView);
+        assertEquals(1, scrollView.getChildCount());
+
+        TextView tv = (TextView) scrollView.getChildAt(0);
+        assertEquals(R.id.tv, tv.getId());
+        assertEquals(Gravity.CENTER_HORIZONTAL, tv.getGravity());
+        assertSize(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT, tv);
+        assertEquals(FrameLayout.LayoutParams.class, tv.getLayoutParams().getClass());
+
+        // Bound from the constructed views, synchronously even though the layout is async.
+        assertSame(tv, activity.tv);
+        assertEquals(1, activity.readyCount);
+        button.performClick();
+        assertEquals(1, activity.clicks);
+
+        binding.unbind();
+        assertNull(activity.tv);
+        button.performClick();
+        assertEquals(1, activity.clicks);
+    }
+
+    @Test
+    public void detailLayoutConvertsAttributes() {
+        CompiledDetailActivity activity = new CompiledDetailActivity();
+        DisplayMetrics metrics = activity.getResources().getDisplayMetrics();
+        metrics.density = 2f;
+        metrics.scaledDensity = 3f;
+        ButterKnife.bind(activity);
+        assertEquals(0, activity.getContentViewLayoutId());
+
+        FrameLayout root = (FrameLayout) ((ViewGroup) activity.getWindow().getDecorView()).getChildAt(0);
+        assertEquals(R.id.root, root.getId());
+        assertEquals(0x88ff0000, root.getBackgroundColor());
+        assertPadding(16, 16, 16, 16, root);
+
+        LinearLayout row = (LinearLayout) root.getChildAt(0);
+        assertSize(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT, row);
+        FrameLayout.LayoutParams rowParams = (FrameLayout.LayoutParams) row.getLayoutParams();
+        assertEquals(Gravity.BOTTOM | Gravity.CENTER_HORIZONTAL, rowParams.gravity);
+        assertEquals(8, rowParams.leftMargin);
+        assertEquals(8, rowParams.topMargin);
+        assertEquals(8, rowParams.rightMargin);
+        assertEquals(8, rowParams.bottomMargin);
+        assertEquals(LinearLayout.HORIZONTAL, row.getOrientation());
+        assertEquals(Gravity.CENTER_VERTICAL, row.getGravity());
+
+        ImageView icon = (ImageView) row.getChildAt(0);
+        assertSize(96, 96, icon);
+        assertEquals(R.drawable.icon, icon.getImageResId());
+
+        TextView title = (TextView) row.getChildAt(1);
+        assertSize(0, ViewGroup.LayoutParams.WRAP_CONTENT, title);
+        assertEquals(1f, ((LinearLayout.LayoutParams) title.getLayoutParams()).weight, 0f);
+        assertPadding(24, 0, 0, 0, title);
+        assertEquals(R.string.title, title.getTextResId());
+        assertEquals(0xff333333, title.getCurrentTextColor());
+        assertEquals(48f, title.getTextSize(), 0f);
+
+        EditText input = (EditText) row.getChildAt(2);
+        assertSize(120, ViewGroup.LayoutParams.WRAP_CONTENT, input);
+        assertEquals("Name", input.getHint());
+        assertFalse(input.isEnabled());
+        assertEquals(View.GONE, input.getVisibility());
+
+        assertSame(root, activity.root);
+        assertSame(icon, activity.icon);
+        assertSame(title, activity.title);
+        assertSame(input, activity.input);
+        assertSame(title, activity.baseTitle);
+        assertNull(activity.missing);
+        icon.performClick();
+        assertEquals(1, activity.iconClicks);
+    }
+
+    private static void assertSize(int width, int height, View view) {
+        assertEquals(width, view.getLayoutParams().width);
+        assertEquals(height, view.getLayoutParams().height);
+    }
+
+    private static void assertPadding(int left, int top, int right, int bottom, View view) {
+        assertEquals(left, view.getPaddingLeft());
+        assertEquals(top, view.getPaddingTop());
+        assertEquals(right, view.getPaddingRight());
+        assertEquals(bottom, view.getPaddingBottom());
+    }
+}
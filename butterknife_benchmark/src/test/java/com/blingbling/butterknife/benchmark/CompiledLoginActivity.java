@@ -0,0 +1,32 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.app.Activity;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.ContentView;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.api.OnViewsReadyListener;
+
+/**
+ * The sample app's login screen, bound to its real {@code activity_login} layout. The layout is
+ * asynchronous there; once compiled it is built directly instead.
+ */
+@ContentView(value = R.layout.activity_login, async = true)
+public class CompiledLoginActivity extends Activity implements OnViewsReadyListener {
+
+    @BindView(R.id.tv) TextView tv;
+
+    int clicks;
+    int readyCount;
+
+    @OnClick(R.id.btn)
+    void click() {
+        clicks++;
+    }
+
+    @Override
+    public void onViewsReady() {
+        readyCount++;
+    }
+}
@@ -0,0 +1,26 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A holder bound on top of its parent's binding, with a cast field and a click method that
+ * returns a value.
+ */
+public class DetailItemHolder extends BaseItemHolder {
+
+    static final int ID_ICON = 502;
+
+    @BindView(ID_ICON) ViewGroup icon;
+
+    View clickedIcon;
+
+    @OnClick(ID_ICON)
+    boolean onIconClick(View view) {
+        clickedIcon = view;
+        return true;
+    }
+}
@@ -0,0 +1,35 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.BindViews;
+
+import java.util.List;
+
+/**
+ * A form binding its inputs as one group, the way forms used to build lists of fields by hand.
+ */
+public class FormHolder {
+
+    static final int ID_FIRST_INPUT = 400;
+    static final int INPUT_COUNT = 24;
+    static final int ID_FIRST_LABEL = 450;
+    static final int LABEL_COUNT = 3;
+
+    @BindView(ID_FIRST_INPUT) EditText firstInput;
+
+    @BindViews({
+            ID_FIRST_INPUT, ID_FIRST_INPUT + 1, ID_FIRST_INPUT + 2, ID_FIRST_INPUT + 3,
+            ID_FIRST_INPUT + 4, ID_FIRST_INPUT + 5, ID_FIRST_INPUT + 6, ID_FIRST_INPUT + 7,
+            ID_FIRST_INPUT + 8, ID_FIRST_INPUT + 9, ID_FIRST_INPUT + 10, ID_FIRST_INPUT + 11,
+            ID_FIRST_INPUT + 12, ID_FIRST_INPUT + 13, ID_FIRST_INPUT + 14, ID_FIRST_INPUT + 15,
+            ID_FIRST_INPUT + 16, ID_FIRST_INPUT + 17, ID_FIRST_INPUT + 18, ID_FIRST_INPUT + 19,
+            ID_FIRST_INPUT + 20, ID_FIRST_INPUT + 21, ID_FIRST_INPUT + 22, ID_FIRST_INPUT + 23
+    })
+    EditText[] inputs;
+
+    @BindViews({ID_FIRST_LABEL, ID_FIRST_LABEL + 1, ID_FIRST_LABEL + 2})
+    List<TextView> labels;
+}
@@ -0,0 +1,48 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * A subclass binding binds and unbinds its parent's views and listeners along with its own.
+ */
+public class InheritedBindingTest {
+
+    @Test
+    public void subclassBindingIncludesParent() {
+        ViewGroup root = new ViewGroup();
+        root.setId(BaseItemHolder.ID_ROOT);
+        View title = new View();
+        title.setId(BaseItemHolder.ID_TITLE);
+        root.addView(title);
+        ViewGroup icon = new ViewGroup();
+        icon.setId(DetailItemHolder.ID_ICON);
+        root.addView(icon);
+
+        DetailItemHolder holder = new DetailItemHolder();
+        Unbinder binding = ButterKnife.getBinder(DetailItemHolder.class).bind(holder, root);
+
+        assertSame(title, holder.title);
+        assertSame(icon, holder.icon);
+        root.performClick();
+        assertEquals(1, holder.rootClicks);
+        icon.performClick();
+        assertSame(icon, holder.clickedIcon);
+
+        binding.unbind();
+        assertNull(holder.title);
+        assertNull(holder.icon);
+        assertFalse(root.performClick());
+        assertFalse(icon.performClick());
+    }
+}
@@ -0,0 +1,51 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnItemClick;
+
+/**
+ * A screen with a RecyclerView, whose item clicks report adapter positions, and a plain container,
+ * whose item clicks report child indexes.
+ */
+public class ItemClickScreen {
+
+    static final int ID_LIST = 300;
+    static final int ID_GRID = 301;
+    static final int ID_LIKE = 302;
+    static final int ID_SHARE = 303;
+
+    @BindView(ID_LIST) RecyclerView list;
+
+    int itemPosition = -1;
+    View likedView;
+    int likedPosition = -1;
+    int shares;
+    View gridView;
+    int gridPosition = -1;
+
+    @OnItemClick(ID_LIST)
+    void onItemClick(int position) {
+        itemPosition = position;
+    }
+
+    @OnItemClick(value = ID_LIST, child = ID_LIKE)
+    void onLike(View view, int position) {
+        likedView = view;
+        likedPosition = position;
+    }
+
+    @OnItemClick(value = ID_LIST, child = ID_SHARE)
+    boolean onShare() {
+        shares++;
+        return true;
+    }
+
+    @OnItemClick(ID_GRID)
+    void onGridItemClick(View view, int position) {
+        gridView = view;
+        gridPosition = position;
+    }
+}
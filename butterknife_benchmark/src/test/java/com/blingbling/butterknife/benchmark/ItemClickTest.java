@@ -0,0 +1,203 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * {@code @OnItemClick}: one dispatcher per container serves every item, positions come from the
+ * RecyclerView when there is one, and unbinding leaves no listener behind.
+ */
+public class ItemClickTest {
+
+    private final Context context = new Context();
+    private final ViewGroup root = new ViewGroup(context);
+    private final RecyclerView list = new RecyclerView(context);
+    private final ViewGroup grid = new ViewGroup(context);
+
+    public ItemClickTest() {
+        list.setId(ItemClickScreen.ID_LIST);
+        grid.setId(ItemClickScreen.ID_GRID);
+        root.addView(list);
+        root.addView(grid);
+    }
+
+    @Test
+    public void itemsAddedAfterBindingReportAdapterPositions() {
+        ItemClickScreen screen = new ItemClickScreen();
+        ButterKnife.bind(screen, root);
+        list.scrollToPosition(10);
+        for (int i = 0; i < 3; i++) {
+            list.addView(newItem());
+        }
+
+        list.getChildAt(1).performClick();
+        assertEquals(11, screen.itemPosition);
+
+        View like = list.getChildAt(2).findViewById(ItemClickScreen.ID_LIKE);
+        like.performClick();
+        assertSame(like, screen.likedView);
+        assertEquals(12, screen.likedPosition);
+        assertEquals(11, screen.itemPosition);
+
+        list.getChildAt(0).findViewById(ItemClickScreen.ID_SHARE).performClick();
+        assertEquals(1, screen.shares);
+    }
+
+    @Test
+    public void plainContainerReportsChildIndexes() {
+        grid.addView(newItem());
+        ItemClickScreen screen = new ItemClickScreen();
+        ButterKnife.bind(screen, root);
+        grid.addView(newItem());
+
+        View item = grid.getChildAt(1);
+        item.performClick();
+        assertSame(item, screen.gridView);
+        assertEquals(1, screen.gridPosition);
+
+        grid.getChildAt(0).performClick();
+        assertEquals(0, screen.gridPosition);
+        // Only item clicks are dispatched in the grid.
+        assertFalse(item.findViewById(ItemClickScreen.ID_LIKE).hasOnClickListeners());
+    }
+
+    @Test
+    public void allItemsShareOneListener() {
+        ButterKnife.bind(new ItemClickScreen(), root);
+        for (int i = 0; i < 20; i++) {
+            list.addView(newItem());
+        }
+
+        View.OnClickListener listener = ((Item) list.getChildAt(0)).listener;
+        assertTrue(listener != null);
+        for (int i = 0; i < list.getChildCount(); i++) {
+            Item item = (Item) list.getChildAt(i);
+            assertSame(listener, item.listener);
+            assertSame(listener, item.like.listener);
+            assertSame(listener, item.share.listener);
+        }
+    }
+
+    @Test
+    public void removedItemsLoseTheirListeners() {
+        ButterKnife.bind(new ItemClickScreen(), root);
+        View item = newItem();
+        list.addView(item);
+        list.removeView(item);
+
+        assertFalse(item.hasOnClickListeners());
+        assertFalse(item.findViewById(ItemClickScreen.ID_LIKE).hasOnClickListeners());
+    }
+
+    @Test
+    public void unbindDetachesFromContainersAndItems() {
+        ItemClickScreen screen = new ItemClickScreen();
+        Unbinder unbinder = ButterKnife.bind(screen, root);
+        View item = newItem();
+        list.addView(item);
+
+        unbinder.unbind();
+        assertNull(screen.list);
+        assertFalse(item.hasOnClickListeners());
+        assertFalse(item.findViewById(ItemClickScreen.ID_LIKE).hasOnClickListeners());
+
+        View added = newItem();
+        list.addView(added);
+        assertFalse(added.hasOnClickListeners());
+    }
+
+    @Test
+    public void itemOnClickOnOtherViewsWorksAlongside() {
+        ItemClickScreen screen = new ItemClickScreen();
+        ButterKnife.bind(screen, root);
+        View item = newItem();
+        LikeHolder holder = new LikeHolder();
+        ButterKnife.bind(holder, item);
+        // The grid dispatches item clicks only, so the holder keeps the like button.
+        grid.addView(item);
+
+        item.findViewById(ItemClickScreen.ID_LIKE).performClick();
+        assertEquals(1, holder.likes);
+        item.performClick();
+        assertSame(item, screen.gridView);
+        assertEquals(0, screen.gridPosition);
+
+        grid.removeView(item);
+        assertFalse(item.hasOnClickListeners());
+        assertTrue(item.findViewById(ItemClickScreen.ID_LIKE).hasOnClickListeners());
+    }
+
+    @Test
+    public void itemOnClickOnADispatchedViewIsReported() {
+        ButterKnife.bind(new ItemClickScreen(), root);
+        View item = newItem();
+        LikeHolder holder = new LikeHolder();
+        ButterKnife.bind(holder, item);
+
+        try {
+            // The list dispatches the like button too; its listener must not be overwritten silently.
+            list.addView(item);
+            fail();
+        } catch (IllegalStateException expected) {
+            assertTrue(expected.getMessage().contains("@OnItemClick"));
+        }
+        item.findViewById(ItemClickScreen.ID_LIKE).performClick();
+        assertEquals(1, holder.likes);
+    }
+
+    private View newItem() {
+        return new Item(context);
+    }
+
+    /** An item that remembers the click listeners set on it and its children. */
+    private static class Item extends ViewGroup {
+
+        final Child like;
+        final Child share;
+        View.OnClickListener listener;
+
+        Item(Context context) {
+            super(context);
+            like = new Child(context, ItemClickScreen.ID_LIKE);
+            share = new Child(context, ItemClickScreen.ID_SHARE);
+            addView(like);
+            addView(share);
+        }
+
+        @Override
+        public void setOnClickListener(OnClickListener l) {
+            super.setOnClickListener(l);
+            listener = l;
+        }
+    }
+
+    private static class Child extends View {
+
+        View.OnClickListener listener;
+
+        Child(Context context, int id) {
+            super(context);
+            setId(id);
+        }
+
+        @Override
+        public void setOnClickListener(OnClickListener l) {
+            super.setOnClickListener(l);
+            listener = l;
+        }
+    }
+}
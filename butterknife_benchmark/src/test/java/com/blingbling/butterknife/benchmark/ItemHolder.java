@@ -0,0 +1,26 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A list item holder small enough for per-id lookup.
+ */
+public class ItemHolder {
+
+    static final int ID_ROOT = 100;
+    static final int ID_TITLE = 101;
+    static final int ID_ICON = 102;
+
+    @BindView(ID_TITLE) View title;
+    @BindView(ID_ICON) View icon;
+
+    int clicks;
+
+    @OnClick(ID_ROOT)
+    void onItemClick() {
+        clicks++;
+    }
+}
@@ -0,0 +1,87 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewStub;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Lazy;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@code Lazy} fields resolve on first access, inflate stubs only then, and are cleared on unbind.
+ */
+public class LazyBindingTest {
+
+    @Test
+    public void lazyFieldsResolveOnFirstAccess() {
+        ViewGroup root = new ViewGroup();
+        for (int i = 0; i < 5; i++) {
+            root.addView(view(LazyHolder.ID_FIELD_0 + i));
+        }
+        View error = view(LazyHolder.ID_ERROR);
+        root.addView(error);
+        ViewGroup advancedLayout = new ViewGroup();
+        ViewStub advancedStub = new ViewStub(advancedLayout);
+        advancedStub.setId(LazyHolder.ID_ADVANCED);
+        root.addView(advancedStub);
+        ViewStub stub = new ViewStub(new View());
+        stub.setId(LazyHolder.ID_STUB);
+        root.addView(stub);
+
+        LazyHolder holder = new LazyHolder();
+        Unbinder binding = ButterKnife.getBinder(LazyHolder.class).bind(holder, root);
+
+        assertSame(root.getChildAt(4), holder.field4);
+        assertFalse(holder.error.isResolved());
+        assertFalse(holder.advanced.isResolved());
+        assertSame(advancedStub, root.getChildAt(6));
+
+        assertSame(error, holder.error.get());
+        assertTrue(holder.error.isResolved());
+        assertSame(advancedLayout, holder.advanced.get());
+        assertSame(advancedLayout, root.getChildAt(6));
+        assertSame(advancedLayout, holder.advanced.get());
+        assertSame(stub, holder.stub.get());
+        assertSame(stub, root.getChildAt(7));
+
+        Lazy<View> kept = holder.error;
+        binding.unbind();
+        assertNull(holder.error);
+        assertNull(holder.advanced);
+        assertNull(holder.stub);
+        assertNull(holder.field0);
+        assertNull(kept.get());
+    }
+
+    @Test
+    public void lazyIdsAreNotLookedUpWhenBinding() throws Exception {
+        int[] viewIds = (int[]) staticField(LazyHolder.class.getName() + "_ViewBinding", "VIEW_IDS");
+        assertEquals(5, viewIds.length);
+        for (int id : viewIds) {
+            assertTrue(id < LazyHolder.ID_ERROR);
+        }
+    }
+
+    private static Object staticField(String className, String name) throws Exception {
+        Field field = Class.forName(className).getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(null);
+    }
+
+    private static View view(int id) {
+        View view = new View();
+        view.setId(id);
+        return view;
+    }
+}
@@ -0,0 +1,31 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewStub;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.api.Lazy;
+
+/**
+ * A holder with rarely used views bound lazily, next to enough eager fields for batched lookup.
+ */
+public class LazyHolder {
+
+    static final int ID_FIELD_0 = 400;
+    static final int ID_ERROR = 410;
+    static final int ID_ADVANCED = 411;
+    static final int ID_STUB = 412;
+
+    @BindView(ID_FIELD_0) View field0;
+    @BindView(ID_FIELD_0 + 1) View field1;
+    @BindView(ID_FIELD_0 + 2) View field2;
+    @BindView(ID_FIELD_0 + 3) View field3;
+    @BindView(ID_FIELD_0 + 4) View field4;
+
+    @BindView(ID_ERROR) Lazy<View> error;
+    /** A stub, inflated on first access. */
+    @BindView(ID_ADVANCED) Lazy<ViewGroup> advanced;
+    /** A stub accessed as itself, never inflated. */
+    @BindView(ID_STUB) Lazy<ViewStub> stub;
+}
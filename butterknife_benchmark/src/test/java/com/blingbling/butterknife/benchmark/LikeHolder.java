@@ -0,0 +1,17 @@
+package com.blingbling.butterknife.benchmark;
+
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * An item holder with its own {@code @OnClick} on a view inside the item, for combining with
+ * {@code @OnItemClick} on the container.
+ */
+public class LikeHolder {
+
+    int likes;
+
+    @OnClick(ItemClickScreen.ID_LIKE)
+    void onLike() {
+        likes++;
+    }
+}
@@ -0,0 +1,89 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.text.Editable;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.EditText;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnCheckedChanged;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.annotation.OnItemSelected;
+import com.blingbling.butterknife.annotation.OnLongClick;
+import com.blingbling.butterknife.annotation.OnTextChanged;
+
+/**
+ * A form using every listener annotation besides {@code @OnClick}, with methods that take a subset
+ * of the callback's parameters, a narrower parameter type, or none at all.
+ */
+public class ListenerScreen {
+
+    static final int ID_TITLE = 500;
+    static final int ID_AGREE = 501;
+    static final int ID_COUNTRY = 502;
+    static final int ID_AVATAR = 503;
+
+    @BindView(ID_TITLE) EditText title;
+
+    int replacedLength = -1;
+    int titleChanges;
+    String lastTitle;
+    CheckBox agreeBox;
+    boolean agreed;
+    int agreeLongClicks;
+    int countryPosition = -1;
+    long countryId = -1;
+    int noCountry;
+    int avatarClicks;
+    int avatarLongClicks;
+    boolean consumeLongClick;
+
+    @OnTextChanged(value = ID_TITLE, callback = OnTextChanged.Callback.BEFORE_TEXT_CHANGED)
+    void beforeTitleChanged(CharSequence text, int start, int count) {
+        replacedLength = count;
+    }
+
+    @OnTextChanged(ID_TITLE)
+    void onTitleChanged() {
+        titleChanges++;
+    }
+
+    @OnTextChanged(value = ID_TITLE, callback = OnTextChanged.Callback.AFTER_TEXT_CHANGED)
+    void afterTitleChanged(Editable text) {
+        lastTitle = text.toString();
+    }
+
+    @OnCheckedChanged(ID_AGREE)
+    void onAgreeChanged(CheckBox box, boolean checked) {
+        agreeBox = box;
+        agreed = checked;
+    }
+
+    @OnLongClick(ID_AGREE)
+    void onAgreeLongClick() {
+        agreeLongClicks++;
+    }
+
+    @OnItemSelected(ID_COUNTRY)
+    void onCountrySelected(int position, long id) {
+        countryPosition = position;
+        countryId = id;
+    }
+
+    @OnItemSelected(value = ID_COUNTRY, callback = OnItemSelected.Callback.NOTHING_SELECTED)
+    void onNoCountrySelected() {
+        countryPosition = -1;
+        noCountry++;
+    }
+
+    @OnClick(ID_AVATAR)
+    void onAvatarClick() {
+        avatarClicks++;
+    }
+
+    @OnLongClick(ID_AVATAR)
+    boolean onAvatarLongClick(View view) {
+        avatarLongClicks++;
+        return consumeLongClick;
+    }
+}
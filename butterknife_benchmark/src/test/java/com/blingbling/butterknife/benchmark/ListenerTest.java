@@ -0,0 +1,162 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Adapter;
+import android.widget.AdapterView;
+import android.widget.CheckBox;
+import android.widget.EditText;
+import android.widget.Spinner;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * {@code @OnLongClick}, {@code @OnTextChanged}, {@code @OnCheckedChanged} and {@code @OnItemSelected}:
+ * each callback reaches only its own methods with the parameters they asked for, return values
+ * fall back to the callback's default, and unbinding removes every listener.
+ */
+public class ListenerTest {
+
+    private final Context context = new Context();
+    private final ViewGroup root = new ViewGroup(context);
+    private final EditText title = new EditText(context);
+    private final CheckBox agree = new CheckBox(context);
+    private final Spinner country = new Spinner(context);
+    private final View avatar = new View(context);
+
+    public ListenerTest() {
+        form(root, title, agree, country, avatar);
+    }
+
+    private void form(ViewGroup root, EditText title, CheckBox agree, Spinner country, View avatar) {
+        title.setId(ListenerScreen.ID_TITLE);
+        agree.setId(ListenerScreen.ID_AGREE);
+        country.setId(ListenerScreen.ID_COUNTRY);
+        avatar.setId(ListenerScreen.ID_AVATAR);
+        country.setAdapter(new Adapter() {
+            @Override
+            public int getCount() {
+                return 5;
+            }
+
+            @Override
+            public Object getItem(int position) {
+                return "Country " + position;
+            }
+
+            @Override
+            public long getItemId(int position) {
+                return 100L + position;
+            }
+        });
+        root.addView(title);
+        root.addView(agree);
+        root.addView(country);
+        root.addView(avatar);
+    }
+
+    @Test
+    public void textCallbacksGetTheParametersTheyAskFor() {
+        ListenerScreen screen = new ListenerScreen();
+        ButterKnife.bind(screen, root);
+        title.setText("Hello");
+        title.setText("Hi");
+
+        assertEquals(5, screen.replacedLength);
+        assertEquals(2, screen.titleChanges);
+        assertEquals("Hi", screen.lastTitle);
+    }
+
+    @Test
+    public void rebindingTheSameViewsAddsTheWatcherOnce() {
+        ListenerScreen screen = new ListenerScreen();
+        Unbinder binding = ButterKnife.bind(screen, root);
+        ButterKnife.rebind(binding, screen, root);
+        title.setText("Hello");
+
+        assertEquals(1, screen.titleChanges);
+    }
+
+    @Test
+    public void rebindingOtherViewsMovesTheWatcher() {
+        ViewGroup otherRoot = new ViewGroup(context);
+        EditText otherTitle = new EditText(context);
+        form(otherRoot, otherTitle, new CheckBox(context), new Spinner(context), new View(context));
+        ListenerScreen screen = new ListenerScreen();
+        Unbinder binding = ButterKnife.bind(screen, root);
+        ButterKnife.rebind(binding, screen, otherRoot);
+
+        title.setText("Hello");
+        assertEquals(0, screen.titleChanges);
+        otherTitle.setText("Hello");
+        assertEquals(1, screen.titleChanges);
+    }
+
+    @Test
+    public void checkedChangeCastsToTheDeclaredType() {
+        ListenerScreen screen = new ListenerScreen();
+        ButterKnife.bind(screen, root);
+        agree.setChecked(true);
+
+        assertSame(agree, screen.agreeBox);
+        assertTrue(screen.agreed);
+    }
+
+    @Test
+    public void itemSelectionReportsPositionAndIdThenNothing() {
+        ListenerScreen screen = new ListenerScreen();
+        ButterKnife.bind(screen, root);
+        country.setSelection(3);
+        assertEquals(3, screen.countryPosition);
+        assertEquals(103L, screen.countryId);
+
+        country.setSelection(AdapterView.INVALID_POSITION);
+        assertEquals(-1, screen.countryPosition);
+        assertEquals(1, screen.noCountry);
+    }
+
+    @Test
+    public void longClickReturnsTheMethodResultOrTrue() {
+        ListenerScreen screen = new ListenerScreen();
+        ButterKnife.bind(screen, root);
+
+        assertFalse(avatar.performLongClick());
+        screen.consumeLongClick = true;
+        assertTrue(avatar.performLongClick());
+        assertEquals(2, screen.avatarLongClicks);
+        // A void method consumes the long click. Both ids share one listener that dispatches on the id.
+        assertTrue(agree.performLongClick());
+        assertEquals(1, screen.agreeLongClicks);
+        assertEquals(2, screen.avatarLongClicks);
+
+        avatar.performClick();
+        assertEquals(1, screen.avatarClicks);
+    }
+
+    @Test
+    public void unbindRemovesEveryListener() {
+        ListenerScreen screen = new ListenerScreen();
+        Unbinder unbinder = ButterKnife.bind(screen, root);
+        unbinder.unbind();
+
+        assertNull(screen.title);
+        title.setText("Hello");
+        agree.setChecked(true);
+        assertEquals(0, screen.titleChanges);
+        assertFalse(screen.agreed);
+        assertFalse(agree.performLongClick());
+        assertFalse(avatar.performLongClick());
+        assertFalse(avatar.hasOnClickListeners());
+        assertNull(country.getOnItemSelectedListener());
+    }
+}
@@ -0,0 +1,31 @@
+package com.blingbling.butterknife.benchmark;
+
+/**
+ * Stands in for the R class aapt generates, for the layouts compiled by {@code butterknife.layoutDir}:
+ * the sample app's {@code activity_login} and the layouts in {@code src/test/res/layout}.
+ */
+public final class R {
+
+    public static final class layout {
+        public static final int activity_login = 0x7f0a0000;
+        public static final int compiled_detail = 0x7f0a0001;
+    }
+
+    public static final class id {
+        public static final int btn = 0x7f080000;
+        public static final int tv = 0x7f080001;
+        public static final int root = 0x7f080002;
+        public static final int icon = 0x7f080003;
+        public static final int title = 0x7f080004;
+        public static final int input = 0x7f080005;
+        public static final int missing = 0x7f080006;
+    }
+
+    public static final class string {
+        public static final int title = 0x7f0d0000;
+    }
+
+    public static final class drawable {
+        public static final int icon = 0x7f070000;
+    }
+}
@@ -0,0 +1,133 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Rebinder;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Rebinding a generated binding to recycled item views must not allocate once it is set up.
+ * Allocation is measured per thread with HotSpot's {@code ThreadMXBean}.
+ */
+public class RebindAllocationTest {
+
+    private static final int ITEM_COUNT = 8;
+    private static final int REBINDS = 100000;
+    /** Slack for the measurement itself; a single allocation per rebind would exceed it by far. */
+    private static final long MAX_ALLOCATED_BYTES = 1024;
+
+    @Test
+    public void rebindItemHolderDoesNotAllocate() {
+        ViewGroup[] items = new ViewGroup[ITEM_COUNT];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            items[i] = item(ItemHolder.ID_ROOT, ItemHolder.ID_TITLE, ItemHolder.ID_ICON);
+        }
+        ItemHolder[] holders = {new ItemHolder(), new ItemHolder()};
+
+        Unbinder binding = ButterKnife.getBinder(ItemHolder.class).bind(holders[0], items[0]);
+        assertTrue(binding instanceof Rebinder);
+        rebindAll(binding, holders, items);
+
+        long before = allocatedBytes();
+        Unbinder rebound = rebindAll(binding, holders, items);
+        long allocated = allocatedBytes() - before;
+
+        assertSame(binding, rebound);
+        assertTrue("Rebinding allocated " + allocated + " bytes", allocated < MAX_ALLOCATED_BYTES);
+
+        ItemHolder last = holders[(REBINDS - 1) % holders.length];
+        ViewGroup lastItem = items[(REBINDS - 1) % ITEM_COUNT];
+        assertSame(lastItem.findViewById(ItemHolder.ID_TITLE), last.title);
+        assertSame(lastItem.findViewById(ItemHolder.ID_ICON), last.icon);
+        int clicks = last.clicks;
+        lastItem.performClick();
+        assertEquals(clicks + 1, last.clicks);
+    }
+
+    @Test
+    public void rebindBatchedHolderDoesNotAllocate() {
+        int[] fieldIds = new int[WideItemHolder.FIELD_COUNT];
+        for (int i = 0; i < fieldIds.length; i++) {
+            fieldIds[i] = WideItemHolder.ID_FIRST_FIELD + i;
+        }
+        ViewGroup[] items = new ViewGroup[ITEM_COUNT];
+        for (int i = 0; i < ITEM_COUNT; i++) {
+            items[i] = item(WideItemHolder.ID_ROOT, fieldIds);
+        }
+        WideItemHolder[] holders = {new WideItemHolder(), new WideItemHolder()};
+
+        Unbinder binding = ButterKnife.getBinder(WideItemHolder.class).bind(holders[0], items[0]);
+        rebindAll(binding, holders, items);
+
+        long before = allocatedBytes();
+        rebindAll(binding, holders, items);
+        long allocated = allocatedBytes() - before;
+
+        assertTrue("Rebinding allocated " + allocated + " bytes", allocated < MAX_ALLOCATED_BYTES);
+
+        WideItemHolder last = holders[(REBINDS - 1) % holders.length];
+        ViewGroup lastItem = items[(REBINDS - 1) % ITEM_COUNT];
+        assertSame(lastItem.findViewById(WideItemHolder.ID_FIRST_FIELD + 4), last.field4);
+        lastItem.performClick();
+        assertEquals(1, last.clicks);
+    }
+
+    @Test
+    public void rebindDetachesPreviousViews() {
+        ViewGroup first = item(ItemHolder.ID_ROOT, ItemHolder.ID_TITLE, ItemHolder.ID_ICON);
+        ViewGroup second = item(ItemHolder.ID_ROOT, ItemHolder.ID_TITLE, ItemHolder.ID_ICON);
+        ItemHolder firstHolder = new ItemHolder();
+        ItemHolder secondHolder = new ItemHolder();
+
+        Unbinder binding = ButterKnife.getBinder(ItemHolder.class).bind(firstHolder, first);
+        binding = ButterKnife.rebind(binding, secondHolder, second);
+
+        assertFalse(first.hasOnClickListeners());
+        assertNull(firstHolder.title);
+        first.performClick();
+        assertEquals(0, firstHolder.clicks);
+        assertEquals(0, secondHolder.clicks);
+
+        second.performClick();
+        assertEquals(1, secondHolder.clicks);
+
+        binding.unbind();
+        assertFalse(second.hasOnClickListeners());
+    }
+
+    private static Unbinder rebindAll(Unbinder binding, Object[] holders, View[] items) {
+        for (int i = 0; i < REBINDS; i++) {
+            binding = ButterKnife.rebind(binding, holders[i % holders.length], items[i % items.length]);
+        }
+        return binding;
+    }
+
+    private static ViewGroup item(int rootId, int... childIds) {
+        ViewGroup root = new ViewGroup();
+        root.setId(rootId);
+        for (int childId : childIds) {
+            View child = new View();
+            child.setId(childId);
+            root.addView(child);
+        }
+        return root;
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
@@ -0,0 +1,102 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.content.Context;
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.blingbling.butterknife.api.Rebinder;
+import com.blingbling.butterknife.api.Unbinder;
+
+import org.junit.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * ViewHolders bound with {@code ButterKnife.bind(Object, View)}: views are resolved when the holder
+ * is created, and scrolling through {@link ItemScrollBenchmark#ITEM_COUNT} items afterwards, which
+ * rebinds every recycled holder through {@code ButterKnife.rebind}, does not allocate.
+ */
+public class ViewHolderBindingTest {
+
+    /** Slack for the measurement itself. */
+    private static final long MAX_ALLOCATED_BYTES = 1024;
+    /** The holder, its binding and the click listener, with room for object headers. */
+    private static final long MAX_BYTES_PER_HOLDER = 256;
+
+    @Test
+    public void holderResolvesItemViewsOnce() {
+        FeedAdapter<String> adapter = new FeedAdapter<>(new Context(), ItemScrollBenchmark.items(2));
+        ViewGroup itemView = adapter.newItemView();
+        FeedAdapter<String>.ViewHolder holder = adapter.onCreateViewHolder(itemView);
+
+        assertSame(itemView.findViewById(FeedAdapter.ID_TITLE), holder.title);
+        assertSame(itemView.findViewById(FeedAdapter.ID_ICON), holder.icon);
+        assertTrue(holder.unbinder instanceof Rebinder);
+
+        adapter.onBindViewHolder(holder, 1);
+        assertEquals("Item 1", holder.title.getText());
+        assertEquals(FeedAdapter.ICON_ODD, holder.icon.getImageResId());
+        itemView.performClick();
+        assertEquals(1, adapter.clicks);
+
+        holder.unbinder.unbind();
+        assertNull(holder.title);
+        assertNull(holder.icon);
+    }
+
+    @Test
+    public void scrollingRecycledHoldersDoesNotAllocate() {
+        FeedAdapter<String> adapter = new FeedAdapter<>(new Context(),
+                ItemScrollBenchmark.items(ItemScrollBenchmark.ITEM_COUNT));
+        List<FeedAdapter<String>.ViewHolder> pool = new ArrayList<>();
+        for (int i = 0; i < ItemScrollBenchmark.POOL_SIZE; i++) {
+            pool.add(adapter.onCreateViewHolder(adapter.newItemView()));
+        }
+        Unbinder binding = pool.get(0).unbinder;
+        ItemScrollBenchmark.scroll(adapter, pool);
+
+        long before = allocatedBytes();
+        int last = ItemScrollBenchmark.scroll(adapter, pool);
+        long allocated = allocatedBytes() - before;
+
+        assertEquals(ItemScrollBenchmark.ITEM_COUNT - 1, last);
+        assertTrue("Scrolling allocated " + allocated + " bytes", allocated < MAX_ALLOCATED_BYTES);
+        // Rebinding reused the holder's binding, which still reaches the adapter once per click.
+        FeedAdapter<String>.ViewHolder holder = pool.get(0);
+        assertSame(binding, holder.unbinder);
+        assertSame(holder.itemView.findViewById(FeedAdapter.ID_TITLE), holder.title);
+        holder.itemView.performClick();
+        assertEquals(1, adapter.clicks);
+    }
+
+    @Test
+    public void creatingHoldersAllocatesOnlyTheBinding() {
+        FeedAdapter<String> adapter = new FeedAdapter<>(new Context(),
+                ItemScrollBenchmark.items(ItemScrollBenchmark.ITEM_COUNT));
+        View[] itemViews = new View[ItemScrollBenchmark.ITEM_COUNT];
+        for (int i = 0; i < itemViews.length; i++) {
+            itemViews[i] = adapter.newItemView();
+        }
+        ItemScrollBenchmark.createHolders(adapter, itemViews);
+
+        long before = allocatedBytes();
+        FeedAdapter<String>.ViewHolder last = ItemScrollBenchmark.createHolders(adapter, itemViews);
+        long perHolder = (allocatedBytes() - before) / itemViews.length;
+
+        assertSame(itemViews[itemViews.length - 1].findViewById(FeedAdapter.ID_TITLE), last.title);
+        assertTrue("Creating a holder allocated " + perHolder + " bytes", perHolder <= MAX_BYTES_PER_HOLDER);
+    }
+
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+}
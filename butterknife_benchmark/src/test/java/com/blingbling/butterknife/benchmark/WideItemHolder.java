@@ -0,0 +1,29 @@
+package com.blingbling.butterknife.benchmark;
+
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+/**
+ * A list item holder binding enough ids for the generated code to use batched lookup.
+ */
+public class WideItemHolder {
+
+    static final int ID_ROOT = 200;
+    static final int ID_FIRST_FIELD = 201;
+    static final int FIELD_COUNT = 5;
+
+    @BindView(ID_FIRST_FIELD) View field0;
+    @BindView(ID_FIRST_FIELD + 1) View field1;
+    @BindView(ID_FIRST_FIELD + 2) View field2;
+    @BindView(ID_FIRST_FIELD + 3) View field3;
+    @BindView(ID_FIRST_FIELD + 4) View field4;
+
+    int clicks;
+
+    @OnClick(ID_ROOT)
+    void onItemClick(View view) {
+        clicks++;
+    }
+}
@@ -1,18 +1,36 @@
 package com.blingbling.butterknife.compiler;
 
+import com.blingbling.butterknife.compiler.BindingPlan.Op;
+import com.blingbling.butterknife.compiler.BindingPlan.ViewRef;
+import com.blingbling.butterknife.compiler.CompiledLayout.Arg;
+import com.blingbling.butterknife.compiler.CompiledLayout.Call;
+import com.blingbling.butterknife.compiler.CompiledLayout.LayoutParams;
+import com.blingbling.butterknife.compiler.CompiledLayout.ParamsField;
+import com.blingbling.butterknife.compiler.CompiledLayout.ViewNode;
+import com.blingbling.butterknife.compiler.ListenerType.ListenerMethod;
 import com.google.auto.common.MoreElements;
+import com.squareup.javapoet.ArrayTypeName;
 import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.FieldSpec;
 import com.squareup.javapoet.JavaFile;
 import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
+import javax.lang.model.element.Element;
 import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
 import javax.lang.model.element.TypeElement;
-import javax.lang.model.type.TypeMirror;
 
 /**
  * Created by BlingBling on 2018/1/4.
@@ -23,24 +41,100 @@ class BindingClass {
     public static final String JAVA_FILE_SUFFIX = "_ViewBinding";
 
     private static final ClassName VIEW = ClassName.get("android.view", "View");
-    private static final ClassName UNBINDER = ClassName.get("com.blingbling.butterknife.api", "Unbinder");
+    private static final ClassName REBINDER = ClassName.get("com.blingbling.butterknife.api", "Rebinder");
     private static final ClassName ONCLICKLISTENER = ClassName.get("android.view", "View.OnClickListener");
+    private static final String CLICK_VIEWS = "clickViews";
+    private static final String LOOKUP_VIEWS = "lookupViews";
+    private static final ClassName VIEW_FINDER = ClassName.get("com.blingbling.butterknife.api", "ViewFinder");
+    private static final ClassName ASYNC_CONTENT_VIEW = ClassName.get("com.blingbling.butterknife.api", "AsyncContentView");
+    private static final String INFLATION = "inflation";
+    private static final ClassName LAZY = ClassName.get("com.blingbling.butterknife.api", "Lazy");
+    private static final ClassName LAYOUT_DIMENS = ClassName.get("com.blingbling.butterknife.api", "LayoutDimens");
+    static final ClassName VIEW_GROUP = ClassName.get("android.view", "ViewGroup");
+    private static final ClassName IMMUTABLE_VIEW_LIST =
+            ClassName.get("com.blingbling.butterknife.api", "ImmutableViewList");
+    private static final ClassName ITEM_CLICK_DISPATCHER =
+            ClassName.get("com.blingbling.butterknife.api", "ItemClickDispatcher");
+    private static final ClassName BACKGROUND_CLICK_LISTENER =
+            ClassName.get("com.blingbling.butterknife.api", "BackgroundClickListener");
+    /** 共用监听时包装绑定类自身的BackgroundClickListener成员 */
+    static final String BACKGROUND_CLICKS = "backgroundClickListener";
 
+    private final BindingOptions mOptions;
+    private final TypeElement mTargetElement;
     private ClassName mBindingClassName;
-    private TypeName mTargetType;
+    /** 目标类的原始类型：泛型类和泛型类中的内部类（例如Adapter中的ViewHolder）的类型变量在绑定类中没有定义 */
+    private ClassName mTargetClassName;
+    /** 生成的代码中声明target使用的类型，泛型类用通配符参数化，类字面量仍然使用{@link #mTargetClassName} */
+    private TypeName mTargetTypeName;
+    private ClassName mParentBindingClassName;
+    /** 父类绑定的目标类，父类绑定的构造方法和bind方法以它为参数类型 */
+    private ClassName mParentTargetClassName;
+    /** 同一轮处理中父类的绑定，父类在classpath上时为null */
+    private BindingClass mParentBindingClass;
+    private boolean mParentDispatchesClicks;
+    /** 目标类实现了OnViewsReadyListener，设置布局并绑定完成后回调 */
+    private boolean mNotifiesViewsReady;
     private LayoutViewBinding mLayoutViewBinding;
+    /** 编译后的布局，没有打开butterknife.layoutDir或布局不能编译时为null */
+    private CompiledLayout mCompiledLayout;
     private List<FieldViewBinding> mFieldViewBindings;
+    private List<FieldViewsBinding> mFieldViewsBindings;
     private List<MethodViewBinding> mMethodViewBindings;
+    private List<ItemClickBinding> mItemClickBindings;
+    /** {@link ListenerType}表中监听注解的方法 */
+    private List<ListenerBinding> mListenerBindings;
+    /** classpath上存在的RecyclerView类，@OnItemClick的容器是其中之一时按adapter position回调 */
+    private List<ClassName> mRecyclerViewTypes = Collections.emptyList();
 
-    public BindingClass(TypeElement enclosingElement) {
-        TypeMirror typeMirror = enclosingElement.asType();
+    public BindingClass(TypeElement enclosingElement, BindingOptions options) {
+        mOptions = options;
+        mTargetElement = enclosingElement;
+        mTargetClassName = ClassName.get(enclosingElement);
+        mTargetTypeName = getTargetTypeName(enclosingElement);
 
-        mTargetType = TypeName.get(typeMirror);
+        mBindingClassName = getBindingClassName(enclosingElement);
+    }
+
+    /**
+     * 目标类在生成代码中的类型。泛型类及泛型类的非静态内部类用通配符参数化，如{@code Adapter<?>.Holder}，
+     * 生成的代码不会出现原始类型
+     *
+     * @param typeElement
+     * @return
+     */
+    static TypeName getTargetTypeName(TypeElement typeElement) {
+        ClassName className = ClassName.get(typeElement);
+        List<TypeName> wildcards = new ArrayList<>();
+        for (int i = 0, count = typeElement.getTypeParameters().size(); i < count; i++) {
+            wildcards.add(WildcardTypeName.subtypeOf(Object.class));
+        }
+        Element enclosing = typeElement.getEnclosingElement();
+        if (typeElement.getNestingKind() == NestingKind.MEMBER
+                && !typeElement.getModifiers().contains(Modifier.STATIC)
+                && enclosing.getKind().isClass()) {
+            TypeName outer = getTargetTypeName((TypeElement) enclosing);
+            if (outer instanceof ParameterizedTypeName) {
+                return ((ParameterizedTypeName) outer).nestedClass(className.simpleName(), wildcards);
+            }
+        }
+        if (wildcards.isEmpty()) {
+            return className;
+        }
+        return ParameterizedTypeName.get(className, wildcards.toArray(new TypeName[wildcards.size()]));
+    }
 
-        String packageName = MoreElements.getPackage(enclosingElement).getQualifiedName().toString();
-        String className = enclosingElement.getQualifiedName().toString().substring(
+    /**
+     * 目标类对应的绑定类名，内部类使用$连接
+     *
+     * @param typeElement
+     * @return
+     */
+    static ClassName getBindingClassName(TypeElement typeElement) {
+        String packageName = MoreElements.getPackage(typeElement).getQualifiedName().toString();
+        String className = typeElement.getQualifiedName().toString().substring(
                 packageName.length() + 1).replace('.', '$');
-        mBindingClassName = ClassName.get(packageName, className + JAVA_FILE_SUFFIX);
+        return ClassName.get(packageName, className + JAVA_FILE_SUFFIX);
     }
 
     /**
@@ -51,11 +145,27 @@ class BindingClass {
     public JavaFile brewJava() {
         TypeSpec.Builder result = TypeSpec.classBuilder(mBindingClassName.simpleName())
                 .addModifiers(Modifier.PUBLIC)
-                .addSuperinterface(UNBINDER);
+                .addOriginatingElement(mTargetElement);
+        if (mParentBindingClassName != null) {
+            result.superclass(mParentBindingClassName);
+        } else {
+            result.addSuperinterface(REBINDER);
+        }
+
+        if (hasSharedClickListener()) {
+            result.addSuperinterface(ONCLICKLISTENER);
+        }
 
-        buildTargetField(result);
-        createBindingConstructor(result);
-        buildUnbindMethod(result);
+        final BindingPlan plan = createPlan();
+        buildTargetField(result, plan);
+        createBindingConstructor(result, plan);
+        createSubclassConstructor(result);
+        createBindMethod(result, plan);
+        createRebindMethod(result);
+        if (hasSharedClickListener()) {
+            createSharedOnClickMethod(result);
+        }
+        buildUnbindMethod(result, plan);
 
         return JavaFile.builder(mBindingClassName.packageName(), result.build())
                 .addFileComment("Generated code from Butter Knife. Do not modify!")
@@ -63,99 +173,1057 @@ class BindingClass {
     }
 
     /**
-     * 创建类属性
+     * 直接生成类文件，行为与brewJava生成的源码相同，见BindingClassWriter
+     *
+     * @return 绑定类和它的监听器匿名类
+     */
+    List<ClassFile> brewClassFiles() {
+        return new BindingClassWriter(this).write();
+    }
+
+    /**
+     * 生成R8/ProGuard规则。没有索引时ButterKnife按目标类的类名反射加载绑定类，并调用参数为(目标类, View)的构造方法，
+     * 所以只保留目标类的类名、绑定类和这个构造方法，其他的都可以被压缩和混淆。
+     * AGP只对依赖的jar/aar应用这些规则，app模块自己的绑定需要在proguard-rules.pro中写同样的规则
+     *
+     * @param targetBinaryName 目标类的二进制名，内部类使用$连接
+     * @return
+     */
+    String createKeepRules(String targetBinaryName) {
+        return "-keepnames class " + targetBinaryName + "\n"
+                + "-keep class " + mBindingClassName + " {\n"
+                + "    public <init>(" + targetBinaryName + ", android.view.View);\n"
+                + "}\n";
+    }
+
+    /**
+     * 统计生成的绑定类的开销
+     *
+     * @param fields  生成的绑定类声明的字段数
+     * @param methods 生成的绑定类声明的方法数
+     * @return
+     */
+    BindingCost createCost(int fields, int methods) {
+        int lazyViews = 0;
+        if (hasTargetField()) {
+            for (int i = 0, count = mFieldViewBindings.size(); i < count; i++) {
+                if (mFieldViewBindings.get(i).isLazy()) {
+                    lazyViews++;
+                }
+            }
+        }
+        int listenerClasses = isAsyncLayout() ? 1 : 0;
+        if (hasTargetMethod() && !hasSharedClickListener()) {
+            // 直接生成类文件时所有id共用一个监听器类
+            listenerClasses += mOptions.isBytecode() ? 1 : methodViewIds().size();
+        }
+        if (hasItemClickMethod()) {
+            // 每个容器一个ItemClickDispatcher，直接生成类文件时共用一个类
+            listenerClasses += mOptions.isBytecode() ? 1 : itemClickContainerIds().size();
+        }
+        // 按id分发的监听每种一个监听器，其他监听每个id一个，直接生成类文件时每种监听共用一个类
+        final List<ListenerType> listenerTypes = listenerTypes();
+        for (int i = 0, count = listenerTypes.size(); i < count; i++) {
+            final ListenerType type = listenerTypes.get(i);
+            listenerClasses += mOptions.isBytecode() || type.sharedById ? 1 : listenerIds(type).size();
+        }
+        return new BindingCost(mTargetClassName.toString(), mBindingClassName.toString(),
+                createPlan().getLookupIds().size(), lazyViews, listenerClasses,
+                fields, methods);
+    }
+
+    /**
+     * 按注解逐条生成bind和unbind的操作，优化后用于生成代码
+     *
+     * @return
+     */
+    BindingPlan createPlan() {
+        BindingPlan plan = new BindingPlan();
+        if (hasTargetField()) {
+            for (int i = 0, count = mFieldViewBindings.size(); i < count; i++) {
+                final FieldViewBinding field = mFieldViewBindings.get(i);
+                if (field.isLazy()) {
+                    plan.addBind(Op.assignLazy(field));
+                } else {
+                    plan.addBind(Op.assignField(field));
+                }
+            }
+        }
+        if (hasTargetFields()) {
+            // 组中的View填入绑定类的数组，与其他id一起查找，再把数组或List赋值给字段
+            for (int i = 0, count = mFieldViewsBindings.size(); i < count; i++) {
+                final FieldViewsBinding group = mFieldViewsBindings.get(i);
+                final int[] ids = group.getValue();
+                for (int j = 0; j < ids.length; j++) {
+                    plan.addBind(Op.assign(ViewRef.groupSlot(ids[j], group.getArrayName(), j),
+                            ViewRef.find(ids[j]), group.getViewType()));
+                }
+                plan.addBind(Op.assign(ViewRef.field(-1, group.getName()), createGroupRef(group), null));
+            }
+        }
+
+        final List<Integer> ids = hasTargetMethod() ? methodViewIds() : Collections.<Integer>emptyList();
+        if (hasSharedClickListener()) {
+            for (int i = 0, count = ids.size(); i < count; i++) {
+                plan.addBind(Op.assign(ViewRef.clickSlot(ids.get(i), i), ViewRef.find(ids.get(i)), null));
+            }
+            // 有后台点击时所有View都设置包装后的监听，由它按id决定是否放到后台
+            if (hasBackgroundClickMethod()) {
+                plan.addBind(Op.setSharedListener(BACKGROUND_CLICKS));
+                plan.addUnbind(Op.cancelBackgroundClicks(BACKGROUND_CLICKS));
+            } else {
+                plan.addBind(Op.setSharedListener("this"));
+            }
+            plan.addUnbind(Op.setSharedListener(null));
+        } else {
+            // 先丢弃排队中的后台点击，再清除监听
+            for (int i = 0, count = ids.size(); i < count; i++) {
+                if (isBackgroundClick(ids.get(i))) {
+                    plan.addUnbind(Op.cancelBackgroundClicks(createListenerName(ids.get(i))));
+                }
+            }
+            for (int i = 0, count = ids.size(); i < count; i++) {
+                final int id = ids.get(i);
+                final ViewRef view = ViewRef.holder(id);
+                plan.addBind(Op.assign(view, ViewRef.find(id), null));
+                plan.addBind(Op.setListener(view, createListenerName(id)));
+                plan.addUnbind(Op.setListener(view, null));
+            }
+        }
+
+        final List<Integer> containerIds = hasItemClickMethod()
+                ? itemClickContainerIds() : Collections.<Integer>emptyList();
+        for (int i = 0, count = containerIds.size(); i < count; i++) {
+            final int id = containerIds.get(i);
+            final String dispatcher = createItemClickDispatcherName(id);
+            plan.addBind(Op.attachItemClicks(ViewRef.find(id), VIEW_GROUP, dispatcher));
+            plan.addUnbind(Op.detachItemClicks(dispatcher));
+        }
+
+        // 同一个View上的多种监听共用一个view<id>成员，@OnClick已经保存的View不再保存
+        final Set<Integer> listenerHolderIds = listenerHolderIds();
+        for (int id : listenerHolderIds) {
+            plan.addBind(Op.assign(ViewRef.holder(id), ViewRef.find(id), null));
+        }
+        final List<ListenerType> listenerTypes = listenerTypes();
+        for (int i = 0, count = listenerTypes.size(); i < count; i++) {
+            final ListenerType type = listenerTypes.get(i);
+            final List<Integer> listenerIds = listenerIds(type);
+            for (int j = 0, idCount = listenerIds.size(); j < idCount; j++) {
+                final int id = listenerIds.get(j);
+                plan.addBind(Op.bindListener(ViewRef.holder(id), type, type.createFieldName(id)));
+                plan.addUnbind(Op.unbindListener(ViewRef.holder(id), type, type.createFieldName(id)));
+            }
+        }
+
+        // 先清除监听，监听可能设置在下面要置空的字段上
+        if (hasTargetField()) {
+            for (int i = 0, count = mFieldViewBindings.size(); i < count; i++) {
+                final FieldViewBinding field = mFieldViewBindings.get(i);
+                if (field.isLazy()) {
+                    // 调用方可能还持有Lazy，清空后不再引用View
+                    plan.addUnbind(Op.clearLazy(field));
+                }
+                plan.addUnbind(Op.clear(ViewRef.field(field.getValue(), field.getName())));
+            }
+        }
+        if (hasTargetFields()) {
+            for (int i = 0, count = mFieldViewsBindings.size(); i < count; i++) {
+                plan.addUnbind(Op.clear(ViewRef.field(-1, mFieldViewsBindings.get(i).getName())));
+            }
+            // 调用方可能还持有数组或List，清空后不再引用View
+            for (int i = 0, count = mFieldViewsBindings.size(); i < count; i++) {
+                plan.addUnbind(Op.clearGroup(ViewRef.group(mFieldViewsBindings.get(i).getArrayName())));
+            }
+        }
+        if (hasSharedClickListener()) {
+            plan.addUnbind(Op.clearClickViews());
+        } else {
+            for (int i = 0, count = ids.size(); i < count; i++) {
+                plan.addUnbind(Op.clear(ViewRef.holder(ids.get(i))));
+            }
+        }
+        for (int id : listenerHolderIds) {
+            plan.addUnbind(Op.clear(ViewRef.holder(id)));
+        }
+
+        plan.optimize();
+        return plan;
+    }
+
+    /**
+     * 创建类属性
+     *
+     * @param result
+     * @param plan
+     */
+    private void buildTargetField(TypeSpec.Builder result, BindingPlan plan) {
+        final int[] viewIds = sortedViewIds(plan);
+        if (viewIds.length > mOptions.getBatchLookupThreshold()) {
+            CodeBlock.Builder initializer = CodeBlock.builder().add("{");
+            for (int i = 0; i < viewIds.length; i++) {
+                initializer.add(i > 0 ? ", $L" : "$L", viewIds[i]);
+            }
+            result.addField(FieldSpec.builder(int[].class, "VIEW_IDS",
+                    Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                    .initializer(initializer.add("}").build())
+                    .build());
+            result.addField(createViewArrayField(LOOKUP_VIEWS, viewIds.length));
+        }
+        if (hasBackgroundClickMethod()) {
+            // 后台点击在工作线程读取target，unbind在主线程置空，volatile保证读到置空后的值
+            result.addField(mTargetTypeName, "target", Modifier.PRIVATE, Modifier.VOLATILE);
+        } else {
+            result.addField(mTargetTypeName, "target", Modifier.PRIVATE);
+        }
+        if (hasTargetFields()) {
+            for (int i = 0, count = mFieldViewsBindings.size(); i < count; i++) {
+                final FieldViewsBinding group = mFieldViewsBindings.get(i);
+                final ClassName viewType = group.getViewType();
+                result.addField(FieldSpec.builder(ArrayTypeName.of(viewType), group.getArrayName(),
+                        Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T[$L]", viewType, group.getValue().length)
+                        .build());
+                if (group.isList()) {
+                    result.addField(FieldSpec.builder(ParameterizedTypeName.get(IMMUTABLE_VIEW_LIST, viewType),
+                            group.getListName(), Modifier.PRIVATE, Modifier.FINAL)
+                            .initializer("new $T<$T>($N)", IMMUTABLE_VIEW_LIST, viewType, group.getArrayName())
+                            .build());
+                }
+            }
+        }
+        if (isAsyncLayout()) {
+            result.addField(ASYNC_CONTENT_VIEW, INFLATION, Modifier.PRIVATE);
+        }
+        if (hasSharedClickListener()) {
+            result.addField(createViewArrayField(CLICK_VIEWS, methodViewIds().size()));
+            if (hasBackgroundClickMethod()) {
+                CodeBlock.Builder ids = CodeBlock.builder();
+                final List<Integer> backgroundIds = backgroundClickIds();
+                for (int i = 0, count = backgroundIds.size(); i < count; i++) {
+                    ids.add(", $L", backgroundIds.get(i));
+                }
+                result.addField(FieldSpec.builder(BACKGROUND_CLICK_LISTENER, BACKGROUND_CLICKS,
+                        Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("new $T(this$L)", BACKGROUND_CLICK_LISTENER, ids.build())
+                        .build());
+            }
+        } else if (hasTargetMethod()) {
+            final Set<Integer> clickHolderIds = plan.getHolderIds();
+            final List<Integer> ids = methodViewIds();
+            for (int i = 0, count = ids.size(); i < count; i++) {
+                final int id = ids.get(i);
+                if (clickHolderIds.contains(id)) {
+                    result.addField(VIEW, ViewRef.holder(id).name, Modifier.PRIVATE);
+                }
+                if (isBackgroundClick(id)) {
+                    result.addField(FieldSpec.builder(BACKGROUND_CLICK_LISTENER, createListenerName(id),
+                            Modifier.PRIVATE, Modifier.FINAL)
+                            .initializer("new $T($L)", BACKGROUND_CLICK_LISTENER, createOnClickListener(id))
+                            .build());
+                } else {
+                    result.addField(FieldSpec.builder(ONCLICKLISTENER, createListenerName(id),
+                            Modifier.PRIVATE, Modifier.FINAL)
+                            .initializer("$L", createOnClickListener(id))
+                            .build());
+                }
+            }
+        }
+        if (hasItemClickMethod()) {
+            final List<Integer> containerIds = itemClickContainerIds();
+            for (int i = 0, count = containerIds.size(); i < count; i++) {
+                final int id = containerIds.get(i);
+                result.addField(FieldSpec.builder(ITEM_CLICK_DISPATCHER, createItemClickDispatcherName(id),
+                        Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("$L", createItemClickDispatcher(id))
+                        .build());
+            }
+        }
+        final Set<Integer> holderIds = plan.getHolderIds();
+        for (int id : listenerHolderIds()) {
+            if (holderIds.contains(id)) {
+                result.addField(VIEW, ViewRef.holder(id).name, Modifier.PRIVATE);
+            }
+        }
+        final List<ListenerType> listenerTypes = listenerTypes();
+        for (int i = 0, count = listenerTypes.size(); i < count; i++) {
+            final ListenerType type = listenerTypes.get(i);
+            final List<Integer> listenerIds = listenerIds(type);
+            if (type.sharedById) {
+                result.addField(FieldSpec.builder(type.listenerType, type.fieldPrefix,
+                        Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("$L", createListener(type, listenerIds))
+                        .build());
+                continue;
+            }
+            for (int j = 0, idCount = listenerIds.size(); j < idCount; j++) {
+                final int id = listenerIds.get(j);
+                result.addField(FieldSpec.builder(type.listenerType, type.createFieldName(id),
+                        Modifier.PRIVATE, Modifier.FINAL)
+                        .initializer("$L", createListener(type, Collections.singletonList(id)))
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * 创建复用的View数组，重新绑定时不需要再分配
+     *
+     * @param name
+     * @param length
+     * @return
+     */
+    private FieldSpec createViewArrayField(String name, int length) {
+        return FieldSpec.builder(ArrayTypeName.of(VIEW), name, Modifier.PRIVATE, Modifier.FINAL)
+                .initializer("new $T[$L]", VIEW, length)
+                .build();
+    }
+
+    /**
+     * 创建构造方法，设置布局后一次绑定整个继承链上的View和事件。
+     * 异步加载布局时，加载完成后在主线程设置布局并绑定，保留加载时按内容容器生成的LayoutParams；
+     * 布局编译过时直接创建View树
+     *
+     * @param result
+     * @param plan
+     */
+    private void createBindingConstructor(TypeSpec.Builder result, BindingPlan plan) {
+        final boolean async = isAsyncLayout();
+        MethodSpec.Builder builder = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PUBLIC);
+        if (async) {
+            builder.addParameter(mTargetTypeName, "target", Modifier.FINAL)
+                    .addParameter(VIEW, "source", Modifier.FINAL);
+        } else {
+            builder.addParameter(mTargetTypeName, "target")
+                    .addParameter(VIEW, "source");
+        }
+        if (mParentBindingClassName != null) {
+            builder.addStatement("super(target)");
+        }
+        builder.addStatement("this.target = target");
+
+        builder.addCode("\n");
+        if (async) {
+            MethodSpec onInflated = MethodSpec.methodBuilder("onContentViewInflated")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC)
+                    .addParameter(VIEW, "contentView")
+                    .addStatement("target.setContentView(contentView, contentView.getLayoutParams())")
+                    .addCode(createBindAndNotify())
+                    .build();
+            TypeSpec callback = TypeSpec.anonymousClassBuilder("")
+                    .addSuperinterface(ASYNC_CONTENT_VIEW.nestedClass("Callback"))
+                    .addMethod(onInflated)
+                    .build();
+            builder.addStatement("$N = $T.inflate(target, $L, $L)",
+                    INFLATION, ASYNC_CONTENT_VIEW, mLayoutViewBinding.getValue(), callback);
+        } else if (mCompiledLayout != null) {
+            addCompiledLayoutBind(builder, plan);
+        } else {
+            if (mLayoutViewBinding != null) {
+                builder.addStatement("target.setContentView($L)", mLayoutViewBinding.getValue());
+            }
+            builder.addCode(createBindAndNotify());
+        }
+        result.addMethod(builder.build());
+    }
+
+    /**
+     * 按编译后的布局创建View树并设置为内容，本类绑定的View直接使用创建的对象，不再查找。
+     * 父类的绑定和布局中没有的id仍然从source查找
+     *
+     * @param builder
+     * @param plan
+     */
+    private void addCompiledLayoutBind(MethodSpec.Builder builder, BindingPlan plan) {
+        addLayoutView(builder, mCompiledLayout.getRoot(), null);
+        if (mParentBindingClassName != null) {
+            builder.addCode("\n");
+            builder.addStatement("super.bind(target, source)");
+        }
+        addOps(builder, plan.getBindOps(), null, false, mCompiledLayout);
+        if (mNotifiesViewsReady) {
+            builder.addStatement("target.onViewsReady()");
+        }
+    }
+
+    /**
+     * 与LayoutInflater的顺序相同：创建View并调用setter，创建所有子View后再加入父View
+     *
+     * @param builder
+     * @param node
+     * @param parent  根View时为null
+     */
+    private void addLayoutView(MethodSpec.Builder builder, ViewNode node, ViewNode parent) {
+        final String name = createLayoutViewName(node);
+        builder.addStatement("$T $N = new $T(target)", node.type, name, node.type);
+        for (int i = 0, count = node.calls.size(); i < count; i++) {
+            final Call call = node.calls.get(i);
+            CodeBlock.Builder args = CodeBlock.builder();
+            for (int j = 0; j < call.args.length; j++) {
+                args.add(j > 0 ? ", $L" : "$L", createLayoutArg(call.args[j], name));
+            }
+            builder.addStatement("$N.$N($L)", name, call.method, args.build());
+        }
+        for (int i = 0, count = node.children.size(); i < count; i++) {
+            addLayoutView(builder, node.children.get(i), node);
+        }
+
+        final LayoutParams params = node.params;
+        final CodeBlock width = createLayoutArg(params.width, name);
+        final CodeBlock height = createLayoutArg(params.height, name);
+        if (parent == null) {
+            builder.addStatement("target.setContentView($N, new $T($L, $L))", name, params.type, width, height);
+        } else if (params.fields.isEmpty()) {
+            builder.addStatement("$N.addView($N, new $T($L, $L))",
+                    createLayoutViewName(parent), name, params.type, width, height);
+        } else {
+            final String paramsName = "params" + node.index;
+            builder.addStatement("$T $N = new $T($L, $L)", params.type, paramsName, params.type, width, height);
+            for (int i = 0, count = params.fields.size(); i < count; i++) {
+                final ParamsField field = params.fields.get(i);
+                builder.addStatement("$N.$N = $L", paramsName, field.name, createLayoutArg(field.value, name));
+            }
+            builder.addStatement("$N.addView($N, $N)", createLayoutViewName(parent), name, paramsName);
+        }
+    }
+
+    /**
+     * 编译后布局中setter和LayoutParams参数的表达式
+     *
+     * @param arg
+     * @param viewName 参数所属的View，GETTER从它读取
+     * @return
+     */
+    private CodeBlock createLayoutArg(Arg arg, String viewName) {
+        switch (arg.kind) {
+            case INT:
+                if (arg.hex) {
+                    return CodeBlock.of("0x$L", Integer.toHexString(arg.intValue));
+                }
+                if (arg.constants.isEmpty()) {
+                    return CodeBlock.of("$L", arg.intValue);
+                }
+                CodeBlock.Builder builder = CodeBlock.builder();
+                for (int i = 0, count = arg.constants.size(); i < count; i++) {
+                    builder.add(i > 0 ? " | $T.$N" : "$T.$N", arg.owner, arg.constants.get(i));
+                }
+                return builder.build();
+            case FLOAT:
+                return CodeBlock.of("$Lf", arg.floatValue);
+            case BOOLEAN:
+                return CodeBlock.of("$L", arg.intValue != 0);
+            case STRING:
+                return CodeBlock.of("$S", arg.string);
+            case RESOURCE:
+                return CodeBlock.of("$T.$N", arg.owner, arg.string);
+            case DIMENSION:
+                return CodeBlock.of("$T.pixelSize(target, $T.$N, $Lf)", LAYOUT_DIMENS,
+                        LayoutCompiler.TYPED_VALUE, LayoutCompiler.UNIT_CONSTANTS[arg.intValue], arg.floatValue);
+            case GETTER:
+                return CodeBlock.of("$N.$N()", viewName, arg.string);
+            default:
+                throw new AssertionError(arg.kind);
+        }
+    }
+
+    private static String createLayoutViewName(ViewNode node) {
+        return "layoutView" + node.index;
+    }
+
+    /**
+     * 绑定View和事件，设置了布局且目标类实现了OnViewsReadyListener时回调
+     *
+     * @return
+     */
+    private CodeBlock createBindAndNotify() {
+        CodeBlock.Builder builder = CodeBlock.builder()
+                .addStatement("bind(target, source)");
+        if (mLayoutViewBinding != null && mNotifiesViewsReady) {
+            builder.addStatement("target.onViewsReady()");
+        }
+        return builder.build();
+    }
+
+    /**
+     * 创建供子类绑定调用的构造方法，只保存target，由子类负责设置布局和绑定
+     *
+     * @param result
+     */
+    private void createSubclassConstructor(TypeSpec.Builder result) {
+        MethodSpec.Builder builder = MethodSpec.constructorBuilder()
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(mTargetTypeName, "target");
+        if (mParentBindingClassName != null) {
+            builder.addStatement("super(target)");
+        }
+        builder.addStatement("this.target = target");
+        result.addMethod(builder.build());
+    }
+
+    /**
+     * 创建绑定方法，先绑定父类的View和事件。设置target之前丢弃排队中的后台点击，重新绑定后它们不会调用新的target
+     *
+     * @param result
+     * @param plan
+     */
+    private void createBindMethod(TypeSpec.Builder result, BindingPlan plan) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("bind")
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(mTargetTypeName, "target")
+                .addParameter(VIEW, "source");
+        if (mParentBindingClassName != null) {
+            builder.addStatement("super.bind(target, source)");
+        }
+        final List<String> backgroundListeners = backgroundClickListenerNames();
+        for (int i = 0, count = backgroundListeners.size(); i < count; i++) {
+            builder.addStatement("$N.cancel()", backgroundListeners.get(i));
+        }
+        builder.addStatement("this.target = target");
+
+        final int[] viewIds = sortedViewIds(plan);
+        final boolean batchLookup = viewIds.length > mOptions.getBatchLookupThreshold();
+        if (batchLookup) {
+            builder.addCode("\n");
+            builder.addStatement("$T.findViews(source, VIEW_IDS, $N)", VIEW_FINDER, LOOKUP_VIEWS);
+        }
+
+        addOps(builder, plan.getBindOps(), viewIds, batchLookup, null);
+
+        if (batchLookup) {
+            builder.addCode("\n");
+            builder.addStatement("$T.fill($N, null)", Arrays.class, LOOKUP_VIEWS);
+        }
+        result.addMethod(builder.build());
+    }
+
+    /**
+     * 输出操作，字段和监听的操作之间空一行
+     *
+     * @param builder
+     * @param ops
+     * @param viewIds
+     * @param batchLookup
+     * @param layout      构造方法中创建的布局，查找View时直接使用创建的对象，其他方法中为null
+     */
+    private void addOps(MethodSpec.Builder builder, List<Op> ops, int[] viewIds, boolean batchLookup,
+                        CompiledLayout layout) {
+        Boolean fieldSection = null;
+        for (int i = 0, count = ops.size(); i < count; i++) {
+            final Op op = ops.get(i);
+            final boolean isFieldOp = op.kind != Op.Kind.SET_LISTENER && op.kind != Op.Kind.BIND_LISTENER
+                    && op.kind != Op.Kind.UNBIND_LISTENER && op.dest != null && op.dest.kind == ViewRef.Kind.FIELD;
+            if (fieldSection == null || fieldSection != isFieldOp) {
+                builder.addCode("\n");
+                fieldSection = isFieldOp;
+            }
+            switch (op.kind) {
+                case ASSIGN:
+                    if (op.cast != null) {
+                        builder.addStatement("$L = ($T) $L", createViewRef(op.dest, viewIds, batchLookup, layout),
+                                op.cast, createViewRef(op.src, viewIds, batchLookup, layout));
+                    } else {
+                        builder.addStatement("$L = $L", createViewRef(op.dest, viewIds, batchLookup, layout),
+                                createViewRef(op.src, viewIds, batchLookup, layout));
+                    }
+                    break;
+                case ASSIGN_LAZY:
+                    builder.addStatement("target.$N = new $T<$T>(source, $L, $L)",
+                            op.field.getName(),
+                            LAZY,
+                            op.field.getLazyViewType(),
+                            op.field.getValue(),
+                            !op.field.isLazyViewStub());
+                    break;
+                case SET_LISTENER:
+                    if (op.listener != null) {
+                        builder.addStatement("$L.setOnClickListener($N)",
+                                createViewRef(op.dest, viewIds, batchLookup, layout), op.listener);
+                    } else {
+                        builder.addStatement("$L.setOnClickListener(null)",
+                                createViewRef(op.dest, viewIds, batchLookup, layout));
+                    }
+                    break;
+                case SET_SHARED_LISTENER:
+                    builder.beginControlFlow("for ($T view : $N)", VIEW, CLICK_VIEWS)
+                            .addStatement("view.setOnClickListener($L)", op.listener)
+                            .endControlFlow();
+                    break;
+                case CLEAR_LAZY:
+                    builder.addStatement("target.$N.clear()", op.field.getName());
+                    break;
+                case CLEAR:
+                    builder.addStatement("$L = null", createViewRef(op.dest, viewIds, batchLookup, layout));
+                    break;
+                case CLEAR_CLICK_VIEWS:
+                    builder.addStatement("$T.fill($N, null)", Arrays.class, CLICK_VIEWS);
+                    break;
+                case CLEAR_GROUP:
+                    builder.addStatement("$T.fill($N, null)", Arrays.class, op.dest.name);
+                    break;
+                case ATTACH_ITEM_CLICKS:
+                    builder.addStatement("$N.attach(($T) $L)", op.listener, op.cast,
+                            createViewRef(op.src, viewIds, batchLookup, layout));
+                    break;
+                case DETACH_ITEM_CLICKS:
+                    builder.addStatement("$N.detach()", op.listener);
+                    break;
+                case CANCEL_BACKGROUND_CLICKS:
+                    builder.addStatement("$N.cancel()", op.listener);
+                    break;
+                case BIND_LISTENER:
+                case UNBIND_LISTENER:
+                    addListenerOp(builder, op, createListenerView(op, viewIds, batchLookup, layout));
+                    break;
+                default:
+                    throw new AssertionError(op.kind);
+            }
+        }
+    }
+
+    /**
+     * 设置或清除{@link ListenerType}表中的监听。通过add方法加入的监听由unbind从原来的View上移除，rebind先unbind，
+     * 所以bind只需要加入
+     *
+     * @param builder
+     * @param op
+     * @param view
+     */
+    private void addListenerOp(MethodSpec.Builder builder, Op op, CodeBlock view) {
+        final ListenerType type = op.listenerType;
+        if (type.remover != null && op.kind == Op.Kind.UNBIND_LISTENER) {
+            builder.addStatement("$L.$N($N)", view, type.remover, op.listener);
+        } else if (op.kind == Op.Kind.BIND_LISTENER) {
+            builder.addStatement("$L.$N($N)", view, type.setter, op.listener);
+        } else {
+            builder.addStatement("$L.$N(null)", view, type.setter);
+        }
+    }
+
+    /**
+     * 设置监听的View的表达式，View的类型不是监听所需的类型时转换
+     *
+     * @param op
+     * @param viewIds
+     * @param batchLookup
+     * @param layout
+     * @return
+     */
+    private CodeBlock createListenerView(Op op, int[] viewIds, boolean batchLookup, CompiledLayout layout) {
+        final CodeBlock view = createViewRef(op.dest, viewIds, batchLookup, layout);
+        final ClassName targetType = op.listenerType.targetType;
+        if (targetType.equals(VIEW) || targetType.equals(getFieldType(op.dest))) {
+            return view;
+        }
+        return CodeBlock.of("(($T) $L)", targetType, view);
+    }
+
+    /**
+     * 目标类字段声明的类型，不是字段时为null
+     *
+     * @param ref
+     * @return
+     */
+    private TypeName getFieldType(ViewRef ref) {
+        if (ref.kind != ViewRef.Kind.FIELD || !hasTargetField()) {
+            return null;
+        }
+        for (int i = 0, count = mFieldViewBindings.size(); i < count; i++) {
+            final FieldViewBinding field = mFieldViewBindings.get(i);
+            if (field.getName().equals(ref.name)) {
+                return field.getType();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * View的表达式
+     *
+     * @param ref
+     * @param viewIds
+     * @param batchLookup
+     * @param layout
+     * @return
+     */
+    private CodeBlock createViewRef(ViewRef ref, int[] viewIds, boolean batchLookup, CompiledLayout layout) {
+        switch (ref.kind) {
+            case FIND:
+                return createFindView(ref.id, viewIds, batchLookup, layout);
+            case FIELD:
+                return CodeBlock.of("target.$N", ref.name);
+            case CLICK_SLOT:
+                return CodeBlock.of("$N[$L]", CLICK_VIEWS, ref.index);
+            case GROUP_SLOT:
+                return CodeBlock.of("$N[$L]", ref.name, ref.index);
+            default:
+                return CodeBlock.of("$N", ref.name);
+        }
+    }
+
+    /**
+     * 创建重新绑定方法，复用本实例把绑定指向新的target和View。还绑定着时先unbind，把监听器从旧的View上移除，
+     * 否则点击旧的View会调用到新的target
+     *
+     * @param result
+     */
+    private void createRebindMethod(TypeSpec.Builder result) {
+        result.addMethod(MethodSpec.methodBuilder("rebind")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Object.class, "target")
+                .addParameter(VIEW, "source")
+                .beginControlFlow("if (this.target != null)")
+                .addStatement("unbind()")
+                .endControlFlow()
+                .addStatement("bind(($T) target, source)", mTargetTypeName)
+                .build());
+    }
+
+    /**
+     * 查找View的表达式，批量查找时从数组中按下标取，布局中创建的View直接使用局部变量
+     *
+     * @param id
+     * @param viewIds
+     * @param batchLookup
+     * @param layout
+     * @return
+     */
+    private CodeBlock createFindView(int id, int[] viewIds, boolean batchLookup, CompiledLayout layout) {
+        if (layout != null) {
+            final ViewNode node = layout.findView(id);
+            if (node != null) {
+                return CodeBlock.of("$N", createLayoutViewName(node));
+            }
+            return CodeBlock.of("source.findViewById($L)", id);
+        }
+        if (batchLookup) {
+            return CodeBlock.of("$N[$L]", LOOKUP_VIEWS, Arrays.binarySearch(viewIds, id));
+        }
+        return CodeBlock.of("source.findViewById($L)", id);
+    }
+
+    /**
+     * 赋值给@BindViews字段的绑定类成员：数组字段为数组本身，List字段为以数组为底层的List
+     *
+     * @param group
+     * @return
+     */
+    static ViewRef createGroupRef(FieldViewsBinding group) {
+        return ViewRef.group(group.isList() ? group.getListName() : group.getArrayName());
+    }
+
+    /**
+     * 创建点击事件回调。后台点击的回调由BackgroundClickListener在后台线程调用
+     *
+     * @param id
+     * @return
+     */
+    private TypeSpec createOnClickListener(int id) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("onClick")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(VIEW, "view");
+        if (isBackgroundClick(id)) {
+            methodBuilder.addCode(createBoundTargetCheck(CodeBlock.of("$T.this.target", mBindingClassName)));
+        }
+        methodBuilder.addCode(createClickStatements(id));
+
+        TypeSpec.Builder result = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(ONCLICKLISTENER)
+                .addMethod(methodBuilder.build());
+        return result.build();
+    }
+
+    /**
+     * 创建共用的点击事件回调，按View的id分发，本类没有处理的id交给父类绑定
+     *
+     * @param result
+     */
+    private void createSharedOnClickMethod(TypeSpec.Builder result) {
+        MethodSpec.Builder builder = MethodSpec.methodBuilder("onClick")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(VIEW, "view");
+        if (hasBackgroundClickMethod()) {
+            builder.addCode(createBoundTargetCheck(CodeBlock.of("this.target")));
+        }
+        builder.beginControlFlow("switch (view.getId())");
+        final List<Integer> ids = methodViewIds();
+        for (int i = 0, count = ids.size(); i < count; i++) {
+            final int id = ids.get(i);
+            builder.addCode("case $L:\n$>", id)
+                    .addCode(createClickStatements(id))
+                    .addStatement("break")
+                    .addCode("$<");
+        }
+        if (parentDispatchesClicks()) {
+            builder.addCode("default:\n$>")
+                    .addStatement("super.onClick(view)")
+                    .addCode("$<");
+        }
+        builder.endControlFlow();
+        result.addMethod(builder.build());
+    }
+
+    /**
+     * 把target读到局部变量，已经unbind时直接返回。后台线程读取target时unbind可能正在主线程中执行，
+     * 只读一次才不会在检查之后读到null。读到target之后再检查点击是否已取消，bind先取消再保存新的target，
+     * 所以排队给旧target的点击不会交给新的target
+     *
+     * @param target 读取target成员的表达式
+     * @return
+     */
+    private CodeBlock createBoundTargetCheck(CodeBlock target) {
+        return CodeBlock.builder()
+                .addStatement("$T target = $L", mTargetTypeName, target)
+                .beginControlFlow("if (target == null || $T.isClickCancelled())", BACKGROUND_CLICK_LISTENER)
+                .addStatement("return")
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * 调用所有监听该id的方法
+     *
+     * @param id
+     * @return
+     */
+    private CodeBlock createClickStatements(int id) {
+        CodeBlock.Builder builder = CodeBlock.builder();
+        final int methodCount = mMethodViewBindings.size();
+        for (int j = 0; j < methodCount; j++) {
+            final MethodViewBinding method = mMethodViewBindings.get(j);
+            if (containsId(method.getValue(), id)) {
+                final String statement;
+                if (method.hasViewParameter()) {
+                    statement = "target.$N(view)";
+                } else {
+                    statement = "target.$N()";
+                }
+                builder.addStatement(statement, method.getName());
+            }
+        }
+        return builder.build();
+    }
+
+    /**
+     * 创建容器的条目点击分发器：先分发条目本身的点击，再按View的id分发条目中子View的点击。
+     * classpath上有RecyclerView时，容器是RecyclerView则回调adapter position
+     *
+     * @param containerId
+     * @return
+     */
+    private TypeSpec createItemClickDispatcher(int containerId) {
+        final List<ItemClickBinding> itemMethods = new ArrayList<>();
+        final Set<Integer> childIds = new LinkedHashSet<>();
+        for (int i = 0, count = mItemClickBindings.size(); i < count; i++) {
+            final ItemClickBinding method = mItemClickBindings.get(i);
+            if (method.getContainerId() != containerId) {
+                continue;
+            }
+            if (method.isItemClick()) {
+                itemMethods.add(method);
+            }
+            for (int childId : method.getChildIds()) {
+                childIds.add(childId);
+            }
+        }
+
+        MethodSpec.Builder onItemClick = MethodSpec.methodBuilder("onItemClick")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PROTECTED)
+                .addParameter(VIEW, "item")
+                .addParameter(VIEW, "view")
+                .addParameter(int.class, "position");
+        if (!itemMethods.isEmpty() && !childIds.isEmpty()) {
+            onItemClick.beginControlFlow("if (view == item)");
+        }
+        for (int i = 0, count = itemMethods.size(); i < count; i++) {
+            onItemClick.addCode(createItemClickStatement(itemMethods.get(i)));
+        }
+        if (!itemMethods.isEmpty() && !childIds.isEmpty()) {
+            onItemClick.addStatement("return")
+                    .endControlFlow();
+        }
+        if (!childIds.isEmpty()) {
+            onItemClick.beginControlFlow("switch (view.getId())");
+            for (int childId : childIds) {
+                onItemClick.addCode("case $L:\n$>", childId);
+                for (int i = 0, count = mItemClickBindings.size(); i < count; i++) {
+                    final ItemClickBinding method = mItemClickBindings.get(i);
+                    if (method.getContainerId() == containerId && containsId(method.getChildIds(), childId)) {
+                        onItemClick.addCode(createItemClickStatement(method));
+                    }
+                }
+                onItemClick.addStatement("break")
+                        .addCode("$<");
+            }
+            onItemClick.endControlFlow();
+        }
+
+        CodeBlock.Builder ids = CodeBlock.builder();
+        int index = 0;
+        for (int childId : childIds) {
+            ids.add(index++ > 0 ? ", $L" : "$L", childId);
+        }
+        TypeSpec.Builder result = TypeSpec.anonymousClassBuilder("$L, new int[] {$L}", !itemMethods.isEmpty(),
+                ids.build())
+                .superclass(ITEM_CLICK_DISPATCHER)
+                .addMethod(onItemClick.build());
+        if (!mRecyclerViewTypes.isEmpty()) {
+            MethodSpec.Builder getPosition = MethodSpec.methodBuilder("getPosition")
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PROTECTED)
+                    .returns(int.class)
+                    .addParameter(VIEW_GROUP, "container")
+                    .addParameter(VIEW, "item");
+            for (int i = 0, count = mRecyclerViewTypes.size(); i < count; i++) {
+                final ClassName recyclerView = mRecyclerViewTypes.get(i);
+                getPosition.beginControlFlow("if (container instanceof $T)", recyclerView)
+                        .addStatement("return (($T) container).getChildAdapterPosition(item)", recyclerView)
+                        .endControlFlow();
+            }
+            getPosition.addStatement("return super.getPosition(container, item)");
+            result.addMethod(getPosition.build());
+        }
+        return result.build();
+    }
+
+    /**
+     * 调用一个@OnItemClick方法
+     *
+     * @param method
+     * @return
+     */
+    private CodeBlock createItemClickStatement(ItemClickBinding method) {
+        if (method.hasViewParameter() && method.hasPositionParameter()) {
+            return CodeBlock.builder().addStatement("target.$N(view, position)", method.getName()).build();
+        } else if (method.hasViewParameter()) {
+            return CodeBlock.builder().addStatement("target.$N(view)", method.getName()).build();
+        } else if (method.hasPositionParameter()) {
+            return CodeBlock.builder().addStatement("target.$N(position)", method.getName()).build();
+        }
+        return CodeBlock.builder().addStatement("target.$N()", method.getName()).build();
+    }
+
+    /**
+     * 创建{@link ListenerType}表中一种监听的监听器，实现接口的所有回调。共用监听器时按p0.getId()分发到各个id，
+     * 否则ids只有一个id。每个id先调用不返回值的方法，再返回有返回值的方法的结果，没有时返回默认值
+     *
+     * @param type
+     * @param ids
+     * @return
+     */
+    private TypeSpec createListener(ListenerType type, List<Integer> ids) {
+        TypeSpec.Builder result = TypeSpec.anonymousClassBuilder("")
+                .addSuperinterface(type.listenerType);
+        for (int i = 0, count = type.methods.size(); i < count; i++) {
+            final ListenerMethod method = type.methods.get(i);
+            MethodSpec.Builder builder = MethodSpec.methodBuilder(method.name)
+                    .addAnnotation(Override.class)
+                    .addModifiers(Modifier.PUBLIC);
+            if (!method.returnType.equals(TypeName.VOID)) {
+                builder.returns(method.returnType);
+            }
+            for (int j = 0, parameterCount = method.parameters.size(); j < parameterCount; j++) {
+                builder.addParameter(method.parameters.get(j), "p" + j);
+            }
+            boolean returned = false;
+            if (type.sharedById) {
+                addSharedListenerCalls(builder, type, method, ids);
+            } else {
+                returned = addListenerCalls(builder, listenerBindings(type, method, ids.get(0)));
+            }
+            if (!returned && method.defaultReturn != null) {
+                builder.addStatement("return $L", method.defaultReturn);
+            }
+            result.addMethod(builder.build());
+        }
+        return result.build();
+    }
+
+    /**
+     * 按p0.getId()分发到各个id的方法，没有id绑定这个回调时不生成switch
      *
-     * @param result
+     * @param builder
+     * @param type
+     * @param method
+     * @param ids
      */
-    private void buildTargetField(TypeSpec.Builder result) {
-        result.addField(mTargetType, "target", Modifier.PRIVATE);
-        if (hasTargetMethod()) {
-            final List<Integer> ids = methodViewIds();
-            for (int i = 0, count = ids.size(); i < count; i++) {
-                result.addField(VIEW, createViewName(ids.get(i)), Modifier.PRIVATE);
+    private void addSharedListenerCalls(MethodSpec.Builder builder, ListenerType type, ListenerMethod method,
+                                        List<Integer> ids) {
+        boolean switched = false;
+        for (int i = 0, count = ids.size(); i < count; i++) {
+            final int id = ids.get(i);
+            final List<ListenerBinding> bindings = listenerBindings(type, method, id);
+            if (bindings.isEmpty()) {
+                continue;
+            }
+            if (!switched) {
+                builder.beginControlFlow("switch (p0.getId())");
+                switched = true;
+            }
+            builder.addCode("case $L:\n$>", id);
+            if (!addListenerCalls(builder, bindings)) {
+                builder.addStatement(method.defaultReturn != null ? "return " + method.defaultReturn : "break");
             }
+            builder.addCode("$<");
+        }
+        if (switched) {
+            builder.endControlFlow();
         }
     }
 
     /**
-     * 创建构造方法
+     * 先调用不返回值的方法，再返回有返回值的方法的结果
      *
-     * @param result
+     * @param builder
+     * @param bindings
+     * @return 是否已经返回
      */
-    private void createBindingConstructor(TypeSpec.Builder result) {
-        MethodSpec.Builder builder = MethodSpec.constructorBuilder()
-                .addModifiers(Modifier.PUBLIC)
-                .addParameter(mTargetType, "target", Modifier.FINAL)
-                .addParameter(VIEW, "source");
-        builder.addStatement("this.target = target");
-
-        if (mLayoutViewBinding != null) {
-            builder.addCode("\n");
-            builder.addStatement("target.setContentView($L)", mLayoutViewBinding.getValue());
-        }
-
-        if (hasTargetField()) {
-            builder.addCode("\n");
-            for (int i = 0, count = mFieldViewBindings.size(); i < count; i++) {
-                final FieldViewBinding field = mFieldViewBindings.get(i);
-                builder.addStatement("target.$N = ($T) source.findViewById($L)",
-                        field.getName(),
-                        field.getType(),
-                        field.getValue());
+    private boolean addListenerCalls(MethodSpec.Builder builder, List<ListenerBinding> bindings) {
+        ListenerBinding returning = null;
+        for (int j = 0, bindingCount = bindings.size(); j < bindingCount; j++) {
+            final ListenerBinding binding = bindings.get(j);
+            if (binding.returnsValue()) {
+                returning = binding;
+            } else {
+                builder.addStatement("target.$N($L)", binding.getName(), createListenerArguments(binding));
             }
         }
-
-        if (hasTargetMethod()) {
-            builder.addCode("\n");
-            final List<Integer> ids = methodViewIds();
-            for (int i = 0, count = ids.size(); i < count; i++) {
-                final int id = ids.get(i);
-                final String name = createViewName(id);
-                builder.addStatement("$N = source.findViewById($L)",
-                        name,
-                        ids.get(i));
-
-                builder.addStatement("$N.setOnClickListener($L)",
-                        name,
-                        createOnClickListener(id));
-            }
+        if (returning != null) {
+            builder.addStatement("return target.$N($L)", returning.getName(), createListenerArguments(returning));
+            return true;
         }
-        result.addMethod(builder.build());
+        return false;
     }
 
     /**
-     * 创建点击事件回调
+     * 调用监听方法的参数，回调参数依次命名为p0、p1...
      *
-     * @param id
+     * @param binding
      * @return
      */
-    private TypeSpec createOnClickListener(int id) {
-        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder("onClick")
-                .addAnnotation(Override.class)
-                .addModifiers(Modifier.PUBLIC)
-                .addParameter(VIEW, "view");
-
-        final int methodCount = mMethodViewBindings.size();
-        for (int j = 0; j < methodCount; j++) {
-            final MethodViewBinding method = mMethodViewBindings.get(j);
-            if (containsId(method.getValue(), id)) {
-                final String statement;
-                if (method.hasViewParameter()) {
-                    statement = "target.$N(view)";
-                } else {
-                    statement = "target.$N()";
-                }
-                methodBuilder.addStatement(statement, method.getName());
+    private CodeBlock createListenerArguments(ListenerBinding binding) {
+        CodeBlock.Builder builder = CodeBlock.builder();
+        final List<Integer> arguments = binding.getArguments();
+        for (int i = 0, count = arguments.size(); i < count; i++) {
+            if (i > 0) {
+                builder.add(", ");
+            }
+            final TypeName cast = binding.getCasts().get(i);
+            if (cast != null) {
+                builder.add("($T) p$L", cast, arguments.get(i));
+            } else {
+                builder.add("p$L", arguments.get(i));
             }
         }
-
-        TypeSpec.Builder result = TypeSpec.anonymousClassBuilder("")
-                .addSuperinterface(ONCLICKLISTENER)
-                .addMethod(methodBuilder.build());
-        return result.build();
+        return builder.build();
     }
 
-    private boolean containsId(int[] ids, int id) {
+    boolean containsId(int[] ids, int id) {
         if (ids == null) {
             return false;
         }
@@ -171,29 +1239,27 @@ class BindingClass {
      * 创建销毁方法
      *
      * @param result
+     * @param plan
      */
-    private void buildUnbindMethod(TypeSpec.Builder result) {
+    private void buildUnbindMethod(TypeSpec.Builder result, BindingPlan plan) {
         MethodSpec.Builder builder = MethodSpec.methodBuilder("unbind")
                 .addAnnotation(Override.class)
                 .addModifiers(Modifier.PUBLIC);
-        builder.addStatement("$T target = this.target", mTargetType);
+        if (isAsyncLayout()) {
+            // 布局还没加载完成时没有绑定任何View，取消回调即可
+            builder.beginControlFlow("if ($N != null && $N.cancel())", INFLATION, INFLATION)
+                    .addStatement("this.target = null")
+                    .addStatement("return")
+                    .endControlFlow();
+        }
+        builder.addStatement("$T target = this.target", mTargetTypeName);
         builder.addStatement("this.target = null");
 
-        if (hasTargetField()) {
-            builder.addCode("\n");
-            for (int i = 0, count = mFieldViewBindings.size(); i < count; i++) {
-                builder.addStatement("target.$N = null", mFieldViewBindings.get(i).getName());
-            }
-        }
+        addOps(builder, plan.getUnbindOps(), null, false, null);
 
-        if (hasTargetMethod()) {
+        if (mParentBindingClassName != null) {
             builder.addCode("\n");
-            final List<Integer> ids = methodViewIds();
-            for (int i = 0, count = ids.size(); i < count; i++) {
-                final String view = createViewName(ids.get(i));
-                builder.addStatement("$N.setOnClickListener(null)", view);
-                builder.addStatement("$N = null", view);
-            }
+            builder.addStatement("super.unbind()");
         }
         result.addMethod(builder.build());
     }
@@ -203,42 +1269,392 @@ class BindingClass {
      *
      * @return
      */
-    private List<Integer> methodViewIds() {
-        List<Integer> ids = new ArrayList<>();
+    List<Integer> methodViewIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
         for (int i = 0, count = mMethodViewBindings.size(); i < count; i++) {
             final int[] value = mMethodViewBindings.get(i).getValue();
             for (int j = 0, len = value.length; j < len; j++) {
-                final int id = value[j];
-                if (!ids.contains(id)) {
+                ids.add(value[j]);
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 搜集在后台线程调用的@OnClick方法监听的View的Id，同一个id的方法都在同一个线程调用
+     *
+     * @return
+     */
+    List<Integer> backgroundClickIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (int i = 0, count = mMethodViewBindings.size(); i < count; i++) {
+            final MethodViewBinding method = mMethodViewBindings.get(i);
+            if (method.isBackground()) {
+                for (int id : method.getValue()) {
+                    ids.add(id);
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 后台点击的BackgroundClickListener成员名，共用监听时只有一个
+     *
+     * @return
+     */
+    List<String> backgroundClickListenerNames() {
+        if (!hasBackgroundClickMethod()) {
+            return Collections.emptyList();
+        }
+        if (hasSharedClickListener()) {
+            return Collections.singletonList(BACKGROUND_CLICKS);
+        }
+        final List<String> names = new ArrayList<>();
+        final List<Integer> ids = methodViewIds();
+        for (int i = 0, count = ids.size(); i < count; i++) {
+            if (isBackgroundClick(ids.get(i))) {
+                names.add(createListenerName(ids.get(i)));
+            }
+        }
+        return names;
+    }
+
+    /**
+     * 该id的点击是否在后台线程调用
+     *
+     * @param id
+     * @return
+     */
+    boolean isBackgroundClick(int id) {
+        for (int i = 0, count = mMethodViewBindings.size(); i < count; i++) {
+            final MethodViewBinding method = mMethodViewBindings.get(i);
+            if (method.isBackground() && containsId(method.getValue(), id)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 搜集注解@OnItemClick的容器的Id，每个容器一个ItemClickDispatcher
+     *
+     * @return
+     */
+    List<Integer> itemClickContainerIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (int i = 0, count = mItemClickBindings.size(); i < count; i++) {
+            ids.add(mItemClickBindings.get(i).getContainerId());
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 本类用到的{@link ListenerType}，按表中的顺序
+     *
+     * @return
+     */
+    List<ListenerType> listenerTypes() {
+        List<ListenerType> types = new ArrayList<>();
+        if (!hasListenerMethod()) {
+            return types;
+        }
+        for (int i = 0, count = ListenerType.TYPES.size(); i < count; i++) {
+            final ListenerType type = ListenerType.TYPES.get(i);
+            for (int j = 0, bindingCount = mListenerBindings.size(); j < bindingCount; j++) {
+                if (mListenerBindings.get(j).getType() == type) {
+                    types.add(type);
+                    break;
+                }
+            }
+        }
+        return types;
+    }
+
+    /**
+     * 搜集一种监听的View的id，每个id一个监听器
+     *
+     * @param type
+     * @return
+     */
+    List<Integer> listenerIds(ListenerType type) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (int i = 0, count = mListenerBindings.size(); i < count; i++) {
+            final ListenerBinding binding = mListenerBindings.get(i);
+            if (binding.getType() == type) {
+                for (int id : binding.getIds()) {
                     ids.add(id);
                 }
             }
         }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * 需要为{@link ListenerType}表中的监听保存到view&lt;id&gt;成员的View的id，不包括@OnClick已经保存的
+     *
+     * @return
+     */
+    Set<Integer> listenerHolderIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
+        final List<ListenerType> types = listenerTypes();
+        for (int i = 0, count = types.size(); i < count; i++) {
+            ids.addAll(listenerIds(types.get(i)));
+        }
+        if (hasTargetMethod() && !hasSharedClickListener()) {
+            ids.removeAll(methodViewIds());
+        }
+        return ids;
+    }
+
+    /**
+     * 一个id上监听某个回调的方法，按声明顺序
+     *
+     * @param type
+     * @param method
+     * @param id
+     * @return
+     */
+    List<ListenerBinding> listenerBindings(ListenerType type, ListenerMethod method, int id) {
+        List<ListenerBinding> bindings = new ArrayList<>();
+        for (int i = 0, count = mListenerBindings.size(); i < count; i++) {
+            final ListenerBinding binding = mListenerBindings.get(i);
+            if (binding.getType() == type && binding.getMethod() == method && containsId(binding.getIds(), id)) {
+                bindings.add(binding);
+            }
+        }
+        return bindings;
+    }
+
+    /**
+     * 一个id上返回回调返回值的方法，每个回调最多一个
+     *
+     * @param type
+     * @param method
+     * @param id
+     * @return 没有时为null
+     */
+    ListenerBinding findReturningListenerBinding(ListenerType type, ListenerMethod method, int id) {
+        if (!hasListenerMethod()) {
+            return null;
+        }
+        final List<ListenerBinding> bindings = listenerBindings(type, method, id);
+        for (int i = 0, count = bindings.size(); i < count; i++) {
+            if (bindings.get(i).returnsValue()) {
+                return bindings.get(i);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 本类绑定时需要查找的所有View的id，去重后升序排列，用于批量查找。Lazy字段在第一次访问时才查找，不包括在内
+     *
+     * @param plan
+     * @return
+     */
+    int[] sortedViewIds(BindingPlan plan) {
+        final Set<Integer> idSet = plan.getLookupIds();
+        int[] ids = new int[idSet.size()];
+        int index = 0;
+        for (Integer id : idSet) {
+            ids[index++] = id;
+        }
+        Arrays.sort(ids);
         return ids;
     }
 
     /**
-     * 生成的View的名字
+     * 生成的点击事件回调的名字
      *
      * @param id
      * @return
      */
-    private String createViewName(int id) {
-        return "view" + id;
+    String createListenerName(int id) {
+        return "listener" + id;
+    }
+
+    /**
+     * 生成的条目点击分发器的名字
+     *
+     * @param containerId
+     * @return
+     */
+    String createItemClickDispatcherName(int containerId) {
+        return "itemClicks" + containerId;
     }
 
-    private boolean hasTargetField() {
+    boolean hasTargetField() {
         return mFieldViewBindings != null && !mFieldViewBindings.isEmpty();
     }
 
-    private boolean hasTargetMethod() {
+    boolean hasTargetFields() {
+        return mFieldViewsBindings != null && !mFieldViewsBindings.isEmpty();
+    }
+
+    boolean hasTargetMethod() {
         return mMethodViewBindings != null && !mMethodViewBindings.isEmpty();
     }
 
+    boolean hasBackgroundClickMethod() {
+        if (!hasTargetMethod()) {
+            return false;
+        }
+        for (int i = 0, count = mMethodViewBindings.size(); i < count; i++) {
+            if (mMethodViewBindings.get(i).isBackground()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean hasItemClickMethod() {
+        return mItemClickBindings != null && !mItemClickBindings.isEmpty();
+    }
+
+    boolean hasListenerMethod() {
+        return mListenerBindings != null && !mListenerBindings.isEmpty();
+    }
+
+    public ClassName getBindingClassName() {
+        return mBindingClassName;
+    }
+
+    public ClassName getTargetClassName() {
+        return mTargetClassName;
+    }
+
+    public TypeName getTargetTypeName() {
+        return mTargetTypeName;
+    }
+
+    public TypeElement getTargetElement() {
+        return mTargetElement;
+    }
+
+    ClassName getParentBindingClassName() {
+        return mParentBindingClassName;
+    }
+
+    ClassName getParentTargetClassName() {
+        return mParentTargetClassName;
+    }
+
+    BindingOptions getOptions() {
+        return mOptions;
+    }
+
+    LayoutViewBinding getLayoutViewBinding() {
+        return mLayoutViewBinding;
+    }
+
+    CompiledLayout getCompiledLayout() {
+        return mCompiledLayout;
+    }
+
+    boolean notifiesViewsReady() {
+        return mNotifiesViewsReady;
+    }
+
+    List<FieldViewBinding> getFieldViewBindings() {
+        return hasTargetField() ? mFieldViewBindings : Collections.<FieldViewBinding>emptyList();
+    }
+
+    List<FieldViewsBinding> getFieldViewsBindings() {
+        return hasTargetFields() ? mFieldViewsBindings : Collections.<FieldViewsBinding>emptyList();
+    }
+
+    List<MethodViewBinding> getMethodViewBindings() {
+        return hasTargetMethod() ? mMethodViewBindings : Collections.<MethodViewBinding>emptyList();
+    }
+
+    List<ItemClickBinding> getItemClickBindings() {
+        return hasItemClickMethod() ? mItemClickBindings : Collections.<ItemClickBinding>emptyList();
+    }
+
+    List<ListenerBinding> getListenerBindings() {
+        return hasListenerMethod() ? mListenerBindings : Collections.<ListenerBinding>emptyList();
+    }
+
+    List<ClassName> getRecyclerViewTypes() {
+        return mRecyclerViewTypes;
+    }
+
+    /**
+     * 本类是否用一个共用的OnClickListener分发点击事件
+     *
+     * @return
+     */
+    boolean hasSharedClickListener() {
+        return mOptions.isSharedClickListener() && hasTargetMethod();
+    }
+
+    /**
+     * 生成的绑定类（包括继承的父类绑定）是否实现了OnClickListener
+     *
+     * @return
+     */
+    private boolean dispatchesClicks() {
+        return hasSharedClickListener() || parentDispatchesClicks();
+    }
+
+    boolean parentDispatchesClicks() {
+        if (mParentBindingClass != null) {
+            return mParentBindingClass.dispatchesClicks();
+        }
+        return mParentDispatchesClicks;
+    }
+
+    /**
+     * 父类在同一轮处理中也有绑定时，生成的绑定继承父类的绑定类
+     *
+     * @param parentBindingClass
+     */
+    public void setParentBindingClass(BindingClass parentBindingClass) {
+        this.mParentBindingClass = parentBindingClass;
+        this.mParentBindingClassName = parentBindingClass.getBindingClassName();
+        this.mParentTargetClassName = parentBindingClass.getTargetClassName();
+    }
+
+    /**
+     * 父类的绑定已经在classpath上（例如在其他模块中生成）时，生成的绑定继承该绑定类
+     *
+     * @param parentBindingClassName
+     * @param parentTargetClassName  父类绑定的目标类
+     * @param parentDispatchesClicks 父类绑定是否实现了OnClickListener
+     */
+    public void setParentBindingClassName(ClassName parentBindingClassName, ClassName parentTargetClassName,
+                                          boolean parentDispatchesClicks) {
+        this.mParentBindingClassName = parentBindingClassName;
+        this.mParentTargetClassName = parentTargetClassName;
+        this.mParentDispatchesClicks = parentDispatchesClicks;
+    }
+
+    /**
+     * 本类（或继承的父类）的@ContentView是否异步加载布局。布局编译过时没有需要放到后台的加载，直接在构造方法中创建
+     *
+     * @return
+     */
+    boolean isAsyncLayout() {
+        return mLayoutViewBinding != null && mLayoutViewBinding.isAsync() && mCompiledLayout == null;
+    }
+
+    public void setNotifiesViewsReady(boolean notifiesViewsReady) {
+        this.mNotifiesViewsReady = notifiesViewsReady;
+    }
+
+    public boolean hasContentViewBinding() {
+        return mLayoutViewBinding != null;
+    }
+
     public void setContentViewBinding(LayoutViewBinding layoutViewBinding) {
         this.mLayoutViewBinding = layoutViewBinding;
     }
 
+    public void setCompiledLayout(CompiledLayout compiledLayout) {
+        this.mCompiledLayout = compiledLayout;
+    }
+
     public void addFieldViewBinding(FieldViewBinding fieldViewBinding) {
         if (mFieldViewBindings == null) {
             mFieldViewBindings = new ArrayList<>();
@@ -246,10 +1662,35 @@ class BindingClass {
         mFieldViewBindings.add(fieldViewBinding);
     }
 
+    public void addFieldViewsBinding(FieldViewsBinding fieldViewsBinding) {
+        if (mFieldViewsBindings == null) {
+            mFieldViewsBindings = new ArrayList<>();
+        }
+        mFieldViewsBindings.add(fieldViewsBinding);
+    }
+
     public void addMethodViewBinding(MethodViewBinding methodViewBinding) {
         if (mMethodViewBindings == null) {
             mMethodViewBindings = new ArrayList<>();
         }
         mMethodViewBindings.add(methodViewBinding);
     }
+
+    public void addItemClickBinding(ItemClickBinding itemClickBinding) {
+        if (mItemClickBindings == null) {
+            mItemClickBindings = new ArrayList<>();
+        }
+        mItemClickBindings.add(itemClickBinding);
+    }
+
+    public void addListenerBinding(ListenerBinding listenerBinding) {
+        if (mListenerBindings == null) {
+            mListenerBindings = new ArrayList<>();
+        }
+        mListenerBindings.add(listenerBinding);
+    }
+
+    public void setRecyclerViewTypes(List<ClassName> recyclerViewTypes) {
+        this.mRecyclerViewTypes = recyclerViewTypes;
+    }
 }
@@ -0,0 +1,1186 @@
+package com.blingbling.butterknife.compiler;
+
+import com.blingbling.butterknife.compiler.BindingPlan.Op;
+import com.blingbling.butterknife.compiler.BindingPlan.ViewRef;
+import com.blingbling.butterknife.compiler.ClassFile.Code;
+import com.blingbling.butterknife.compiler.CompiledLayout.Arg;
+import com.blingbling.butterknife.compiler.CompiledLayout.Call;
+import com.blingbling.butterknife.compiler.CompiledLayout.LayoutParams;
+import com.blingbling.butterknife.compiler.CompiledLayout.ParamsField;
+import com.blingbling.butterknife.compiler.CompiledLayout.ViewNode;
+import com.blingbling.butterknife.compiler.ListenerType.ListenerMethod;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.AASTORE;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
+import static org.objectweb.asm.Opcodes.ACONST_NULL;
+import static org.objectweb.asm.Opcodes.ANEWARRAY;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.I2F;
+import static org.objectweb.asm.Opcodes.IASTORE;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.IFNE;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.IF_ACMPNE;
+import static org.objectweb.asm.Opcodes.IF_ICMPNE;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.IRETURN;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.PUTSTATIC;
+import static org.objectweb.asm.Opcodes.RETURN;
+
+/**
+ * 把BindingClass直接生成类文件，省去编译生成的源码。按与brewJava相同的BindingPlan输出，与源码的差别只有：
+ * <ul>
+ * <li>所有id的监听器共用一个类，每个实例保存自己的id并按id分发；javac的Filer每创建一个文件都要和已创建的
+ * 所有文件比较，类文件越少越快。@OnItemClick的所有容器也共用一个ItemClickDispatcher子类，
+ * {@link ListenerType}表中的每种监听也只有一个类</li>
+ * <li>target成员不是private，监听器类直接读取，不需要生成访问方法</li>
+ * <li>共用监听时为clickViews中每个View逐个设置监听，不生成循环</li>
+ * <li>共用监听的onClick和条目点击的子View分发用比较代替switch</li>
+ * </ul>
+ */
+class BindingClassWriter {
+
+    private static final String OBJECT = "java/lang/Object";
+    private static final String VIEW = "android/view/View";
+    private static final String VIEW_DESC = "Landroid/view/View;";
+    private static final String VIEW_ARRAY_DESC = "[Landroid/view/View;";
+    private static final String ON_CLICK_LISTENER = "android/view/View$OnClickListener";
+    private static final String ON_CLICK_LISTENER_DESC = "Landroid/view/View$OnClickListener;";
+    private static final String REBINDER = "com/blingbling/butterknife/api/Rebinder";
+    private static final String VIEW_FINDER = "com/blingbling/butterknife/api/ViewFinder";
+    private static final String ASYNC_CONTENT_VIEW = "com/blingbling/butterknife/api/AsyncContentView";
+    private static final String ASYNC_CONTENT_VIEW_DESC = "Lcom/blingbling/butterknife/api/AsyncContentView;";
+    private static final String ASYNC_CALLBACK = "com/blingbling/butterknife/api/AsyncContentView$Callback";
+    private static final String LAZY = "com/blingbling/butterknife/api/Lazy";
+    private static final String LAZY_DESC = "Lcom/blingbling/butterknife/api/Lazy;";
+    private static final String ARRAYS = "java/util/Arrays";
+    private static final String CONTEXT_DESC = "Landroid/content/Context;";
+    private static final String VIEW_GROUP_PARAMS_DESC = "Landroid/view/ViewGroup$LayoutParams;";
+    private static final String LAYOUT_DIMENS = "com/blingbling/butterknife/api/LayoutDimens";
+    private static final String VIEW_GROUP = "android/view/ViewGroup";
+    private static final String IMMUTABLE_VIEW_LIST = "com/blingbling/butterknife/api/ImmutableViewList";
+    private static final String IMMUTABLE_VIEW_LIST_DESC = "Lcom/blingbling/butterknife/api/ImmutableViewList;";
+    private static final String ITEM_CLICK_DISPATCHER = "com/blingbling/butterknife/api/ItemClickDispatcher";
+    private static final String ITEM_CLICK_DISPATCHER_DESC = "Lcom/blingbling/butterknife/api/ItemClickDispatcher;";
+    private static final String BACKGROUND_CLICK_LISTENER = "com/blingbling/butterknife/api/BackgroundClickListener";
+    private static final String BACKGROUND_CLICK_LISTENER_DESC =
+            "Lcom/blingbling/butterknife/api/BackgroundClickListener;";
+    /** 构造方法中编译后布局的View从这个局部变量开始存放，前面是this、target和source */
+    private static final int FIRST_LAYOUT_SLOT = 3;
+    private static final String OUTER = "this$0";
+
+    private final BindingClass mBindingClass;
+    private final String mName;
+    private final String mTarget;
+    private final String mTargetDesc;
+    private final String mBindDesc;
+    private final String mParent;
+    private final String mParentTargetDesc;
+    private final BindingPlan mPlan;
+    private final int[] mViewIds;
+    private final boolean mBatchLookup;
+    private final boolean mShared;
+    private final List<Integer> mClickIds;
+    private final List<Integer> mContainerIds;
+    /** 后台点击的监听器成员名，成员的类型是BackgroundClickListener */
+    private final Set<String> mBackgroundListeners = new HashSet<>();
+    /** {@link ListenerType}表中用到的监听和它们共用的监听器类，在写构造方法之前创建 */
+    private final Map<ListenerType, String> mListenerClasses = new LinkedHashMap<>();
+    /** 目标类中@BindView和@BindViews字段的描述符 */
+    private final Map<String, String> mFieldDescriptors = new HashMap<>();
+    /** 绑定类中@BindViews的数组和List成员的描述符 */
+    private final Map<String, String> mGroupDescriptors = new HashMap<>();
+    /** 匿名类按生成源码中出现的顺序编号，先是监听器类、条目点击分发器和表中的监听，然后是异步加载的回调 */
+    private int mAnonymousClasses;
+    /** 写构造方法中的绑定操作时，编译后布局中每个id的View所在的局部变量，其他时候为null */
+    private Map<Integer, Integer> mLayoutSlots;
+
+    BindingClassWriter(BindingClass bindingClass) {
+        mBindingClass = bindingClass;
+        mName = internalName(bindingClass.getBindingClassName());
+        mTarget = internalName(bindingClass.getTargetClassName());
+        mTargetDesc = "L" + mTarget + ";";
+        mBindDesc = "(" + mTargetDesc + VIEW_DESC + ")V";
+        ClassName parent = bindingClass.getParentBindingClassName();
+        mParent = parent != null ? internalName(parent) : null;
+        mParentTargetDesc = parent != null ? "L" + internalName(bindingClass.getParentTargetClassName()) + ";" : null;
+        mPlan = bindingClass.createPlan();
+        mViewIds = bindingClass.sortedViewIds(mPlan);
+        mBatchLookup = mViewIds.length > bindingClass.getOptions().getBatchLookupThreshold();
+        mShared = bindingClass.hasSharedClickListener();
+        mClickIds = bindingClass.hasTargetMethod() ? bindingClass.methodViewIds() : new ArrayList<Integer>();
+        mContainerIds = bindingClass.hasItemClickMethod()
+                ? bindingClass.itemClickContainerIds() : new ArrayList<Integer>();
+        if (mShared) {
+            mBackgroundListeners.add(BindingClass.BACKGROUND_CLICKS);
+        } else {
+            for (int id : mClickIds) {
+                if (bindingClass.isBackgroundClick(id)) {
+                    mBackgroundListeners.add(bindingClass.createListenerName(id));
+                }
+            }
+        }
+        for (FieldViewBinding field : bindingClass.getFieldViewBindings()) {
+            mFieldDescriptors.put(field.getName(), field.getDescriptor());
+        }
+        for (FieldViewsBinding group : bindingClass.getFieldViewsBindings()) {
+            mFieldDescriptors.put(group.getName(), group.getDescriptor());
+            mGroupDescriptors.put(group.getArrayName(), "[L" + internalName(group.getViewType()) + ";");
+            if (group.isList()) {
+                mGroupDescriptors.put(group.getListName(), IMMUTABLE_VIEW_LIST_DESC);
+            }
+        }
+    }
+
+    /**
+     * 类型的描述符，泛型擦除为上界，有多个上界时为第一个，在解析注解时调用
+     *
+     * @param type
+     * @return
+     */
+    static String descriptor(TypeMirror type) {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return "Z";
+            case BYTE:
+                return "B";
+            case SHORT:
+                return "S";
+            case INT:
+                return "I";
+            case LONG:
+                return "J";
+            case CHAR:
+                return "C";
+            case FLOAT:
+                return "F";
+            case DOUBLE:
+                return "D";
+            case VOID:
+                return "V";
+            case ARRAY:
+                return "[" + descriptor(((ArrayType) type).getComponentType());
+            case DECLARED:
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                return "L" + internalName(ClassName.get(element)) + ";";
+            case TYPEVAR:
+                return descriptor(((TypeVariable) type).getUpperBound());
+            case INTERSECTION:
+                // 与javac相同，交集类型擦除为第一个上界
+                return descriptor(((IntersectionType) type).getBounds().get(0));
+            default:
+                return "L" + OBJECT + ";";
+        }
+    }
+
+    private static String internalName(ClassName className) {
+        return className.reflectionName().replace('.', '/');
+    }
+
+    /**
+     * 生成绑定类和监听器匿名类
+     *
+     * @return
+     */
+    List<ClassFile> write() {
+        List<ClassFile> classes = new ArrayList<>();
+        List<String> interfaces = new ArrayList<>();
+        if (mParent == null) {
+            interfaces.add(REBINDER);
+        }
+        if (mShared) {
+            interfaces.add(ON_CLICK_LISTENER);
+        }
+        ClassFile binding = new ClassFile(ACC_PUBLIC | ACC_SUPER, mName, mParent != null ? mParent : OBJECT,
+                interfaces.toArray(new String[interfaces.size()]));
+        classes.add(binding);
+
+        writeFields(binding);
+        String listener = null;
+        if (!mShared && !mClickIds.isEmpty()) {
+            listener = nextAnonymousClass();
+            classes.add(writeOnClickListener(listener));
+        }
+        String dispatcher = null;
+        if (!mContainerIds.isEmpty()) {
+            dispatcher = nextAnonymousClass();
+            classes.add(writeItemClickDispatcher(dispatcher));
+        }
+        for (ListenerType type : mBindingClass.listenerTypes()) {
+            String name = nextAnonymousClass();
+            mListenerClasses.put(type, name);
+            classes.add(writeListener(type, name));
+        }
+        String callback = null;
+        if (mBindingClass.isAsyncLayout()) {
+            callback = nextAnonymousClass();
+            classes.add(writeAsyncCallback(callback));
+        }
+        writeBindingConstructor(binding, listener, dispatcher, callback);
+        writeSubclassConstructor(binding, listener, dispatcher);
+        writeBindMethod(binding);
+        writeRebindMethod(binding);
+        if (mShared) {
+            writeSharedOnClickMethod(binding);
+        }
+        writeUnbindMethod(binding);
+        return classes;
+    }
+
+    /**
+     * 声明与brewJava相同的字段
+     */
+    private void writeFields(ClassFile binding) {
+        if (mBatchLookup) {
+            binding.addField(ACC_PRIVATE | ACC_STATIC | ACC_FINAL, "VIEW_IDS", "[I");
+            binding.addField(ACC_PRIVATE | ACC_FINAL, "lookupViews", VIEW_ARRAY_DESC);
+            Code clinit = binding.addMethod(ACC_STATIC, "<clinit>", "()V");
+            clinit.push(mViewIds.length).newIntArray();
+            for (int i = 0; i < mViewIds.length; i++) {
+                clinit.op(DUP).push(i).push(mViewIds[i]).op(IASTORE);
+            }
+            clinit.field(PUTSTATIC, mName, "VIEW_IDS", "[I").op(RETURN);
+        }
+        binding.addField(mBindingClass.hasBackgroundClickMethod() ? ACC_VOLATILE : 0, "target", mTargetDesc);
+        for (FieldViewsBinding group : mBindingClass.getFieldViewsBindings()) {
+            binding.addField(ACC_PRIVATE | ACC_FINAL, group.getArrayName(), mGroupDescriptors.get(group.getArrayName()));
+            if (group.isList()) {
+                binding.addField(ACC_PRIVATE | ACC_FINAL, group.getListName(), IMMUTABLE_VIEW_LIST_DESC);
+            }
+        }
+        if (mBindingClass.isAsyncLayout()) {
+            binding.addField(ACC_PRIVATE, "inflation", ASYNC_CONTENT_VIEW_DESC);
+        }
+
+        if (mShared) {
+            binding.addField(ACC_PRIVATE | ACC_FINAL, "clickViews", VIEW_ARRAY_DESC);
+            if (mBindingClass.hasBackgroundClickMethod()) {
+                binding.addField(ACC_PRIVATE | ACC_FINAL, BindingClass.BACKGROUND_CLICKS,
+                        BACKGROUND_CLICK_LISTENER_DESC);
+            }
+        } else {
+            Set<Integer> clickHolderIds = mPlan.getHolderIds();
+            for (int id : mClickIds) {
+                if (clickHolderIds.contains(id)) {
+                    binding.addField(ACC_PRIVATE, ViewRef.holder(id).name, VIEW_DESC);
+                }
+                String name = mBindingClass.createListenerName(id);
+                binding.addField(ACC_PRIVATE | ACC_FINAL, name, clickListenerDescriptor(name));
+            }
+        }
+        for (int id : mContainerIds) {
+            binding.addField(ACC_PRIVATE | ACC_FINAL, mBindingClass.createItemClickDispatcherName(id),
+                    ITEM_CLICK_DISPATCHER_DESC);
+        }
+        Set<Integer> holderIds = mPlan.getHolderIds();
+        for (int id : mBindingClass.listenerHolderIds()) {
+            if (holderIds.contains(id)) {
+                binding.addField(ACC_PRIVATE, ViewRef.holder(id).name, VIEW_DESC);
+            }
+        }
+        for (ListenerType type : mBindingClass.listenerTypes()) {
+            if (type.sharedById) {
+                binding.addField(ACC_PRIVATE | ACC_FINAL, type.fieldPrefix, listenerDescriptor(type));
+                continue;
+            }
+            for (int id : mBindingClass.listenerIds(type)) {
+                binding.addField(ACC_PRIVATE | ACC_FINAL, type.createFieldName(id), listenerDescriptor(type));
+            }
+        }
+    }
+
+    private String clickListenerDescriptor(String name) {
+        return mBackgroundListeners.contains(name) ? BACKGROUND_CLICK_LISTENER_DESC : ON_CLICK_LISTENER_DESC;
+    }
+
+    private static String listenerDescriptor(ListenerType type) {
+        return "L" + ListenerType.internalName(type.listenerType) + ";";
+    }
+
+    private String nextAnonymousClass() {
+        return mName + "$" + (++mAnonymousClasses);
+    }
+
+    /**
+     * 调用父类构造方法并初始化字段，与源码中的字段初始化相同
+     */
+    private void writeConstructorPrologue(Code code, String listener, String dispatcher) {
+        code.aload(0);
+        if (mParent != null) {
+            code.aload(1).invoke(INVOKESPECIAL, mParent, "<init>", "(" + mParentTargetDesc + ")V");
+        } else {
+            code.invoke(INVOKESPECIAL, OBJECT, "<init>", "()V");
+        }
+        if (mBatchLookup) {
+            writeNewViewArray(code, "lookupViews", mViewIds.length);
+        }
+        for (FieldViewsBinding group : mBindingClass.getFieldViewsBindings()) {
+            String array = group.getArrayName();
+            String arrayDesc = mGroupDescriptors.get(array);
+            code.aload(0).push(group.getValue().length).type(ANEWARRAY, internalName(group.getViewType()))
+                    .field(PUTFIELD, mName, array, arrayDesc);
+            if (group.isList()) {
+                code.aload(0).type(NEW, IMMUTABLE_VIEW_LIST).op(DUP)
+                        .aload(0).field(GETFIELD, mName, array, arrayDesc)
+                        .invoke(INVOKESPECIAL, IMMUTABLE_VIEW_LIST, "<init>", "(" + VIEW_ARRAY_DESC + ")V")
+                        .field(PUTFIELD, mName, group.getListName(), IMMUTABLE_VIEW_LIST_DESC);
+            }
+        }
+        if (mShared) {
+            writeNewViewArray(code, "clickViews", mClickIds.size());
+            if (mBindingClass.hasBackgroundClickMethod()) {
+                code.aload(0).type(NEW, BACKGROUND_CLICK_LISTENER).op(DUP).aload(0);
+                writeNewBackgroundClickListener(code, mBindingClass.backgroundClickIds());
+                code.field(PUTFIELD, mName, BindingClass.BACKGROUND_CLICKS, BACKGROUND_CLICK_LISTENER_DESC);
+            }
+        } else {
+            for (int id : mClickIds) {
+                String name = mBindingClass.createListenerName(id);
+                boolean background = mBackgroundListeners.contains(name);
+                code.aload(0);
+                if (background) {
+                    code.type(NEW, BACKGROUND_CLICK_LISTENER).op(DUP);
+                }
+                code.type(NEW, listener).op(DUP).aload(0).push(id)
+                        .invoke(INVOKESPECIAL, listener, "<init>", "(L" + mName + ";I)V");
+                if (background) {
+                    writeNewBackgroundClickListener(code, Collections.<Integer>emptyList());
+                }
+                code.field(PUTFIELD, mName, name, clickListenerDescriptor(name));
+            }
+        }
+        for (int id : mContainerIds) {
+            List<Integer> childIds = itemClickChildIds(id);
+            code.aload(0).type(NEW, dispatcher).op(DUP).aload(0).push(id)
+                    .push(itemClickMethods(id).isEmpty() ? 0 : 1)
+                    .push(childIds.size()).newIntArray();
+            for (int i = 0, count = childIds.size(); i < count; i++) {
+                code.op(DUP).push(i).push(childIds.get(i)).op(IASTORE);
+            }
+            code.invoke(INVOKESPECIAL, dispatcher, "<init>", "(L" + mName + ";IZ[I)V")
+                    .field(PUTFIELD, mName, mBindingClass.createItemClickDispatcherName(id), ITEM_CLICK_DISPATCHER_DESC);
+        }
+        for (Map.Entry<ListenerType, String> entry : mListenerClasses.entrySet()) {
+            ListenerType type = entry.getKey();
+            String listenerClass = entry.getValue();
+            if (type.sharedById) {
+                code.aload(0).type(NEW, listenerClass).op(DUP).aload(0)
+                        .invoke(INVOKESPECIAL, listenerClass, "<init>", "(L" + mName + ";)V")
+                        .field(PUTFIELD, mName, type.fieldPrefix, listenerDescriptor(type));
+                continue;
+            }
+            for (int id : mBindingClass.listenerIds(type)) {
+                code.aload(0).type(NEW, listenerClass).op(DUP).aload(0).push(id)
+                        .invoke(INVOKESPECIAL, listenerClass, "<init>", "(L" + mName + ";I)V")
+                        .field(PUTFIELD, mName, type.createFieldName(id), listenerDescriptor(type));
+            }
+        }
+        code.aload(0).aload(1).field(PUTFIELD, mName, "target", mTargetDesc);
+    }
+
+    /**
+     * 栈上已有new出的BackgroundClickListener（两份）和被包装的监听，压入ids数组后调用构造方法
+     */
+    private static void writeNewBackgroundClickListener(Code code, List<Integer> ids) {
+        code.push(ids.size()).newIntArray();
+        for (int i = 0, count = ids.size(); i < count; i++) {
+            code.op(DUP).push(i).push(ids.get(i)).op(IASTORE);
+        }
+        code.invoke(INVOKESPECIAL, BACKGROUND_CLICK_LISTENER, "<init>", "(" + ON_CLICK_LISTENER_DESC + "[I)V");
+    }
+
+    private void writeNewViewArray(Code code, String name, int length) {
+        code.aload(0).push(length).type(ANEWARRAY, VIEW).field(PUTFIELD, mName, name, VIEW_ARRAY_DESC);
+    }
+
+    private void writeBindingConstructor(ClassFile binding, String listener, String dispatcher, String callback) {
+        Code code = binding.addMethod(ACC_PUBLIC, "<init>", mBindDesc);
+        writeConstructorPrologue(code, listener, dispatcher);
+        LayoutViewBinding layout = mBindingClass.getLayoutViewBinding();
+        if (callback != null) {
+            code.aload(0).aload(1).push(layout.getValue())
+                    .type(NEW, callback).op(DUP).aload(0).aload(1).aload(2)
+                    .invoke(INVOKESPECIAL, callback, "<init>", "(L" + mName + ";" + mTargetDesc + VIEW_DESC + ")V")
+                    .invoke(INVOKESTATIC, ASYNC_CONTENT_VIEW, "inflate",
+                            "(Landroid/app/Activity;IL" + ASYNC_CALLBACK + ";)" + ASYNC_CONTENT_VIEW_DESC)
+                    .field(PUTFIELD, mName, "inflation", ASYNC_CONTENT_VIEW_DESC);
+        } else if (mBindingClass.getCompiledLayout() != null) {
+            writeCompiledLayoutBind(code);
+        } else {
+            if (layout != null) {
+                code.aload(1).push(layout.getValue()).invoke(INVOKEVIRTUAL, mTarget, "setContentView", "(I)V");
+            }
+            code.aload(0).aload(1).aload(2).invoke(INVOKEVIRTUAL, mName, "bind", mBindDesc);
+            if (layout != null && mBindingClass.notifiesViewsReady()) {
+                code.aload(1).invoke(INVOKEVIRTUAL, mTarget, "onViewsReady", "()V");
+            }
+        }
+        code.op(RETURN);
+    }
+
+    /**
+     * 与BindingClass.addCompiledLayoutBind相同：创建View树并设置为内容，本类的View直接从局部变量读取
+     */
+    private void writeCompiledLayoutBind(Code code) {
+        CompiledLayout layout = mBindingClass.getCompiledLayout();
+        writeLayoutView(code, layout.getRoot(), null);
+        if (mParent != null) {
+            code.aload(0).aload(1).aload(2)
+                    .invoke(INVOKESPECIAL, mParent, "bind", "(" + mParentTargetDesc + VIEW_DESC + ")V");
+        }
+        mLayoutSlots = new HashMap<>();
+        for (ViewNode view : layout.getViews()) {
+            if (view.id != null && layout.findView(view.id) == view) {
+                mLayoutSlots.put(view.id, FIRST_LAYOUT_SLOT + view.index);
+            }
+        }
+        writeOps(code, mPlan.getBindOps());
+        mLayoutSlots = null;
+        if (mBindingClass.notifiesViewsReady()) {
+            code.aload(1).invoke(INVOKEVIRTUAL, mTarget, "onViewsReady", "()V");
+        }
+    }
+
+    /**
+     * 创建View并调用setter，创建所有子View后按LayoutParams加入父View，根View设置为target的内容
+     */
+    private void writeLayoutView(Code code, ViewNode node, ViewNode parent) {
+        String type = internalName(node.type);
+        int slot = FIRST_LAYOUT_SLOT + node.index;
+        code.type(NEW, type).op(DUP).aload(1)
+                .invoke(INVOKESPECIAL, type, "<init>", "(" + CONTEXT_DESC + ")V")
+                .astore(slot);
+        for (Call call : node.calls) {
+            code.aload(slot);
+            int position = 1;
+            for (Arg arg : call.args) {
+                char argType = call.descriptor.charAt(position);
+                writeLayoutArg(code, arg, argType, slot);
+                position = argType == 'L' ? call.descriptor.indexOf(';', position) + 1 : position + 1;
+            }
+            code.invoke(INVOKEVIRTUAL, type, call.method, call.descriptor);
+        }
+        for (ViewNode child : node.children) {
+            writeLayoutView(code, child, node);
+        }
+
+        LayoutParams params = node.params;
+        String paramsType = internalName(params.type);
+        code.aload(parent != null ? FIRST_LAYOUT_SLOT + parent.index : 1).aload(slot)
+                .type(NEW, paramsType).op(DUP);
+        writeLayoutArg(code, params.width, 'I', slot);
+        writeLayoutArg(code, params.height, 'I', slot);
+        code.invoke(INVOKESPECIAL, paramsType, "<init>", "(II)V");
+        for (ParamsField field : params.fields) {
+            code.op(DUP);
+            writeLayoutArg(code, field.value, field.descriptor.charAt(0), slot);
+            code.field(PUTFIELD, paramsType, field.name, field.descriptor);
+        }
+        String addDesc = "(" + VIEW_DESC + VIEW_GROUP_PARAMS_DESC + ")V";
+        if (parent != null) {
+            code.invoke(INVOKEVIRTUAL, internalName(parent.type), "addView", addDesc);
+        } else {
+            code.invoke(INVOKEVIRTUAL, mTarget, "setContentView", addDesc);
+        }
+    }
+
+    /**
+     * 压入参数，参数类型为float而值是int（例如尺寸）时转换
+     *
+     * @param argType 参数类型描述符的第一个字符
+     * @param slot    参数所属的View所在的局部变量
+     */
+    private void writeLayoutArg(Code code, Arg arg, char argType, int slot) {
+        switch (arg.kind) {
+            case INT:
+            case BOOLEAN:
+            case RESOURCE:
+                code.push(arg.intValue);
+                break;
+            case FLOAT:
+                code.push(arg.floatValue);
+                return;
+            case STRING:
+                code.ldc(arg.string);
+                return;
+            case DIMENSION:
+                code.aload(1).push(arg.intValue).push(arg.floatValue)
+                        .invoke(INVOKESTATIC, LAYOUT_DIMENS, "pixelSize", "(" + CONTEXT_DESC + "IF)I");
+                break;
+            case GETTER:
+                code.aload(slot).invoke(INVOKEVIRTUAL, VIEW, arg.string, "()I");
+                break;
+            default:
+                throw new AssertionError(arg.kind);
+        }
+        if (argType == 'F') {
+            code.op(I2F);
+        }
+    }
+
+    private void writeSubclassConstructor(ClassFile binding, String listener, String dispatcher) {
+        Code code = binding.addMethod(ACC_PROTECTED, "<init>", "(" + mTargetDesc + ")V");
+        writeConstructorPrologue(code, listener, dispatcher);
+        code.op(RETURN);
+    }
+
+    private void writeBindMethod(ClassFile binding) {
+        Code code = binding.addMethod(ACC_PROTECTED, "bind", mBindDesc);
+        if (mParent != null) {
+            code.aload(0).aload(1).aload(2)
+                    .invoke(INVOKESPECIAL, mParent, "bind", "(" + mParentTargetDesc + VIEW_DESC + ")V");
+        }
+        for (String listener : mBindingClass.backgroundClickListenerNames()) {
+            code.aload(0).field(GETFIELD, mName, listener, BACKGROUND_CLICK_LISTENER_DESC)
+                    .invoke(INVOKEVIRTUAL, BACKGROUND_CLICK_LISTENER, "cancel", "()V");
+        }
+        code.aload(0).aload(1).field(PUTFIELD, mName, "target", mTargetDesc);
+        if (mBatchLookup) {
+            code.aload(2).field(GETSTATIC, mName, "VIEW_IDS", "[I")
+                    .aload(0).field(GETFIELD, mName, "lookupViews", VIEW_ARRAY_DESC)
+                    .invoke(INVOKESTATIC, VIEW_FINDER, "findViews", "(" + VIEW_DESC + "[I" + VIEW_ARRAY_DESC + ")V");
+        }
+        writeOps(code, mPlan.getBindOps());
+        if (mBatchLookup) {
+            writeFill(code, "lookupViews");
+        }
+        code.op(RETURN);
+    }
+
+    private void writeRebindMethod(ClassFile binding) {
+        Code code = binding.addMethod(ACC_PUBLIC, "rebind", "(L" + OBJECT + ";" + VIEW_DESC + ")V");
+        Label unbound = new Label();
+        code.aload(0).field(GETFIELD, mName, "target", mTargetDesc).jump(IFNULL, unbound)
+                .aload(0).invoke(INVOKEVIRTUAL, mName, "unbind", "()V")
+                .mark(unbound)
+                .aload(0).aload(1).type(CHECKCAST, mTarget).aload(2)
+                .invoke(INVOKEVIRTUAL, mName, "bind", mBindDesc)
+                .op(RETURN);
+    }
+
+    /**
+     * 按view.getId()依次比较，匹配时调用该id的方法后返回，都不匹配时交给父类绑定。
+     * 有后台点击时与源码一样先把target读到局部变量3，已经unbind时直接返回
+     */
+    private void writeSharedOnClickMethod(ClassFile binding) {
+        Code code = binding.addMethod(ACC_PUBLIC, "onClick", "(" + VIEW_DESC + ")V");
+        boolean checkTarget = mBindingClass.hasBackgroundClickMethod();
+        Label unbound = new Label();
+        if (checkTarget) {
+            code.aload(0).field(GETFIELD, mName, "target", mTargetDesc).astore(3)
+                    .aload(3).jump(IFNULL, unbound);
+            writeCancelledCheck(code, unbound);
+        }
+        code.aload(1).invoke(INVOKEVIRTUAL, VIEW, "getId", "()I").istore(2);
+        writeDispatch(code, null, checkTarget);
+        if (mBindingClass.parentDispatchesClicks()) {
+            code.aload(0).aload(1).invoke(INVOKESPECIAL, mParent, "onClick", "(" + VIEW_DESC + ")V");
+        }
+        code.mark(unbound).op(RETURN);
+    }
+
+    private void writeUnbindMethod(ClassFile binding) {
+        Code code = binding.addMethod(ACC_PUBLIC, "unbind", "()V");
+        if (mBindingClass.isAsyncLayout()) {
+            // 布局还没加载完成时没有绑定任何View，取消回调即可
+            Label bound = new Label();
+            code.aload(0).field(GETFIELD, mName, "inflation", ASYNC_CONTENT_VIEW_DESC).jump(IFNULL, bound)
+                    .aload(0).field(GETFIELD, mName, "inflation", ASYNC_CONTENT_VIEW_DESC)
+                    .invoke(INVOKEVIRTUAL, ASYNC_CONTENT_VIEW, "cancel", "()Z").jump(IFEQ, bound)
+                    .aload(0).op(ACONST_NULL).field(PUTFIELD, mName, "target", mTargetDesc)
+                    .op(RETURN)
+                    .mark(bound);
+        }
+        // 与源码一样把target读到局部变量1，操作中的target都从局部变量1读取
+        code.aload(0).field(GETFIELD, mName, "target", mTargetDesc).astore(1)
+                .aload(0).op(ACONST_NULL).field(PUTFIELD, mName, "target", mTargetDesc);
+        writeOps(code, mPlan.getUnbindOps());
+        if (mParent != null) {
+            code.aload(0).invoke(INVOKESPECIAL, mParent, "unbind", "()V");
+        }
+        code.op(RETURN);
+    }
+
+    /**
+     * 与BindingClass.addOps相同的操作，target在局部变量1，source在局部变量2
+     */
+    private void writeOps(Code code, List<Op> ops) {
+        for (Op op : ops) {
+            switch (op.kind) {
+                case ASSIGN:
+                    writeStore(code, op.dest, op.src);
+                    break;
+                case ASSIGN_LAZY:
+                    code.aload(1).type(NEW, LAZY).op(DUP).aload(2).push(op.field.getValue())
+                            .push(op.field.isLazyViewStub() ? 0 : 1)
+                            .invoke(INVOKESPECIAL, LAZY, "<init>", "(" + VIEW_DESC + "IZ)V")
+                            .field(PUTFIELD, mTarget, op.field.getName(), op.field.getDescriptor());
+                    break;
+                case SET_LISTENER:
+                    writeLoad(code, op.dest);
+                    if (op.listener != null) {
+                        code.aload(0).field(GETFIELD, mName, op.listener, clickListenerDescriptor(op.listener));
+                    } else {
+                        code.op(ACONST_NULL);
+                    }
+                    writeSetOnClickListener(code);
+                    break;
+                case SET_SHARED_LISTENER:
+                    for (int i = 0, count = mClickIds.size(); i < count; i++) {
+                        code.aload(0).field(GETFIELD, mName, "clickViews", VIEW_ARRAY_DESC).push(i).op(AALOAD);
+                        if (op.listener == null) {
+                            code.op(ACONST_NULL);
+                        } else if (op.listener.equals("this")) {
+                            code.aload(0);
+                        } else {
+                            code.aload(0).field(GETFIELD, mName, op.listener, BACKGROUND_CLICK_LISTENER_DESC);
+                        }
+                        writeSetOnClickListener(code);
+                    }
+                    break;
+                case CLEAR_LAZY:
+                    code.aload(1).field(GETFIELD, mTarget, op.field.getName(), LAZY_DESC)
+                            .invoke(INVOKEVIRTUAL, LAZY, "clear", "()V");
+                    break;
+                case CLEAR:
+                    writeStore(code, op.dest, null);
+                    break;
+                case CLEAR_CLICK_VIEWS:
+                    writeFill(code, "clickViews");
+                    break;
+                case CLEAR_GROUP:
+                    code.aload(0).field(GETFIELD, mName, op.dest.name, mGroupDescriptors.get(op.dest.name))
+                            .op(ACONST_NULL)
+                            .invoke(INVOKESTATIC, ARRAYS, "fill", "([L" + OBJECT + ";L" + OBJECT + ";)V");
+                    break;
+                case ATTACH_ITEM_CLICKS:
+                    code.aload(0).field(GETFIELD, mName, op.listener, ITEM_CLICK_DISPATCHER_DESC);
+                    writeLoad(code, op.src);
+                    code.type(CHECKCAST, VIEW_GROUP)
+                            .invoke(INVOKEVIRTUAL, ITEM_CLICK_DISPATCHER, "attach", "(L" + VIEW_GROUP + ";)V");
+                    break;
+                case DETACH_ITEM_CLICKS:
+                    code.aload(0).field(GETFIELD, mName, op.listener, ITEM_CLICK_DISPATCHER_DESC)
+                            .invoke(INVOKEVIRTUAL, ITEM_CLICK_DISPATCHER, "detach", "()V");
+                    break;
+                case CANCEL_BACKGROUND_CLICKS:
+                    code.aload(0).field(GETFIELD, mName, op.listener, BACKGROUND_CLICK_LISTENER_DESC)
+                            .invoke(INVOKEVIRTUAL, BACKGROUND_CLICK_LISTENER, "cancel", "()V");
+                    break;
+                case BIND_LISTENER:
+                case UNBIND_LISTENER:
+                    writeListenerOp(code, op);
+                    break;
+                default:
+                    throw new AssertionError(op.kind);
+            }
+        }
+    }
+
+    /**
+     * 与BindingClass.addListenerOp相同：通过add方法加入的监听在unbind时移除，bind只加入
+     */
+    private void writeListenerOp(Code code, Op op) {
+        ListenerType type = op.listenerType;
+        String owner = ListenerType.internalName(type.targetType);
+        String listenerDesc = listenerDescriptor(type);
+        String descriptor = "(" + listenerDesc + ")V";
+        if (type.remover != null && op.kind == Op.Kind.UNBIND_LISTENER) {
+            writeListenerView(code, op, owner);
+            code.aload(0).field(GETFIELD, mName, op.listener, listenerDesc)
+                    .invoke(INVOKEVIRTUAL, owner, type.remover, descriptor);
+        } else {
+            writeListenerView(code, op, owner);
+            if (op.kind == Op.Kind.BIND_LISTENER) {
+                code.aload(0).field(GETFIELD, mName, op.listener, listenerDesc);
+            } else {
+                code.op(ACONST_NULL);
+            }
+            code.invoke(INVOKEVIRTUAL, owner, type.setter, descriptor);
+        }
+    }
+
+    /**
+     * 压入设置监听的View，View的类型不是监听所需的类型时转换
+     */
+    private void writeListenerView(Code code, Op op, String owner) {
+        writeLoad(code, op.dest);
+        String descriptor = op.dest.kind == ViewRef.Kind.FIELD ? mFieldDescriptors.get(op.dest.name) : VIEW_DESC;
+        if (!descriptor.equals("L" + owner + ";") && !owner.equals(VIEW)) {
+            code.type(CHECKCAST, owner);
+        }
+    }
+
+    private void writeSetOnClickListener(Code code) {
+        code.invoke(INVOKEVIRTUAL, VIEW, "setOnClickListener", "(" + ON_CLICK_LISTENER_DESC + ")V");
+    }
+
+    private void writeFill(Code code, String name) {
+        code.aload(0).field(GETFIELD, mName, name, VIEW_ARRAY_DESC).op(ACONST_NULL)
+                .invoke(INVOKESTATIC, ARRAYS, "fill", "([L" + OBJECT + ";L" + OBJECT + ";)V");
+    }
+
+    /**
+     * dest = src，src为null时置空；赋值给字段时转换为字段的类型
+     */
+    private void writeStore(Code code, ViewRef dest, ViewRef src) {
+        switch (dest.kind) {
+            case FIELD:
+                String descriptor = mFieldDescriptors.get(dest.name);
+                code.aload(1);
+                writeLoadOrNull(code, src);
+                if (src != null && src.kind != ViewRef.Kind.GROUP) {
+                    code.type(CHECKCAST, castType(descriptor));
+                }
+                code.field(PUTFIELD, mTarget, dest.name, descriptor);
+                break;
+            case HOLDER:
+                code.aload(0);
+                writeLoadOrNull(code, src);
+                code.field(PUTFIELD, mName, dest.name, VIEW_DESC);
+                break;
+            case CLICK_SLOT:
+                code.aload(0).field(GETFIELD, mName, "clickViews", VIEW_ARRAY_DESC).push(dest.index);
+                writeLoadOrNull(code, src);
+                code.op(AASTORE);
+                break;
+            case GROUP_SLOT:
+                String arrayDesc = mGroupDescriptors.get(dest.name);
+                code.aload(0).field(GETFIELD, mName, dest.name, arrayDesc).push(dest.index);
+                writeLoadOrNull(code, src);
+                if (src != null) {
+                    code.type(CHECKCAST, castType(arrayDesc.substring(1)));
+                }
+                code.op(AASTORE);
+                break;
+            default:
+                throw new AssertionError(dest.kind);
+        }
+    }
+
+    private void writeLoadOrNull(Code code, ViewRef ref) {
+        if (ref == null) {
+            code.op(ACONST_NULL);
+        } else {
+            writeLoad(code, ref);
+        }
+    }
+
+    private void writeLoad(Code code, ViewRef ref) {
+        switch (ref.kind) {
+            case FIND:
+                Integer slot = mLayoutSlots != null ? mLayoutSlots.get(ref.id) : null;
+                if (slot != null) {
+                    code.aload(slot);
+                } else if (mBatchLookup && mLayoutSlots == null) {
+                    code.aload(0).field(GETFIELD, mName, "lookupViews", VIEW_ARRAY_DESC)
+                            .push(Arrays.binarySearch(mViewIds, ref.id)).op(AALOAD);
+                } else {
+                    code.aload(2).push(ref.id).invoke(INVOKEVIRTUAL, VIEW, "findViewById", "(I)" + VIEW_DESC);
+                }
+                break;
+            case FIELD:
+                code.aload(1).field(GETFIELD, mTarget, ref.name, mFieldDescriptors.get(ref.name));
+                break;
+            case GROUP:
+                code.aload(0).field(GETFIELD, mName, ref.name, mGroupDescriptors.get(ref.name));
+                break;
+            case HOLDER:
+                code.aload(0).field(GETFIELD, mName, ref.name, VIEW_DESC);
+                break;
+            case CLICK_SLOT:
+                code.aload(0).field(GETFIELD, mName, "clickViews", VIEW_ARRAY_DESC).push(ref.index).op(AALOAD);
+                break;
+            default:
+                throw new AssertionError(ref.kind);
+        }
+    }
+
+    /**
+     * checkcast使用类的内部名，数组使用描述符
+     */
+    private static String castType(String descriptor) {
+        return descriptor.startsWith("L") ? descriptor.substring(1, descriptor.length() - 1) : descriptor;
+    }
+
+    /**
+     * 局部变量2中的id依次与每个id比较，匹配时调用该id的方法后返回。
+     * 后台点击的id与源码一样先把target读到局部变量3，已经unbind时直接返回
+     *
+     * @param listener     监听器类，在绑定类中调用时为null
+     * @param targetLoaded target是否已经读到局部变量3
+     */
+    private void writeDispatch(Code code, String listener, boolean targetLoaded) {
+        for (int id : mClickIds) {
+            Label next = new Label();
+            code.iload(2).push(id).jump(IF_ICMPNE, next);
+            if (!targetLoaded && mBindingClass.isBackgroundClick(id)) {
+                Label unbound = new Label();
+                code.aload(0).field(GETFIELD, listener, OUTER, "L" + mName + ";")
+                        .field(GETFIELD, mName, "target", mTargetDesc).astore(3)
+                        .aload(3).jump(IFNULL, unbound);
+                writeCancelledCheck(code, unbound);
+                writeClickCalls(code, id, listener, true);
+                code.mark(unbound);
+            } else {
+                writeClickCalls(code, id, listener, targetLoaded);
+            }
+            code.op(RETURN).mark(next);
+        }
+    }
+
+    /**
+     * 读到target之后点击已取消时跳到unbound，与BindingClass.createBoundTargetCheck相同
+     */
+    private static void writeCancelledCheck(Code code, Label unbound) {
+        code.invoke(INVOKESTATIC, BACKGROUND_CLICK_LISTENER, "isClickCancelled", "()Z").jump(IFNE, unbound);
+    }
+
+    /**
+     * 调用所有监听该id的方法，与BindingClass.createClickStatements相同。target从绑定类读取，
+     * 在监听器类中先读取外部类
+     *
+     * @param listener     监听器类，在绑定类中调用时为null
+     * @param targetLoaded target是否已经读到局部变量3
+     */
+    private void writeClickCalls(Code code, int id, String listener, boolean targetLoaded) {
+        for (MethodViewBinding method : mBindingClass.getMethodViewBindings()) {
+            if (!mBindingClass.containsId(method.getValue(), id)) {
+                continue;
+            }
+            if (targetLoaded) {
+                code.aload(3);
+            } else {
+                code.aload(0);
+                if (listener != null) {
+                    code.field(GETFIELD, listener, OUTER, "L" + mName + ";");
+                }
+                code.field(GETFIELD, mName, "target", mTargetDesc);
+            }
+            String descriptor;
+            if (method.hasViewParameter()) {
+                code.aload(1);
+                descriptor = "(" + VIEW_DESC + ")" + method.getReturnDescriptor();
+            } else {
+                descriptor = "()" + method.getReturnDescriptor();
+            }
+            code.invoke(INVOKEVIRTUAL, mTarget, method.getName(), descriptor).popReturnValue(descriptor);
+        }
+    }
+
+    /**
+     * 所有id共用的OnClickListener，每个实例的行为与源码中该id的匿名类相同，通过this$0读取外部类的target
+     */
+    private ClassFile writeOnClickListener(String name) {
+        ClassFile listener = new ClassFile(ACC_SUPER, name, OBJECT, ON_CLICK_LISTENER);
+        listener.addField(ACC_FINAL | ACC_SYNTHETIC, OUTER, "L" + mName + ";");
+        listener.addField(ACC_PRIVATE | ACC_FINAL, "id", "I");
+        listener.addMethod(0, "<init>", "(L" + mName + ";I)V")
+                .aload(0).aload(1).field(PUTFIELD, name, OUTER, "L" + mName + ";")
+                .aload(0).iload(2).field(PUTFIELD, name, "id", "I")
+                .aload(0).invoke(INVOKESPECIAL, OBJECT, "<init>", "()V")
+                .op(RETURN);
+        Code onClick = listener.addMethod(ACC_PUBLIC, "onClick", "(" + VIEW_DESC + ")V");
+        onClick.aload(0).field(GETFIELD, name, "id", "I").istore(2);
+        writeDispatch(onClick, name, false);
+        onClick.op(RETURN);
+        return listener;
+    }
+
+    /**
+     * 所有容器共用的ItemClickDispatcher子类，每个实例保存自己容器的id，行为与源码中该容器的匿名类相同
+     */
+    private ClassFile writeItemClickDispatcher(String name) {
+        ClassFile dispatcher = new ClassFile(ACC_SUPER, name, ITEM_CLICK_DISPATCHER);
+        dispatcher.addField(ACC_FINAL | ACC_SYNTHETIC, OUTER, "L" + mName + ";");
+        dispatcher.addField(ACC_PRIVATE | ACC_FINAL, "id", "I");
+        dispatcher.addMethod(0, "<init>", "(L" + mName + ";IZ[I)V")
+                .aload(0).aload(1).field(PUTFIELD, name, OUTER, "L" + mName + ";")
+                .aload(0).iload(2).field(PUTFIELD, name, "id", "I")
+                .aload(0).iload(3).aload(4).invoke(INVOKESPECIAL, ITEM_CLICK_DISPATCHER, "<init>", "(Z[I)V")
+                .op(RETURN);
+
+        // 局部变量：1 item，2 view，3 position，4 view.getId()
+        Code onItemClick = dispatcher.addMethod(ACC_PROTECTED, "onItemClick",
+                "(" + VIEW_DESC + VIEW_DESC + "I)V");
+        for (int id : mContainerIds) {
+            Label nextContainer = new Label();
+            onItemClick.aload(0).field(GETFIELD, name, "id", "I").push(id).jump(IF_ICMPNE, nextContainer);
+            List<ItemClickBinding> itemMethods = itemClickMethods(id);
+            List<Integer> childIds = itemClickChildIds(id);
+            if (!itemMethods.isEmpty()) {
+                Label notItem = new Label();
+                if (!childIds.isEmpty()) {
+                    onItemClick.aload(2).aload(1).jump(IF_ACMPNE, notItem);
+                }
+                for (ItemClickBinding method : itemMethods) {
+                    writeItemClickCall(onItemClick, name, method);
+                }
+                onItemClick.op(RETURN).mark(notItem);
+            }
+            if (!childIds.isEmpty()) {
+                onItemClick.aload(2).invoke(INVOKEVIRTUAL, VIEW, "getId", "()I").istore(4);
+                for (int childId : childIds) {
+                    Label nextChild = new Label();
+                    onItemClick.iload(4).push(childId).jump(IF_ICMPNE, nextChild);
+                    for (ItemClickBinding method : mBindingClass.getItemClickBindings()) {
+                        if (method.getContainerId() == id && mBindingClass.containsId(method.getChildIds(), childId)) {
+                            writeItemClickCall(onItemClick, name, method);
+                        }
+                    }
+                    onItemClick.op(RETURN).mark(nextChild);
+                }
+                onItemClick.op(RETURN);
+            }
+            onItemClick.mark(nextContainer);
+        }
+        onItemClick.op(RETURN);
+
+        List<ClassName> recyclerViews = mBindingClass.getRecyclerViewTypes();
+        if (!recyclerViews.isEmpty()) {
+            String getPositionDesc = "(L" + VIEW_GROUP + ";" + VIEW_DESC + ")I";
+            Code getPosition = dispatcher.addMethod(ACC_PROTECTED, "getPosition", getPositionDesc);
+            for (ClassName recyclerView : recyclerViews) {
+                String type = internalName(recyclerView);
+                Label next = new Label();
+                getPosition.aload(1).type(INSTANCEOF, type).jump(IFEQ, next)
+                        .aload(1).type(CHECKCAST, type).aload(2)
+                        .invoke(INVOKEVIRTUAL, type, "getChildAdapterPosition", "(" + VIEW_DESC + ")I")
+                        .op(IRETURN)
+                        .mark(next);
+            }
+            getPosition.aload(0).aload(1).aload(2)
+                    .invoke(INVOKESPECIAL, ITEM_CLICK_DISPATCHER, "getPosition", getPositionDesc)
+                    .op(IRETURN);
+        }
+        return dispatcher;
+    }
+
+    /**
+     * 调用一个@OnItemClick方法，与BindingClass.createItemClickStatement相同
+     */
+    private void writeItemClickCall(Code code, String dispatcher, ItemClickBinding method) {
+        code.aload(0).field(GETFIELD, dispatcher, OUTER, "L" + mName + ";")
+                .field(GETFIELD, mName, "target", mTargetDesc);
+        StringBuilder descriptor = new StringBuilder("(");
+        if (method.hasViewParameter()) {
+            code.aload(2);
+            descriptor.append(VIEW_DESC);
+        }
+        if (method.hasPositionParameter()) {
+            code.iload(3);
+            descriptor.append('I');
+        }
+        descriptor.append(')').append(method.getReturnDescriptor());
+        code.invoke(INVOKEVIRTUAL, mTarget, method.getName(), descriptor.toString())
+                .popReturnValue(descriptor.toString());
+    }
+
+    /**
+     * 容器中分发条目本身点击的方法
+     */
+    private List<ItemClickBinding> itemClickMethods(int containerId) {
+        List<ItemClickBinding> methods = new ArrayList<>();
+        for (ItemClickBinding method : mBindingClass.getItemClickBindings()) {
+            if (method.getContainerId() == containerId && method.isItemClick()) {
+                methods.add(method);
+            }
+        }
+        return methods;
+    }
+
+    /**
+     * 容器的条目中分发点击的子View的id，顺序与源码中的数组相同
+     */
+    private List<Integer> itemClickChildIds(int containerId) {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (ItemClickBinding method : mBindingClass.getItemClickBindings()) {
+            if (method.getContainerId() == containerId) {
+                for (int childId : method.getChildIds()) {
+                    ids.add(childId);
+                }
+            }
+        }
+        return new ArrayList<>(ids);
+    }
+
+    /**
+     * {@link ListenerType}表中一种监听所有id共用的监听器类，行为与源码中的匿名类相同。按id分发的监听只有一个实例，
+     * 用第一个参数的getId()比较；其他监听每个id一个实例，保存自己的id。匹配时调用该id的方法后返回，没有匹配时返回默认值
+     */
+    private ClassFile writeListener(ListenerType type, String name) {
+        ClassFile listener = new ClassFile(ACC_SUPER, name, OBJECT, ListenerType.internalName(type.listenerType));
+        listener.addField(ACC_FINAL | ACC_SYNTHETIC, OUTER, "L" + mName + ";");
+        if (type.sharedById) {
+            listener.addMethod(0, "<init>", "(L" + mName + ";)V")
+                    .aload(0).aload(1).field(PUTFIELD, name, OUTER, "L" + mName + ";")
+                    .aload(0).invoke(INVOKESPECIAL, OBJECT, "<init>", "()V")
+                    .op(RETURN);
+        } else {
+            listener.addField(ACC_PRIVATE | ACC_FINAL, "id", "I");
+            listener.addMethod(0, "<init>", "(L" + mName + ";I)V")
+                    .aload(0).aload(1).field(PUTFIELD, name, OUTER, "L" + mName + ";")
+                    .aload(0).iload(2).field(PUTFIELD, name, "id", "I")
+                    .aload(0).invoke(INVOKESPECIAL, OBJECT, "<init>", "()V")
+                    .op(RETURN);
+        }
+
+        List<Integer> ids = mBindingClass.listenerIds(type);
+        for (ListenerMethod method : type.methods) {
+            Code code = listener.addMethod(ACC_PUBLIC, method.name, method.descriptor());
+            // 共用时p0.getId()存在参数之后的局部变量中
+            int idSlot = 1;
+            for (TypeName parameter : method.parameters) {
+                idSlot += Type.getType(ListenerType.descriptor(parameter)).getSize();
+            }
+            boolean idLoaded = false;
+            for (int id : ids) {
+                List<ListenerBinding> bindings = mBindingClass.listenerBindings(type, method, id);
+                if (bindings.isEmpty()) {
+                    continue;
+                }
+                if (!type.sharedById) {
+                    code.aload(0).field(GETFIELD, name, "id", "I");
+                } else if (!idLoaded) {
+                    String view = ListenerType.internalName(method.parameters.get(0));
+                    code.aload(1).invoke(INVOKEVIRTUAL, view, "getId", "()I").istore(idSlot).iload(idSlot);
+                    idLoaded = true;
+                } else {
+                    code.iload(idSlot);
+                }
+                Label next = new Label();
+                code.push(id).jump(IF_ICMPNE, next);
+                ListenerBinding returning = null;
+                for (ListenerBinding binding : bindings) {
+                    if (binding.returnsValue()) {
+                        returning = binding;
+                    } else {
+                        writeListenerCall(code, name, method, binding);
+                    }
+                }
+                if (returning != null) {
+                    writeListenerCall(code, name, method, returning);
+                    code.op(IRETURN);
+                } else {
+                    writeDefaultReturn(code, method);
+                }
+                code.mark(next);
+            }
+            writeDefaultReturn(code, method);
+        }
+        return listener;
+    }
+
+    /**
+     * 调用一个监听方法，与BindingClass.createListenerArguments相同。有返回值的方法的结果留在栈上
+     */
+    private void writeListenerCall(Code code, String listener, ListenerMethod method, ListenerBinding binding) {
+        code.aload(0).field(GETFIELD, listener, OUTER, "L" + mName + ";")
+                .field(GETFIELD, mName, "target", mTargetDesc);
+        List<Integer> arguments = binding.getArguments();
+        for (int i = 0, count = arguments.size(); i < count; i++) {
+            int index = arguments.get(i);
+            int slot = 1;
+            for (int j = 0; j < index; j++) {
+                slot += Type.getType(ListenerType.descriptor(method.parameters.get(j))).getSize();
+            }
+            String descriptor = ListenerType.descriptor(method.parameters.get(index));
+            if (descriptor.equals("J")) {
+                code.lload(slot);
+            } else if (descriptor.equals("I") || descriptor.equals("Z")) {
+                code.iload(slot);
+            } else {
+                code.aload(slot);
+            }
+            String castType = binding.getCastTypes().get(i);
+            if (castType != null) {
+                code.type(CHECKCAST, castType);
+            }
+        }
+        code.invoke(INVOKEVIRTUAL, mTarget, binding.getName(), binding.getDescriptor());
+        if (!binding.returnsValue()) {
+            code.popReturnValue(binding.getDescriptor());
+        }
+    }
+
+    /**
+     * 返回回调的默认值，与源码中的return语句相同。表中有返回值的回调都返回boolean
+     */
+    private static void writeDefaultReturn(Code code, ListenerMethod method) {
+        if (method.defaultReturn == null) {
+            code.op(RETURN);
+        } else {
+            code.push(Boolean.parseBoolean(method.defaultReturn) ? 1 : 0).op(IRETURN);
+        }
+    }
+
+    /**
+     * 与源码中的匿名AsyncContentView.Callback相同，捕获的target和source保存在val$成员中
+     */
+    private ClassFile writeAsyncCallback(String name) {
+        ClassFile callback = new ClassFile(ACC_SUPER, name, OBJECT, ASYNC_CALLBACK);
+        callback.addField(ACC_FINAL | ACC_SYNTHETIC, OUTER, "L" + mName + ";");
+        callback.addField(ACC_FINAL | ACC_SYNTHETIC, "val$target", mTargetDesc);
+        callback.addField(ACC_FINAL | ACC_SYNTHETIC, "val$source", VIEW_DESC);
+        callback.addMethod(0, "<init>", "(L" + mName + ";" + mTargetDesc + VIEW_DESC + ")V")
+                .aload(0).aload(1).field(PUTFIELD, name, OUTER, "L" + mName + ";")
+                .aload(0).aload(2).field(PUTFIELD, name, "val$target", mTargetDesc)
+                .aload(0).aload(3).field(PUTFIELD, name, "val$source", VIEW_DESC)
+                .aload(0).invoke(INVOKESPECIAL, OBJECT, "<init>", "()V")
+                .op(RETURN);
+
+        Code code = callback.addMethod(ACC_PUBLIC, "onContentViewInflated", "(" + VIEW_DESC + ")V");
+        code.aload(0).field(GETFIELD, name, "val$target", mTargetDesc).aload(1)
+                .aload(1).invoke(INVOKEVIRTUAL, VIEW, "getLayoutParams", "()" + VIEW_GROUP_PARAMS_DESC)
+                .invoke(INVOKEVIRTUAL, mTarget, "setContentView", "(" + VIEW_DESC + VIEW_GROUP_PARAMS_DESC + ")V")
+                .aload(0).field(GETFIELD, name, OUTER, "L" + mName + ";")
+                .aload(0).field(GETFIELD, name, "val$target", mTargetDesc)
+                .aload(0).field(GETFIELD, name, "val$source", VIEW_DESC)
+                .invoke(INVOKEVIRTUAL, mName, "bind", mBindDesc);
+        if (mBindingClass.notifiesViewsReady()) {
+            code.aload(0).field(GETFIELD, name, "val$target", mTargetDesc)
+                    .invoke(INVOKEVIRTUAL, mTarget, "onViewsReady", "()V");
+        }
+        code.op(RETURN);
+        return callback;
+    }
+}
@@ -0,0 +1,92 @@
+package com.blingbling.butterknife.compiler;
+
+import java.util.List;
+
+/**
+ * 生成的绑定类的开销。打开butterknife.costReport时，每个绑定类和整个模块各写一份JSON报告，
+ * 可以在CI中检查是否超出预算，或者比较生成代码改动前后的变化
+ */
+class BindingCost {
+
+    /** 每个绑定类的报告目录，在生成源码的目录下 */
+    static final String REPORT_DIR = "butterknife/cost/";
+    /** 整个模块的报告 */
+    static final String MODULE_REPORT = "butterknife/cost.json";
+
+    private final String mTarget;
+    private final String mBinding;
+    /** 绑定时查找的View数，不包括Lazy字段 */
+    private final int mViewLookups;
+    private final int mLazyViews;
+    /** 生成的监听器匿名类数 */
+    private final int mListenerClasses;
+    private final int mFields;
+    /** 绑定类中声明的方法数，包括构造方法，不包括匿名类中的方法 */
+    private final int mMethods;
+
+    BindingCost(String target, String binding, int viewLookups, int lazyViews, int listenerClasses,
+                int fields, int methods) {
+        mTarget = target;
+        mBinding = binding;
+        mViewLookups = viewLookups;
+        mLazyViews = lazyViews;
+        mListenerClasses = listenerClasses;
+        mFields = fields;
+        mMethods = methods;
+    }
+
+    String getBinding() {
+        return mBinding;
+    }
+
+    String toJson() {
+        return "{\n" + fieldsJson("  ", true) + "}\n";
+    }
+
+    /**
+     * 整个模块的报告，包括所有绑定类的合计和每个绑定类的开销
+     *
+     * @param costs
+     * @return
+     */
+    static String toModuleJson(List<BindingCost> costs) {
+        int viewLookups = 0;
+        int lazyViews = 0;
+        int listenerClasses = 0;
+        int fields = 0;
+        int methods = 0;
+        for (BindingCost cost : costs) {
+            viewLookups += cost.mViewLookups;
+            lazyViews += cost.mLazyViews;
+            listenerClasses += cost.mListenerClasses;
+            fields += cost.mFields;
+            methods += cost.mMethods;
+        }
+        StringBuilder builder = new StringBuilder("{\n")
+                .append("  \"bindings\": ").append(costs.size()).append(",\n")
+                .append(new BindingCost(null, null, viewLookups, lazyViews, listenerClasses, fields, methods)
+                        .fieldsJson("  ", false))
+                .append(",\n  \"classes\": [");
+        for (int i = 0, count = costs.size(); i < count; i++) {
+            builder.append(i > 0 ? ",\n" : "\n")
+                    .append("    {\n")
+                    .append(costs.get(i).fieldsJson("      ", true))
+                    .append("    }");
+        }
+        return builder.append(costs.isEmpty() ? "]\n}\n" : "\n  ]\n}\n").toString();
+    }
+
+    private String fieldsJson(String indent, boolean withNames) {
+        StringBuilder builder = new StringBuilder();
+        if (withNames) {
+            builder.append(indent).append("\"target\": \"").append(mTarget).append("\",\n")
+                    .append(indent).append("\"binding\": \"").append(mBinding).append("\",\n");
+        }
+        builder.append(indent).append("\"viewLookups\": ").append(mViewLookups).append(",\n")
+                .append(indent).append("\"lazyViews\": ").append(mLazyViews).append(",\n")
+                .append(indent).append("\"listenerClasses\": ").append(mListenerClasses).append(",\n")
+                .append(indent).append("\"fields\": ").append(mFields).append(",\n")
+                .append(indent).append("\"methods\": ").append(mMethods);
+        return withNames ? builder.append('\n').toString() : builder.toString();
+    }
+}
@@ -0,0 +1,176 @@
+package com.blingbling.butterknife.compiler;
+
+import com.squareup.javapoet.ArrayTypeName;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.CodeBlock;
+import com.squareup.javapoet.JavaFile;
+import com.squareup.javapoet.MethodSpec;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
+import com.squareup.javapoet.WildcardTypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.Modifier;
+
+/**
+ * 生成绑定索引，按目标类直接创建 {@code _ViewBinding}，运行时不需要反射。索引比较类字面量而不是类名，
+ * 混淆改名后仍然能找到绑定，目标类不需要keep规则。
+ */
+class BindingIndexClass {
+
+    private static final ClassName VIEW = ClassName.get("android.view", "View");
+    private static final ClassName UNBINDER = ClassName.get("com.blingbling.butterknife.api", "Unbinder");
+    private static final ClassName BINDING_INDEX = ClassName.get("com.blingbling.butterknife.api", "BindingIndex");
+    private static final ClassName BINDING_FACTORY = ClassName.get("com.blingbling.butterknife.api", "BindingFactory");
+    private static final TypeName CLASS_OF_ANY = ParameterizedTypeName.get(ClassName.get(Class.class),
+            WildcardTypeName.subtypeOf(Object.class));
+
+    private final ClassName mIndexClassName;
+    private final List<BindingClass> mBindingClasses = new ArrayList<>();
+
+    public BindingIndexClass(String indexClassName) {
+        int period = indexClassName.lastIndexOf('.');
+        String packageName = period > 0 ? indexClassName.substring(0, period) : "";
+        mIndexClassName = ClassName.get(packageName, indexClassName.substring(period + 1));
+    }
+
+    public String getClassName() {
+        return mIndexClassName.toString();
+    }
+
+    public String getPackageName() {
+        return mIndexClassName.packageName();
+    }
+
+    /**
+     * 添加一个绑定类
+     *
+     * @param bindingClass
+     */
+    public void addBindingClass(BindingClass bindingClass) {
+        mBindingClasses.add(bindingClass);
+    }
+
+    public boolean isEmpty() {
+        return mBindingClasses.isEmpty();
+    }
+
+    /**
+     * 生成Java文件
+     *
+     * @return
+     */
+    public JavaFile brewJava() {
+        TypeSpec factory = createFactoryClass();
+
+        TypeSpec.Builder result = TypeSpec.classBuilder(mIndexClassName.simpleName())
+                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addSuperinterface(BINDING_INDEX)
+                .addMethod(createGetBindingFactoryMethod(factory))
+                .addMethod(createGetTargetClassesMethod())
+                .addType(factory);
+        // 索引依赖所有目标类，任何一个目标类变化都需要重新生成
+        for (int i = 0, count = mBindingClasses.size(); i < count; i++) {
+            result.addOriginatingElement(mBindingClasses.get(i).getTargetElement());
+        }
+
+        return JavaFile.builder(mIndexClassName.packageName(), result.build())
+                .addFileComment("Generated code from Butter Knife. Do not modify!")
+                .build();
+    }
+
+    /**
+     * 按类字面量查找绑定工厂。R8/ProGuard改名时类字面量跟着改，字符串常量不会，所以不比较类名。
+     * 类字面量只在比较执行到时加载对应的类，不会初始化它
+     *
+     * @param factory
+     * @return
+     */
+    private MethodSpec createGetBindingFactoryMethod(TypeSpec factory) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        for (int i = 0, count = mBindingClasses.size(); i < count; i++) {
+            code.beginControlFlow("if (cls == $T.class)", mBindingClasses.get(i).getTargetClassName())
+                    .addStatement("return new $N($L)", factory, i)
+                    .endControlFlow();
+        }
+        code.addStatement("return null");
+
+        return MethodSpec.methodBuilder("getBindingFactory")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(BINDING_FACTORY)
+                .addParameter(CLASS_OF_ANY, "cls")
+                .addCode(code.build())
+                .build();
+    }
+
+    /**
+     * 列出索引中的所有目标类，供预加载使用
+     *
+     * @return
+     */
+    private MethodSpec createGetTargetClassesMethod() {
+        CodeBlock.Builder classes = CodeBlock.builder();
+        for (int i = 0, count = mBindingClasses.size(); i < count; i++) {
+            if (i > 0) {
+                classes.add(",\n");
+            }
+            classes.add("$T.class", mBindingClasses.get(i).getTargetClassName());
+        }
+        return MethodSpec.methodBuilder("getTargetClasses")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(ArrayTypeName.of(CLASS_OF_ANY))
+                .addStatement("return new $T[] {\n$>$>$L$<$<\n}", CLASS_OF_ANY, classes.build())
+                .build();
+    }
+
+    /**
+     * 所有目标类共用一个工厂类，按下标创建对应的绑定
+     *
+     * @return
+     */
+    private TypeSpec createFactoryClass() {
+        CodeBlock.Builder code = CodeBlock.builder()
+                .beginControlFlow("switch (index)");
+        for (int i = 0, count = mBindingClasses.size(); i < count; i++) {
+            BindingClass bindingClass = mBindingClasses.get(i);
+            code.add("case $L:\n", i)
+                    .indent()
+                    .addStatement("return new $T(($T) target, source)",
+                            bindingClass.getBindingClassName(),
+                            bindingClass.getTargetTypeName())
+                    .unindent();
+        }
+        code.add("default:\n")
+                .indent()
+                .addStatement("throw new $T(index)", AssertionError.class)
+                .unindent()
+                .endControlFlow();
+
+        MethodSpec bind = MethodSpec.methodBuilder("bind")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(UNBINDER)
+                .addParameter(Object.class, "target")
+                .addParameter(VIEW, "source")
+                .addCode(code.build())
+                .build();
+
+        MethodSpec constructor = MethodSpec.constructorBuilder()
+                .addParameter(int.class, "index")
+                .addStatement("this.index = index")
+                .build();
+
+        return TypeSpec.classBuilder("Factory")
+                .addModifiers(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .addSuperinterface(BINDING_FACTORY)
+                .addField(int.class, "index", Modifier.PRIVATE, Modifier.FINAL)
+                .addMethod(constructor)
+                .addMethod(bind)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.blingbling.butterknife.compiler;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 生成绑定类的编译参数，在build.gradle的annotationProcessorOptions中配置。
+ */
+class BindingOptions {
+
+    /** 绑定的View id超过该数量时，改为一次遍历View树查找所有View */
+    static final String OPTION_BATCH_LOOKUP_THRESHOLD = "butterknife.batchLookupThreshold";
+
+    /** 为true时每个绑定类自身实现一个OnClickListener，按view.getId()分发，不再为每个id生成匿名类 */
+    static final String OPTION_SHARED_CLICK_LISTENER = "butterknife.sharedClickListener";
+
+    /** 并行生成代码的线程数，默认为CPU核数，为1时在处理器线程中逐个生成 */
+    static final String OPTION_PARALLELISM = "butterknife.parallelism";
+
+    /** 为true时为每个绑定类和整个模块写一份生成代码开销的JSON报告，见BindingCost */
+    static final String OPTION_COST_REPORT = "butterknife.costReport";
+
+    /** 为true时绑定类直接写成类文件，不生成源码，省去javac编译生成的源码 */
+    static final String OPTION_BYTECODE = "butterknife.bytecode";
+
+    /**
+     * 模块的res/layout目录，多个目录用路径分隔符隔开。设置后@ContentView的布局在编译时转换为直接创建View的代码，
+     * 不支持的布局仍然在运行时加载，见LayoutCompiler。javac不知道处理器读取了这些文件，编译任务需要把它们声明为输入
+     */
+    static final String OPTION_LAYOUT_DIR = "butterknife.layoutDir";
+
+    private static final int DEFAULT_BATCH_LOOKUP_THRESHOLD = 4;
+
+    private final int mBatchLookupThreshold;
+    private final boolean mSharedClickListener;
+    private final int mParallelism;
+    private final boolean mCostReport;
+    private final boolean mBytecode;
+    private final List<File> mLayoutDirs;
+
+    BindingOptions(Map<String, String> options) {
+        mBatchLookupThreshold = parseInt(options, OPTION_BATCH_LOOKUP_THRESHOLD, DEFAULT_BATCH_LOOKUP_THRESHOLD);
+        mSharedClickListener = parseBoolean(options, OPTION_SHARED_CLICK_LISTENER, false);
+        mCostReport = parseBoolean(options, OPTION_COST_REPORT, false);
+        mBytecode = parseBoolean(options, OPTION_BYTECODE, false);
+        mLayoutDirs = parseFiles(options, OPTION_LAYOUT_DIR);
+        mParallelism = parseInt(options, OPTION_PARALLELISM, Runtime.getRuntime().availableProcessors());
+        if (mParallelism < 1) {
+            throw new IllegalArgumentException(
+                    String.format("Option %s must be at least 1, was %d.", OPTION_PARALLELISM, mParallelism));
+        }
+    }
+
+    public int getBatchLookupThreshold() {
+        return mBatchLookupThreshold;
+    }
+
+    public boolean isSharedClickListener() {
+        return mSharedClickListener;
+    }
+
+    public int getParallelism() {
+        return mParallelism;
+    }
+
+    public boolean isCostReport() {
+        return mCostReport;
+    }
+
+    public boolean isBytecode() {
+        return mBytecode;
+    }
+
+    /**
+     * 编译布局时查找布局文件的目录，没有设置时为空，不编译布局
+     *
+     * @return
+     */
+    public List<File> getLayoutDirs() {
+        return mLayoutDirs;
+    }
+
+    private static List<File> parseFiles(Map<String, String> options, String key) {
+        String value = options.get(key);
+        if (value == null || value.trim().isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<File> files = new ArrayList<>();
+        for (String path : value.split(File.pathSeparator)) {
+            if (path.trim().isEmpty()) {
+                continue;
+            }
+            File file = new File(path.trim());
+            if (!file.isDirectory()) {
+                throw new IllegalArgumentException(
+                        String.format("Option %s must list directories, %s is not one.", key, file));
+            }
+            files.add(file);
+        }
+        return Collections.unmodifiableList(files);
+    }
+
+    private static boolean parseBoolean(Map<String, String> options, String key, boolean defaultValue) {
+        String value = options.get(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        value = value.trim();
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException(
+                String.format("Option %s must be true or false, was \"%s\".", key, value));
+    }
+
+    private static int parseInt(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        if (value == null || value.isEmpty()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("Option %s must be an integer, was \"%s\".", key, value), e);
+        }
+    }
+}
@@ -0,0 +1,427 @@
+package com.blingbling.butterknife.compiler;
+
+import com.squareup.javapoet.TypeName;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 绑定类bind和unbind方法的中间表示。BindingClass先按注解逐条生成操作，{@link #optimize()}之后再交给JavaPoet输出：
+ * <ul>
+ * <li>同一个id有绑定字段时，其他用到该View的地方（包括@OnItemClick的容器）读取字段，不再重复查找</li>
+ * <li>只是复制字段的view&lt;id&gt;成员去掉，设置和清除监听直接使用字段</li>
+ * <li>去掉unbind中重复的和针对已去掉成员的清理</li>
+ * </ul>
+ */
+class BindingPlan {
+
+    /**
+     * 操作中View的来源或去处
+     */
+    static final class ViewRef {
+
+        enum Kind {
+            /** 从source中查找，批量查找时从lookupViews中取 */
+            FIND,
+            /** 目标类的字段target.name */
+            FIELD,
+            /** 绑定类的成员view&lt;id&gt; */
+            HOLDER,
+            /** 共用点击监听时的clickViews[index] */
+            CLICK_SLOT,
+            /** @BindViews在绑定类中的数组或List成员 */
+            GROUP,
+            /** @BindViews数组成员中的name[index] */
+            GROUP_SLOT
+        }
+
+        final Kind kind;
+        final int id;
+        final String name;
+        final int index;
+
+        private ViewRef(Kind kind, int id, String name, int index) {
+            this.kind = kind;
+            this.id = id;
+            this.name = name;
+            this.index = index;
+        }
+
+        static ViewRef find(int id) {
+            return new ViewRef(Kind.FIND, id, null, -1);
+        }
+
+        static ViewRef field(int id, String name) {
+            return new ViewRef(Kind.FIELD, id, name, -1);
+        }
+
+        static ViewRef holder(int id) {
+            return new ViewRef(Kind.HOLDER, id, "view" + id, -1);
+        }
+
+        static ViewRef clickSlot(int id, int index) {
+            return new ViewRef(Kind.CLICK_SLOT, id, null, index);
+        }
+
+        static ViewRef group(String name) {
+            return new ViewRef(Kind.GROUP, -1, name, -1);
+        }
+
+        static ViewRef groupSlot(int id, String name, int index) {
+            return new ViewRef(Kind.GROUP_SLOT, id, name, index);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ViewRef)) {
+                return false;
+            }
+            ViewRef other = (ViewRef) o;
+            return kind == other.kind && id == other.id && index == other.index
+                    && (name == null ? other.name == null : name.equals(other.name));
+        }
+
+        @Override
+        public int hashCode() {
+            return ((kind.hashCode() * 31 + id) * 31 + index) * 31 + (name == null ? 0 : name.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            switch (kind) {
+                case FIND:
+                    return "find(" + id + ")";
+                case FIELD:
+                    return "target." + name;
+                case CLICK_SLOT:
+                    return "clickViews[" + index + "]";
+                case GROUP_SLOT:
+                    return name + "[" + index + "]";
+                default:
+                    return name;
+            }
+        }
+    }
+
+    /**
+     * 一条操作，按kind使用其中的部分属性
+     */
+    static final class Op {
+
+        enum Kind {
+            /** dest = (cast) src */
+            ASSIGN,
+            /** target.field = new Lazy&lt;T&gt;(...) */
+            ASSIGN_LAZY,
+            /** view.setOnClickListener(listener)，listener为null时清除 */
+            SET_LISTENER,
+            /** 为clickViews中所有View设置共用监听，listener为null时清除 */
+            SET_SHARED_LISTENER,
+            /** target.field.clear() */
+            CLEAR_LAZY,
+            /** dest = null */
+            CLEAR,
+            /** Arrays.fill(clickViews, null) */
+            CLEAR_CLICK_VIEWS,
+            /** Arrays.fill(dest, null)，dest为@BindViews的数组成员 */
+            CLEAR_GROUP,
+            /** listener.attach((ViewGroup) src)，listener为容器的ItemClickDispatcher */
+            ATTACH_ITEM_CLICKS,
+            /** listener.detach() */
+            DETACH_ITEM_CLICKS,
+            /** listener.cancel()，listener为后台点击的BackgroundClickListener，丢弃还没执行的点击 */
+            CANCEL_BACKGROUND_CLICKS,
+            /** 按listenerType设置监听：view.setter(listener)；通过add方法加入的监听由unbind从原来的View上移除 */
+            BIND_LISTENER,
+            /** 按listenerType清除监听：view.setter(null)或view.remover(listener) */
+            UNBIND_LISTENER
+        }
+
+        final Kind kind;
+        final ViewRef dest;
+        final ViewRef src;
+        final TypeName cast;
+        final String listener;
+        final FieldViewBinding field;
+        final ListenerType listenerType;
+
+        private Op(Kind kind, ViewRef dest, ViewRef src, TypeName cast, String listener, FieldViewBinding field,
+                   ListenerType listenerType) {
+            this.kind = kind;
+            this.dest = dest;
+            this.src = src;
+            this.cast = cast;
+            this.listener = listener;
+            this.field = field;
+            this.listenerType = listenerType;
+        }
+
+        static Op assign(ViewRef dest, ViewRef src, TypeName cast) {
+            return new Op(Kind.ASSIGN, dest, src, cast, null, null, null);
+        }
+
+        static Op assignField(FieldViewBinding field) {
+            return new Op(Kind.ASSIGN, ViewRef.field(field.getValue(), field.getName()), ViewRef.find(field.getValue()),
+                    field.getType(), null, field, null);
+        }
+
+        static Op assignLazy(FieldViewBinding field) {
+            return new Op(Kind.ASSIGN_LAZY, ViewRef.field(field.getValue(), field.getName()), null, null, null, field,
+                    null);
+        }
+
+        static Op setListener(ViewRef view, String listener) {
+            return new Op(Kind.SET_LISTENER, view, null, null, listener, null, null);
+        }
+
+        static Op setSharedListener(String listener) {
+            return new Op(Kind.SET_SHARED_LISTENER, null, null, null, listener, null, null);
+        }
+
+        static Op clearLazy(FieldViewBinding field) {
+            return new Op(Kind.CLEAR_LAZY, ViewRef.field(field.getValue(), field.getName()), null, null, null, field,
+                    null);
+        }
+
+        static Op clear(ViewRef dest) {
+            return new Op(Kind.CLEAR, dest, null, null, null, null, null);
+        }
+
+        static Op clearClickViews() {
+            return new Op(Kind.CLEAR_CLICK_VIEWS, null, null, null, null, null, null);
+        }
+
+        static Op clearGroup(ViewRef group) {
+            return new Op(Kind.CLEAR_GROUP, group, null, null, null, null, null);
+        }
+
+        static Op attachItemClicks(ViewRef container, TypeName cast, String dispatcher) {
+            return new Op(Kind.ATTACH_ITEM_CLICKS, null, container, cast, dispatcher, null, null);
+        }
+
+        static Op detachItemClicks(String dispatcher) {
+            return new Op(Kind.DETACH_ITEM_CLICKS, null, null, null, dispatcher, null, null);
+        }
+
+        static Op cancelBackgroundClicks(String listener) {
+            return new Op(Kind.CANCEL_BACKGROUND_CLICKS, null, null, null, listener, null, null);
+        }
+
+        static Op bindListener(ViewRef view, ListenerType type, String listener) {
+            return new Op(Kind.BIND_LISTENER, view, null, null, listener, null, type);
+        }
+
+        static Op unbindListener(ViewRef view, ListenerType type, String listener) {
+            return new Op(Kind.UNBIND_LISTENER, view, null, null, listener, null, type);
+        }
+
+        private Op withDest(ViewRef dest) {
+            return new Op(kind, dest, src, cast, listener, field, listenerType);
+        }
+
+        private Op withSrc(ViewRef src) {
+            return new Op(kind, dest, src, cast, listener, field, listenerType);
+        }
+
+        /**
+         * 用来去掉重复的清理，cast和field由dest决定，不参与比较
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Op)) {
+                return false;
+            }
+            Op other = (Op) o;
+            return kind == other.kind && equal(dest, other.dest) && equal(src, other.src)
+                    && equal(listener, other.listener);
+        }
+
+        @Override
+        public int hashCode() {
+            return ((kind.hashCode() * 31 + (dest == null ? 0 : dest.hashCode())) * 31
+                    + (src == null ? 0 : src.hashCode())) * 31 + (listener == null ? 0 : listener.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            switch (kind) {
+                case ASSIGN:
+                    return dest + " = " + (cast == null ? "" : "(" + cast + ") ") + src;
+                case ASSIGN_LAZY:
+                    return dest + " = lazy(" + dest.id + ")";
+                case SET_LISTENER:
+                    return dest + ".setOnClickListener(" + listener + ")";
+                case SET_SHARED_LISTENER:
+                    return "clickViews.setOnClickListener(" + listener + ")";
+                case CLEAR_LAZY:
+                    return dest + ".clear()";
+                case CLEAR:
+                    return dest + " = null";
+                case CLEAR_GROUP:
+                    return dest + ".fill(null)";
+                case ATTACH_ITEM_CLICKS:
+                    return listener + ".attach((" + cast + ") " + src + ")";
+                case DETACH_ITEM_CLICKS:
+                    return listener + ".detach()";
+                case CANCEL_BACKGROUND_CLICKS:
+                    return listener + ".cancel()";
+                case BIND_LISTENER:
+                    return dest + "." + listenerType.setter + "(" + listener + ")";
+                case UNBIND_LISTENER:
+                    return listenerType.remover != null
+                            ? dest + "." + listenerType.remover + "(" + listener + ")"
+                            : dest + "." + listenerType.setter + "(null)";
+                default:
+                    return "clickViews.fill(null)";
+            }
+        }
+
+        private static boolean equal(Object a, Object b) {
+            return a == null ? b == null : a.equals(b);
+        }
+    }
+
+    private List<Op> mBindOps = new ArrayList<>();
+    private List<Op> mUnbindOps = new ArrayList<>();
+
+    void addBind(Op op) {
+        mBindOps.add(op);
+    }
+
+    void addUnbind(Op op) {
+        mUnbindOps.add(op);
+    }
+
+    List<Op> getBindOps() {
+        return mBindOps;
+    }
+
+    List<Op> getUnbindOps() {
+        return mUnbindOps;
+    }
+
+    /**
+     * 优化后仍需查找的View的id
+     *
+     * @return
+     */
+    Set<Integer> getLookupIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Op op : mBindOps) {
+            if (op.src != null && op.src.kind == ViewRef.Kind.FIND) {
+                ids.add(op.src.id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 优化后仍需要的view&lt;id&gt;成员的id
+     *
+     * @return
+     */
+    Set<Integer> getHolderIds() {
+        Set<Integer> ids = new LinkedHashSet<>();
+        for (Op op : mBindOps) {
+            if (op.kind == Op.Kind.ASSIGN && op.dest.kind == ViewRef.Kind.HOLDER) {
+                ids.add(op.dest.id);
+            }
+        }
+        return ids;
+    }
+
+    void optimize() {
+        dedupeLookups();
+        forwardCopies();
+        dropRedundantCleanup();
+    }
+
+    /**
+     * 每个id只查找一次：第一次赋值给字段之后，后面的查找改为读取该字段。另一个字段的类型与它没有继承关系时
+     * 不能从它强转，仍然读取查找的结果
+     */
+    private void dedupeLookups() {
+        Map<Integer, Op> boundFields = new HashMap<>();
+        for (int i = 0, count = mBindOps.size(); i < count; i++) {
+            Op op = mBindOps.get(i);
+            if (op.src == null || op.src.kind != ViewRef.Kind.FIND) {
+                continue;
+            }
+            Op bound = boundFields.get(op.src.id);
+            if (bound != null) {
+                if (op.field == null || op.field.isRelatedTo(bound.field)) {
+                    mBindOps.set(i, op.withSrc(bound.dest));
+                }
+            } else if (op.kind == Op.Kind.ASSIGN && op.dest.kind == ViewRef.Kind.FIELD) {
+                boundFields.put(op.src.id, op);
+            }
+        }
+    }
+
+    /**
+     * 只保存字段副本的view&lt;id&gt;成员去掉，用到它的地方直接使用字段
+     */
+    private void forwardCopies() {
+        Map<ViewRef, ViewRef> copies = new HashMap<>();
+        List<Op> bindOps = new ArrayList<>(mBindOps.size());
+        for (Op op : mBindOps) {
+            if (op.kind == Op.Kind.ASSIGN && op.dest.kind == ViewRef.Kind.HOLDER
+                    && op.src.kind == ViewRef.Kind.FIELD) {
+                copies.put(op.dest, op.src);
+            } else {
+                bindOps.add(op);
+            }
+        }
+        if (copies.isEmpty()) {
+            return;
+        }
+        mBindOps = replaceRefs(bindOps, copies);
+        List<Op> unbindOps = new ArrayList<>(mUnbindOps.size());
+        for (Op op : mUnbindOps) {
+            if (op.kind != Op.Kind.CLEAR || !copies.containsKey(op.dest)) {
+                unbindOps.add(op);
+            }
+        }
+        mUnbindOps = replaceRefs(unbindOps, copies);
+    }
+
+    private static List<Op> replaceRefs(List<Op> ops, Map<ViewRef, ViewRef> replacements) {
+        List<Op> result = new ArrayList<>(ops.size());
+        for (Op op : ops) {
+            ViewRef dest = replacements.get(op.dest);
+            ViewRef src = replacements.get(op.src);
+            if (dest != null) {
+                op = op.withDest(dest);
+            }
+            if (src != null) {
+                op = op.withSrc(src);
+            }
+            result.add(op);
+        }
+        return result;
+    }
+
+    /**
+     * 去掉unbind中重复的操作
+     */
+    private void dropRedundantCleanup() {
+        mUnbindOps = new ArrayList<>(new LinkedHashSet<>(mUnbindOps));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder("bind:\n");
+        for (Op op : mBindOps) {
+            builder.append("  ").append(op).append('\n');
+        }
+        builder.append("unbind:\n");
+        for (Op op : mUnbindOps) {
+            builder.append("  ").append(op).append('\n');
+        }
+        return builder.toString();
+    }
+}
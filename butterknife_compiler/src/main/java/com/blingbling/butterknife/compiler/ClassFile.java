@@ -0,0 +1,274 @@
+package com.blingbling.butterknife.compiler;
+
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 通过ASM写入一个类文件，Code只是MethodVisitor上的链式调用，便于按语句书写字节码。
+ * 常量池、最大栈深度、局部变量数和StackMapTable都由ASM计算
+ */
+final class ClassFile {
+
+    /** 与编译器模块的targetCompatibility相同，需要StackMapTable */
+    private static final int VERSION = Opcodes.V1_7;
+
+    private final String mName;
+    private final ClassWriter mWriter;
+    private final List<Code> mMethods = new ArrayList<>();
+    private int mFieldCount;
+    private byte[] mBytes;
+
+    /**
+     * @param access
+     * @param name       内部名，例如com/example/MainActivity_ViewBinding
+     * @param superName
+     * @param interfaces
+     */
+    ClassFile(int access, String name, String superName, String... interfaces) {
+        mName = name;
+        mWriter = new FrameWriter();
+        mWriter.visit(VERSION, access, name, null, superName, interfaces);
+    }
+
+    String getName() {
+        return mName;
+    }
+
+    void addField(int access, String name, String descriptor) {
+        mWriter.visitField(access, name, descriptor, null, null).visitEnd();
+        mFieldCount++;
+    }
+
+    /**
+     * 添加方法，返回的Code用于写入方法体。前一个方法在这时结束，方法要逐个写完
+     *
+     * @param access
+     * @param name
+     * @param descriptor
+     * @return
+     */
+    Code addMethod(int access, String name, String descriptor) {
+        endMethods();
+        Code code = new Code(mWriter.visitMethod(access, name, descriptor, null, null), name);
+        mMethods.add(code);
+        return code;
+    }
+
+    int getFieldCount() {
+        return mFieldCount;
+    }
+
+    /**
+     * 声明的方法数，不包括静态初始化方法
+     *
+     * @return
+     */
+    int getMethodCount() {
+        int count = 0;
+        for (Code method : mMethods) {
+            if (!method.mName.equals("<clinit>")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    byte[] toByteArray() {
+        if (mBytes == null) {
+            endMethods();
+            mWriter.visitEnd();
+            mBytes = mWriter.toByteArray();
+        }
+        return mBytes;
+    }
+
+    private void endMethods() {
+        for (Code method : mMethods) {
+            method.end();
+        }
+    }
+
+    /**
+     * 由ASM计算StackMapTable。ASM默认通过加载类求两个类型的公共父类，处理注解时目标类还没有编译，加载不到。
+     * 生成的代码在跳转处栈为空，每个局部变量只保存一种类型，不会合并两个不同的类型，所以不需要公共父类
+     */
+    private static final class FrameWriter extends ClassWriter {
+
+        FrameWriter() {
+            super(COMPUTE_FRAMES);
+        }
+
+        @Override
+        protected String getCommonSuperClass(String type1, String type2) {
+            throw new IllegalStateException("Generated code merges unrelated types " + type1 + " and " + type2);
+        }
+    }
+
+    /**
+     * 一个方法的字节码
+     */
+    static final class Code {
+
+        private final MethodVisitor mMethod;
+        private final String mName;
+        private boolean mEnded;
+
+        private Code(MethodVisitor method, String name) {
+            mMethod = method;
+            mName = name;
+            method.visitCode();
+        }
+
+        Code op(int opcode) {
+            mMethod.visitInsn(opcode);
+            return this;
+        }
+
+        Code aload(int index) {
+            mMethod.visitVarInsn(Opcodes.ALOAD, index);
+            return this;
+        }
+
+        Code iload(int index) {
+            mMethod.visitVarInsn(Opcodes.ILOAD, index);
+            return this;
+        }
+
+        Code lload(int index) {
+            mMethod.visitVarInsn(Opcodes.LLOAD, index);
+            return this;
+        }
+
+        Code istore(int index) {
+            mMethod.visitVarInsn(Opcodes.ISTORE, index);
+            return this;
+        }
+
+        Code astore(int index) {
+            mMethod.visitVarInsn(Opcodes.ASTORE, index);
+            return this;
+        }
+
+        /**
+         * 压入int常量，按大小选择最短的指令
+         *
+         * @param value
+         * @return
+         */
+        Code push(int value) {
+            if (value >= -1 && value <= 5) {
+                mMethod.visitInsn(Opcodes.ICONST_0 + value);
+            } else if (value >= Byte.MIN_VALUE && value <= Byte.MAX_VALUE) {
+                mMethod.visitIntInsn(Opcodes.BIPUSH, value);
+            } else if (value >= Short.MIN_VALUE && value <= Short.MAX_VALUE) {
+                mMethod.visitIntInsn(Opcodes.SIPUSH, value);
+            } else {
+                mMethod.visitLdcInsn(value);
+            }
+            return this;
+        }
+
+        /**
+         * 压入float常量，0、1、2使用fconst
+         *
+         * @param value
+         * @return
+         */
+        Code push(float value) {
+            if ((value == 0f && Float.floatToIntBits(value) == 0) || value == 1f || value == 2f) {
+                mMethod.visitInsn(Opcodes.FCONST_0 + (int) value);
+            } else {
+                mMethod.visitLdcInsn(value);
+            }
+            return this;
+        }
+
+        /**
+         * 压入字符串常量
+         *
+         * @param value
+         * @return
+         */
+        Code ldc(String value) {
+            mMethod.visitLdcInsn(value);
+            return this;
+        }
+
+        Code field(int opcode, String owner, String name, String descriptor) {
+            mMethod.visitFieldInsn(opcode, owner, name, descriptor);
+            return this;
+        }
+
+        /**
+         * 调用类中的方法；绑定类只调用类的方法，不需要invokeinterface
+         *
+         * @param opcode
+         * @param owner
+         * @param name
+         * @param descriptor
+         * @return
+         */
+        Code invoke(int opcode, String owner, String name, String descriptor) {
+            mMethod.visitMethodInsn(opcode, owner, name, descriptor, false);
+            return this;
+        }
+
+        /**
+         * new、anewarray、checkcast、instanceof
+         *
+         * @param opcode
+         * @param internalName
+         * @return
+         */
+        Code type(int opcode, String internalName) {
+            mMethod.visitTypeInsn(opcode, internalName);
+            return this;
+        }
+
+        Code newIntArray() {
+            mMethod.visitIntInsn(Opcodes.NEWARRAY, Opcodes.T_INT);
+            return this;
+        }
+
+        Code jump(int opcode, Label label) {
+            mMethod.visitJumpInsn(opcode, label);
+            return this;
+        }
+
+        Code mark(Label label) {
+            mMethod.visitLabel(label);
+            return this;
+        }
+
+        /**
+         * 调用后丢弃方法的返回值
+         *
+         * @param descriptor
+         * @return
+         */
+        Code popReturnValue(String descriptor) {
+            switch (Type.getReturnType(descriptor).getSize()) {
+                case 1:
+                    return op(Opcodes.POP);
+                case 2:
+                    return op(Opcodes.POP2);
+                default:
+                    return this;
+            }
+        }
+
+        private void end() {
+            if (!mEnded) {
+                mEnded = true;
+                mMethod.visitMaxs(0, 0);
+                mMethod.visitEnd();
+            }
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.blingbling.butterknife.compiler;
+
+import com.squareup.javapoet.ClassName;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编译后的布局：按res/layout中的XML直接创建View树的步骤，由LayoutCompiler在解析注解时生成，
+ * brewJava和BindingClassWriter都按它输出。创建后不再修改，同一个布局可以被多个绑定类共用
+ */
+class CompiledLayout {
+
+    private final String mName;
+    /** 按先序遍历排列，第一个是根View */
+    private final List<ViewNode> mViews;
+    /** 每个id先序遍历中的第一个View，与findViewById的结果相同 */
+    private final Map<Integer, ViewNode> mViewsById = new LinkedHashMap<>();
+
+    CompiledLayout(String name, List<ViewNode> views) {
+        mName = name;
+        mViews = Collections.unmodifiableList(views);
+        for (ViewNode view : views) {
+            if (view.id != null && !mViewsById.containsKey(view.id)) {
+                mViewsById.put(view.id, view);
+            }
+        }
+    }
+
+    /**
+     * 布局文件名，不含扩展名
+     *
+     * @return
+     */
+    String getName() {
+        return mName;
+    }
+
+    ViewNode getRoot() {
+        return mViews.get(0);
+    }
+
+    List<ViewNode> getViews() {
+        return mViews;
+    }
+
+    /**
+     * 布局中id对应的View，布局中没有这个id时为null
+     *
+     * @param id
+     * @return
+     */
+    ViewNode findView(int id) {
+        return mViewsById.get(id);
+    }
+
+    /**
+     * 布局中的一个View：用Context构造，调用setter，创建完子View后按LayoutParams加入父View，与LayoutInflater的顺序相同
+     */
+    static final class ViewNode {
+
+        /** 先序遍历中的位置，用于生成局部变量名 */
+        final int index;
+        final ClassName type;
+        /** android:id的值，没有id时为null */
+        final Integer id;
+        final List<Call> calls = new ArrayList<>();
+        final List<ViewNode> children = new ArrayList<>();
+        /** 加入父View时的LayoutParams，根View为ViewGroup.LayoutParams */
+        LayoutParams params;
+
+        ViewNode(int index, ClassName type, Integer id) {
+            this.index = index;
+            this.type = type;
+            this.id = id;
+        }
+    }
+
+    /**
+     * 对View调用的setter
+     */
+    static final class Call {
+
+        final String method;
+        /** 方法描述符，直接生成字节码时使用 */
+        final String descriptor;
+        final Arg[] args;
+
+        Call(String method, String descriptor, Arg... args) {
+            this.method = method;
+            this.descriptor = descriptor;
+            this.args = args;
+        }
+    }
+
+    /**
+     * 用宽高构造的LayoutParams，和构造后再设置的成员
+     */
+    static final class LayoutParams {
+
+        final ClassName type;
+        final Arg width;
+        final Arg height;
+        final List<ParamsField> fields = new ArrayList<>();
+
+        LayoutParams(ClassName type, Arg width, Arg height) {
+            this.type = type;
+            this.width = width;
+            this.height = height;
+        }
+    }
+
+    static final class ParamsField {
+
+        final String name;
+        final String descriptor;
+        final Arg value;
+
+        ParamsField(String name, String descriptor, Arg value) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.value = value;
+        }
+    }
+
+    /**
+     * setter和LayoutParams的参数
+     */
+    static final class Arg {
+
+        enum Kind {
+            /** int常量，constants不为空时源码中写成常量名，多个常量用|连接 */
+            INT,
+            FLOAT,
+            BOOLEAN,
+            STRING,
+            /** 资源id，源码中引用R，字节码中直接使用值 */
+            RESOURCE,
+            /** 带单位的尺寸，运行时按屏幕密度转换为像素，与inflate时的取整相同 */
+            DIMENSION,
+            /** 调用View自身的getter，例如只设置了部分padding时保留其他方向的值 */
+            GETTER
+        }
+
+        final Kind kind;
+        final int intValue;
+        final float floatValue;
+        /** STRING的值；RESOURCE的资源名；GETTER的方法名 */
+        final String string;
+        /** RESOURCE的资源类，例如R.id */
+        final ClassName owner;
+        /** INT的常量名，owner中的静态成员 */
+        final List<String> constants;
+        /** 以16进制输出INT，用于颜色 */
+        final boolean hex;
+
+        private Arg(Kind kind, int intValue, float floatValue, String string, ClassName owner,
+                    List<String> constants, boolean hex) {
+            this.kind = kind;
+            this.intValue = intValue;
+            this.floatValue = floatValue;
+            this.string = string;
+            this.owner = owner;
+            this.constants = constants;
+            this.hex = hex;
+        }
+
+        static Arg constant(int value, ClassName owner, List<String> constants) {
+            return new Arg(Kind.INT, value, 0, null, owner, constants, false);
+        }
+
+        static Arg color(int value) {
+            return new Arg(Kind.INT, value, 0, null, null, Collections.<String>emptyList(), true);
+        }
+
+        static Arg floatValue(float value) {
+            return new Arg(Kind.FLOAT, 0, value, null, null, null, false);
+        }
+
+        static Arg booleanValue(boolean value) {
+            return new Arg(Kind.BOOLEAN, value ? 1 : 0, 0, null, null, null, false);
+        }
+
+        static Arg string(String value) {
+            return new Arg(Kind.STRING, 0, 0, value, null, null, false);
+        }
+
+        /**
+         * @param owner R中的资源类，例如R.string
+         * @param name  资源名
+         * @param value 资源id的值
+         */
+        static Arg resource(ClassName owner, String name, int value) {
+            return new Arg(Kind.RESOURCE, value, 0, name, owner, null, false);
+        }
+
+        /**
+         * @param unit  TypedValue中的单位，COMPLEX_UNIT_PX、COMPLEX_UNIT_DIP或COMPLEX_UNIT_SP
+         * @param value
+         */
+        static Arg dimension(int unit, float value) {
+            return new Arg(Kind.DIMENSION, unit, value, null, null, null, false);
+        }
+
+        static Arg getter(String method) {
+            return new Arg(Kind.GETTER, 0, 0, method, null, null, false);
+        }
+    }
+}
@@ -1,9 +1,19 @@
 package com.blingbling.butterknife.compiler;
 
 import com.blingbling.butterknife.annotation.BindView;
+import com.squareup.javapoet.TypeName;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.IntersectionType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
 
 /**
  * Created by BlingBling on 2018/1/5.
@@ -13,24 +23,123 @@ class FieldViewBinding {
 
     private String mName;
     private int mValue;
-    private TypeMirror mType;
+    /** 类型在解析时就转换为TypeName，生成代码时不再访问编译器的类型信息，可以在其他线程中进行 */
+    private TypeName mType;
+    /** 擦除泛型后的类型描述符，直接生成字节码时使用 */
+    private String mDescriptor;
+    /** 擦除后的类型和它的所有父类、接口的全名，第一个是类型本身，用来判断两个字段的类型之间能否强转 */
+    private Set<String> mSupertypes = new LinkedHashSet<>();
+    /** Lazy字段中View的类型，不是Lazy字段时为null */
+    private TypeName mLazyViewType;
+    private boolean mLazyViewStub;
+    private boolean mLazyTypeError;
 
     public FieldViewBinding(Element element) {
         BindView fieldViewBinding = element.getAnnotation(BindView.class);
         mName = element.getSimpleName().toString();
-        mType = element.asType();
+        TypeMirror type = element.asType();
+        mType = TypeName.get(type);
+        mDescriptor = BindingClassWriter.descriptor(type);
+        collectSupertypes(type, mSupertypes);
         mValue = fieldViewBinding.value();
+
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            if (declaredType.asElement().toString().equals(InjectProcessor.TYPE_LAZY)) {
+                List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+                if (typeArguments.size() == 1 && typeArguments.get(0).getKind() == TypeKind.DECLARED) {
+                    mLazyViewType = TypeName.get(typeArguments.get(0));
+                    mLazyViewStub = InjectProcessor.isTypeEqual(typeArguments.get(0), InjectProcessor.TYPE_VIEW_STUB);
+                } else {
+                    mLazyTypeError = true;
+                }
+            }
+        }
     }
 
     public String getName() {
         return mName;
     }
 
-    public TypeMirror getType() {
+    public TypeName getType() {
         return mType;
     }
 
+    public String getDescriptor() {
+        return mDescriptor;
+    }
+
     public int getValue() {
         return mValue;
     }
+
+    /**
+     * 是否为Lazy字段，第一次访问时才查找View
+     *
+     * @return
+     */
+    public boolean isLazy() {
+        return mLazyViewType != null;
+    }
+
+    public TypeName getLazyViewType() {
+        return mLazyViewType;
+    }
+
+    /**
+     * Lazy字段的View是否为ViewStub，是时不自动inflate
+     *
+     * @return
+     */
+    public boolean isLazyViewStub() {
+        return mLazyViewStub;
+    }
+
+    /**
+     * 两个字段的类型是否有继承关系。没有时一个字段的值不能直接强转为另一个字段的类型，javac会报inconvertible types
+     *
+     * @param other
+     * @return
+     */
+    public boolean isRelatedTo(FieldViewBinding other) {
+        if (mSupertypes.isEmpty() || other.mSupertypes.isEmpty()) {
+            return false;
+        }
+        return mSupertypes.contains(other.mSupertypes.iterator().next())
+                || other.mSupertypes.contains(mSupertypes.iterator().next());
+    }
+
+    private static void collectSupertypes(TypeMirror type, Set<String> result) {
+        switch (type.getKind()) {
+            case DECLARED:
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                if (!result.add(element.getQualifiedName().toString())) {
+                    return;
+                }
+                collectSupertypes(element.getSuperclass(), result);
+                for (TypeMirror superInterface : element.getInterfaces()) {
+                    collectSupertypes(superInterface, result);
+                }
+                break;
+            case TYPEVAR:
+                collectSupertypes(((TypeVariable) type).getUpperBound(), result);
+                break;
+            case INTERSECTION:
+                for (TypeMirror bound : ((IntersectionType) type).getBounds()) {
+                    collectSupertypes(bound, result);
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Lazy字段没有声明具体的View类型，例如使用了原始类型或通配符
+     *
+     * @return
+     */
+    public boolean isLazyTypeError() {
+        return mLazyTypeError;
+    }
 }
@@ -0,0 +1,114 @@
+package com.blingbling.butterknife.compiler;
+
+import com.blingbling.butterknife.annotation.BindViews;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
+
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * 注解@BindViews的字段，类型为T[]或List&lt;T&gt;。绑定类持有一个T[]，每次绑定时填充，List字段使用以该数组为底层的
+ * ImmutableViewList，重新绑定时不分配
+ */
+class FieldViewsBinding {
+
+    private String mName;
+    private int[] mValue;
+    private TypeName mType;
+    /** 擦除泛型后的类型描述符，直接生成字节码时使用 */
+    private String mDescriptor;
+    /** View的类型，字段类型不是数组或List时为null */
+    private ClassName mViewType;
+    /** View的类型，只在解析时用来检查是否为View */
+    private TypeMirror mViewTypeMirror;
+    private boolean mList;
+
+    public FieldViewsBinding(Element element) {
+        BindViews annotation = element.getAnnotation(BindViews.class);
+        mName = element.getSimpleName().toString();
+        mValue = annotation.value();
+        TypeMirror type = element.asType();
+        mType = TypeName.get(type);
+        mDescriptor = BindingClassWriter.descriptor(type);
+
+        TypeMirror viewType = null;
+        if (type.getKind() == TypeKind.ARRAY) {
+            viewType = ((ArrayType) type).getComponentType();
+        } else if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+            if (declaredType.asElement().toString().equals(List.class.getCanonicalName())
+                    && typeArguments.size() == 1) {
+                viewType = typeArguments.get(0);
+                mList = true;
+            }
+        }
+        if (viewType != null && viewType.getKind() == TypeKind.DECLARED) {
+            mViewTypeMirror = viewType;
+            mViewType = ClassName.get((TypeElement) ((DeclaredType) viewType).asElement());
+        }
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public int[] getValue() {
+        return mValue;
+    }
+
+    public TypeName getType() {
+        return mType;
+    }
+
+    public String getDescriptor() {
+        return mDescriptor;
+    }
+
+    /**
+     * 组中View的类型（擦除泛型），字段类型错误时为null
+     *
+     * @return
+     */
+    public ClassName getViewType() {
+        return mViewType;
+    }
+
+    TypeMirror getViewTypeMirror() {
+        return mViewTypeMirror;
+    }
+
+    /**
+     * 字段是否为List，否则为数组
+     *
+     * @return
+     */
+    public boolean isList() {
+        return mList;
+    }
+
+    /**
+     * 绑定类中保存View的数组的名字
+     *
+     * @return
+     */
+    String getArrayName() {
+        return mName + "Group";
+    }
+
+    /**
+     * 绑定类中以数组为底层的List的名字，只有List字段有
+     *
+     * @return
+     */
+    String getListName() {
+        return mName + "List";
+    }
+}
@@ -1,16 +1,25 @@
 package com.blingbling.butterknife.compiler;
 
 import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.BindViews;
 import com.blingbling.butterknife.annotation.ContentView;
 import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.annotation.OnItemClick;
+import com.google.auto.common.MoreElements;
 import com.google.auto.common.SuperficialValidation;
 import com.google.auto.service.AutoService;
-import com.squareup.javapoet.JavaFile;
+import com.blingbling.butterknife.compiler.ListenerType.ListenerMethod;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.TypeName;
 
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -24,23 +33,45 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.annotation.processing.Processor;
 import javax.annotation.processing.RoundEnvironment;
 import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
 import javax.lang.model.element.Element;
 import javax.lang.model.element.ElementKind;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
 import javax.lang.model.type.DeclaredType;
 import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
 import javax.lang.model.util.Elements;
 import javax.lang.model.util.Types;
 import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
 
 @AutoService(Processor.class)
 public class InjectProcessor extends AbstractProcessor {
 
     static final String TYPE_ACTIVITY = "android.app.Activity";
     static final String TYPE_VIEW = "android.view.View";
+    static final String TYPE_ON_CLICK_LISTENER = "android.view.View.OnClickListener";
+    static final String TYPE_VIEW_STUB = "android.view.ViewStub";
+    static final String TYPE_LAZY = "com.blingbling.butterknife.api.Lazy";
+    static final String TYPE_ON_VIEWS_READY_LISTENER = "com.blingbling.butterknife.api.OnViewsReadyListener";
+    /** 在classpath上的RecyclerView，@OnItemClick按adapter position回调 */
+    static final String[] TYPE_RECYCLER_VIEWS = {
+            "android.support.v7.widget.RecyclerView",
+            "androidx.recyclerview.widget.RecyclerView"
+    };
+
+    /** 生成绑定索引的完整类名，不设置时不生成索引 */
+    static final String OPTION_INDEX = "butterknife.index";
+    /** 生成的R8/ProGuard规则的路径前缀，每个绑定类一个文件 */
+    static final String KEEP_RULES_PREFIX = "META-INF/proguard/butterknife-";
+    /** Gradle增量编译的处理器类型，每个绑定只依赖一个目标类；生成索引时需要所有目标类 */
+    private static final String OPTION_GRADLE_ISOLATING = "org.gradle.annotation.processing.isolating";
+    private static final String OPTION_GRADLE_AGGREGATING = "org.gradle.annotation.processing.aggregating";
 
     /** 处理Element的的工具类 */
     private Elements mElements;
@@ -50,6 +81,29 @@ public class InjectProcessor extends AbstractProcessor {
     private Filer mFiler;
     /** 提供给注解处理器一个报告错误、警告以及提示信息的途径，它不是注解处理器开发者的日志工具，而是用来写一些信息给使用此注解器的第三方开发者的 */
     private Messager mMessager;
+    /** 绑定索引，只在第一个有注解的轮次生成一次 */
+    private BindingIndexClass mBindingIndex;
+    private BindingOptions mBindingOptions;
+    private SourceGenerator mSourceGenerator;
+    /** 打开butterknife.layoutDir时编译@ContentView的布局，否则为null */
+    private LayoutCompiler mLayoutCompiler;
+    /** 打开butterknife.costReport时，所有轮次中生成的绑定类的开销，最后一轮写入模块报告 */
+    private final List<BindingCost> mBindingCosts = new ArrayList<>();
+    private boolean mIndexWritten;
+    /** 注解对应的TypeElement，扫描时按注解类型比较 */
+    private TypeElement mContentViewElement;
+    private TypeElement mBindViewElement;
+    private TypeElement mBindViewsElement;
+    private TypeElement mOnClickElement;
+    private TypeElement mOnItemClickElement;
+    /** {@link ListenerType}表中注解对应的TypeElement */
+    private final Map<TypeElement, ListenerType> mListenerElements = new HashMap<>();
+    /** classpath上存在的RecyclerView类 */
+    private final List<ClassName> mRecyclerViewTypes = new ArrayList<>();
+    /** 本轮中按类名查到的擦除泛型后的类型，不存在的类型为null，每轮开始时清空 */
+    private final Map<String, TypeMirror> mErasedTypes = new HashMap<>();
+    /** 本轮中Element的校验结果，每轮开始时清空 */
+    private final Map<Element, Boolean> mValidElements = new HashMap<>();
 
     /**
      * 每一个注解处理器类都必须有一个无参构造方法。
@@ -64,6 +118,36 @@ public class InjectProcessor extends AbstractProcessor {
         mTypes = processingEnvironment.getTypeUtils();
         mFiler = processingEnvironment.getFiler();
         mMessager = processingEnvironment.getMessager();
+        mContentViewElement = mElements.getTypeElement(ContentView.class.getCanonicalName());
+        mBindViewElement = mElements.getTypeElement(BindView.class.getCanonicalName());
+        mBindViewsElement = mElements.getTypeElement(BindViews.class.getCanonicalName());
+        mOnClickElement = mElements.getTypeElement(OnClick.class.getCanonicalName());
+        mOnItemClickElement = mElements.getTypeElement(OnItemClick.class.getCanonicalName());
+        for (ListenerType type : ListenerType.TYPES) {
+            mListenerElements.put(mElements.getTypeElement(type.annotation.getCanonicalName()), type);
+        }
+        for (String recyclerView : TYPE_RECYCLER_VIEWS) {
+            TypeElement recyclerViewElement = mElements.getTypeElement(recyclerView);
+            if (recyclerViewElement != null) {
+                mRecyclerViewTypes.add(ClassName.get(recyclerViewElement));
+            }
+        }
+
+        try {
+            mBindingOptions = new BindingOptions(processingEnvironment.getOptions());
+        } catch (IllegalArgumentException e) {
+            mMessager.printMessage(Diagnostic.Kind.ERROR, e.getMessage());
+            mBindingOptions = new BindingOptions(Collections.<String, String>emptyMap());
+        }
+        mSourceGenerator = new SourceGenerator(mBindingOptions.getParallelism(), mBindingOptions.isBytecode());
+        if (!mBindingOptions.getLayoutDirs().isEmpty()) {
+            mLayoutCompiler = new LayoutCompiler(mElements, mBindingOptions.getLayoutDirs());
+        }
+
+        String indexClassName = processingEnvironment.getOptions().get(OPTION_INDEX);
+        if (indexClassName != null && !indexClassName.isEmpty()) {
+            mBindingIndex = new BindingIndexClass(indexClassName);
+        }
     }
 
     /**
@@ -82,6 +166,31 @@ public class InjectProcessor extends AbstractProcessor {
         Set<String> set = new LinkedHashSet<>();
         set.add(ContentView.class.getCanonicalName());
         set.add(BindView.class.getCanonicalName());
+        set.add(BindViews.class.getCanonicalName());
+        set.add(OnClick.class.getCanonicalName());
+        set.add(OnItemClick.class.getCanonicalName());
+        for (ListenerType type : ListenerType.TYPES) {
+            set.add(type.annotation.getCanonicalName());
+        }
+        return set;
+    }
+
+    /**
+     * @return 返回支持的处理器参数
+     */
+    @Override
+    public Set<String> getSupportedOptions() {
+        Set<String> set = new LinkedHashSet<>();
+        set.add(OPTION_INDEX);
+        set.add(BindingOptions.OPTION_BATCH_LOOKUP_THRESHOLD);
+        set.add(BindingOptions.OPTION_SHARED_CLICK_LISTENER);
+        set.add(BindingOptions.OPTION_PARALLELISM);
+        set.add(BindingOptions.OPTION_COST_REPORT);
+        set.add(BindingOptions.OPTION_BYTECODE);
+        set.add(BindingOptions.OPTION_LAYOUT_DIR);
+        // 模块报告和索引一样依赖所有目标类
+        set.add(mBindingIndex != null || (mBindingOptions != null && mBindingOptions.isCostReport())
+                ? OPTION_GRADLE_AGGREGATING : OPTION_GRADLE_ISOLATING);
         return set;
     }
 
@@ -94,62 +203,385 @@ public class InjectProcessor extends AbstractProcessor {
      */
     @Override
     public boolean process(Set<? extends TypeElement> set, RoundEnvironment roundEnvironment) {
+        // 生成的类在下一轮才可见，缓存只在本轮有效
+        mErasedTypes.clear();
+        mValidElements.clear();
+
         //解析注解
         Map<TypeElement, BindingClass> targetClassMap = findAndParseTargets(roundEnvironment);
 
-        //解析完成后，生成的代码的结构已经有了，它们存在TargetClass中
-        for (Map.Entry<TypeElement, BindingClass> entry : targetClassMap.entrySet()) {
-
-            TypeElement typeElement = entry.getKey();
-            BindingClass bindingClass = entry.getValue();
-
-            JavaFile javaFile = bindingClass.brewJava();
+        //解析完成后，生成的代码的结构已经有了，它们存在TargetClass中。生成源码或类文件可以并行，写文件只在当前线程中按顺序进行
+        List<BindingClass> bindingClasses = new ArrayList<>(targetClassMap.values());
+        List<SourceGenerator.GeneratedSource> sources = mSourceGenerator.generate(bindingClasses);
+        for (int i = 0, count = bindingClasses.size(); i < count; i++) {
+            TypeElement typeElement = bindingClasses.get(i).getTargetElement();
             try {
-                javaFile.writeTo(mFiler);
+                sources.get(i).writeTo(mFiler);
             } catch (IOException e) {
                 error(typeElement, "Unable to write injecting for type %s: %s", typeElement, e.getMessage());
             }
+            writeKeepRules(typeElement, bindingClasses.get(i));
+            if (mBindingOptions.isCostReport()) {
+                writeBindingCost(typeElement, bindingClasses.get(i).createCost(
+                        sources.get(i).getFieldCount(), sources.get(i).getMethodCount()));
+            }
+        }
+
+        writeBindingIndex(targetClassMap);
+        if (roundEnvironment.processingOver()) {
+            mSourceGenerator.shutdown();
+            if (mBindingOptions.isCostReport()) {
+                writeModuleCost();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 每个绑定类写一份R8/ProGuard规则到META-INF/proguard，打包进jar或aar后使用方压缩时会自动应用
+     */
+    private void writeKeepRules(TypeElement typeElement, BindingClass bindingClass) {
+        String rules = bindingClass.createKeepRules(mElements.getBinaryName(typeElement).toString());
+        try {
+            writeResource(StandardLocation.CLASS_OUTPUT, KEEP_RULES_PREFIX + bindingClass.getBindingClassName() + ".pro",
+                    rules, typeElement);
+        } catch (IOException e) {
+            error(typeElement, "Unable to write keep rules for type %s: %s", typeElement, e.getMessage());
+        }
+    }
+
+    /**
+     * 写入一个绑定类的开销报告，并计入模块报告
+     */
+    private void writeBindingCost(TypeElement typeElement, BindingCost cost) {
+        mBindingCosts.add(cost);
+        try {
+            writeResource(StandardLocation.SOURCE_OUTPUT, BindingCost.REPORT_DIR + cost.getBinding() + ".json",
+                    cost.toJson(), typeElement);
+        } catch (IOException e) {
+            error(typeElement, "Unable to write binding cost for type %s: %s", typeElement, e.getMessage());
+        }
+    }
+
+    /**
+     * 写入整个模块的开销报告，在最后一轮调用，这时所有绑定类都已生成
+     */
+    private void writeModuleCost() {
+        try {
+            writeResource(StandardLocation.SOURCE_OUTPUT, BindingCost.MODULE_REPORT,
+                    BindingCost.toModuleJson(mBindingCosts));
+        } catch (IOException e) {
+            mMessager.printMessage(Diagnostic.Kind.ERROR, String.format(
+                    "Unable to write binding cost report %s: %s", BindingCost.MODULE_REPORT, e.getMessage()));
+        }
+    }
+
+    /**
+     * 报告写在生成源码的目录下，不会被打包进apk；规则写在class目录下，随jar或aar发布
+     */
+    private void writeResource(StandardLocation location, String relativeName, String content,
+                               Element... originatingElements) throws IOException {
+        FileObject file = mFiler.createResource(location, "", relativeName, originatingElements);
+        try (Writer writer = file.openWriter()) {
+            writer.write(content);
+        }
+    }
+
+    /**
+     * 生成绑定索引，索引包名下无法访问的目标类不加入索引，运行时仍走反射查找
+     */
+    private void writeBindingIndex(Map<TypeElement, BindingClass> targetClassMap) {
+        if (mBindingIndex == null || targetClassMap.isEmpty()) {
+            return;
+        }
+        if (mIndexWritten) {
+            for (TypeElement typeElement : targetClassMap.keySet()) {
+                note(typeElement, "%s generated in a later round is not in the binding index. (%s)",
+                        BindingClass.JAVA_FILE_SUFFIX, typeElement.getQualifiedName());
+            }
+            return;
+        }
+        mIndexWritten = true;
+
+        for (Map.Entry<TypeElement, BindingClass> entry : targetClassMap.entrySet()) {
+            TypeElement typeElement = entry.getKey();
+            if (isAccessibleFromPackage(typeElement, mBindingIndex.getPackageName())) {
+                mBindingIndex.addBindingClass(entry.getValue());
+            } else {
+                note(typeElement, "Class is not visible to %s, binding falls back to reflection. (%s)",
+                        mBindingIndex.getClassName(), typeElement.getQualifiedName());
+            }
+        }
+        if (mBindingIndex.isEmpty()) {
+            return;
+        }
+        try {
+            mBindingIndex.brewJava().writeTo(mFiler);
+        } catch (IOException e) {
+            error(targetClassMap.keySet().iterator().next(), "Unable to write binding index %s: %s",
+                    mBindingIndex.getClassName(), e.getMessage());
+        }
+    }
+
+    /**
+     * 生成的代码需要引用目标类型，要求类型本身和所有外部类都可以从索引所在的包访问
+     */
+    private boolean isAccessibleFromPackage(TypeElement typeElement, String packageName) {
+        if (MoreElements.getPackage(typeElement).getQualifiedName().contentEquals(packageName)) {
+            return !hasPrivateEnclosingType(typeElement);
+        }
+        Element element = typeElement;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            if (!element.getModifiers().contains(Modifier.PUBLIC)) {
+                return false;
+            }
+            element = element.getEnclosingElement();
+        }
+        return true;
+    }
+
+    private boolean hasPrivateEnclosingType(TypeElement typeElement) {
+        Element element = typeElement;
+        while (element.getKind().isClass() || element.getKind().isInterface()) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return true;
+            }
+            element = element.getEnclosingElement();
         }
         return false;
     }
 
     /**
-     * 发现并解析注解字段
+     * 发现并解析注解字段。只遍历一次本轮的所有类型及其成员，代替按每种注解分别调用getElementsAnnotatedWith
      */
     private Map<TypeElement, BindingClass> findAndParseTargets(RoundEnvironment env) {
         Map<TypeElement, BindingClass> builderMap = new LinkedHashMap<>();
 
-        // Process each @ContentView element.
-        for (Element element : env.getElementsAnnotatedWith(ContentView.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
-            try {
-                parseContentView(element, builderMap, ContentView.class);
-            } catch (Exception e) {
-                logParsingError(element, ContentView.class, e);
+        for (Element element : env.getRootElements()) {
+            if (element.getKind().isClass() || element.getKind().isInterface()) {
+                scanType((TypeElement) element, builderMap);
             }
         }
 
-        // Process each @BindView element.
-        for (Element element : env.getElementsAnnotatedWith(BindView.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+        addSubclassBindings(env, builderMap);
+        linkSuperclassBindings(builderMap);
+        if (mLayoutCompiler != null) {
+            compileLayouts(builderMap);
+        }
+        return builderMap;
+    }
+
+    /**
+     * 本轮中没有注解、但父类有绑定的类也生成绑定，只继承父类绑定。运行时按类直接找到绑定，不用抛出
+     * ClassNotFoundException逐级查找父类。抽象类不会被绑定，私有类型在绑定类中无法引用，都跳过
+     */
+    private void addSubclassBindings(RoundEnvironment env, Map<TypeElement, BindingClass> builderMap) {
+        List<TypeElement> types = new ArrayList<>();
+        for (Element element : env.getRootElements()) {
+            collectClasses(element, types);
+        }
+        for (int i = 0, count = types.size(); i < count; i++) {
+            TypeElement typeElement = types.get(i);
+            if (!builderMap.containsKey(typeElement)
+                    && !typeElement.getModifiers().contains(Modifier.ABSTRACT)
+                    && !hasPrivateEnclosingType(typeElement)
+                    && hasBoundSuperclass(typeElement, builderMap)) {
+                getOrCreateBindingBuilder(builderMap, typeElement);
+            }
+        }
+    }
+
+    private static void collectClasses(Element element, List<TypeElement> types) {
+        if (element.getKind() == ElementKind.CLASS) {
+            types.add((TypeElement) element);
+        }
+        if (element.getKind().isClass() || element.getKind().isInterface()) {
+            for (Element enclosedElement : element.getEnclosedElements()) {
+                collectClasses(enclosedElement, types);
+            }
+        }
+    }
+
+    /**
+     * 父类中是否有本轮的绑定，或者classpath上已经生成了绑定类
+     */
+    private boolean hasBoundSuperclass(TypeElement typeElement, Map<TypeElement, BindingClass> builderMap) {
+        TypeElement superElement = typeElement;
+        while ((superElement = findUserSuperclass(superElement)) != null) {
+            if (builderMap.containsKey(superElement)
+                    || mElements.getTypeElement(BindingClass.getBindingClassName(superElement).toString()) != null) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 编译每个绑定类的布局，包括从父类继承的布局。不能编译的布局在运行时仍然加载，提示原因
+     */
+    private void compileLayouts(Map<TypeElement, BindingClass> builderMap) {
+        for (Map.Entry<TypeElement, BindingClass> entry : builderMap.entrySet()) {
+            LayoutViewBinding layout = entry.getValue().getLayoutViewBinding();
+            if (layout == null) {
+                continue;
+            }
             try {
-                parseBindView(element, builderMap, BindView.class);
-            } catch (Exception e) {
-                logParsingError(element, BindView.class, e);
+                entry.getValue().setCompiledLayout(mLayoutCompiler.compile(layout.getElement(), layout.getValue()));
+            } catch (LayoutCompiler.UnsupportedLayoutException e) {
+                note(entry.getKey(), "Layout is inflated at runtime: %s. (%s)",
+                        e.getMessage(), entry.getKey().getQualifiedName());
             }
         }
+    }
 
-        // Process each @OnClick element.
-        for (Element element : env.getElementsAnnotatedWith(OnClick.class)) {
-            if (!SuperficialValidation.validateElement(element)) continue;
+    /**
+     * 解析类型上的@ContentView和成员上的@BindView、@BindViews、@OnClick、@OnItemClick以及{@link ListenerType}表中的
+     * 监听注解，并递归处理内部类
+     */
+    private void scanType(TypeElement typeElement, Map<TypeElement, BindingClass> builderMap) {
+        if (hasAnnotation(typeElement, mContentViewElement) && isValid(typeElement)) {
             try {
-                parseOnClick(element, builderMap, OnClick.class);
+                parseContentView(typeElement, builderMap, ContentView.class);
             } catch (Exception e) {
-                logParsingError(element, OnClick.class, e);
+                logParsingError(typeElement, ContentView.class, e);
             }
         }
 
-        return builderMap;
+        for (Element element : typeElement.getEnclosedElements()) {
+            ElementKind kind = element.getKind();
+            if (kind == ElementKind.FIELD) {
+                if (hasAnnotation(element, mBindViewElement) && isValid(element)) {
+                    try {
+                        parseBindView(element, builderMap, BindView.class);
+                    } catch (Exception e) {
+                        logParsingError(element, BindView.class, e);
+                    }
+                }
+                if (hasAnnotation(element, mBindViewsElement) && isValid(element)) {
+                    try {
+                        parseBindViews(element, builderMap);
+                    } catch (Exception e) {
+                        logParsingError(element, BindViews.class, e);
+                    }
+                }
+            } else if (kind == ElementKind.METHOD) {
+                if (hasAnnotation(element, mOnClickElement) && isValid(element)) {
+                    try {
+                        parseOnClick(element, builderMap, OnClick.class);
+                    } catch (Exception e) {
+                        logParsingError(element, OnClick.class, e);
+                    }
+                }
+                if (hasAnnotation(element, mOnItemClickElement) && isValid(element)) {
+                    try {
+                        parseOnItemClick(element, builderMap);
+                    } catch (Exception e) {
+                        logParsingError(element, OnItemClick.class, e);
+                    }
+                }
+                for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+                    ListenerType type = mListenerElements.get(annotationMirror.getAnnotationType().asElement());
+                    if (type != null && isValid(element)) {
+                        try {
+                            parseListener(element, annotationMirror, type, builderMap);
+                        } catch (Exception e) {
+                            logParsingError(element, type.annotation, e);
+                        }
+                    }
+                }
+            } else if (kind.isClass() || kind.isInterface()) {
+                scanType((TypeElement) element, builderMap);
+            }
+        }
+    }
+
+    /**
+     * 比较注解的类型，不创建注解的代理对象
+     */
+    private static boolean hasAnnotation(Element element, TypeElement annotationElement) {
+        for (AnnotationMirror annotationMirror : element.getAnnotationMirrors()) {
+            if (annotationMirror.getAnnotationType().asElement().equals(annotationElement)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 校验Element，结果在本轮中缓存。类型校验通过时它的所有成员也已经校验过
+     */
+    private boolean isValid(Element element) {
+        Boolean valid = mValidElements.get(element);
+        if (valid == null) {
+            valid = SuperficialValidation.validateElement(element);
+            mValidElements.put(element, valid);
+            if (valid && (element.getKind().isClass() || element.getKind().isInterface())) {
+                for (Element enclosedElement : element.getEnclosedElements()) {
+                    mValidElements.put(enclosedElement, true);
+                }
+            }
+        }
+        return valid;
+    }
+
+    /**
+     * 在编译期处理继承关系：父类有绑定时子类绑定继承父类绑定，子类没有@ContentView时使用最近父类的布局。
+     * 父类在其他模块时，通过classpath上已生成的绑定类判断父类是否有绑定。
+     */
+    private void linkSuperclassBindings(Map<TypeElement, BindingClass> builderMap) {
+        for (Map.Entry<TypeElement, BindingClass> entry : builderMap.entrySet()) {
+            BindingClass bindingClass = entry.getValue();
+            boolean hasParentBinding = false;
+            boolean hasLayout = bindingClass.hasContentViewBinding();
+
+            TypeElement superElement = entry.getKey();
+            while ((!hasParentBinding || !hasLayout)
+                    && (superElement = findUserSuperclass(superElement)) != null) {
+                if (!hasParentBinding) {
+                    hasParentBinding = linkParentBinding(bindingClass, superElement, builderMap);
+                }
+                if (!hasLayout && superElement.getAnnotation(ContentView.class) != null) {
+                    bindingClass.setContentViewBinding(new LayoutViewBinding(superElement));
+                    hasLayout = true;
+                }
+            }
+        }
+    }
+
+    /** Returns the superclass of {@code typeElement}, or null once the framework is reached. */
+    private static TypeElement findUserSuperclass(TypeElement typeElement) {
+        TypeMirror superType = typeElement.getSuperclass();
+        if (superType.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        TypeElement superElement = (TypeElement) ((DeclaredType) superType).asElement();
+        String qualifiedName = superElement.getQualifiedName().toString();
+        if (qualifiedName.startsWith("android.") || qualifiedName.startsWith("java.")) {
+            return null;
+        }
+        return superElement;
+    }
+
+    /**
+     * 父类有绑定时设置为子类绑定的父类，父类在其他模块时从classpath上的绑定类判断它是否分发点击事件
+     *
+     * @return 父类是否有绑定
+     */
+    private boolean linkParentBinding(BindingClass bindingClass, TypeElement superElement,
+                                      Map<TypeElement, BindingClass> builderMap) {
+        BindingClass parentBindingClass = builderMap.get(superElement);
+        if (parentBindingClass != null) {
+            bindingClass.setParentBindingClass(parentBindingClass);
+            return true;
+        }
+        ClassName bindingClassName = BindingClass.getBindingClassName(superElement);
+        TypeElement bindingElement = mElements.getTypeElement(bindingClassName.toString());
+        if (bindingElement == null) {
+            return false;
+        }
+        bindingClass.setParentBindingClassName(bindingClassName, ClassName.get(superElement),
+                isSubtypeOfType(bindingElement.asType(), TYPE_ON_CLICK_LISTENER));
+        return true;
     }
 
     private void parseContentView(Element element, Map<TypeElement, BindingClass> builderMap, Class<? extends Annotation> clazz) {
@@ -176,11 +608,51 @@ public class InjectProcessor extends AbstractProcessor {
         boolean hasError = isInaccessibleViaGeneratedCode(clazz, "fields", element)
                 || isBindingInWrongPackage(clazz, element);
 
+        FieldViewBinding fieldViewBinding = new FieldViewBinding(element);
+        if (fieldViewBinding.isLazyTypeError()) {
+            error(element, "@%s Lazy fields must declare the view type, e.g. Lazy<TextView>. (%s.%s)",
+                    clazz.getSimpleName(), enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+
         if (hasError) {
             return;
         }
         BindingClass bindingClass = getOrCreateBindingBuilder(builderMap, enclosingElement);
-        bindingClass.addFieldViewBinding(new FieldViewBinding(element));
+        bindingClass.addFieldViewBinding(fieldViewBinding);
+    }
+
+    private void parseBindViews(Element element, Map<TypeElement, BindingClass> builderMap) {
+        TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+
+        boolean hasError = isInaccessibleViaGeneratedCode(BindViews.class, "fields", element)
+                || isBindingInWrongPackage(BindViews.class, element);
+
+        FieldViewsBinding fieldViewsBinding = new FieldViewsBinding(element);
+        int[] ids = fieldViewsBinding.getValue();
+        if (ids.length == 0) {
+            error(element, "@BindViews must specify at least one ID. (%s.%s)",
+                    enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+        Integer duplicateId = findDuplicate(ids);
+        if (duplicateId != null) {
+            error(element, "@BindViews annotation contains duplicate ID %d. (%s.%s)",
+                    duplicateId, enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+        if (fieldViewsBinding.getViewType() == null
+                || !isSubtypeOfType(fieldViewsBinding.getViewTypeMirror(), TYPE_VIEW)) {
+            error(element, "@BindViews fields must be an array or a List of a View type, e.g. TextView[]. (%s.%s)",
+                    enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+
+        if (hasError) {
+            return;
+        }
+        BindingClass bindingClass = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        bindingClass.addFieldViewsBinding(fieldViewsBinding);
     }
 
     private void parseOnClick(Element element, Map<TypeElement, BindingClass> builderMap, Class<? extends Annotation> clazz) {
@@ -212,6 +684,23 @@ public class InjectProcessor extends AbstractProcessor {
             hasError = true;
         }
 
+        // 一个View只有一个OnClickListener，同一个id的方法只能在同一个线程调用
+        BindingClass existingBindingClass = builderMap.get(enclosingElement);
+        if (existingBindingClass != null) {
+            for (MethodViewBinding existing : existingBindingClass.getMethodViewBindings()) {
+                if (existing.isBackground() == methodViewBinding.isBackground()) {
+                    continue;
+                }
+                Integer mixedId = findCommonId(existing.getValue(), ids);
+                if (mixedId != null) {
+                    error(element, "@OnClick methods for ID %d must all use the same dispatch. (%s.%s)",
+                            mixedId, enclosingElement.getQualifiedName(), element.getSimpleName());
+                    hasError = true;
+                    break;
+                }
+            }
+        }
+
         if (hasError) {
             return;
         }
@@ -220,6 +709,186 @@ public class InjectProcessor extends AbstractProcessor {
         bindingClass.addMethodViewBinding(methodViewBinding);
     }
 
+    private void parseOnItemClick(Element element, Map<TypeElement, BindingClass> builderMap) {
+        if (!(element instanceof ExecutableElement) || element.getKind() != ElementKind.METHOD) {
+            throw new IllegalStateException(
+                    String.format("@%s annotation must be on a method.", OnItemClick.class.getSimpleName()));
+        }
+
+        TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+
+        ItemClickBinding itemClickBinding = new ItemClickBinding(element);
+
+        boolean hasError = isInaccessibleViaGeneratedCode(OnItemClick.class, "methods", element);
+        Integer duplicateId = findDuplicate(itemClickBinding.getChildIds());
+        if (duplicateId != null) {
+            error(element, "@OnItemClick annotation for method contains duplicate child ID %d. (%s.%s)",
+                    duplicateId,
+                    enclosingElement.getQualifiedName(),
+                    element.getSimpleName());
+            hasError = true;
+        }
+
+        if (itemClickBinding.isParameterError()) {
+            error(element, "@OnItemClick methods may only take a View, an int position, or both in that order. (%s.%s)",
+                    enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+
+        if (hasError) {
+            return;
+        }
+
+        BindingClass bindingClass = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        bindingClass.addItemClickBinding(itemClickBinding);
+    }
+
+    /**
+     * 按表解析监听注解：ids和callback从注解的值读取，校验方法的参数和返回值与回调匹配
+     */
+    private void parseListener(Element element, AnnotationMirror annotationMirror, ListenerType type,
+                               Map<TypeElement, BindingClass> builderMap) {
+        final String annotationName = type.annotation.getSimpleName();
+        if (!(element instanceof ExecutableElement) || element.getKind() != ElementKind.METHOD) {
+            throw new IllegalStateException(String.format("@%s annotation must be on a method.", annotationName));
+        }
+
+        ExecutableElement executableElement = (ExecutableElement) element;
+        TypeElement enclosingElement = (TypeElement) element.getEnclosingElement();
+
+        int[] ids = new int[0];
+        String callback = null;
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry
+                : mElements.getElementValuesWithDefaults(annotationMirror).entrySet()) {
+            String name = entry.getKey().getSimpleName().toString();
+            if (name.equals("value")) {
+                List<?> values = (List<?>) entry.getValue().getValue();
+                ids = new int[values.size()];
+                for (int i = 0; i < ids.length; i++) {
+                    ids[i] = (Integer) ((AnnotationValue) values.get(i)).getValue();
+                }
+            } else if (name.equals("callback")) {
+                callback = ((VariableElement) entry.getValue().getValue()).getSimpleName().toString();
+            }
+        }
+        ListenerMethod method = type.findMethod(callback);
+        if (method == null) {
+            throw new IllegalStateException(String.format("@%s has no callback %s.", annotationName, callback));
+        }
+
+        boolean hasError = isInaccessibleViaGeneratedCode(type.annotation, "methods", element);
+        if (ids.length == 0) {
+            error(element, "@%s must specify at least one ID. (%s.%s)",
+                    annotationName, enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+        Integer duplicateId = findDuplicate(ids);
+        if (duplicateId != null) {
+            error(element, "@%s annotation for method contains duplicate ID %d. (%s.%s)",
+                    annotationName, duplicateId, enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+
+        ListenerBinding listenerBinding = new ListenerBinding(executableElement, type, method, ids);
+        if (!bindListenerArguments(listenerBinding, executableElement.getParameters())) {
+            error(element, "@%s methods may only take a subsequence of %s in that order. (%s.%s)",
+                    annotationName, method.describeParameters(),
+                    enclosingElement.getQualifiedName(), element.getSimpleName());
+            hasError = true;
+        }
+        TypeMirror returnType = executableElement.getReturnType();
+        if (returnType.getKind() != TypeKind.VOID) {
+            if (method.returnType.equals(TypeName.VOID)) {
+                error(element, "@%s methods must return void. (%s.%s)",
+                        annotationName, enclosingElement.getQualifiedName(), element.getSimpleName());
+                hasError = true;
+            } else if (!isSameType(returnType, getListenerType(method.returnType))) {
+                error(element, "@%s methods must return void or %s. (%s.%s)",
+                        annotationName, method.returnType, enclosingElement.getQualifiedName(), element.getSimpleName());
+                hasError = true;
+            }
+        }
+
+        // 回调只能返回一个值
+        BindingClass existingBindingClass = builderMap.get(enclosingElement);
+        if (!hasError && listenerBinding.returnsValue() && existingBindingClass != null) {
+            for (int id : ids) {
+                if (existingBindingClass.findReturningListenerBinding(type, method, id) != null) {
+                    error(element, "Only one @%s method for ID %d may return a value from %s. (%s.%s)",
+                            annotationName, id, method.name,
+                            enclosingElement.getQualifiedName(), element.getSimpleName());
+                    hasError = true;
+                    break;
+                }
+            }
+        }
+
+        if (hasError) {
+            return;
+        }
+
+        BindingClass bindingClass = getOrCreateBindingBuilder(builderMap, enclosingElement);
+        bindingClass.addListenerBinding(listenerBinding);
+    }
+
+    /**
+     * 为方法的每个参数按顺序找到第一个能传入的回调参数：回调参数可以直接赋值给方法参数，
+     * 或者方法参数是回调参数的子类型（生成转换）。基本类型要求类型相同，不做拓宽和装箱
+     *
+     * @return 所有参数都找到了对应的回调参数
+     */
+    private boolean bindListenerArguments(ListenerBinding listenerBinding, List<? extends VariableElement> parameters) {
+        final List<TypeName> callbackParameters = listenerBinding.getMethod().parameters;
+        int next = 0;
+        for (VariableElement parameter : parameters) {
+            TypeMirror parameterType = mTypes.erasure(parameter.asType());
+            boolean bound = false;
+            while (!bound && next < callbackParameters.size()) {
+                final int index = next++;
+                TypeMirror callbackType = getListenerType(callbackParameters.get(index));
+                if (callbackType == null) {
+                    continue;
+                }
+                if (callbackType.getKind().isPrimitive() || parameterType.getKind().isPrimitive()) {
+                    if (isSameType(parameterType, callbackType)) {
+                        listenerBinding.addArgument(index, null, null);
+                        bound = true;
+                    }
+                } else if (mTypes.isAssignable(callbackType, parameterType)) {
+                    listenerBinding.addArgument(index, null, null);
+                    bound = true;
+                } else if (parameterType.getKind() == TypeKind.DECLARED && mTypes.isSubtype(parameterType, callbackType)) {
+                    String descriptor = BindingClassWriter.descriptor(parameterType);
+                    listenerBinding.addArgument(index, TypeName.get(parameterType),
+                            descriptor.substring(1, descriptor.length() - 1));
+                    bound = true;
+                }
+            }
+            if (!bound) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 监听表中类型对应的TypeMirror，声明类型擦除泛型，类型不存在时返回null
+     */
+    private TypeMirror getListenerType(TypeName type) {
+        if (type.equals(TypeName.BOOLEAN)) {
+            return mTypes.getPrimitiveType(TypeKind.BOOLEAN);
+        } else if (type.equals(TypeName.INT)) {
+            return mTypes.getPrimitiveType(TypeKind.INT);
+        } else if (type.equals(TypeName.LONG)) {
+            return mTypes.getPrimitiveType(TypeKind.LONG);
+        }
+        return getErasedType(ListenerType.canonicalName(type));
+    }
+
+    private boolean isSameType(TypeMirror typeMirror, TypeMirror otherType) {
+        return otherType != null && mTypes.isSameType(typeMirror, otherType);
+    }
+
     /** Returns the first duplicate element inside an array, null if there are no duplicates. */
 
     private static Integer findDuplicate(int[] array) {
@@ -233,49 +902,39 @@ public class InjectProcessor extends AbstractProcessor {
         return null;
     }
 
+    /** Returns the first element of {@code array} that is also in {@code other}, null if there is none. */
+    private static Integer findCommonId(int[] array, int[] other) {
+        for (int element : array) {
+            for (int otherElement : other) {
+                if (element == otherElement) {
+                    return element;
+                }
+            }
+        }
+        return null;
+    }
+
     private boolean isInterface(TypeMirror typeMirror) {
         return typeMirror instanceof DeclaredType
                 && ((DeclaredType) typeMirror).asElement().getKind() == ElementKind.INTERFACE;
     }
 
-    static boolean isSubtypeOfType(TypeMirror typeMirror, String otherType) {
-        if (isTypeEqual(typeMirror, otherType)) {
-            return true;
-        }
-        if (typeMirror.getKind() != TypeKind.DECLARED) {
-            return false;
-        }
-        DeclaredType declaredType = (DeclaredType) typeMirror;
-        List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
-        if (typeArguments.size() > 0) {
-            StringBuilder typeString = new StringBuilder(declaredType.asElement().toString());
-            typeString.append('<');
-            for (int i = 0; i < typeArguments.size(); i++) {
-                if (i > 0) {
-                    typeString.append(',');
-                }
-                typeString.append('?');
-            }
-            typeString.append('>');
-            if (typeString.toString().equals(otherType)) {
-                return true;
-            }
-        }
-        Element element = declaredType.asElement();
-        if (!(element instanceof TypeElement)) {
-            return false;
-        }
-        TypeElement typeElement = (TypeElement) element;
-        TypeMirror superType = typeElement.getSuperclass();
-        if (isSubtypeOfType(superType, otherType)) {
-            return true;
-        }
-        for (TypeMirror interfaceType : typeElement.getInterfaces()) {
-            if (isSubtypeOfType(interfaceType, otherType)) {
-                return true;
-            }
+    /**
+     * 判断是否为指定类型的子类型，otherType为规范类名。忽略泛型参数，类型不存在时返回false
+     */
+    private boolean isSubtypeOfType(TypeMirror typeMirror, String otherType) {
+        TypeMirror erasedType = getErasedType(otherType);
+        return erasedType != null && mTypes.isSubtype(mTypes.erasure(typeMirror), erasedType);
+    }
+
+    private TypeMirror getErasedType(String className) {
+        if (mErasedTypes.containsKey(className)) {
+            return mErasedTypes.get(className);
         }
-        return false;
+        TypeElement typeElement = mElements.getTypeElement(className);
+        TypeMirror erasedType = typeElement != null ? mTypes.erasure(typeElement.asType()) : null;
+        mErasedTypes.put(className, erasedType);
+        return erasedType;
     }
 
     static boolean isTypeEqual(TypeMirror typeMirror, String otherType) {
@@ -338,7 +997,10 @@ public class InjectProcessor extends AbstractProcessor {
             Map<TypeElement, BindingClass> builderMap, TypeElement enclosingElement) {
         BindingClass binding = builderMap.get(enclosingElement);
         if (binding == null) {
-            binding = new BindingClass(enclosingElement);
+            binding = new BindingClass(enclosingElement, mBindingOptions);
+            binding.setNotifiesViewsReady(
+                    isSubtypeOfType(enclosingElement.asType(), TYPE_ON_VIEWS_READY_LISTENER));
+            binding.setRecyclerViewTypes(mRecyclerViewTypes);
             builderMap.put(enclosingElement, binding);
         }
         return binding;
@@ -0,0 +1,86 @@
+package com.blingbling.butterknife.compiler;
+
+import com.blingbling.butterknife.annotation.OnItemClick;
+
+import java.util.List;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+
+/**
+ * 注解@OnItemClick的方法，容器中的条目被点击时由容器的ItemClickDispatcher调用。
+ * 参数可以是空、被点击的View、条目的位置(int)，或者View和位置
+ */
+class ItemClickBinding {
+
+    private String mName;
+    private int mContainerId;
+    /** 条目中要分发点击的View的id，为空时分发条目本身的点击 */
+    private int[] mChildIds;
+    private boolean mParameterError;
+    private boolean mHasViewParameter;
+    private boolean mHasPositionParameter;
+    /** 擦除泛型后的返回值类型描述符，直接生成字节码时使用 */
+    private String mReturnDescriptor;
+
+    public ItemClickBinding(Element element) {
+        OnItemClick annotation = element.getAnnotation(OnItemClick.class);
+        mName = element.getSimpleName().toString();
+        mContainerId = annotation.value();
+        mChildIds = annotation.child();
+
+        ExecutableElement executableElement = (ExecutableElement) element;
+        mReturnDescriptor = BindingClassWriter.descriptor(executableElement.getReturnType());
+        List<? extends VariableElement> parameters = executableElement.getParameters();
+        int index = 0;
+        if (index < parameters.size()
+                && InjectProcessor.isTypeEqual(parameters.get(index).asType(), InjectProcessor.TYPE_VIEW)) {
+            mHasViewParameter = true;
+            index++;
+        }
+        if (index < parameters.size() && parameters.get(index).asType().getKind() == TypeKind.INT) {
+            mHasPositionParameter = true;
+            index++;
+        }
+        mParameterError = index != parameters.size();
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public int getContainerId() {
+        return mContainerId;
+    }
+
+    public int[] getChildIds() {
+        return mChildIds;
+    }
+
+    /**
+     * 是否分发条目本身的点击
+     *
+     * @return
+     */
+    public boolean isItemClick() {
+        return mChildIds.length == 0;
+    }
+
+    public String getReturnDescriptor() {
+        return mReturnDescriptor;
+    }
+
+    public boolean isParameterError() {
+        return mParameterError;
+    }
+
+    public boolean hasViewParameter() {
+        return mHasViewParameter;
+    }
+
+    public boolean hasPositionParameter() {
+        return mHasPositionParameter;
+    }
+}
@@ -0,0 +1,603 @@
+package com.blingbling.butterknife.compiler;
+
+import com.blingbling.butterknife.compiler.CompiledLayout.Arg;
+import com.blingbling.butterknife.compiler.CompiledLayout.Call;
+import com.blingbling.butterknife.compiler.CompiledLayout.LayoutParams;
+import com.blingbling.butterknife.compiler.CompiledLayout.ParamsField;
+import com.blingbling.butterknife.compiler.CompiledLayout.ViewNode;
+import com.squareup.javapoet.ClassName;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+
+/**
+ * 把@ContentView的布局XML编译成CompiledLayout，在butterknife.layoutDir中按R.layout的字段名找到布局文件。
+ * 只支持常用的framework标签和属性，有其他内容、资源不是常量或布局有按配置区分的版本（例如layout-land）时抛出
+ * UnsupportedLayoutException，这个布局在运行时仍然用setContentView(int)加载。
+ * 与LayoutInflater相同，直接用Activity作为Context构造View，所以同样没有AppCompat的控件替换
+ */
+class LayoutCompiler {
+
+    private static final String ANDROID_NS = "http://schemas.android.com/apk/res/android";
+    private static final String TOOLS_NS = "http://schemas.android.com/tools";
+
+    private static final ClassName VIEW = ClassName.get("android.view", "View");
+    private static final ClassName GRAVITY = ClassName.get("android.view", "Gravity");
+    private static final ClassName VIEW_GROUP_PARAMS = ClassName.get("android.view", "ViewGroup", "LayoutParams");
+    private static final ClassName LINEAR_LAYOUT = ClassName.get("android.widget", "LinearLayout");
+    private static final ClassName FRAME_LAYOUT = ClassName.get("android.widget", "FrameLayout");
+    static final ClassName TYPED_VALUE = ClassName.get("android.util", "TypedValue");
+
+    /** TypedValue中的尺寸单位 */
+    private static final String[] UNIT_NAMES = {"px", "dp", "sp"};
+    static final String[] UNIT_CONSTANTS = {"COMPLEX_UNIT_PX", "COMPLEX_UNIT_DIP", "COMPLEX_UNIT_SP"};
+    private static final Pattern DIMENSION = Pattern.compile("(-?\\d+(?:\\.\\d+)?)(dp|dip|sp|px)");
+    private static final Pattern COLOR = Pattern.compile("#(?:[0-9a-fA-F]{3,4}|[0-9a-fA-F]{6}|[0-9a-fA-F]{8})");
+    private static final Pattern RESOURCE = Pattern.compile("@\\+?([a-z]+)/([A-Za-z0-9_.]+)");
+
+    /** 每个View在构造方法中占一个局部变量，直接生成字节码时局部变量的下标只用一个字节 */
+    private static final int MAX_VIEWS = 250;
+
+    private static final Map<String, Integer> GRAVITY_VALUES = new LinkedHashMap<>();
+    private static final Map<String, String> GRAVITY_CONSTANTS = new HashMap<>();
+
+    static {
+        addGravity("top", 0x30, "TOP");
+        addGravity("bottom", 0x50, "BOTTOM");
+        addGravity("left", 0x03, "LEFT");
+        addGravity("right", 0x05, "RIGHT");
+        addGravity("center_vertical", 0x10, "CENTER_VERTICAL");
+        addGravity("fill_vertical", 0x70, "FILL_VERTICAL");
+        addGravity("center_horizontal", 0x01, "CENTER_HORIZONTAL");
+        addGravity("fill_horizontal", 0x07, "FILL_HORIZONTAL");
+        addGravity("center", 0x11, "CENTER");
+        addGravity("fill", 0x77, "FILL");
+        addGravity("start", 0x00800003, "START");
+        addGravity("end", 0x00800005, "END");
+    }
+
+    private static void addGravity(String name, int value, String constant) {
+        GRAVITY_VALUES.put(name, value);
+        GRAVITY_CONSTANTS.put(name, constant);
+    }
+
+    /**
+     * 支持的标签，只用简单类名，与LayoutInflater相同对应android.view或android.widget中的类
+     */
+    private enum Tag {
+        VIEW(LayoutCompiler.VIEW, null, false, false),
+        LINEAR_LAYOUT(LayoutCompiler.LINEAR_LAYOUT, LayoutCompiler.LINEAR_LAYOUT.nestedClass("LayoutParams"), false, false),
+        FRAME_LAYOUT(LayoutCompiler.FRAME_LAYOUT, LayoutCompiler.FRAME_LAYOUT.nestedClass("LayoutParams"), false, false),
+        // ScrollView的generateLayoutParams返回FrameLayout.LayoutParams
+        SCROLL_VIEW(ClassName.get("android.widget", "ScrollView"), LayoutCompiler.FRAME_LAYOUT.nestedClass("LayoutParams"), false, false),
+        TEXT_VIEW(ClassName.get("android.widget", "TextView"), null, true, false),
+        BUTTON(ClassName.get("android.widget", "Button"), null, true, false),
+        EDIT_TEXT(ClassName.get("android.widget", "EditText"), null, true, false),
+        IMAGE_VIEW(ClassName.get("android.widget", "ImageView"), null, false, true);
+
+        final ClassName type;
+        /** 子View的LayoutParams类型，不是ViewGroup时为null */
+        final ClassName childParams;
+        final boolean text;
+        final boolean image;
+
+        Tag(ClassName type, ClassName childParams, boolean text, boolean image) {
+            this.type = type;
+            this.childParams = childParams;
+            this.text = text;
+            this.image = image;
+        }
+
+        static Tag forName(String name) {
+            for (Tag tag : values()) {
+                if (tag.type.simpleName().equals(name)) {
+                    return tag;
+                }
+            }
+            return null;
+        }
+    }
+
+    private final Elements mElements;
+    private final List<File> mLayoutDirs;
+    /** 编译过的布局，按R类和布局文件缓存，编译失败时保存异常 */
+    private final Map<String, Object> mLayouts = new HashMap<>();
+    /** R中每种资源的名字和值，不存在的资源类为null */
+    private final Map<ClassName, Map<String, Integer>> mResources = new HashMap<>();
+    private DocumentBuilder mDocumentBuilder;
+
+    LayoutCompiler(Elements elements, List<File> layoutDirs) {
+        mElements = elements;
+        mLayoutDirs = layoutDirs;
+    }
+
+    static final class UnsupportedLayoutException extends Exception {
+
+        private static final long serialVersionUID = 1L;
+
+        UnsupportedLayoutException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * 编译element上@ContentView的布局。从element所在的包开始逐级向上查找R，R.layout中值为layoutId的字段名即布局文件名
+     *
+     * @param element  声明@ContentView的类
+     * @param layoutId
+     * @return
+     * @throws UnsupportedLayoutException 布局不能编译，运行时仍然inflate
+     */
+    CompiledLayout compile(TypeElement element, int layoutId) throws UnsupportedLayoutException {
+        ClassName r = null;
+        String name = null;
+        String packageName = mElements.getPackageOf(element).getQualifiedName().toString();
+        while (name == null && !packageName.isEmpty()) {
+            r = ClassName.get(packageName, "R");
+            name = findName(r.nestedClass("layout"), layoutId);
+            int dot = packageName.lastIndexOf('.');
+            packageName = dot > 0 ? packageName.substring(0, dot) : "";
+        }
+        if (name == null) {
+            throw new UnsupportedLayoutException(String.format(
+                    "No R.layout constant with value 0x%x in the package of %s or its parents", layoutId, element));
+        }
+
+        File file = findLayoutFile(name);
+        String key = r + ":" + file;
+        Object layout = mLayouts.get(key);
+        if (layout == null) {
+            try {
+                layout = parse(name, file, r);
+            } catch (UnsupportedLayoutException e) {
+                layout = e;
+            }
+            mLayouts.put(key, layout);
+        }
+        if (layout instanceof UnsupportedLayoutException) {
+            throw (UnsupportedLayoutException) layout;
+        }
+        return (CompiledLayout) layout;
+    }
+
+    /**
+     * 在butterknife.layoutDir中按顺序查找布局文件。同目录下的layout-*目录中有同名文件时，运行时会按配置选择，不能编译
+     */
+    private File findLayoutFile(String name) throws UnsupportedLayoutException {
+        for (File dir : mLayoutDirs) {
+            File file = new File(dir, name + ".xml");
+            if (!file.isFile()) {
+                continue;
+            }
+            File[] siblings = dir.getAbsoluteFile().getParentFile().listFiles();
+            if (siblings != null) {
+                for (File sibling : siblings) {
+                    if (sibling.getName().startsWith("layout-") && new File(sibling, file.getName()).isFile()) {
+                        throw new UnsupportedLayoutException(String.format(
+                                "%s has a configuration-specific version in %s", file, sibling.getName()));
+                    }
+                }
+            }
+            return file;
+        }
+        throw new UnsupportedLayoutException(String.format("%s.xml is not in %s", name, mLayoutDirs));
+    }
+
+    private CompiledLayout parse(String name, File file, ClassName r) throws UnsupportedLayoutException {
+        Document document;
+        try {
+            if (mDocumentBuilder == null) {
+                DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+                factory.setNamespaceAware(true);
+                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                mDocumentBuilder = factory.newDocumentBuilder();
+            }
+            document = mDocumentBuilder.parse(file);
+        } catch (ParserConfigurationException | SAXException | IOException e) {
+            throw new UnsupportedLayoutException(String.format("Unable to read %s: %s", file, e.getMessage()));
+        }
+        List<ViewNode> views = new ArrayList<>();
+        parseView(document.getDocumentElement(), null, r, views);
+        if (views.size() > MAX_VIEWS) {
+            throw unsupported("%s has %d views, more than %d", file, views.size(), MAX_VIEWS);
+        }
+        return new CompiledLayout(name, views);
+    }
+
+    /**
+     * 按先序遍历把View加入views，子View在父View的setter之后创建
+     */
+    private ViewNode parseView(org.w3c.dom.Element element, Tag parent, ClassName r, List<ViewNode> views)
+            throws UnsupportedLayoutException {
+        String tagName = element.getTagName();
+        Tag tag = Tag.forName(tagName);
+        if (tag == null) {
+            throw unsupported("<%s> is not supported", tagName);
+        }
+
+        Map<String, String> attrs = new LinkedHashMap<>();
+        Map<String, String> layoutAttrs = new LinkedHashMap<>();
+        NamedNodeMap attributes = element.getAttributes();
+        for (int i = 0, count = attributes.getLength(); i < count; i++) {
+            Node attribute = attributes.item(i);
+            String namespace = attribute.getNamespaceURI();
+            if (XMLConstants.XMLNS_ATTRIBUTE_NS_URI.equals(namespace) || TOOLS_NS.equals(namespace)) {
+                continue;
+            }
+            if (!ANDROID_NS.equals(namespace)) {
+                throw unsupported("Attribute %s on <%s> is not supported", attribute.getNodeName(), tagName);
+            }
+            String localName = attribute.getLocalName();
+            (localName.startsWith("layout_") ? layoutAttrs : attrs).put(localName, attribute.getNodeValue());
+        }
+
+        Arg id = null;
+        String idValue = attrs.remove("id");
+        if (idValue != null) {
+            id = parseResource(idValue, r, "id");
+        }
+        ViewNode node = new ViewNode(views.size(), tag.type, id != null ? id.intValue : null);
+        views.add(node);
+        if (id != null) {
+            node.calls.add(new Call("setId", "(I)V", id));
+        }
+        // 与View的构造方法相同，先设置背景再设置padding，背景自带的padding会被覆盖
+        parseBackground(node, attrs.remove("background"), r);
+        parsePadding(node, attrs);
+        String visibility = attrs.remove("visibility");
+        if (visibility != null) {
+            node.calls.add(new Call("setVisibility", "(I)V", parseVisibility(visibility)));
+        }
+        String enabled = attrs.remove("enabled");
+        if (enabled != null) {
+            node.calls.add(new Call("setEnabled", "(Z)V", Arg.booleanValue(parseBoolean("enabled", enabled))));
+        }
+        if (tag == Tag.LINEAR_LAYOUT) {
+            String orientation = attrs.remove("orientation");
+            if (orientation != null) {
+                node.calls.add(new Call("setOrientation", "(I)V", parseOrientation(orientation)));
+            }
+        }
+        if (tag == Tag.LINEAR_LAYOUT || tag.text) {
+            String gravity = attrs.remove("gravity");
+            if (gravity != null) {
+                node.calls.add(new Call("setGravity", "(I)V", parseGravity(gravity)));
+            }
+        }
+        if (tag.text) {
+            parseText(node, "setText", attrs.remove("text"), r);
+            parseText(node, "setHint", attrs.remove("hint"), r);
+            String textSize = attrs.remove("textSize");
+            if (textSize != null) {
+                // inflate时字号也是按像素取整后设置的
+                node.calls.add(new Call("setTextSize", "(IF)V",
+                        Arg.constant(0, TYPED_VALUE, Collections.singletonList(UNIT_CONSTANTS[0])),
+                        parseDimension("textSize", textSize)));
+            }
+            String textColor = attrs.remove("textColor");
+            if (textColor != null) {
+                node.calls.add(new Call("setTextColor", "(I)V", parseColor("textColor", textColor)));
+            }
+        }
+        if (tag.image) {
+            String src = attrs.remove("src");
+            if (src != null) {
+                node.calls.add(new Call("setImageResource", "(I)V", parseDrawable("src", src, r)));
+            }
+        }
+        if (!attrs.isEmpty()) {
+            throw unsupported("android:%s on <%s> is not supported", attrs.keySet().iterator().next(), tagName);
+        }
+        node.params = parseLayoutParams(layoutAttrs, parent, tagName);
+
+        NodeList children = element.getChildNodes();
+        for (int i = 0, count = children.getLength(); i < count; i++) {
+            Node child = children.item(i);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                if (tag.childParams == null) {
+                    throw unsupported("<%s> cannot have child views", tagName);
+                }
+                node.children.add(parseView((org.w3c.dom.Element) child, tag, r, views));
+            } else if (child.getNodeType() == Node.TEXT_NODE && !child.getNodeValue().trim().isEmpty()) {
+                throw unsupported("Text content in <%s> is not supported", tagName);
+            }
+        }
+        return node;
+    }
+
+    /**
+     * 宽高是必须的；根View只有宽高，作为setContentView的ViewGroup.LayoutParams
+     */
+    private LayoutParams parseLayoutParams(Map<String, String> attrs, Tag parent, String tagName)
+            throws UnsupportedLayoutException {
+        Arg width = parseLayoutSize("layout_width", attrs.remove("layout_width"), tagName);
+        Arg height = parseLayoutSize("layout_height", attrs.remove("layout_height"), tagName);
+        if (parent == null) {
+            if (!attrs.isEmpty()) {
+                throw unsupported("android:%s on the root view is not supported", attrs.keySet().iterator().next());
+            }
+            return new LayoutParams(VIEW_GROUP_PARAMS, width, height);
+        }
+
+        LayoutParams params = new LayoutParams(parent.childParams, width, height);
+        // 与MarginLayoutParams相同，设置了layout_margin时忽略单独的margin
+        String margin = attrs.remove("layout_margin");
+        String[] names = {"layout_marginLeft", "layout_marginTop", "layout_marginRight", "layout_marginBottom"};
+        String[] fields = {"leftMargin", "topMargin", "rightMargin", "bottomMargin"};
+        for (int i = 0; i < names.length; i++) {
+            String value = attrs.remove(names[i]);
+            if (margin != null) {
+                value = margin;
+            }
+            if (value != null) {
+                params.fields.add(new ParamsField(fields[i], "I", parseDimension(names[i], value)));
+            }
+        }
+        String gravity = attrs.remove("layout_gravity");
+        if (gravity != null) {
+            params.fields.add(new ParamsField("gravity", "I", parseGravity(gravity)));
+        }
+        if (parent == Tag.LINEAR_LAYOUT) {
+            String weight = attrs.remove("layout_weight");
+            if (weight != null) {
+                params.fields.add(new ParamsField("weight", "F", Arg.floatValue(parseFloat("layout_weight", weight))));
+            }
+        }
+        if (!attrs.isEmpty()) {
+            throw unsupported("android:%s on <%s> is not supported here", attrs.keySet().iterator().next(), tagName);
+        }
+        return params;
+    }
+
+    private Arg parseLayoutSize(String name, String value, String tagName) throws UnsupportedLayoutException {
+        if (value == null) {
+            throw unsupported("<%s> has no android:%s", tagName, name);
+        }
+        switch (value) {
+            case "match_parent":
+            case "fill_parent":
+                return Arg.constant(-1, VIEW_GROUP_PARAMS, Collections.singletonList("MATCH_PARENT"));
+            case "wrap_content":
+                return Arg.constant(-2, VIEW_GROUP_PARAMS, Collections.singletonList("WRAP_CONTENT"));
+            default:
+                return parseDimension(name, value);
+        }
+    }
+
+    /**
+     * 设置了padding时忽略单独的padding；只设置了部分方向时，其他方向保留View当前的值
+     */
+    private void parsePadding(ViewNode node, Map<String, String> attrs) throws UnsupportedLayoutException {
+        String padding = attrs.remove("padding");
+        String[] names = {"paddingLeft", "paddingTop", "paddingRight", "paddingBottom"};
+        String[] getters = {"getPaddingLeft", "getPaddingTop", "getPaddingRight", "getPaddingBottom"};
+        Arg[] args = new Arg[names.length];
+        boolean hasPadding = false;
+        for (int i = 0; i < names.length; i++) {
+            String value = attrs.remove(names[i]);
+            if (padding != null) {
+                value = padding;
+            }
+            if (value != null) {
+                args[i] = parseDimension(names[i], value);
+                hasPadding = true;
+            } else {
+                args[i] = Arg.getter(getters[i]);
+            }
+        }
+        if (hasPadding) {
+            node.calls.add(new Call("setPadding", "(IIII)V", args));
+        }
+    }
+
+    private void parseBackground(ViewNode node, String value, ClassName r) throws UnsupportedLayoutException {
+        if (value == null) {
+            return;
+        }
+        if (value.startsWith("#")) {
+            node.calls.add(new Call("setBackgroundColor", "(I)V", parseColor("background", value)));
+        } else {
+            node.calls.add(new Call("setBackgroundResource", "(I)V", parseDrawable("background", value, r)));
+        }
+    }
+
+    /**
+     * 文本只支持字符串资源和不需要aapt转义处理的字面量：没有引号、反斜杠，也没有会被合并的空白
+     */
+    private void parseText(ViewNode node, String method, String value, ClassName r)
+            throws UnsupportedLayoutException {
+        if (value == null) {
+            return;
+        }
+        if (value.startsWith("@")) {
+            node.calls.add(new Call(method, "(I)V", parseResource(value, r, "string")));
+            return;
+        }
+        if (value.startsWith("?") || value.startsWith(" ") || value.endsWith(" ") || value.contains("  ")) {
+            throw unsupported("Text \"%s\" is not supported", value);
+        }
+        for (int i = 0, length = value.length(); i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '"' || c == '\'' || (Character.isWhitespace(c) && c != ' ')) {
+                throw unsupported("Text \"%s\" needs escaping, which is not supported", value);
+            }
+        }
+        node.calls.add(new Call(method, "(Ljava/lang/CharSequence;)V", Arg.string(value)));
+    }
+
+    private Arg parseDrawable(String name, String value, ClassName r) throws UnsupportedLayoutException {
+        Matcher matcher = RESOURCE.matcher(value);
+        if (!matcher.matches() || value.startsWith("@+")) {
+            throw unsupported("android:%s=\"%s\" is not supported", name, value);
+        }
+        String type = matcher.group(1);
+        if (!type.equals("drawable") && !type.equals("color") && !type.equals("mipmap")) {
+            throw unsupported("android:%s=\"%s\" is not supported", name, value);
+        }
+        return parseResource(value, r, type);
+    }
+
+    /**
+     * 引用本模块R中的资源，值必须是常量（库模块的R不是常量）
+     */
+    private Arg parseResource(String value, ClassName r, String type) throws UnsupportedLayoutException {
+        Matcher matcher = RESOURCE.matcher(value);
+        if (!matcher.matches() || !matcher.group(1).equals(type) || (value.startsWith("@+") && !type.equals("id"))) {
+            throw unsupported("Resource reference \"%s\" is not supported", value);
+        }
+        String name = matcher.group(2).replace('.', '_');
+        ClassName owner = r.nestedClass(type);
+        Map<String, Integer> values = resourceValues(owner);
+        Integer resourceId = values != null ? values.get(name) : null;
+        if (resourceId == null) {
+            throw unsupported("%s.%s is not a constant", owner, name);
+        }
+        return Arg.resource(owner, name, resourceId);
+    }
+
+    private Arg parseDimension(String name, String value) throws UnsupportedLayoutException {
+        Matcher matcher = DIMENSION.matcher(value);
+        if (!matcher.matches()) {
+            throw unsupported("android:%s=\"%s\" is not supported", name, value);
+        }
+        String unit = matcher.group(2).equals("dip") ? "dp" : matcher.group(2);
+        return Arg.dimension(Arrays.asList(UNIT_NAMES).indexOf(unit), Float.parseFloat(matcher.group(1)));
+    }
+
+    private static Arg parseColor(String name, String value) throws UnsupportedLayoutException {
+        if (!COLOR.matcher(value).matches()) {
+            throw unsupported("android:%s=\"%s\" is not supported", name, value);
+        }
+        String hex = value.substring(1);
+        if (hex.length() <= 4) {
+            // #RGB和#ARGB每一位重复一次
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < hex.length(); i++) {
+                builder.append(hex.charAt(i)).append(hex.charAt(i));
+            }
+            hex = builder.toString();
+        }
+        if (hex.length() == 6) {
+            hex = "ff" + hex;
+        }
+        return Arg.color((int) Long.parseLong(hex, 16));
+    }
+
+    private static Arg parseGravity(String value) throws UnsupportedLayoutException {
+        int gravity = 0;
+        List<String> constants = new ArrayList<>();
+        for (String flag : value.split("\\|")) {
+            Integer flagValue = GRAVITY_VALUES.get(flag.trim());
+            if (flagValue == null) {
+                throw unsupported("Gravity \"%s\" is not supported", value);
+            }
+            gravity |= flagValue;
+            constants.add(GRAVITY_CONSTANTS.get(flag.trim()));
+        }
+        return Arg.constant(gravity, GRAVITY, constants);
+    }
+
+    private static Arg parseOrientation(String value) throws UnsupportedLayoutException {
+        switch (value) {
+            case "horizontal":
+                return Arg.constant(0, LINEAR_LAYOUT, Collections.singletonList("HORIZONTAL"));
+            case "vertical":
+                return Arg.constant(1, LINEAR_LAYOUT, Collections.singletonList("VERTICAL"));
+            default:
+                throw unsupported("Orientation \"%s\" is not supported", value);
+        }
+    }
+
+    private static Arg parseVisibility(String value) throws UnsupportedLayoutException {
+        switch (value) {
+            case "visible":
+                return Arg.constant(0, VIEW, Collections.singletonList("VISIBLE"));
+            case "invisible":
+                return Arg.constant(4, VIEW, Collections.singletonList("INVISIBLE"));
+            case "gone":
+                return Arg.constant(8, VIEW, Collections.singletonList("GONE"));
+            default:
+                throw unsupported("Visibility \"%s\" is not supported", value);
+        }
+    }
+
+    private static boolean parseBoolean(String name, String value) throws UnsupportedLayoutException {
+        if (value.equals("true") || value.equals("false")) {
+            return Boolean.parseBoolean(value);
+        }
+        throw unsupported("android:%s=\"%s\" is not supported", name, value);
+    }
+
+    private static float parseFloat(String name, String value) throws UnsupportedLayoutException {
+        try {
+            float result = Float.parseFloat(value);
+            if (!Float.isInfinite(result) && !Float.isNaN(result)) {
+                return result;
+            }
+        } catch (NumberFormatException ignored) {
+        }
+        throw unsupported("android:%s=\"%s\" is not supported", name, value);
+    }
+
+    /**
+     * 资源类中常量字段的名字和值，资源类不存在时为null
+     */
+    private Map<String, Integer> resourceValues(ClassName owner) {
+        if (mResources.containsKey(owner)) {
+            return mResources.get(owner);
+        }
+        Map<String, Integer> values = null;
+        TypeElement typeElement = mElements.getTypeElement(owner.toString());
+        if (typeElement != null) {
+            values = new HashMap<>();
+            for (VariableElement field : ElementFilter.fieldsIn(typeElement.getEnclosedElements())) {
+                Object value = field.getConstantValue();
+                if (value instanceof Integer) {
+                    values.put(field.getSimpleName().toString(), (Integer) value);
+                }
+            }
+        }
+        mResources.put(owner, values);
+        return values;
+    }
+
+    private String findName(ClassName owner, int value) {
+        Map<String, Integer> values = resourceValues(owner);
+        if (values != null) {
+            for (Map.Entry<String, Integer> entry : values.entrySet()) {
+                if (entry.getValue() == value) {
+                    return entry.getKey();
+                }
+            }
+        }
+        return null;
+    }
+
+    private static UnsupportedLayoutException unsupported(String message, Object... args) {
+        return new UnsupportedLayoutException(String.format(message, args));
+    }
+}
@@ -3,6 +3,7 @@ package com.blingbling.butterknife.compiler;
 import com.blingbling.butterknife.annotation.ContentView;
 
 import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
 
 /**
  * Created by BlingBling on 2018/1/5.
@@ -10,14 +11,32 @@ import javax.lang.model.element.Element;
 
 class LayoutViewBinding {
 
+    /** 声明@ContentView的类，编译布局时从它的包开始查找R */
+    private TypeElement mElement;
     private int mValue;
+    private boolean mAsync;
 
     public LayoutViewBinding(Element element) {
+        mElement = (TypeElement) element;
         ContentView contentView = element.getAnnotation(ContentView.class);
         mValue = contentView.value();
+        mAsync = contentView.async();
+    }
+
+    public TypeElement getElement() {
+        return mElement;
     }
 
     public int getValue() {
         return mValue;
     }
+
+    /**
+     * 是否在后台线程加载布局
+     *
+     * @return
+     */
+    public boolean isAsync() {
+        return mAsync;
+    }
 }
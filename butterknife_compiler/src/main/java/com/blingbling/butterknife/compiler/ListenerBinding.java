@@ -0,0 +1,95 @@
+package com.blingbling.butterknife.compiler;
+
+import com.blingbling.butterknife.compiler.ListenerType.ListenerMethod;
+import com.squareup.javapoet.TypeName;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+
+/**
+ * 注解了{@link ListenerType}表中监听注解的方法，监听器的一个回调被调用时调用。
+ * 方法的参数按顺序对应回调参数中的一部分，参数类型是回调参数的子类型时先转换
+ */
+class ListenerBinding {
+
+    private final ListenerType mType;
+    private final ListenerMethod mMethod;
+    private final String mName;
+    private final int[] mIds;
+    /** 方法是否返回回调的返回值，否则返回回调的默认值 */
+    private final boolean mReturnsValue;
+    /** 擦除泛型后的方法描述符，直接生成字节码时使用 */
+    private final String mDescriptor;
+    /** 每个方法参数对应的回调参数的下标 */
+    private final List<Integer> mArguments = new ArrayList<>();
+    /** 每个方法参数需要转换的类型，不需要转换时为null */
+    private final List<TypeName> mCasts = new ArrayList<>();
+    /** 每个方法参数需要转换的类的内部名，不需要转换时为null */
+    private final List<String> mCastTypes = new ArrayList<>();
+
+    public ListenerBinding(ExecutableElement element, ListenerType type, ListenerMethod method, int[] ids) {
+        mType = type;
+        mMethod = method;
+        mName = element.getSimpleName().toString();
+        mIds = ids;
+        mReturnsValue = element.getReturnType().getKind() != TypeKind.VOID;
+        StringBuilder descriptor = new StringBuilder("(");
+        for (VariableElement parameter : element.getParameters()) {
+            descriptor.append(BindingClassWriter.descriptor(parameter.asType()));
+        }
+        mDescriptor = descriptor.append(')').append(BindingClassWriter.descriptor(element.getReturnType())).toString();
+    }
+
+    /**
+     * 添加下一个方法参数
+     *
+     * @param callbackIndex 对应的回调参数的下标
+     * @param cast          需要转换的类型，不需要转换时为null
+     * @param castType      需要转换的类的内部名，不需要转换时为null
+     */
+    void addArgument(int callbackIndex, TypeName cast, String castType) {
+        mArguments.add(callbackIndex);
+        mCasts.add(cast);
+        mCastTypes.add(castType);
+    }
+
+    public ListenerType getType() {
+        return mType;
+    }
+
+    public ListenerMethod getMethod() {
+        return mMethod;
+    }
+
+    public String getName() {
+        return mName;
+    }
+
+    public int[] getIds() {
+        return mIds;
+    }
+
+    public boolean returnsValue() {
+        return mReturnsValue;
+    }
+
+    public String getDescriptor() {
+        return mDescriptor;
+    }
+
+    public List<Integer> getArguments() {
+        return mArguments;
+    }
+
+    public List<TypeName> getCasts() {
+        return mCasts;
+    }
+
+    public List<String> getCastTypes() {
+        return mCastTypes;
+    }
+}
@@ -0,0 +1,226 @@
+package com.blingbling.butterknife.compiler;
+
+import com.blingbling.butterknife.annotation.OnCheckedChanged;
+import com.blingbling.butterknife.annotation.OnItemSelected;
+import com.blingbling.butterknife.annotation.OnLongClick;
+import com.blingbling.butterknife.annotation.OnTextChanged;
+import com.squareup.javapoet.ClassName;
+import com.squareup.javapoet.ParameterizedTypeName;
+import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.WildcardTypeName;
+
+import java.lang.annotation.Annotation;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 监听注解与监听器的对应表。每个注解对应View上的一个setter（或add/remove方法对）和一个监听接口，接口中的每个回调
+ * 有参数列表和返回值，没有方法绑定的回调返回默认值。新增监听注解只需要在{@link #TYPES}中加一项，解析、校验和生成
+ * 代码（源码和字节码）都按表进行，生成的回调直接调用目标类的方法，不使用反射。
+ * <p>
+ * 每个回调的第一个参数都是设置监听的View时，所有id共用一个监听器，按getId()分发，与共用的点击监听相同；
+ * TextWatcher的回调没有View参数，每个id一个监听器
+ * <p>
+ * &#64;OnClick不在表中：它有共用监听和所有id共用一个监听器类等专门的优化，见BindingClass
+ */
+final class ListenerType {
+
+    private static final ClassName VIEW = ClassName.get("android.view", "View");
+    private static final ClassName TEXT_VIEW = ClassName.get("android.widget", "TextView");
+    private static final ClassName COMPOUND_BUTTON = ClassName.get("android.widget", "CompoundButton");
+    private static final ClassName ADAPTER_VIEW = ClassName.get("android.widget", "AdapterView");
+    private static final ClassName CHAR_SEQUENCE = ClassName.get("java.lang", "CharSequence");
+    private static final ClassName EDITABLE = ClassName.get("android.text", "Editable");
+
+    static final List<ListenerType> TYPES = Collections.unmodifiableList(Arrays.asList(
+            new ListenerType(OnLongClick.class, VIEW, "setOnLongClickListener", null,
+                    ClassName.get("android.view", "View", "OnLongClickListener"), "longClickListener",
+                    new ListenerMethod(null, "onLongClick", TypeName.BOOLEAN, "true", VIEW)),
+            new ListenerType(OnTextChanged.class, TEXT_VIEW, "addTextChangedListener", "removeTextChangedListener",
+                    ClassName.get("android.text", "TextWatcher"), "textWatcher",
+                    new ListenerMethod(OnTextChanged.Callback.BEFORE_TEXT_CHANGED.name(), "beforeTextChanged",
+                            TypeName.VOID, null, CHAR_SEQUENCE, TypeName.INT, TypeName.INT, TypeName.INT),
+                    new ListenerMethod(OnTextChanged.Callback.TEXT_CHANGED.name(), "onTextChanged",
+                            TypeName.VOID, null, CHAR_SEQUENCE, TypeName.INT, TypeName.INT, TypeName.INT),
+                    new ListenerMethod(OnTextChanged.Callback.AFTER_TEXT_CHANGED.name(), "afterTextChanged",
+                            TypeName.VOID, null, EDITABLE)),
+            new ListenerType(OnCheckedChanged.class, COMPOUND_BUTTON, "setOnCheckedChangeListener", null,
+                    ClassName.get("android.widget", "CompoundButton", "OnCheckedChangeListener"), "checkedChangeListener",
+                    new ListenerMethod(null, "onCheckedChanged", TypeName.VOID, null, COMPOUND_BUTTON, TypeName.BOOLEAN)),
+            new ListenerType(OnItemSelected.class, ADAPTER_VIEW, "setOnItemSelectedListener", null,
+                    ClassName.get("android.widget", "AdapterView", "OnItemSelectedListener"), "itemSelectedListener",
+                    new ListenerMethod(OnItemSelected.Callback.ITEM_SELECTED.name(), "onItemSelected", TypeName.VOID, null,
+                            ParameterizedTypeName.get(ADAPTER_VIEW, WildcardTypeName.subtypeOf(Object.class)),
+                            VIEW, TypeName.INT, TypeName.LONG),
+                    new ListenerMethod(OnItemSelected.Callback.NOTHING_SELECTED.name(), "onNothingSelected",
+                            TypeName.VOID, null, ParameterizedTypeName.get(ADAPTER_VIEW, WildcardTypeName.subtypeOf(Object.class))))
+    ));
+
+    /**
+     * 监听接口中的一个回调
+     */
+    static final class ListenerMethod {
+
+        /** 注解callback()中对应的枚举常量名，接口只有一个回调时为null */
+        final String callback;
+        final String name;
+        final TypeName returnType;
+        /** 没有方法绑定或绑定的方法返回void时的返回值，返回void的回调为null */
+        final String defaultReturn;
+        final List<TypeName> parameters;
+
+        ListenerMethod(String callback, String name, TypeName returnType, String defaultReturn,
+                       TypeName... parameters) {
+            this.callback = callback;
+            this.name = name;
+            this.returnType = returnType;
+            this.defaultReturn = defaultReturn;
+            this.parameters = Collections.unmodifiableList(Arrays.asList(parameters));
+        }
+
+        /**
+         * 方法描述符，直接生成字节码时使用
+         *
+         * @return
+         */
+        String descriptor() {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0, count = parameters.size(); i < count; i++) {
+                builder.append(ListenerType.descriptor(parameters.get(i)));
+            }
+            return builder.append(')').append(ListenerType.descriptor(returnType)).toString();
+        }
+
+        /**
+         * 参数列表的简单类名，用于错误提示，例如(CharSequence, int, int, int)
+         *
+         * @return
+         */
+        String describeParameters() {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0, count = parameters.size(); i < count; i++) {
+                final TypeName parameter = parameters.get(i);
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                if (parameter instanceof ParameterizedTypeName) {
+                    builder.append(((ParameterizedTypeName) parameter).rawType.simpleName()).append("<?>");
+                } else if (parameter instanceof ClassName) {
+                    builder.append(((ClassName) parameter).simpleName());
+                } else {
+                    builder.append(parameter);
+                }
+            }
+            return builder.append(')').toString();
+        }
+    }
+
+    final Class<? extends Annotation> annotation;
+    /** 设置监听的View的类型 */
+    final ClassName targetType;
+    final String setter;
+    /** 监听通过add方法加入时用来移除的方法，为null时unbind调用setter(null) */
+    final String remover;
+    final ClassName listenerType;
+    /** 绑定类中监听器成员名的前缀，不共用监听器时后面接View的id */
+    final String fieldPrefix;
+    final List<ListenerMethod> methods;
+    /** 所有id共用一个监听器，回调按第一个参数的getId()分发 */
+    final boolean sharedById;
+
+    private ListenerType(Class<? extends Annotation> annotation, ClassName targetType, String setter, String remover,
+                         ClassName listenerType, String fieldPrefix, ListenerMethod... methods) {
+        this.annotation = annotation;
+        this.targetType = targetType;
+        this.setter = setter;
+        this.remover = remover;
+        this.listenerType = listenerType;
+        this.fieldPrefix = fieldPrefix;
+        this.methods = Collections.unmodifiableList(Arrays.asList(methods));
+        this.sharedById = isViewFirst(targetType, methods);
+    }
+
+    /**
+     * 每个回调的第一个参数是否都是设置监听的View
+     *
+     * @param targetType
+     * @param methods
+     * @return
+     */
+    private static boolean isViewFirst(ClassName targetType, ListenerMethod... methods) {
+        for (ListenerMethod method : methods) {
+            if (method.parameters.isEmpty() || !canonicalName(method.parameters.get(0)).equals(targetType.toString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 按注解callback()的枚举常量名查找回调，接口只有一个回调时callback为null
+     *
+     * @param callback
+     * @return 没有该回调时为null
+     */
+    ListenerMethod findMethod(String callback) {
+        for (int i = 0, count = methods.size(); i < count; i++) {
+            final ListenerMethod method = methods.get(i);
+            if (callback == null ? method.callback == null : callback.equals(method.callback)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 监听器成员的名字，共用监听器时所有id是同一个成员
+     *
+     * @param id
+     * @return
+     */
+    String createFieldName(int id) {
+        return sharedById ? fieldPrefix : fieldPrefix + id;
+    }
+
+    /**
+     * 表中类型的描述符，参数化类型使用原始类型
+     *
+     * @param type
+     * @return
+     */
+    static String descriptor(TypeName type) {
+        if (type.equals(TypeName.VOID)) {
+            return "V";
+        } else if (type.equals(TypeName.BOOLEAN)) {
+            return "Z";
+        } else if (type.equals(TypeName.INT)) {
+            return "I";
+        } else if (type.equals(TypeName.LONG)) {
+            return "J";
+        }
+        return "L" + internalName(type) + ";";
+    }
+
+    /**
+     * 类的内部名，参数化类型使用原始类型
+     *
+     * @param type
+     * @return
+     */
+    static String internalName(TypeName type) {
+        final ClassName className = type instanceof ParameterizedTypeName
+                ? ((ParameterizedTypeName) type).rawType : (ClassName) type;
+        return className.reflectionName().replace('.', '/');
+    }
+
+    /**
+     * 类型的规范名，用来在处理器中查找类型，参数化类型使用原始类型
+     *
+     * @param type
+     * @return
+     */
+    static String canonicalName(TypeName type) {
+        return type instanceof ParameterizedTypeName ? ((ParameterizedTypeName) type).rawType.toString() : type.toString();
+    }
+}
@@ -18,13 +18,19 @@ class MethodViewBinding {
     private int[] mValue;
     private boolean mParameterError;
     private boolean mHasViewParameter;
+    /** 在ButterKnife设置的后台线程池中调用，见BackgroundClickListener */
+    private boolean mBackground;
+    /** 擦除泛型后的返回值类型描述符，直接生成字节码时使用 */
+    private String mReturnDescriptor;
 
     public MethodViewBinding(Element element) {
         OnClick annotation = element.getAnnotation(OnClick.class);
         mName = element.getSimpleName().toString();
         mValue = annotation.value();
+        mBackground = annotation.dispatch() == OnClick.Dispatch.BACKGROUND;
 
         ExecutableElement executableElement = (ExecutableElement) element;
+        mReturnDescriptor = BindingClassWriter.descriptor(executableElement.getReturnType());
         // Verify that the method has equal to or less than the number of parameters as the listener.
         List<? extends VariableElement> methodParameters = executableElement.getParameters();
         final int methodParameterSize = methodParameters.size();
@@ -47,6 +53,10 @@ class MethodViewBinding {
         return mValue;
     }
 
+    public String getReturnDescriptor() {
+        return mReturnDescriptor;
+    }
+
     public boolean isParameterError() {
         return mParameterError;
     }
@@ -54,4 +64,8 @@ class MethodViewBinding {
     public boolean hasViewParameter() {
         return mHasViewParameter;
     }
+
+    public boolean isBackground() {
+        return mBackground;
+    }
 }
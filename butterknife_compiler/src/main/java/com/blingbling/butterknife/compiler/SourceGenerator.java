@@ -0,0 +1,188 @@
+package com.blingbling.butterknife.compiler;
+
+import com.squareup.javapoet.JavaFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import javax.annotation.processing.Filer;
+import javax.lang.model.element.Element;
+import javax.tools.JavaFileObject;
+
+/**
+ * 生成绑定类的源码。JavaPoet构建和格式化只读取BindingClass，不访问编译器的类型信息，可以在线程池中并行进行；
+ * 结果按输入顺序返回，写文件仍由处理器线程按顺序进行，所以输出与线程调度无关。
+ * 打开butterknife.bytecode时生成的是类文件，方式相同。
+ */
+class SourceGenerator {
+
+    private final int mParallelism;
+    private final boolean mBytecode;
+    /** 第一次需要并行生成时创建 */
+    private ForkJoinPool mPool;
+
+    SourceGenerator(int parallelism, boolean bytecode) {
+        mParallelism = parallelism;
+        mBytecode = bytecode;
+    }
+
+    /**
+     * 生成源码，顺序与bindingClasses相同
+     *
+     * @param bindingClasses
+     * @return
+     */
+    List<GeneratedSource> generate(List<BindingClass> bindingClasses) {
+        List<GeneratedSource> sources = new ArrayList<>(bindingClasses.size());
+        if (mParallelism <= 1 || bindingClasses.size() <= 1) {
+            for (BindingClass bindingClass : bindingClasses) {
+                sources.add(brew(bindingClass));
+            }
+            return sources;
+        }
+
+        if (mPool == null) {
+            mPool = new ForkJoinPool(mParallelism);
+        }
+        List<Callable<GeneratedSource>> tasks = new ArrayList<>(bindingClasses.size());
+        for (final BindingClass bindingClass : bindingClasses) {
+            tasks.add(new Callable<GeneratedSource>() {
+                @Override
+                public GeneratedSource call() {
+                    return brew(bindingClass);
+                }
+            });
+        }
+        for (Future<GeneratedSource> future : mPool.invokeAll(tasks)) {
+            sources.add(getResult(future));
+        }
+        return sources;
+    }
+
+    private GeneratedSource brew(BindingClass bindingClass) {
+        if (mBytecode) {
+            return new GeneratedSource(bindingClass.getTargetElement(), bindingClass.brewClassFiles());
+        }
+        return new GeneratedSource(bindingClass.brewJava());
+    }
+
+    /**
+     * 关闭线程池，在最后一轮处理结束时调用
+     */
+    void shutdown() {
+        if (mPool != null) {
+            mPool.shutdown();
+            mPool = null;
+        }
+    }
+
+    private static GeneratedSource getResult(Future<GeneratedSource> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating bindings.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * 已经格式化好的源码，写入方式与JavaFile.writeTo(Filer)相同；或者已经生成的绑定类和匿名类的类文件
+     */
+    static class GeneratedSource {
+
+        private final JavaFile mJavaFile;
+        private final String mSource;
+        private final Element mOriginatingElement;
+        private final List<ClassFile> mClassFiles;
+        private final List<byte[]> mBytes;
+
+        GeneratedSource(JavaFile javaFile) {
+            mJavaFile = javaFile;
+            mSource = javaFile.toString();
+            mOriginatingElement = null;
+            mClassFiles = null;
+            mBytes = null;
+        }
+
+        /**
+         * @param originatingElement 目标类
+         * @param classFiles         第一个是绑定类
+         */
+        GeneratedSource(Element originatingElement, List<ClassFile> classFiles) {
+            mJavaFile = null;
+            mSource = null;
+            mOriginatingElement = originatingElement;
+            mClassFiles = classFiles;
+            mBytes = new ArrayList<>(classFiles.size());
+            for (ClassFile classFile : classFiles) {
+                mBytes.add(classFile.toByteArray());
+            }
+        }
+
+        /**
+         * 绑定类声明的字段数
+         *
+         * @return
+         */
+        int getFieldCount() {
+            return mJavaFile != null ? mJavaFile.typeSpec.fieldSpecs.size() : mClassFiles.get(0).getFieldCount();
+        }
+
+        /**
+         * 绑定类声明的方法数，包括构造方法
+         *
+         * @return
+         */
+        int getMethodCount() {
+            return mJavaFile != null ? mJavaFile.typeSpec.methodSpecs.size() : mClassFiles.get(0).getMethodCount();
+        }
+
+        void writeTo(Filer filer) throws IOException {
+            if (mJavaFile == null) {
+                writeClassFiles(filer);
+                return;
+            }
+            String fileName = mJavaFile.packageName.isEmpty()
+                    ? mJavaFile.typeSpec.name
+                    : mJavaFile.packageName + "." + mJavaFile.typeSpec.name;
+            List<Element> originatingElements = mJavaFile.typeSpec.originatingElements;
+            JavaFileObject sourceFile = filer.createSourceFile(fileName,
+                    originatingElements.toArray(new Element[originatingElements.size()]));
+            try (Writer writer = sourceFile.openWriter()) {
+                writer.write(mSource);
+            } catch (IOException e) {
+                sourceFile.delete();
+                throw e;
+            }
+        }
+
+        private void writeClassFiles(Filer filer) throws IOException {
+            for (int i = 0, count = mClassFiles.size(); i < count; i++) {
+                JavaFileObject classFile = filer.createClassFile(
+                        mClassFiles.get(i).getName().replace('/', '.'), mOriginatingElement);
+                try (OutputStream out = classFile.openOutputStream()) {
+                    out.write(mBytes.get(i));
+                } catch (IOException e) {
+                    classFile.delete();
+                    throw e;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static com.blingbling.butterknife.compiler.TestCompiler.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks the per-binding and module cost reports written with {@code butterknife.costReport}.
+ */
+public class BindingCostReportTest {
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    @Test
+    public void writesBindingAndModuleReports() throws Exception {
+        File generatedDir = mTemp.newFolder("generated");
+        TestCompiler.process(generatedDir, "golden/FieldAndClickActivity.java",
+                "-A" + BindingOptions.OPTION_COST_REPORT + "=true");
+
+        // Ids 2, 3 and 4 are looked up once each; ids 2 and 4 each get a listener class. The fields
+        // are target, view4 and the two listeners; the methods are both constructors, bind, rebind
+        // and unbind.
+        String binding = ""
+                + "  \"target\": \"golden.FieldAndClickActivity\",\n"
+                + "  \"binding\": \"golden.FieldAndClickActivity_ViewBinding\",\n"
+                + "  \"viewLookups\": 3,\n"
+                + "  \"lazyViews\": 0,\n"
+                + "  \"listenerClasses\": 2,\n"
+                + "  \"fields\": 4,\n"
+                + "  \"methods\": 5\n";
+        assertEquals("{\n" + binding + "}\n", read(new File(generatedDir,
+                BindingCost.REPORT_DIR + "golden.FieldAndClickActivity_ViewBinding.json")));
+
+        assertEquals("{\n"
+                        + "  \"bindings\": 1,\n"
+                        + "  \"viewLookups\": 3,\n"
+                        + "  \"lazyViews\": 0,\n"
+                        + "  \"listenerClasses\": 2,\n"
+                        + "  \"fields\": 4,\n"
+                        + "  \"methods\": 5,\n"
+                        + "  \"classes\": [\n"
+                        + "    {\n"
+                        + binding.replace("  \"", "      \"")
+                        + "    }\n"
+                        + "  ]\n"
+                        + "}\n",
+                read(new File(generatedDir, BindingCost.MODULE_REPORT)));
+    }
+
+    @Test
+    public void noReportByDefault() throws Exception {
+        File generatedDir = mTemp.newFolder("generated");
+        TestCompiler.process(generatedDir, "golden/FieldAndClickActivity.java");
+
+        assertFalse(new File(generatedDir, BindingCost.MODULE_REPORT).exists());
+        assertFalse(new File(generatedDir, BindingCost.REPORT_DIR).exists());
+    }
+}
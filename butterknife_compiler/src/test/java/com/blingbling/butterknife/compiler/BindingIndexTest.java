@@ -0,0 +1,45 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import static com.blingbling.butterknife.compiler.TestCompiler.read;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the index written for {@code butterknife.index}: it finds bindings by class literal, so it
+ * keeps working after R8/ProGuard renames the target classes.
+ */
+public class BindingIndexTest {
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    @Test
+    public void looksUpTargetsByClassLiteral() throws Exception {
+        File outputDir = mTemp.newFolder("runtime");
+        TestCompiler.compile(outputDir, Arrays.asList("runtime/BaseForm.java", "runtime/Form.java",
+                "runtime/IndexCheck.java"), "-A" + InjectProcessor.OPTION_INDEX + "=runtime.FormIndex");
+
+        String index = read(new File(outputDir, "runtime/FormIndex.java"));
+        assertTrue(index, index.matches("(?s).*cls == (runtime\\.)?Form\\.class.*"));
+        assertTrue(index, index.matches("(?s).*cls == (runtime\\.)?BaseForm\\.class.*"));
+        assertFalse(index, index.contains("getName()"));
+        assertFalse(index, index.contains("\"runtime."));
+
+        URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toURI().toURL()},
+                BindingIndexTest.class.getClassLoader());
+        try {
+            ((Runnable) loader.loadClass("runtime.IndexCheck").newInstance()).run();
+        } finally {
+            loader.close();
+        }
+    }
+}
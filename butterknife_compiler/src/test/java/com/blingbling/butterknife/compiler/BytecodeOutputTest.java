@@ -0,0 +1,179 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FilenameFilter;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Arrays;
+
+import static com.blingbling.butterknife.compiler.TestCompiler.read;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs the golden sources with and without {@code butterknife.bytecode} and checks that the class
+ * files describe the same binding as the generated source. The class files are also loaded and run:
+ * {@code runtime/FormCheck} binds, clicks, rebinds and unbinds through them, as it does through the
+ * compiled source, and {@code runtime/SubclassCheck} binds a subclass without annotations.
+ */
+public class BytecodeOutputTest {
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    @Test
+    public void fieldAndClick() throws Exception {
+        assertSameBinding("FieldAndClickActivity");
+    }
+
+    @Test
+    public void batchLookup() throws Exception {
+        assertSameBinding("BatchLookupActivity");
+    }
+
+    @Test
+    public void sharedClick() throws Exception {
+        assertSameBinding("SharedClickActivity", "-A" + BindingOptions.OPTION_SHARED_CLICK_LISTENER + "=true");
+    }
+
+    @Test
+    public void lazyClick() throws Exception {
+        assertSameBinding("LazyClickActivity");
+    }
+
+    @Test
+    public void itemClick() throws Exception {
+        assertSameBinding("ItemClickActivity");
+    }
+
+    @Test
+    public void bindViews() throws Exception {
+        assertSameBinding("BindViewsActivity");
+    }
+
+    @Test
+    public void backgroundClick() throws Exception {
+        assertSameBinding("BackgroundClickActivity");
+    }
+
+    @Test
+    public void sharedBackgroundClick() throws Exception {
+        assertSameBinding("SharedBackgroundClickActivity",
+                "-A" + BindingOptions.OPTION_SHARED_CLICK_LISTENER + "=true");
+    }
+
+    /** One listener class per listener type, shared by all of its ids. */
+    @Test
+    public void listeners() throws Exception {
+        assertSameBinding("ListenerActivity", 4);
+    }
+
+    @Test
+    public void classFilesBindClickAndUnbind() throws Exception {
+        runFormCheck(true);
+    }
+
+    @Test
+    public void classFilesWithSharedListenerBindClickAndUnbind() throws Exception {
+        runFormCheck(true, "-A" + BindingOptions.OPTION_SHARED_CLICK_LISTENER + "=true");
+    }
+
+    /** The same check against the compiled source, so a failure above is a difference between the outputs. */
+    @Test
+    public void sourceBindsClickAndUnbind() throws Exception {
+        runFormCheck(false);
+    }
+
+    /** A subclass without annotations gets its own binding, so no superclass is looked up by name. */
+    @Test
+    public void unannotatedSubclassIsBoundDirectly() throws Exception {
+        runCheck("SubclassCheck", false, "PlainForm");
+    }
+
+    @Test
+    public void unannotatedSubclassClassFileIsBoundDirectly() throws Exception {
+        runCheck("SubclassCheck", true, "PlainForm");
+    }
+
+    private void runFormCheck(boolean bytecode, String... processorOptions) throws Exception {
+        runCheck("FormCheck", bytecode, "Form", processorOptions);
+    }
+
+    /**
+     * Compiles the forms and {@code runtime/<check>}, then runs the check from the compiled output.
+     *
+     * @param form the form whose binding must have been written in the chosen output
+     */
+    private void runCheck(String check, boolean bytecode, String form, String... processorOptions)
+            throws Exception {
+        String[] options = Arrays.copyOf(processorOptions, processorOptions.length + 1);
+        options[processorOptions.length] = "-A" + BindingOptions.OPTION_BYTECODE + "=" + bytecode;
+        File outputDir = mTemp.newFolder("runtime");
+        TestCompiler.compile(outputDir, Arrays.asList("runtime/BaseForm.java", "runtime/Form.java",
+                "runtime/PlainForm.java", "runtime/" + check + ".java"), options);
+        assertEquals(!bytecode, new File(outputDir, "runtime/" + form + "_ViewBinding.java").exists());
+        assertTrue(new File(outputDir, "runtime/" + form + "_ViewBinding.class").exists());
+
+        URLClassLoader loader = new URLClassLoader(new URL[]{outputDir.toURI().toURL()},
+                BytecodeOutputTest.class.getClassLoader());
+        try {
+            ((Runnable) loader.loadClass("runtime." + check).newInstance()).run();
+        } finally {
+            loader.close();
+        }
+    }
+
+    private void assertSameBinding(String name, String... processorOptions) throws Exception {
+        assertSameBinding(name, 1, processorOptions);
+    }
+
+    /**
+     * @param maxListenerClasses how many listener classes the bytecode output may write at most
+     */
+    private void assertSameBinding(String name, int maxListenerClasses, String... processorOptions)
+            throws Exception {
+        File sourceDir = process(name, "source", false, processorOptions);
+        File bytecodeDir = process(name, "bytecode", true, processorOptions);
+        final String binding = name + BindingClass.JAVA_FILE_SUFFIX;
+
+        assertTrue(new File(sourceDir, "golden/" + binding + ".java").exists());
+        assertFalse(new File(bytecodeDir, "golden/" + binding + ".java").exists());
+        assertTrue(new File(bytecodeDir, "golden/" + binding + ".class").exists());
+
+        // Lookups, lazy views, fields and methods match the source output. All click ids share one
+        // listener class, so there is at most one listener class instead of one per id.
+        String report = BindingCost.REPORT_DIR + "golden." + binding + ".json";
+        String sourceReport = read(new File(sourceDir, report));
+        String bytecodeReport = read(new File(bytecodeDir, report));
+        assertEquals(withoutListenerClasses(sourceReport), withoutListenerClasses(bytecodeReport));
+
+        String[] listenerClasses = new File(bytecodeDir, "golden").list(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String fileName) {
+                return fileName.startsWith(binding + "$") && fileName.endsWith(".class");
+            }
+        });
+        assertTrue(listenerClasses.length <= maxListenerClasses);
+        assertTrue(bytecodeReport, bytecodeReport.contains("\"listenerClasses\": " + listenerClasses.length + ","));
+    }
+
+    private static String withoutListenerClasses(String report) {
+        return report.replaceAll("\"listenerClasses\": \\d+,\n", "");
+    }
+
+    private File process(String name, String folder, boolean bytecode, String... processorOptions)
+            throws Exception {
+        String[] options = new String[processorOptions.length + 2];
+        System.arraycopy(processorOptions, 0, options, 0, processorOptions.length);
+        options[processorOptions.length] = "-A" + BindingOptions.OPTION_COST_REPORT + "=true";
+        options[processorOptions.length + 1] = "-A" + BindingOptions.OPTION_BYTECODE + "=" + bytecode;
+        File generatedDir = mTemp.newFolder(folder);
+        TestCompiler.process(generatedDir, "golden/" + name + ".java", options);
+        return generatedDir;
+    }
+}
@@ -0,0 +1,26 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.Collections;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the errors reported for {@code @OnClick} methods.
+ */
+public class ClickValidationTest {
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    /** A view has one click listener, so its methods cannot be split between threads. */
+    @Test
+    public void mixedDispatchForOneId() throws Exception {
+        assertEquals(Collections.singletonList("@OnClick methods for ID 2 must all use the same dispatch. "
+                        + "(errors.ClickErrors.onSaveShown)"),
+                TestCompiler.processWithErrors(mTemp.newFolder("output"), "errors/ClickErrors.java"));
+    }
+}
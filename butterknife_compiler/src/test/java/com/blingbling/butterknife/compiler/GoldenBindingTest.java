@@ -0,0 +1,121 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.util.regex.Pattern;
+
+import static com.blingbling.butterknife.compiler.TestCompiler.read;
+import static com.blingbling.butterknife.compiler.TestCompiler.resource;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Runs {@link InjectProcessor} over each source in {@code src/test/resources/golden} and compares
+ * the generated binding with the expected {@code _ViewBinding.java} next to it. The package,
+ * imports, comments and formatting are ignored and qualified names are shortened, so only changes
+ * to the generated code itself fail.
+ */
+public class GoldenBindingTest {
+
+    private static final Pattern QUALIFIED_NAME = Pattern.compile("\\b(?:[a-z][a-z0-9_]*\\.)+([A-Z])");
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    /** Listeners are set on the bound fields; a second field for an id reads a related first one. */
+    @Test
+    public void fieldsAreReusedForListeners() throws Exception {
+        assertGolden("FieldAndClickActivity");
+    }
+
+    @Test
+    public void batchLookupReusesFieldsForListeners() throws Exception {
+        assertGolden("BatchLookupActivity");
+    }
+
+    @Test
+    public void sharedListenerReusesFields() throws Exception {
+        assertGolden("SharedClickActivity", "-A" + BindingOptions.OPTION_SHARED_CLICK_LISTENER + "=true");
+    }
+
+    /** A lazy field has not looked its view up, so the listener still needs its own lookup. */
+    @Test
+    public void lazyFieldsAreNotReusedForListeners() throws Exception {
+        assertGolden("LazyClickActivity");
+    }
+
+    /** Views in the layout are built directly and used without a lookup; other ids are still looked up. */
+    @Test
+    public void compiledLayoutBuildsViewsDirectly() throws Exception {
+        assertGolden("CompiledLayoutActivity", layoutDirOption());
+    }
+
+    /** A layout with a configuration variant is chosen at runtime, so it is still inflated. */
+    @Test
+    public void layoutWithVariantIsInflated() throws Exception {
+        assertGolden("LandscapeLayoutActivity", layoutDirOption());
+    }
+
+    /** The container bound to a field is not looked up again for its item clicks. */
+    @Test
+    public void itemClicksReuseContainerField() throws Exception {
+        assertGolden("ItemClickActivity");
+    }
+
+    /** Group members already bound to a field are not looked up again; groups reuse one array. */
+    @Test
+    public void bindViewsReuseFieldsAndArrays() throws Exception {
+        assertGolden("BindViewsActivity");
+    }
+
+    /** Listener annotations share one view holder per id; add-style listeners are removed only on unbind. */
+    @Test
+    public void listenersShareViewHolders() throws Exception {
+        assertGolden("ListenerActivity");
+    }
+
+    /** Background click listeners are wrapped, cancelled first on unbind and read the target once. */
+    @Test
+    public void backgroundClicksAreWrapped() throws Exception {
+        assertGolden("BackgroundClickActivity");
+    }
+
+    /** The shared listener is wrapped once and only the background ids leave the main thread. */
+    @Test
+    public void sharedListenerWrapsBackgroundClicks() throws Exception {
+        assertGolden("SharedBackgroundClickActivity", "-A" + BindingOptions.OPTION_SHARED_CLICK_LISTENER + "=true");
+    }
+
+    /** A generic target is declared with wildcards, so the binding has no raw types. */
+    @Test
+    public void genericTargetUsesWildcards() throws Exception {
+        assertGolden("GenericHolder");
+    }
+
+    private static String layoutDirOption() throws Exception {
+        return "-A" + BindingOptions.OPTION_LAYOUT_DIR + "=" + resource("golden/res/layout").getPath();
+    }
+
+    private void assertGolden(String name, String... processorOptions) throws Exception {
+        File generatedDir = mTemp.newFolder("generated");
+        TestCompiler.process(generatedDir, "golden/" + name + ".java", processorOptions);
+
+        String expected = read(resource("golden/" + name + BindingClass.JAVA_FILE_SUFFIX + ".java"));
+        String actual = read(new File(generatedDir, "golden/" + name + BindingClass.JAVA_FILE_SUFFIX + ".java"));
+        assertEquals(normalize(expected), normalize(actual));
+    }
+
+    private static String normalize(String source) {
+        StringBuilder builder = new StringBuilder();
+        for (String line : source.split("\n")) {
+            String trimmed = line.trim();
+            if (trimmed.startsWith("package ") || trimmed.startsWith("import ") || trimmed.startsWith("//")) {
+                continue;
+            }
+            builder.append(trimmed).append(' ');
+        }
+        return QUALIFIED_NAME.matcher(builder).replaceAll("$1").replaceAll("\\s+", " ").trim();
+    }
+}
@@ -0,0 +1,145 @@
+package com.blingbling.butterknife.compiler;
+
+import org.gradle.testkit.runner.BuildResult;
+import org.gradle.testkit.runner.GradleRunner;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Builds a small project with Gradle twice, editing one activity in between, to check that
+ * {@link InjectProcessor} runs incrementally and only regenerates the edited activity's binding.
+ */
+public class IncrementalProcessingTest {
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String FULL_RECOMPILATION = "Full recompilation is required";
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    private File mProjectDir;
+
+    @Before
+    public void setUp() throws IOException {
+        mProjectDir = mTemp.getRoot();
+        write("settings.gradle", "rootProject.name = 'incremental'\n");
+        writeActivity("FirstActivity", 1, "");
+        writeActivity("SecondActivity", 2, "");
+    }
+
+    @Test
+    public void editingOneActivityRegeneratesOnlyItsBinding() throws Exception {
+        writeBuildFile("");
+        build();
+        File first = generated("FirstActivity_ViewBinding.java");
+        File second = generated("SecondActivity_ViewBinding.java");
+        String firstBefore = read(first);
+        long secondModified = second.lastModified();
+
+        editFirstActivity();
+        BuildResult result = build();
+
+        assertFalse(result.getOutput(), result.getOutput().contains(FULL_RECOMPILATION));
+        assertNotEquals(firstBefore, read(first));
+        assertEquals(secondModified, second.lastModified());
+    }
+
+    /** With an index the processor is aggregating: still incremental, but it sees every target. */
+    @Test
+    public void bindingIndexStaysCompleteAfterIncrementalBuild() throws Exception {
+        writeBuildFile("-A" + InjectProcessor.OPTION_INDEX + "=test.TestBindingIndex");
+        build();
+        File index = generated("TestBindingIndex.java");
+
+        editFirstActivity();
+        BuildResult result = build();
+
+        assertFalse(result.getOutput(), result.getOutput().contains(FULL_RECOMPILATION));
+        String indexSource = read(index);
+        assertTrue(indexSource, indexSource.contains("FirstActivity.class"));
+        assertTrue(indexSource, indexSource.contains("SecondActivity.class"));
+    }
+
+    private void editFirstActivity() throws Exception {
+        // File timestamps may only have a resolution of one second.
+        Thread.sleep(1000);
+        writeActivity("FirstActivity", 1, "    @BindView(12) View extra;\n");
+    }
+
+    private BuildResult build() {
+        return GradleRunner.create()
+                .withProjectDir(mProjectDir)
+                .withArguments("compileJava", "--info")
+                .build();
+    }
+
+    private void writeBuildFile(String compilerArg) throws IOException {
+        StringBuilder build = new StringBuilder()
+                .append("apply plugin: 'java-library'\n\n")
+                .append("sourceSets.main.java {\n");
+        for (String path : System.getProperty("butterknife.sourcePath").split(File.pathSeparator)) {
+            build.append("    srcDir '").append(escape(path)).append("'\n");
+        }
+        build.append("    exclude 'com/blingbling/butterknife/benchmark/**'\n")
+                .append("}\n\n")
+                .append("def processorPath = files(")
+                .append("'").append(escape(System.getProperty("butterknife.processorPath"))).append("'")
+                .append(".split(File.pathSeparator))\n")
+                .append("dependencies {\n")
+                .append("    compileOnly processorPath\n")
+                .append("    annotationProcessor processorPath\n")
+                .append("}\n");
+        if (!compilerArg.isEmpty()) {
+            build.append("compileJava.options.compilerArgs << '").append(compilerArg).append("'\n");
+        }
+        write("build.gradle", build.toString());
+    }
+
+    private void writeActivity(String name, int id, String extraFields) throws IOException {
+        write("src/main/java/test/" + name + ".java", "package test;\n\n"
+                + "import android.app.Activity;\n"
+                + "import android.view.View;\n\n"
+                + "import com.blingbling.butterknife.annotation.BindView;\n"
+                + "import com.blingbling.butterknife.annotation.ContentView;\n"
+                + "import com.blingbling.butterknife.annotation.OnClick;\n\n"
+                + "@ContentView(" + id + ")\n"
+                + "public class " + name + " extends Activity {\n"
+                + "    @BindView(10) View title;\n"
+                + extraFields
+                + "\n"
+                + "    @OnClick(11)\n"
+                + "    void onClick() {\n"
+                + "    }\n"
+                + "}\n");
+    }
+
+    private File generated(String fileName) {
+        return new File(mProjectDir, "build/generated/sources/annotationProcessor/java/main/test/" + fileName);
+    }
+
+    private void write(String path, String content) throws IOException {
+        File file = new File(mProjectDir, path);
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), content.getBytes(UTF_8));
+    }
+
+    private static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), UTF_8);
+    }
+
+    private static String escape(String path) {
+        return path.replace("\\", "\\\\").replace("'", "\\'");
+    }
+}
@@ -0,0 +1,34 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+
+import static com.blingbling.butterknife.compiler.TestCompiler.read;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checks the R8/ProGuard rules written to {@code META-INF/proguard} for each binding.
+ */
+public class KeepRulesTest {
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    /** Only what the reflective lookup needs: the target's name and the binding constructor. */
+    @Test
+    public void keepsTargetNameAndBindingConstructor() throws Exception {
+        File outputDir = mTemp.newFolder("output");
+        TestCompiler.process(outputDir, "rules/Screens.java");
+
+        assertEquals(""
+                        + "-keepnames class rules.Screens$DetailActivity\n"
+                        + "-keep class rules.Screens$DetailActivity_ViewBinding {\n"
+                        + "    public <init>(rules.Screens$DetailActivity, android.view.View);\n"
+                        + "}\n",
+                read(new File(outputDir,
+                        InjectProcessor.KEEP_RULES_PREFIX + "rules.Screens$DetailActivity_ViewBinding.pro")));
+    }
+}
@@ -0,0 +1,78 @@
+package com.blingbling.butterknife.compiler;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks the errors reported for methods annotated with the table-driven listener annotations.
+ * Each screen in {@code errors/ListenerErrors.java} ends with one valid method that must not be reported.
+ */
+public class ListenerValidationTest {
+
+    @Rule
+    public TemporaryFolder mTemp = new TemporaryFolder();
+
+    private List<String> mErrors;
+
+    @Before
+    public void compile() throws Exception {
+        mErrors = TestCompiler.processWithErrors(mTemp.newFolder("output"), "errors/ListenerErrors.java");
+    }
+
+    @Test
+    public void longClick() {
+        assertError("@OnLongClick methods may only take a subsequence of (View) in that order. "
+                + "(errors.ListenerErrors.LongClickActivity.twoViews)");
+        assertError("@OnLongClick methods must return void or boolean. "
+                + "(errors.ListenerErrors.LongClickActivity.wrongReturn)");
+        assertError("Only one @OnLongClick method for ID 3 may return a value from onLongClick. "
+                + "(errors.ListenerErrors.LongClickActivity.second)");
+    }
+
+    @Test
+    public void textChanged() {
+        assertError("@OnTextChanged methods may only take a subsequence of (CharSequence, int, int, int) in that order. "
+                + "(errors.ListenerErrors.TextChangedActivity.wrongOrder)");
+        assertError("@OnTextChanged methods may only take a subsequence of (CharSequence, int, int, int) in that order. "
+                + "(errors.ListenerErrors.TextChangedActivity.widened)");
+        assertError("@OnTextChanged methods must return void. "
+                + "(errors.ListenerErrors.TextChangedActivity.returnsValue)");
+    }
+
+    @Test
+    public void checkedChanged() {
+        assertError("@OnCheckedChanged methods may only take a subsequence of (CompoundButton, boolean) in that order. "
+                + "(errors.ListenerErrors.CheckedChangedActivity.unrelatedView)");
+        assertError("@OnCheckedChanged methods may only take a subsequence of (CompoundButton, boolean) in that order. "
+                + "(errors.ListenerErrors.CheckedChangedActivity.boxed)");
+        assertError("@OnCheckedChanged annotation for method contains duplicate ID 3. "
+                + "(errors.ListenerErrors.CheckedChangedActivity.duplicate)");
+    }
+
+    @Test
+    public void itemSelected() {
+        assertError("@OnItemSelected methods may only take a subsequence of (AdapterView<?>, View, int, long) in that "
+                + "order. (errors.ListenerErrors.ItemSelectedActivity.tooMany)");
+        assertError("@OnItemSelected methods may only take a subsequence of (AdapterView<?>) in that order. "
+                + "(errors.ListenerErrors.ItemSelectedActivity.nothingSelected)");
+        assertError("@OnItemSelected methods must not be private or static. "
+                + "(errors.ListenerErrors.ItemSelectedActivity.hidden)");
+    }
+
+    /** Valid methods next to invalid ones are not reported. */
+    @Test
+    public void reportsOnlyInvalidMethods() {
+        assertEquals(mErrors.toString(), 12, mErrors.size());
+    }
+
+    private void assertError(String message) {
+        assertTrue(mErrors.toString(), mErrors.contains(message));
+    }
+}
@@ -0,0 +1,125 @@
+package com.blingbling.butterknife.compiler;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Runs {@link InjectProcessor} in-process over sources from {@code src/test/resources}, against the
+ * api sources and the Android stand-ins on {@code butterknife.sourcePath}. Other sources in
+ * {@code src/test/resources}, such as an {@code R} class, are compiled when referenced.
+ */
+final class TestCompiler {
+
+    static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String API_PACKAGE = "com/blingbling/butterknife/api";
+
+    private TestCompiler() {
+        throw new AssertionError("No instances.");
+    }
+
+    /**
+     * @param generatedDir     where generated sources and resources are written
+     * @param resource         source path below {@code src/test/resources}
+     * @param processorOptions {@code -A} options
+     */
+    static void process(File generatedDir, String resource, String... processorOptions) throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = run(diagnostics, true, generatedDir, Collections.singletonList(resource(resource)),
+                processorOptions);
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+    }
+
+    /**
+     * Like {@link #process}, but also compiles the sources, the generated sources and everything they
+     * reference into {@code outputDir}, so the result can be loaded and run. The whole api package is
+     * compiled as well, as its jar would be on the classpath: bindings written as class files refer to
+     * api classes that no source mentions.
+     *
+     * @param resources sources below {@code src/test/resources} to run the processor over
+     */
+    static void compile(File outputDir, List<String> resources, String... processorOptions) throws Exception {
+        List<File> files = new ArrayList<>();
+        for (String path : System.getProperty("butterknife.sourcePath").split(File.pathSeparator)) {
+            File[] api = new File(path, API_PACKAGE).listFiles();
+            if (api != null) {
+                files.addAll(Arrays.asList(api));
+            }
+        }
+        for (String resource : resources) {
+            files.add(resource(resource));
+        }
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = run(diagnostics, false, outputDir, files, processorOptions);
+        assertTrue(diagnostics.getDiagnostics().toString(), success);
+    }
+
+    /**
+     * Like {@link #process}, but expects the processor to report errors.
+     *
+     * @return the error messages, in the order they were reported
+     */
+    static List<String> processWithErrors(File generatedDir, String resource, String... processorOptions)
+            throws Exception {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        boolean success = run(diagnostics, true, generatedDir, Collections.singletonList(resource(resource)),
+                processorOptions);
+        assertFalse("Expected errors", success);
+        List<String> errors = new ArrayList<>();
+        for (Diagnostic<? extends JavaFileObject> diagnostic : diagnostics.getDiagnostics()) {
+            if (diagnostic.getKind() == Diagnostic.Kind.ERROR) {
+                errors.add(diagnostic.getMessage(Locale.ROOT));
+            }
+        }
+        return errors;
+    }
+
+    private static boolean run(DiagnosticCollector<JavaFileObject> diagnostics, boolean processOnly,
+                               File generatedDir, List<File> files, String... processorOptions)
+            throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, UTF_8);
+        List<String> options = new ArrayList<>();
+        if (processOnly) {
+            options.add("-proc:only");
+        }
+        options.addAll(Arrays.asList(
+                "-classpath", System.getProperty("java.class.path"),
+                "-sourcepath", System.getProperty("butterknife.sourcePath") + File.pathSeparator + resource("").getPath(),
+                "-s", generatedDir.getPath(),
+                "-d", generatedDir.getPath()));
+        options.addAll(Arrays.asList(processorOptions));
+
+        JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                fileManager.getJavaFileObjectsFromFiles(files));
+        task.setProcessors(Collections.singletonList(new InjectProcessor()));
+        boolean success = task.call();
+        fileManager.close();
+        return success;
+    }
+
+    static File resource(String name) throws URISyntaxException {
+        return new File(TestCompiler.class.getResource("/" + name).toURI());
+    }
+
+    static String read(File file) throws IOException {
+        return new String(Files.readAllBytes(file.toPath()), UTF_8);
+    }
+}
@@ -0,0 +1,21 @@
+package errors;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.OnClick;
+
+public class ClickErrors extends Activity {
+
+    @OnClick(value = {1, 2}, dispatch = OnClick.Dispatch.BACKGROUND)
+    void onSave(View view) {
+    }
+
+    @OnClick(2)
+    void onSaveShown() {
+    }
+
+    @OnClick(3)
+    void onCancel() {
+    }
+}
@@ -0,0 +1,99 @@
+package errors;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.Spinner;
+
+import com.blingbling.butterknife.annotation.OnCheckedChanged;
+import com.blingbling.butterknife.annotation.OnItemSelected;
+import com.blingbling.butterknife.annotation.OnLongClick;
+import com.blingbling.butterknife.annotation.OnTextChanged;
+
+public class ListenerErrors {
+
+    public static class LongClickActivity extends Activity {
+
+        @OnLongClick(1)
+        boolean twoViews(View view, View other) {
+            return true;
+        }
+
+        @OnLongClick(2)
+        int wrongReturn() {
+            return 0;
+        }
+
+        @OnLongClick(3)
+        boolean first() {
+            return true;
+        }
+
+        @OnLongClick(3)
+        boolean second() {
+            return true;
+        }
+
+        @OnLongClick(4)
+        void valid(View view) {
+        }
+    }
+
+    public static class TextChangedActivity extends Activity {
+
+        @OnTextChanged(1)
+        void wrongOrder(int start, CharSequence text) {
+        }
+
+        @OnTextChanged(2)
+        void widened(CharSequence text, long start) {
+        }
+
+        @OnTextChanged(3)
+        boolean returnsValue() {
+            return true;
+        }
+
+        @OnTextChanged(value = 4, callback = OnTextChanged.Callback.AFTER_TEXT_CHANGED)
+        void valid(CharSequence text) {
+        }
+    }
+
+    public static class CheckedChangedActivity extends Activity {
+
+        @OnCheckedChanged(1)
+        void unrelatedView(Spinner spinner) {
+        }
+
+        @OnCheckedChanged(2)
+        void boxed(Boolean checked) {
+        }
+
+        @OnCheckedChanged({3, 3})
+        void duplicate() {
+        }
+
+        @OnCheckedChanged(4)
+        void valid(CheckBox box, boolean checked) {
+        }
+    }
+
+    public static class ItemSelectedActivity extends Activity {
+
+        @OnItemSelected(1)
+        void tooMany(long id, int position) {
+        }
+
+        @OnItemSelected(value = 2, callback = OnItemSelected.Callback.NOTHING_SELECTED)
+        void nothingSelected(int position) {
+        }
+
+        @OnItemSelected(3)
+        private void hidden() {
+        }
+
+        @OnItemSelected(4)
+        void valid(Spinner spinner, int position) {
+        }
+    }
+}
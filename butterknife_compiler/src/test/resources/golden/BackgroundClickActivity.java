@@ -0,0 +1,25 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+public class BackgroundClickActivity extends Activity {
+
+    @BindView(2)
+    View save;
+
+    @OnClick(value = {2, 4}, dispatch = OnClick.Dispatch.BACKGROUND)
+    void onSave(View view) {
+    }
+
+    @OnClick(value = 2, dispatch = OnClick.Dispatch.BACKGROUND)
+    void onSaveLogged() {
+    }
+
+    @OnClick(3)
+    void onCancel() {
+    }
+}
@@ -0,0 +1,95 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import com.blingbling.butterknife.api.BackgroundClickListener;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class BackgroundClickActivity_ViewBinding implements Rebinder {
+  private volatile BackgroundClickActivity target;
+
+  private final BackgroundClickListener listener2 = new BackgroundClickListener(new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      BackgroundClickActivity target = BackgroundClickActivity_ViewBinding.this.target;
+      if (target == null || BackgroundClickListener.isClickCancelled()) {
+        return;
+      }
+      target.onSave(view);
+      target.onSaveLogged();
+    }
+  });
+
+  private View view4;
+
+  private final BackgroundClickListener listener4 = new BackgroundClickListener(new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      BackgroundClickActivity target = BackgroundClickActivity_ViewBinding.this.target;
+      if (target == null || BackgroundClickListener.isClickCancelled()) {
+        return;
+      }
+      target.onSave(view);
+    }
+  });
+
+  private View view3;
+
+  private final View.OnClickListener listener3 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onCancel();
+    }
+  };
+
+  public BackgroundClickActivity_ViewBinding(BackgroundClickActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected BackgroundClickActivity_ViewBinding(BackgroundClickActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(BackgroundClickActivity target, View source) {
+    listener2.cancel();
+    listener4.cancel();
+    this.target = target;
+
+    target.save = (View) source.findViewById(2);
+
+    target.save.setOnClickListener(listener2);
+    view4 = source.findViewById(4);
+    view4.setOnClickListener(listener4);
+    view3 = source.findViewById(3);
+    view3.setOnClickListener(listener3);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((BackgroundClickActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    BackgroundClickActivity target = this.target;
+    this.target = null;
+
+    listener2.cancel();
+    listener4.cancel();
+    target.save.setOnClickListener(null);
+    view4.setOnClickListener(null);
+    view3.setOnClickListener(null);
+
+    target.save = null;
+
+    view4 = null;
+    view3 = null;
+  }
+}
@@ -0,0 +1,25 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+public class BatchLookupActivity extends Activity {
+
+    @BindView(10)
+    View first;
+    @BindView(11)
+    View second;
+    @BindView(12)
+    View third;
+    @BindView(13)
+    View fourth;
+    @BindView(14)
+    View fifth;
+
+    @OnClick({12, 20})
+    void onClick(View view) {
+    }
+}
@@ -0,0 +1,86 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import com.blingbling.butterknife.api.Rebinder;
+import com.blingbling.butterknife.api.ViewFinder;
+import java.lang.Object;
+import java.lang.Override;
+import java.util.Arrays;
+
+public class BatchLookupActivity_ViewBinding implements Rebinder {
+  private static final int[] VIEW_IDS = {10, 11, 12, 13, 14, 20};
+
+  private final View[] lookupViews = new View[6];
+
+  private BatchLookupActivity target;
+
+  private final View.OnClickListener listener12 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onClick(view);
+    }
+  };
+
+  private View view20;
+
+  private final View.OnClickListener listener20 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onClick(view);
+    }
+  };
+
+  public BatchLookupActivity_ViewBinding(BatchLookupActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected BatchLookupActivity_ViewBinding(BatchLookupActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(BatchLookupActivity target, View source) {
+    this.target = target;
+
+    ViewFinder.findViews(source, VIEW_IDS, lookupViews);
+
+    target.first = (View) lookupViews[0];
+    target.second = (View) lookupViews[1];
+    target.third = (View) lookupViews[2];
+    target.fourth = (View) lookupViews[3];
+    target.fifth = (View) lookupViews[4];
+
+    target.third.setOnClickListener(listener12);
+    view20 = lookupViews[5];
+    view20.setOnClickListener(listener20);
+
+    Arrays.fill(lookupViews, null);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((BatchLookupActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    BatchLookupActivity target = this.target;
+    this.target = null;
+
+    target.third.setOnClickListener(null);
+    view20.setOnClickListener(null);
+
+    target.first = null;
+    target.second = null;
+    target.third = null;
+    target.fourth = null;
+    target.fifth = null;
+
+    view20 = null;
+  }
+}
@@ -0,0 +1,22 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.BindViews;
+
+import java.util.List;
+
+public class BindViewsActivity extends Activity {
+
+    @BindView(2)
+    TextView title;
+
+    @BindViews({2, 3})
+    TextView[] titles;
+
+    @BindViews({4, 5})
+    List<View> buttons;
+}
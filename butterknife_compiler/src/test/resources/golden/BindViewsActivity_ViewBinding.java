@@ -0,0 +1,67 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import android.widget.TextView;
+import com.blingbling.butterknife.api.ImmutableViewList;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+import java.util.Arrays;
+
+public class BindViewsActivity_ViewBinding implements Rebinder {
+  private BindViewsActivity target;
+
+  private final TextView[] titlesGroup = new TextView[2];
+
+  private final View[] buttonsGroup = new View[2];
+
+  private final ImmutableViewList<View> buttonsList = new ImmutableViewList<View>(buttonsGroup);
+
+  public BindViewsActivity_ViewBinding(BindViewsActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected BindViewsActivity_ViewBinding(BindViewsActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(BindViewsActivity target, View source) {
+    this.target = target;
+
+    target.title = (TextView) source.findViewById(2);
+
+    titlesGroup[0] = (TextView) target.title;
+    titlesGroup[1] = (TextView) source.findViewById(3);
+
+    target.titles = titlesGroup;
+
+    buttonsGroup[0] = (View) source.findViewById(4);
+    buttonsGroup[1] = (View) source.findViewById(5);
+
+    target.buttons = buttonsList;
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((BindViewsActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    BindViewsActivity target = this.target;
+    this.target = null;
+
+    target.title = null;
+    target.titles = null;
+    target.buttons = null;
+
+    Arrays.fill(titlesGroup, null);
+    Arrays.fill(buttonsGroup, null);
+  }
+}
@@ -0,0 +1,22 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.ContentView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+@ContentView(R.layout.compiled)
+public class CompiledLayoutActivity extends Activity {
+
+    @BindView(R.id.title)
+    TextView title;
+    @BindView(R.id.missing)
+    View missing;
+
+    @OnClick(R.id.button)
+    void onClick() {
+    }
+}
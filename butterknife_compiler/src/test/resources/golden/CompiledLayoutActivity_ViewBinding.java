@@ -0,0 +1,84 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.util.TypedValue;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.Button;
+import android.widget.LinearLayout;
+import android.widget.TextView;
+import com.blingbling.butterknife.api.LayoutDimens;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class CompiledLayoutActivity_ViewBinding implements Rebinder {
+  private CompiledLayoutActivity target;
+
+  private View view2131230721;
+
+  private final View.OnClickListener listener2131230721 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onClick();
+    }
+  };
+
+  public CompiledLayoutActivity_ViewBinding(CompiledLayoutActivity target, View source) {
+    this.target = target;
+
+    LinearLayout layoutView0 = new LinearLayout(target);
+    layoutView0.setOrientation(LinearLayout.VERTICAL);
+    TextView layoutView1 = new TextView(target);
+    layoutView1.setId(R.id.title);
+    layoutView1.setText("Title");
+    LinearLayout.LayoutParams params1 = new LinearLayout.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.WRAP_CONTENT);
+    params1.topMargin = LayoutDimens.pixelSize(target, TypedValue.COMPLEX_UNIT_DIP, 8.0f);
+    layoutView0.addView(layoutView1, params1);
+    Button layoutView2 = new Button(target);
+    layoutView2.setId(R.id.button);
+    layoutView0.addView(layoutView2, new LinearLayout.LayoutParams(ViewGroup.LayoutParams.WRAP_CONTENT, ViewGroup.LayoutParams.WRAP_CONTENT));
+    target.setContentView(layoutView0, new ViewGroup.LayoutParams(ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+
+    target.title = (TextView) layoutView1;
+    target.missing = (View) source.findViewById(2131230722);
+
+    view2131230721 = layoutView2;
+    view2131230721.setOnClickListener(listener2131230721);
+  }
+
+  protected CompiledLayoutActivity_ViewBinding(CompiledLayoutActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(CompiledLayoutActivity target, View source) {
+    this.target = target;
+
+    target.title = (TextView) source.findViewById(2131230720);
+    target.missing = (View) source.findViewById(2131230722);
+
+    view2131230721 = source.findViewById(2131230721);
+    view2131230721.setOnClickListener(listener2131230721);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((CompiledLayoutActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    CompiledLayoutActivity target = this.target;
+    this.target = null;
+
+    view2131230721.setOnClickListener(null);
+
+    target.title = null;
+    target.missing = null;
+
+    view2131230721 = null;
+  }
+}
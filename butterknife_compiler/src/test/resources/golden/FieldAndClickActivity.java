@@ -0,0 +1,31 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.ContentView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+@ContentView(1)
+public class FieldAndClickActivity extends Activity {
+
+    @BindView(2)
+    View title;
+    @BindView(3)
+    ViewGroup content;
+    @BindView(3)
+    View contentAgain;
+    @BindView(3)
+    TextView contentText;
+
+    @OnClick({2, 4})
+    void onClick(View view) {
+    }
+
+    @OnClick(2)
+    void onTitleClick() {
+    }
+}
@@ -0,0 +1,78 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.TextView;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class FieldAndClickActivity_ViewBinding implements Rebinder {
+  private FieldAndClickActivity target;
+
+  private final View.OnClickListener listener2 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onClick(view);
+      target.onTitleClick();
+    }
+  };
+
+  private View view4;
+
+  private final View.OnClickListener listener4 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onClick(view);
+    }
+  };
+
+  public FieldAndClickActivity_ViewBinding(FieldAndClickActivity target, View source) {
+    this.target = target;
+
+    target.setContentView(1);
+    bind(target, source);
+  }
+
+  protected FieldAndClickActivity_ViewBinding(FieldAndClickActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(FieldAndClickActivity target, View source) {
+    this.target = target;
+
+    target.title = (View) source.findViewById(2);
+    target.content = (ViewGroup) source.findViewById(3);
+    target.contentAgain = (View) target.content;
+    target.contentText = (TextView) source.findViewById(3);
+
+    target.title.setOnClickListener(listener2);
+    view4 = source.findViewById(4);
+    view4.setOnClickListener(listener4);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((FieldAndClickActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    FieldAndClickActivity target = this.target;
+    this.target = null;
+
+    target.title.setOnClickListener(null);
+    view4.setOnClickListener(null);
+
+    target.title = null;
+    target.content = null;
+    target.contentAgain = null;
+    target.contentText = null;
+
+    view4 = null;
+  }
+}
@@ -0,0 +1,17 @@
+package golden;
+
+import android.view.View;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+public class GenericHolder<T extends CharSequence> {
+
+    @BindView(1)
+    TextView title;
+
+    @OnClick(2)
+    void onMoreClick() {
+    }
+}
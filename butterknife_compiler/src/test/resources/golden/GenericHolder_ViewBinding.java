@@ -0,0 +1,60 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import android.widget.TextView;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class GenericHolder_ViewBinding implements Rebinder {
+  private GenericHolder<?> target;
+
+  private View view2;
+
+  private final View.OnClickListener listener2 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onMoreClick();
+    }
+  };
+
+  public GenericHolder_ViewBinding(GenericHolder<?> target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected GenericHolder_ViewBinding(GenericHolder<?> target) {
+    this.target = target;
+  }
+
+  protected void bind(GenericHolder<?> target, View source) {
+    this.target = target;
+
+    target.title = (TextView) source.findViewById(1);
+
+    view2 = source.findViewById(2);
+    view2.setOnClickListener(listener2);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((GenericHolder<?>) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    GenericHolder<?> target = this.target;
+    this.target = null;
+
+    view2.setOnClickListener(null);
+
+    target.title = null;
+
+    view2 = null;
+  }
+}
@@ -0,0 +1,31 @@
+package golden;
+
+import android.app.Activity;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnItemClick;
+
+public class ItemClickActivity extends Activity {
+
+    @BindView(2)
+    RecyclerView list;
+
+    @OnItemClick(2)
+    void onItemClick(int position) {
+    }
+
+    @OnItemClick(value = 2, child = {3, 4})
+    void onChildClick(View view, int position) {
+    }
+
+    @OnItemClick(value = 2, child = 4)
+    boolean onShare() {
+        return true;
+    }
+
+    @OnItemClick(5)
+    void onGridItemClick(View view) {
+    }
+}
@@ -0,0 +1,94 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import com.blingbling.butterknife.api.ItemClickDispatcher;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class ItemClickActivity_ViewBinding implements Rebinder {
+  private ItemClickActivity target;
+
+  private final ItemClickDispatcher itemClicks2 = new ItemClickDispatcher(true, new int[] {3, 4}) {
+    @Override
+    protected void onItemClick(View item, View view, int position) {
+      if (view == item) {
+        target.onItemClick(position);
+        return;
+      }
+      switch (view.getId()) {
+        case 3:
+          target.onChildClick(view, position);
+          break;
+        case 4:
+          target.onChildClick(view, position);
+          target.onShare();
+          break;
+      }
+    }
+
+    @Override
+    protected int getPosition(ViewGroup container, View item) {
+      if (container instanceof RecyclerView) {
+        return ((RecyclerView) container).getChildAdapterPosition(item);
+      }
+      return super.getPosition(container, item);
+    }
+  };
+
+  private final ItemClickDispatcher itemClicks5 = new ItemClickDispatcher(true, new int[] {}) {
+    @Override
+    protected void onItemClick(View item, View view, int position) {
+      target.onGridItemClick(view);
+    }
+
+    @Override
+    protected int getPosition(ViewGroup container, View item) {
+      if (container instanceof RecyclerView) {
+        return ((RecyclerView) container).getChildAdapterPosition(item);
+      }
+      return super.getPosition(container, item);
+    }
+  };
+
+  public ItemClickActivity_ViewBinding(ItemClickActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected ItemClickActivity_ViewBinding(ItemClickActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(ItemClickActivity target, View source) {
+    this.target = target;
+
+    target.list = (RecyclerView) source.findViewById(2);
+
+    itemClicks2.attach((ViewGroup) target.list);
+    itemClicks5.attach((ViewGroup) source.findViewById(5));
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((ItemClickActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    ItemClickActivity target = this.target;
+    this.target = null;
+
+    itemClicks2.detach();
+    itemClicks5.detach();
+
+    target.list = null;
+  }
+}
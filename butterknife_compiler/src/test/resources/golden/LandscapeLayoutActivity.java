@@ -0,0 +1,14 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.ContentView;
+
+@ContentView(R.layout.landscape)
+public class LandscapeLayoutActivity extends Activity {
+
+    @BindView(R.id.title)
+    View title;
+}
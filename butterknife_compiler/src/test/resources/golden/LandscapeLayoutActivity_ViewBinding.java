@@ -0,0 +1,44 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class LandscapeLayoutActivity_ViewBinding implements Rebinder {
+  private LandscapeLayoutActivity target;
+
+  public LandscapeLayoutActivity_ViewBinding(LandscapeLayoutActivity target, View source) {
+    this.target = target;
+
+    target.setContentView(2131361793);
+    bind(target, source);
+  }
+
+  protected LandscapeLayoutActivity_ViewBinding(LandscapeLayoutActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(LandscapeLayoutActivity target, View source) {
+    this.target = target;
+
+    target.title = (View) source.findViewById(2131230720);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((LandscapeLayoutActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    LandscapeLayoutActivity target = this.target;
+    this.target = null;
+
+    target.title = null;
+  }
+}
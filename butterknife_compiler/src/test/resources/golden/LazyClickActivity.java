@@ -0,0 +1,18 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.api.Lazy;
+
+public class LazyClickActivity extends Activity {
+
+    @BindView(2)
+    Lazy<View> details;
+
+    @OnClick(2)
+    void onDetailsClick() {
+    }
+}
@@ -0,0 +1,61 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import com.blingbling.butterknife.api.Lazy;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+
+public class LazyClickActivity_ViewBinding implements Rebinder {
+  private LazyClickActivity target;
+
+  private View view2;
+
+  private final View.OnClickListener listener2 = new View.OnClickListener() {
+    @Override
+    public void onClick(View view) {
+      target.onDetailsClick();
+    }
+  };
+
+  public LazyClickActivity_ViewBinding(LazyClickActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected LazyClickActivity_ViewBinding(LazyClickActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(LazyClickActivity target, View source) {
+    this.target = target;
+
+    target.details = new Lazy<View>(source, 2, true);
+
+    view2 = source.findViewById(2);
+    view2.setOnClickListener(listener2);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((LazyClickActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    LazyClickActivity target = this.target;
+    this.target = null;
+
+    view2.setOnClickListener(null);
+
+    target.details.clear();
+    target.details = null;
+
+    view2 = null;
+  }
+}
@@ -0,0 +1,39 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnCheckedChanged;
+import com.blingbling.butterknife.annotation.OnItemSelected;
+import com.blingbling.butterknife.annotation.OnLongClick;
+import com.blingbling.butterknife.annotation.OnTextChanged;
+
+public class ListenerActivity extends Activity {
+
+    @BindView(2)
+    TextView name;
+
+    @OnTextChanged(2)
+    void onNameChanged(CharSequence text) {
+    }
+
+    @OnTextChanged(value = 2, callback = OnTextChanged.Callback.AFTER_TEXT_CHANGED)
+    void afterNameChanged() {
+    }
+
+    @OnLongClick({3, 4})
+    boolean onLongClick(View view) {
+        return false;
+    }
+
+    @OnCheckedChanged(4)
+    void onChecked(CheckBox box, boolean checked) {
+    }
+
+    @OnItemSelected(5)
+    void onSelected(int position) {
+    }
+}
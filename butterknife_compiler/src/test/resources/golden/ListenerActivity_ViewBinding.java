@@ -0,0 +1,130 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.text.Editable;
+import android.text.TextWatcher;
+import android.view.View;
+import android.widget.AdapterView;
+import android.widget.CheckBox;
+import android.widget.CompoundButton;
+import android.widget.TextView;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.CharSequence;
+import java.lang.Object;
+import java.lang.Override;
+
+public class ListenerActivity_ViewBinding implements Rebinder {
+  private ListenerActivity target;
+
+  private View view3;
+
+  private View view4;
+
+  private View view5;
+
+  private final View.OnLongClickListener longClickListener = new View.OnLongClickListener() {
+    @Override
+    public boolean onLongClick(View p0) {
+      switch (p0.getId()) {
+        case 3:
+          return target.onLongClick(p0);
+        case 4:
+          return target.onLongClick(p0);
+      }
+      return true;
+    }
+  };
+
+  private final TextWatcher textWatcher2 = new TextWatcher() {
+    @Override
+    public void beforeTextChanged(CharSequence p0, int p1, int p2, int p3) {
+    }
+
+    @Override
+    public void onTextChanged(CharSequence p0, int p1, int p2, int p3) {
+      target.onNameChanged(p0);
+    }
+
+    @Override
+    public void afterTextChanged(Editable p0) {
+      target.afterNameChanged();
+    }
+  };
+
+  private final CompoundButton.OnCheckedChangeListener checkedChangeListener = new CompoundButton.OnCheckedChangeListener() {
+    @Override
+    public void onCheckedChanged(CompoundButton p0, boolean p1) {
+      switch (p0.getId()) {
+        case 4:
+          target.onChecked((CheckBox) p0, p1);
+          break;
+      }
+    }
+  };
+
+  private final AdapterView.OnItemSelectedListener itemSelectedListener = new AdapterView.OnItemSelectedListener() {
+    @Override
+    public void onItemSelected(AdapterView<?> p0, View p1, int p2, long p3) {
+      switch (p0.getId()) {
+        case 5:
+          target.onSelected(p2);
+          break;
+      }
+    }
+
+    @Override
+    public void onNothingSelected(AdapterView<?> p0) {
+    }
+  };
+
+  public ListenerActivity_ViewBinding(ListenerActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected ListenerActivity_ViewBinding(ListenerActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(ListenerActivity target, View source) {
+    this.target = target;
+
+    target.name = (TextView) source.findViewById(2);
+
+    view3 = source.findViewById(3);
+    view4 = source.findViewById(4);
+    view5 = source.findViewById(5);
+    view3.setOnLongClickListener(longClickListener);
+    view4.setOnLongClickListener(longClickListener);
+    target.name.addTextChangedListener(textWatcher2);
+    ((CompoundButton) view4).setOnCheckedChangeListener(checkedChangeListener);
+    ((AdapterView) view5).setOnItemSelectedListener(itemSelectedListener);
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((ListenerActivity) target, source);
+  }
+
+  @Override
+  public void unbind() {
+    ListenerActivity target = this.target;
+    this.target = null;
+
+    view3.setOnLongClickListener(null);
+    view4.setOnLongClickListener(null);
+    target.name.removeTextChangedListener(textWatcher2);
+    ((CompoundButton) view4).setOnCheckedChangeListener(null);
+    ((AdapterView) view5).setOnItemSelectedListener(null);
+
+    target.name = null;
+
+    view3 = null;
+    view4 = null;
+    view5 = null;
+  }
+}
@@ -0,0 +1,15 @@
+package golden;
+
+final class R {
+
+    static final class layout {
+        static final int compiled = 0x7f0a0000;
+        static final int landscape = 0x7f0a0001;
+    }
+
+    static final class id {
+        static final int title = 0x7f080000;
+        static final int button = 0x7f080001;
+        static final int missing = 0x7f080002;
+    }
+}
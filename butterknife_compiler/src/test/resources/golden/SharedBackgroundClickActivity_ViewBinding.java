@@ -0,0 +1,84 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import com.blingbling.butterknife.api.BackgroundClickListener;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+import java.util.Arrays;
+
+public class SharedBackgroundClickActivity_ViewBinding implements Rebinder, View.OnClickListener {
+  private volatile SharedBackgroundClickActivity target;
+
+  private final View[] clickViews = new View[3];
+
+  private final BackgroundClickListener backgroundClickListener = new BackgroundClickListener(this, 2, 4);
+
+  public SharedBackgroundClickActivity_ViewBinding(SharedBackgroundClickActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected SharedBackgroundClickActivity_ViewBinding(SharedBackgroundClickActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(SharedBackgroundClickActivity target, View source) {
+    backgroundClickListener.cancel();
+    this.target = target;
+
+    target.save = (View) source.findViewById(2);
+
+    clickViews[0] = target.save;
+    clickViews[1] = source.findViewById(4);
+    clickViews[2] = source.findViewById(3);
+    for (View view : clickViews) {
+      view.setOnClickListener(backgroundClickListener);
+    }
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((SharedBackgroundClickActivity) target, source);
+  }
+
+  @Override
+  public void onClick(View view) {
+    SharedBackgroundClickActivity target = this.target;
+    if (target == null || BackgroundClickListener.isClickCancelled()) {
+      return;
+    }
+    switch (view.getId()) {
+      case 2:
+        target.onSave(view);
+        target.onSaveLogged();
+        break;
+      case 4:
+        target.onSave(view);
+        break;
+      case 3:
+        target.onCancel();
+        break;
+    }
+  }
+
+  @Override
+  public void unbind() {
+    SharedBackgroundClickActivity target = this.target;
+    this.target = null;
+
+    backgroundClickListener.cancel();
+    for (View view : clickViews) {
+      view.setOnClickListener(null);
+    }
+
+    target.save = null;
+
+    Arrays.fill(clickViews, null);
+  }
+}
@@ -0,0 +1,19 @@
+package golden;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+public class SharedClickActivity extends Activity {
+
+    @BindView(2)
+    View title;
+    @BindView(3)
+    View content;
+
+    @OnClick({2, 5})
+    void onClick(View view) {
+    }
+}
@@ -0,0 +1,72 @@
+// Generated code from Butter Knife. Do not modify!
+package golden;
+
+import android.view.View;
+import com.blingbling.butterknife.api.Rebinder;
+import java.lang.Object;
+import java.lang.Override;
+import java.util.Arrays;
+
+public class SharedClickActivity_ViewBinding implements Rebinder, View.OnClickListener {
+  private SharedClickActivity target;
+
+  private final View[] clickViews = new View[2];
+
+  public SharedClickActivity_ViewBinding(SharedClickActivity target, View source) {
+    this.target = target;
+
+    bind(target, source);
+  }
+
+  protected SharedClickActivity_ViewBinding(SharedClickActivity target) {
+    this.target = target;
+  }
+
+  protected void bind(SharedClickActivity target, View source) {
+    this.target = target;
+
+    target.title = (View) source.findViewById(2);
+    target.content = (View) source.findViewById(3);
+
+    clickViews[0] = target.title;
+    clickViews[1] = source.findViewById(5);
+    for (View view : clickViews) {
+      view.setOnClickListener(this);
+    }
+  }
+
+  @Override
+  public void rebind(Object target, View source) {
+    if (this.target != null) {
+      unbind();
+    }
+    bind((SharedClickActivity) target, source);
+  }
+
+  @Override
+  public void onClick(View view) {
+    switch (view.getId()) {
+      case 2:
+        target.onClick(view);
+        break;
+      case 5:
+        target.onClick(view);
+        break;
+    }
+  }
+
+  @Override
+  public void unbind() {
+    SharedClickActivity target = this.target;
+    this.target = null;
+
+    for (View view : clickViews) {
+      view.setOnClickListener(null);
+    }
+
+    target.title = null;
+    target.content = null;
+
+    Arrays.fill(clickViews, null);
+  }
+}
@@ -0,0 +1,15 @@
+package rules;
+
+import android.app.Activity;
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+
+public class Screens {
+
+    public static class DetailActivity extends Activity {
+
+        @BindView(2)
+        View title;
+    }
+}
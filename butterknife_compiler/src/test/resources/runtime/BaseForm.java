@@ -0,0 +1,19 @@
+package runtime;
+
+import android.view.View;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnClick;
+
+public class BaseForm {
+
+    @BindView(10)
+    View header;
+
+    int headerClicks;
+
+    @OnClick(10)
+    void onHeaderClick() {
+        headerClicks++;
+    }
+}
@@ -0,0 +1,65 @@
+package runtime;
+
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.widget.CheckBox;
+import android.widget.EditText;
+import android.widget.TextView;
+
+import com.blingbling.butterknife.annotation.BindView;
+import com.blingbling.butterknife.annotation.OnCheckedChanged;
+import com.blingbling.butterknife.annotation.OnClick;
+import com.blingbling.butterknife.annotation.OnItemClick;
+import com.blingbling.butterknife.annotation.OnLongClick;
+import com.blingbling.butterknife.annotation.OnTextChanged;
+
+public class Form extends BaseForm {
+
+    @BindView(1)
+    EditText title;
+    @BindView(1)
+    TextView titleText;
+    @BindView(5)
+    RecyclerView list;
+
+    View clickedView;
+    int saves;
+    int longClicks;
+    String lastTitle;
+    CheckBox agreeBox;
+    boolean agreed;
+    int itemPosition = -1;
+
+    @OnClick({2, 3})
+    void onClick(View view) {
+        clickedView = view;
+    }
+
+    @OnClick(3)
+    boolean onSave() {
+        saves++;
+        return true;
+    }
+
+    @OnLongClick({2, 3})
+    boolean onLongClick() {
+        longClicks++;
+        return true;
+    }
+
+    @OnTextChanged(1)
+    void onTitleChanged(CharSequence text) {
+        lastTitle = text.toString();
+    }
+
+    @OnCheckedChanged(4)
+    void onAgreeChanged(CheckBox box, boolean checked) {
+        agreeBox = box;
+        agreed = checked;
+    }
+
+    @OnItemClick(5)
+    void onItemClick(int position) {
+        itemPosition = position;
+    }
+}
@@ -0,0 +1,98 @@
+package runtime;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CheckBox;
+import android.widget.EditText;
+
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+/**
+ * Binds {@link Form} through {@link ButterKnife}, then clicks, types, checks, rebinds and unbinds.
+ * Loaded by the compiler tests from the compiled output, so it runs against whichever binding the
+ * processor wrote. Throws {@link AssertionError} on the first difference.
+ */
+public class FormCheck implements Runnable {
+
+    private final Context context = new Context();
+
+    @Override
+    public void run() {
+        Tree first = new Tree();
+        Form form = new Form();
+        Unbinder binding = ButterKnife.bind(form, first.root);
+        check(form.title == first.title && form.titleText == first.title, "fields");
+        check(form.header == first.header && form.list == first.list, "fields");
+
+        first.save.performClick();
+        check(form.clickedView == first.save && form.saves == 1, "save click");
+        first.cancel.performClick();
+        check(form.clickedView == first.cancel && form.saves == 1, "cancel click");
+        first.header.performClick();
+        check(form.headerClicks == 1, "parent click");
+        check(first.cancel.performLongClick() && form.longClicks == 1, "long click");
+        first.title.setText("Hi");
+        check("Hi".equals(form.lastTitle), "text change");
+        first.agree.setChecked(true);
+        check(form.agreed && form.agreeBox == first.agree, "checked change");
+        View item = new View(context);
+        first.list.addView(item);
+        item.performClick();
+        check(form.itemPosition == 0, "item click");
+
+        Tree second = new Tree();
+        Form next = new Form();
+        binding = ButterKnife.rebind(binding, next, second.root);
+        check(next.title == second.title && form.title == null, "rebound fields");
+        first.save.performClick();
+        first.title.setText("Old");
+        first.header.performClick();
+        check(next.saves == 0 && next.lastTitle == null && next.headerClicks == 0, "old views after rebind");
+        check(form.saves == 1 && "Hi".equals(form.lastTitle), "old target after rebind");
+        second.save.performClick();
+        check(next.saves == 1, "click after rebind");
+
+        binding.unbind();
+        check(next.title == null && next.header == null, "unbound fields");
+        second.save.performClick();
+        second.title.setText("Gone");
+        second.agree.setChecked(true);
+        check(next.saves == 1 && next.lastTitle == null && !next.agreed, "views after unbind");
+        check(!second.save.hasOnClickListeners() && !second.header.hasOnClickListeners(), "click listeners");
+        check(!second.cancel.performLongClick(), "long click listener");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private final class Tree {
+
+        final ViewGroup root = new ViewGroup(context);
+        final EditText title = new EditText(context);
+        final View save = new View(context);
+        final View cancel = new View(context);
+        final CheckBox agree = new CheckBox(context);
+        final RecyclerView list = new RecyclerView(context);
+        final View header = new View(context);
+
+        Tree() {
+            add(title, 1);
+            add(cancel, 2);
+            add(save, 3);
+            add(agree, 4);
+            add(list, 5);
+            add(header, 10);
+        }
+
+        private void add(View view, int id) {
+            view.setId(id);
+            root.addView(view);
+        }
+    }
+}
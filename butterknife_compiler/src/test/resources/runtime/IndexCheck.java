@@ -0,0 +1,23 @@
+package runtime;
+
+/**
+ * Looks up {@link Form} and {@link BaseForm} in the generated {@code runtime.FormIndex}. Loaded by
+ * the compiler tests from the compiled output. Throws {@link AssertionError} on the first difference.
+ */
+public class IndexCheck implements Runnable {
+
+    @Override
+    public void run() {
+        FormIndex index = new FormIndex();
+        check(index.getBindingFactory(Form.class) != null, "Form");
+        check(index.getBindingFactory(BaseForm.class) != null, "BaseForm");
+        check(index.getBindingFactory(Object.class) == null, "unbound class");
+        check(index.getTargetClasses().length == 2, "target classes");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+}
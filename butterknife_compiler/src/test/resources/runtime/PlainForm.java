@@ -0,0 +1,7 @@
+package runtime;
+
+/**
+ * Has no bindings of its own; the processor still generates a binding that inherits {@link Form}'s.
+ */
+public class PlainForm extends Form {
+}
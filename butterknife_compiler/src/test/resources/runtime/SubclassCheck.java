@@ -0,0 +1,90 @@
+package runtime;
+
+import android.content.Context;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.CheckBox;
+import android.widget.EditText;
+
+import com.blingbling.butterknife.api.BindingListener;
+import com.blingbling.butterknife.api.ButterKnife;
+import com.blingbling.butterknife.api.Unbinder;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Binds {@link PlainForm}, which has no annotations of its own, through {@link ButterKnife}. The
+ * processor generated its binding, so the lookup finds it at once instead of trying each superclass.
+ * Throws {@link AssertionError} on the first difference.
+ */
+public class SubclassCheck implements Runnable {
+
+    private final Context context = new Context();
+    private final List<Class<?>> lookups = new ArrayList<>();
+
+    @Override
+    public void run() {
+        ViewGroup root = new ViewGroup(context);
+        EditText title = add(root, new EditText(context), 1);
+        add(root, new View(context), 2);
+        View save = add(root, new View(context), 3);
+        add(root, new CheckBox(context), 4);
+        add(root, new RecyclerView(context), 5);
+        View header = add(root, new View(context), 10);
+
+        ButterKnife.setBindingListener(new LookupListener());
+        try {
+            PlainForm form = new PlainForm();
+            Unbinder binding = ButterKnife.bind(form, root);
+            check(lookups.equals(Collections.<Class<?>>singletonList(PlainForm.class)), "looked up " + lookups);
+            check(form.title == title && form.header == header, "inherited fields");
+            save.performClick();
+            header.performClick();
+            check(form.saves == 1 && form.headerClicks == 1, "inherited clicks");
+
+            binding.unbind();
+            check(form.title == null && form.header == null, "unbind");
+        } finally {
+            ButterKnife.setBindingListener(null);
+        }
+    }
+
+    private static <T extends View> T add(ViewGroup root, T view, int id) {
+        view.setId(id);
+        root.addView(view);
+        return view;
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new AssertionError(message);
+        }
+    }
+
+    private final class LookupListener implements BindingListener {
+
+        @Override
+        public void onBind(Class<?> targetClass, long elapsedNanos) {
+        }
+
+        @Override
+        public void onUnbind(Class<?> targetClass, long elapsedNanos) {
+        }
+
+        @Override
+        public void onCacheHit(Class<?> cls, boolean hasBinding) {
+        }
+
+        @Override
+        public void onCacheMiss(Class<?> cls) {
+        }
+
+        @Override
+        public void onReflectionFallback(Class<?> cls) {
+            lookups.add(cls);
+        }
+    }
+}